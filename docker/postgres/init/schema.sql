@@ -21,6 +21,15 @@ RETURNS TRIGGER AS $$
     END;
 $$ LANGUAGE plpgsql;
 
+CREATE OR REPLACE FUNCTION increment_model_version()
+RETURNS TRIGGER AS $$
+    BEGIN
+      INSERT INTO model_versions (resource, version) VALUES (TG_ARGV[0]::text, 1)
+        ON CONFLICT (resource) DO UPDATE SET version = model_versions.version + 1, updated_at = now();
+      RETURN NULL;
+    END;
+$$ LANGUAGE plpgsql;
+
 --
 -- Tables
 --
@@ -39,6 +48,36 @@ CREATE TABLE IF NOT EXISTS users (
     updated_at      TIMESTAMP NOT NULL DEFAULT now()
 );
 
+-- Revocations (Deleted users and revoked tokens)
+CREATE TABLE IF NOT EXISTS revocations (
+    id              INTEGER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    type            VARCHAR(10) NOT NULL,
+    value           VARCHAR(50) NOT NULL,
+    revoked_at      TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS revocations_revoked_at_idx ON revocations (revoked_at);
+
+-- A token (jti) can only be revoked once. Used to consume refresh tokens atomically.
+CREATE UNIQUE INDEX IF NOT EXISTS revocations_token_idx ON revocations (value) WHERE type = 'TOKEN';
+
+-- Rate limits (Buckets shared by all instances, times in microseconds)
+CREATE TABLE IF NOT EXISTS rate_limits (
+    bucket_key      VARCHAR(255) PRIMARY KEY,
+    tat             BIGINT NOT NULL,
+    reserved        BIGINT NOT NULL DEFAULT 0,
+    updated_at      BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS rate_limits_tat_idx ON rate_limits (tat);
+
+-- Model versions (Incremented by every write of a resource, including its translations)
+CREATE TABLE IF NOT EXISTS model_versions (
+    resource        VARCHAR(20) PRIMARY KEY,
+    version         BIGINT NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP NOT NULL DEFAULT now()
+);
+
 -- Overviews
 CREATE TABLE IF NOT EXISTS overviews (
     id              INTEGER GENERATED ALWAYS AS IDENTITY,
@@ -353,4 +392,56 @@ CREATE TRIGGER handle_locations_child_update AFTER UPDATE ON locations_translati
 
 -- Games
 CREATE TRIGGER handle_games_child_update AFTER UPDATE ON games_translations
-  FOR EACH ROW EXECUTE PROCEDURE handle_child_update ('games', 'game_uuid');
\ No newline at end of file
+  FOR EACH ROW EXECUTE PROCEDURE handle_child_update ('games', 'game_uuid');
+
+-- # Set triggers to increment 'model_versions' every time some resource (or its translations) is changed.
+
+-- Overviews
+CREATE TRIGGER handle_overviews_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON overviews
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('overview');
+
+CREATE TRIGGER handle_overviews_translations_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON overviews_translations
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('overview');
+
+-- Characters
+CREATE TRIGGER handle_characters_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON characters
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('characters');
+
+-- Actors
+CREATE TRIGGER handle_actors_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON actors
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('actors');
+
+CREATE TRIGGER handle_actors_socials_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON actors_socials
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('actors');
+
+-- Episodes
+CREATE TRIGGER handle_episodes_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON episodes
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('episodes');
+
+CREATE TRIGGER handle_episodes_translations_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON episodes_translations
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('episodes');
+
+-- Seasons
+CREATE TRIGGER handle_seasons_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON seasons
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('seasons');
+
+CREATE TRIGGER handle_seasons_translations_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON seasons_translations
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('seasons');
+
+-- Locations
+CREATE TRIGGER handle_locations_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON locations
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('locations');
+
+CREATE TRIGGER handle_locations_translations_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON locations_translations
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('locations');
+
+-- Soundtracks
+CREATE TRIGGER handle_soundtracks_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON soundtracks
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('soundtracks');
+
+-- Games
+CREATE TRIGGER handle_games_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON games
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('games');
+
+CREATE TRIGGER handle_games_translations_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON games_translations
+  FOR EACH STATEMENT EXECUTE PROCEDURE increment_model_version ('games');
@@ -0,0 +1,91 @@
+package com.lucasjosino.hawapi.benchmarks;
+
+import com.lucasjosino.hawapi.configs.MappersConfig;
+import com.lucasjosino.hawapi.models.EpisodeModel;
+import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
+import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
+import org.modelmapper.Conditions;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.convention.NameTokenizers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a list (page) of episodes mapped to DTOs, using the explicit {@link EntityMapper} and the previous
+ * (LOOSE matching) {@link ModelMapper}.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    @Param({"1", "20"})
+    private int size;
+
+    private EntityMapper entityMapper;
+
+    private ModelMapper modelMapper;
+
+    private List<EpisodeModel> episodes;
+
+    @Setup
+    public void setUp() {
+        entityMapper = new MappersConfig().entityMapper();
+
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setSkipNullEnabled(true)
+                .setPropertyCondition(Conditions.isNotNull())
+                .setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
+                .setMatchingStrategy(MatchingStrategies.LOOSE)
+                .setSourceNameTokenizer(NameTokenizers.UNDERSCORE);
+
+        episodes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EpisodeModel episode = new EpisodeModel();
+            episode.setId(i);
+            episode.setUuid(UUID.randomUUID());
+            episode.setHref("/api/v1/episodes/" + episode.getUuid());
+            episode.setDuration(12482342);
+            episode.setEpisodeNum((byte) i);
+            episode.setSeason("/api/v1/seasons/1");
+            episode.setImages(Arrays.asList("https://example.com/image.jpg", "https://example.com/image.jpg"));
+            episode.setSources(Arrays.asList("https://example.com", "https://example.com"));
+            episode.setCreatedAt(LocalDateTime.now());
+            episode.setUpdatedAt(LocalDateTime.now());
+
+            EpisodeTranslation translation = new EpisodeTranslation();
+            translation.setEpisodeUuid(episode.getUuid());
+            translation.setLanguage("en-US");
+            translation.setTitle("Lorem Ipsum");
+            translation.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
+            episode.setTranslation(translation);
+
+            episodes.add(episode);
+        }
+    }
+
+    @Benchmark
+    public EpisodeDTO[] entityMapper() {
+        return entityMapper.map(episodes, EpisodeDTO[].class);
+    }
+
+    @Benchmark
+    public EpisodeDTO[] modelMapper() {
+        return modelMapper.map(episodes, EpisodeDTO[].class);
+    }
+}
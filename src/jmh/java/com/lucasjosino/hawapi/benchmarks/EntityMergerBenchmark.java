@@ -0,0 +1,84 @@
+package com.lucasjosino.hawapi.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucasjosino.hawapi.configs.MappersConfig;
+import com.lucasjosino.hawapi.models.EpisodeModel;
+import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
+import com.lucasjosino.hawapi.models.mappers.EntityMerger;
+import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of an episode patch merged into a (loaded) model, using the explicit {@link EntityMerger} and the
+ * previous JSON merge (model copy + {@link ObjectMapper#readerForUpdating}).
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityMergerBenchmark {
+
+    private EntityMapper entityMapper;
+
+    private ObjectMapper objectMapper;
+
+    private EpisodeModel episode;
+
+    private EpisodeDTO patch;
+
+    @Setup
+    public void setUp() {
+        MappersConfig config = new MappersConfig();
+        entityMapper = config.entityMapper();
+        objectMapper = config.objectMapper();
+
+        episode = new EpisodeModel();
+        episode.setId(1);
+        episode.setUuid(UUID.randomUUID());
+        episode.setHref("/api/v1/episodes/" + episode.getUuid());
+        episode.setDuration(12482342);
+        episode.setEpisodeNum((byte) 1);
+        episode.setSeason("/api/v1/seasons/1");
+        episode.setImages(Arrays.asList("https://example.com/image.jpg", "https://example.com/image.jpg"));
+        episode.setSources(Arrays.asList("https://example.com", "https://example.com"));
+        episode.setCreatedAt(LocalDateTime.now());
+        episode.setUpdatedAt(LocalDateTime.now());
+
+        EpisodeTranslation translation = new EpisodeTranslation();
+        translation.setEpisodeUuid(episode.getUuid());
+        translation.setLanguage("en-US");
+        translation.setTitle("Lorem Ipsum");
+        translation.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
+        episode.setTranslation(translation);
+
+        patch = new EpisodeDTO();
+        patch.setLanguage("en-US");
+        patch.setDuration(1);
+        patch.setNextEpisode("/api/v1/episodes/2");
+        patch.setImages(Arrays.asList("https://example.com/new.jpg", "https://example.com/new.jpg"));
+    }
+
+    @Benchmark
+    public EpisodeModel entityMerger() {
+        return entityMapper.merge(patch, episode);
+    }
+
+    @Benchmark
+    public EpisodeModel jsonMerge() throws IOException {
+        EpisodeModel copy = entityMapper.map(episode, EpisodeModel.class);
+        return objectMapper.readerForUpdating(copy).readValue((JsonNode) objectMapper.valueToTree(patch));
+    }
+}
@@ -0,0 +1,109 @@
+package com.lucasjosino.hawapi.benchmarks;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucasjosino.hawapi.configs.MappersConfig;
+import com.lucasjosino.hawapi.models.EpisodeModel;
+import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
+import com.lucasjosino.hawapi.models.mappers.json.EpisodeJsonWriter;
+import com.lucasjosino.hawapi.models.mappers.json.StreamingList;
+import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a page of (cached) episode DTOs written as JSON by the Jackson serializer (previous response path) and
+ * by a {@link StreamingList}.
+ * <p> Allocation rate (gc.alloc.rate.norm) and GC counts are reported by the 'gc' profiler, see the 'benchmark'
+ * profile.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonStreamingBenchmark {
+
+    /**
+     * Response output, all bytes are discarded.
+     */
+    private static final OutputStream output = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Param({"20"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<EpisodeDTO> episodes;
+
+    @Setup
+    public void setUp() {
+        MappersConfig config = new MappersConfig();
+        objectMapper = config.objectMapper();
+        EntityMapper entityMapper = config.entityMapper();
+
+        List<EpisodeModel> models = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EpisodeModel episode = new EpisodeModel();
+            episode.setId(i);
+            episode.setUuid(UUID.randomUUID());
+            episode.setHref("/api/v1/episodes/" + episode.getUuid());
+            episode.setDuration(12482342);
+            episode.setEpisodeNum((byte) i);
+            episode.setNextEpisode("/api/v1/episodes/" + (i + 1));
+            episode.setSeason("/api/v1/seasons/1");
+            episode.setImages(Arrays.asList("https://example.com/image.jpg", "https://example.com/image.jpg"));
+            episode.setSources(Arrays.asList("https://example.com", "https://example.com"));
+            episode.setCreatedAt(LocalDateTime.now());
+            episode.setUpdatedAt(LocalDateTime.now());
+
+            EpisodeTranslation translation = new EpisodeTranslation();
+            translation.setEpisodeUuid(episode.getUuid());
+            translation.setLanguage("en-US");
+            translation.setTitle("Lorem Ipsum");
+            translation.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
+            episode.setTranslation(translation);
+
+            models.add(episode);
+        }
+
+        episodes = Arrays.asList(entityMapper.map(models, EpisodeDTO[].class));
+    }
+
+    @Benchmark
+    public void jackson() throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        objectMapper.writeValue(generator, episodes);
+    }
+
+    @Benchmark
+    public void streaming() throws IOException {
+        StreamingList<EpisodeDTO> content = new StreamingList<>(episodes, EpisodeJsonWriter::write);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        content.writeTo(generator, objectMapper.getSerializerProviderInstance());
+        generator.flush();
+    }
+}
@@ -0,0 +1,125 @@
+package com.lucasjosino.hawapi.benchmarks;
+
+import com.google.common.base.CaseFormat;
+import com.lucasjosino.hawapi.filters.http.SnakeCaseFilter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link SnakeCaseFilter} and the previous implementation (one map and wrapper per request), using
+ * requests without params (E.g: docs), with camel case params and with snake case params.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnakeCaseFilterBenchmark {
+
+    @Param({"none", "camel_case", "snake_case"})
+    private String params;
+
+    private OncePerRequestFilter filter;
+
+    private OncePerRequestFilter previousFilter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        filter = new SnakeCaseFilter();
+        previousFilter = new PreviousSnakeCaseFilter();
+        response = new MockHttpServletResponse();
+
+        request = new MockHttpServletRequest("GET", "/api/v1/actors");
+        switch (params) {
+            case "camel_case":
+                request.addParameter("page", "1");
+                request.addParameter("size", "20");
+                request.addParameter("language", "en-US");
+                break;
+            case "snake_case":
+                request.addParameter("page", "1");
+                request.addParameter("first_name", "Lorem");
+                request.addParameter("birth_date", "2000-01-01");
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Benchmark
+    public void snakeCaseFilter(Blackhole blackhole) throws ServletException, IOException {
+        filter.doFilter(request, response, (req, res) -> blackhole.consume(req.getParameterMap()));
+    }
+
+    @Benchmark
+    public void previousSnakeCaseFilter(Blackhole blackhole) throws ServletException, IOException {
+        previousFilter.doFilter(request, response, (req, res) -> blackhole.consume(req.getParameterMap()));
+    }
+
+    /**
+     * The previous {@link SnakeCaseFilter}, converting all params of every request.
+     */
+    private static final class PreviousSnakeCaseFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(
+                HttpServletRequest request,
+                HttpServletResponse response,
+                FilterChain filterChain
+        ) throws ServletException, IOException {
+            final Map<String, String[]> parameters = new ConcurrentHashMap<>();
+
+            for (String param : request.getParameterMap().keySet()) {
+                String[] values = request.getParameterValues(param);
+
+                String formattedParam = CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, param);
+                parameters.put(formattedParam, values);
+            }
+
+            filterChain.doFilter(new HttpServletRequestWrapper(request) {
+                @Override
+                public String getParameter(String name) {
+                    return parameters.containsKey(name) ? parameters.get(name)[0] : null;
+                }
+
+                @Override
+                public Enumeration<String> getParameterNames() {
+                    return Collections.enumeration(parameters.keySet());
+                }
+
+                @Override
+                public String[] getParameterValues(String name) {
+                    return parameters.get(name);
+                }
+
+                @Override
+                public Map<String, String[]> getParameterMap() {
+                    return parameters;
+                }
+            }, response);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.lucasjosino.hawapi.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.lucasjosino.hawapi.core.cache.EntityCacheMXBean;
+import com.lucasjosino.hawapi.core.cache.EntityCacheResolver;
+import com.lucasjosino.hawapi.core.cache.FilterKeyGenerator;
+import com.lucasjosino.hawapi.core.cache.SerializedSizeWeigher;
+import com.lucasjosino.hawapi.models.properties.CacheProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.configuration.FactoryBuilder;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Configuration for service caches.
+ * <ul>
+ *      <li>Caches are bounded by the serialized size of all entries</li>
+ *      <li>Expiration (after write/access) is defined by {@link CacheProperty}</li>
+ *      <li>Statistics (hit, miss, eviction, load time) are recorded and registered as JCache MXBeans</li>
+ *      <li>Misses are loaded once per key, coalesced requests are registered as {@link EntityCacheMXBean}</li>
+ * </ul>
+ *
+ * @author Lucas Josino
+ * @see EntityCacheResolver
+ * @see FilterKeyGenerator
+ * @see CacheProperty
+ * @since 1.2.0
+ */
+@Configuration
+public class CachingConfig {
+
+    @Bean
+    public CacheResolver entityCacheResolver(
+            CacheManager cacheManager,
+            CacheProperty cacheProperty,
+            ObjectMapper objectMapper
+    ) {
+        Weigher<Object, Object> weigher = new SerializedSizeWeigher(objectMapper);
+        return new EntityCacheResolver(
+                cacheManager,
+                name -> toConfiguration(cacheProperty, name, weigher),
+                cacheProperty.isStatistics()
+        );
+    }
+
+    @Bean
+    public KeyGenerator filterKeyGenerator() {
+        return new FilterKeyGenerator();
+    }
+
+    private static CaffeineConfiguration<Object, Object> toConfiguration(
+            CacheProperty cacheProperty,
+            String name,
+            Weigher<Object, Object> weigher
+    ) {
+        CacheProperty.Spec spec = cacheProperty.getSpec(name);
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Cached DTOs are never changed, copying all values on each read isn't required.
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(cacheProperty.isStatistics());
+        configuration.setNativeStatisticsEnabled(cacheProperty.isStatistics());
+
+        if (spec.getMaximumWeight() != null) {
+            configuration.setMaximumWeight(OptionalLong.of(spec.getMaximumWeight().toBytes()));
+            configuration.setWeigherFactory(Optional.of(new FactoryBuilder.SingletonFactory<>(weigher)));
+        }
+
+        configuration.setExpireAfterWrite(toNanos(spec.getExpireAfterWrite()));
+        configuration.setExpireAfterAccess(toNanos(spec.getExpireAfterAccess()));
+        return configuration;
+    }
+
+    private static OptionalLong toNanos(Duration duration) {
+        return duration == null ? OptionalLong.empty() : OptionalLong.of(duration.toNanos());
+    }
+}
@@ -0,0 +1,63 @@
+package com.lucasjosino.hawapi.configs;
+
+import com.lucasjosino.hawapi.core.cache.ResponseCache;
+import com.lucasjosino.hawapi.interceptors.ConditionalRequestInterceptor;
+import com.lucasjosino.hawapi.models.*;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration for HTTP cache:
+ * <ul>
+ *      <li>ETags (If-None-Match) and Last-Modified (If-Modified-Since), see {@link ConditionalRequestInterceptor}</li>
+ *      <li>Serialized responses, see {@link ResponseCache}</li>
+ * </ul>
+ * <p> Random endpoints are never cached.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@Configuration
+public class HttpCacheConfig implements WebMvcConfigurer {
+
+    private static final String API_PATH = "/api/v1";
+
+    private final ResponseCache responseCache;
+
+    public HttpCacheConfig(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        register(registry, "actors", ActorModel.class, ActorSocialModel.class);
+        register(registry, "characters", CharacterModel.class);
+        register(registry, "episodes", EpisodeModel.class);
+        register(registry, "games", GameModel.class);
+        register(registry, "locations", LocationModel.class);
+        register(registry, "seasons", SeasonModel.class);
+        register(registry, "soundtracks", SoundtrackModel.class);
+
+        // Overview also includes the count of all models.
+        register(
+                registry,
+                "overview",
+                OverviewModel.class,
+                ActorModel.class,
+                CharacterModel.class,
+                EpisodeModel.class,
+                GameModel.class,
+                LocationModel.class,
+                SeasonModel.class,
+                SoundtrackModel.class
+        );
+    }
+
+    private void register(InterceptorRegistry registry, String resource, Class<?>... models) {
+        String path = API_PATH + "/" + resource;
+        registry.addInterceptor(new ConditionalRequestInterceptor(responseCache, models))
+                .addPathPatterns(path, path + "/**")
+                .excludePathPatterns(path + "/random", path + "/*/translations/random", path + "/*/socials/random");
+    }
+}
@@ -5,26 +5,29 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.modelmapper.Conditions;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
-import org.modelmapper.convention.NameTokenizers;
+import com.lucasjosino.hawapi.models.mappers.*;
+import com.lucasjosino.hawapi.models.mappers.json.StreamingListHttpMessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 /**
  * Configuration for mappers:
  * <ul>
  *      <li>ObjectMapper</li>
- *      <li>ModelMapper</li>
+ *      <li>EntityMapper</li>
+ *      <li>StreamingListHttpMessageConverter</li>
  * </ul>
  *
  * @author Lucas Josino
  * @since 1.0.0
  */
 @Configuration
-public class MappersConfig {
+public class MappersConfig implements WebMvcConfigurer {
 
     @Bean
     public ObjectMapper objectMapper() {
@@ -37,15 +40,18 @@ public class MappersConfig {
     }
 
     @Bean
-    public ModelMapper modelMapper() {
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration()
-                .setSkipNullEnabled(true)
-                .setPropertyCondition(Conditions.isNotNull())
-                .setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
-                .setMatchingStrategy(MatchingStrategies.LOOSE)
-                .setSourceNameTokenizer(NameTokenizers.UNDERSCORE);
-        return modelMapper;
+    public EntityMapper entityMapper() {
+        EntityMapper entityMapper = new EntityMapper();
+        ActorMapper.register(entityMapper);
+        CharacterMapper.register(entityMapper);
+        EpisodeMapper.register(entityMapper);
+        GameMapper.register(entityMapper);
+        LocationMapper.register(entityMapper);
+        OverviewMapper.register(entityMapper);
+        SeasonMapper.register(entityMapper);
+        SoundtrackMapper.register(entityMapper);
+        UserMapper.register(entityMapper);
+        return entityMapper;
     }
 
     @Bean
@@ -54,4 +60,9 @@ public class MappersConfig {
         jsonBuilderConfig.propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
         return jsonBuilderConfig;
     }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new StreamingListHttpMessageConverter(objectMapper()));
+    }
 }
@@ -0,0 +1,64 @@
+package com.lucasjosino.hawapi.configs;
+
+import com.lucasjosino.hawapi.core.ratelimit.JdbcRateLimitStore;
+import com.lucasjosino.hawapi.core.ratelimit.RateLimitStore;
+import com.lucasjosino.hawapi.core.ratelimit.TokenBucketStore;
+import com.lucasjosino.hawapi.filters.http.RateLimitFilter;
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Configuration for rate limits.
+ * <ul>
+ *      <li>Limits are defined by the <strong>bucket4j.properties</strong> file</li>
+ *      <li>Buckets are stored in memory (default) or in the database, see {@link RateLimitStore}</li>
+ *      <li>The filter runs after the security filters (the role is already defined)</li>
+ * </ul>
+ *
+ * @author Lucas Josino
+ * @see RateLimitFilter
+ * @see RateLimitProperty
+ * @since 1.2.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bucket4j", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bucket4j.store", name = "type", havingValue = "memory", matchIfMissing = true)
+    public RateLimitStore tokenBucketStore(RateLimitProperty rateLimitProperty) {
+        return new TokenBucketStore(rateLimitProperty.getStore());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bucket4j.store", name = "type", havingValue = "jdbc")
+    public RateLimitStore jdbcRateLimitStore(
+            RateLimitProperty rateLimitProperty,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate
+    ) {
+        return new JdbcRateLimitStore(namedParameterJdbcTemplate, rateLimitProperty.getStore());
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimitProperty rateLimitProperty,
+            RateLimitStore rateLimitStore
+    ) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(rateLimitProperty, rateLimitStore)
+        );
+
+        // All filters are applied by a single filter, using the order of the first one.
+        int order = Integer.MAX_VALUE;
+        for (RateLimitProperty.Filter filter : rateLimitProperty.getFilters()) {
+            order = Math.min(order, filter.getFilterOrder());
+        }
+
+        registration.setOrder(rateLimitProperty.getFilters().isEmpty() ? 0 : order);
+        return registration;
+    }
+}
@@ -1,11 +1,15 @@
 package com.lucasjosino.hawapi.configs.security;
 
+import com.lucasjosino.hawapi.core.MXBeanUtils;
+import com.lucasjosino.hawapi.jwt.CachingJwtDecoder;
 import com.lucasjosino.hawapi.jwt.JwtManager;
+import com.lucasjosino.hawapi.jwt.JwtRevocationList;
 import com.lucasjosino.hawapi.jwt.validators.JwtAudienceValidator;
+import com.lucasjosino.hawapi.jwt.validators.JwtTypeValidator;
 import com.lucasjosino.hawapi.jwt.validators.JwtUserValidator;
+import com.lucasjosino.hawapi.models.properties.JwtProperty;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.properties.RsaKeysProperty;
-import com.lucasjosino.hawapi.repositories.auth.AuthRepository;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
@@ -14,14 +18,18 @@ import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Configuration for JWT:
@@ -38,22 +46,57 @@ import java.util.List;
 @Configuration
 public class JwtConfig {
 
-    private final AuthRepository authRepository;
-
     private final OpenAPIProperty apiProperty;
 
     private final RsaKeysProperty rsaKeysProperty;
 
-    public JwtConfig(AuthRepository authRepository, OpenAPIProperty apiProperty, RsaKeysProperty rsaKeysProperty) {
-        this.authRepository = authRepository;
+    private final JwtProperty jwtProperty;
+
+    private final JwtRevocationList revocationList;
+
+    public JwtConfig(
+            OpenAPIProperty apiProperty,
+            RsaKeysProperty rsaKeysProperty,
+            JwtProperty jwtProperty,
+            JwtRevocationList revocationList
+    ) {
         this.apiProperty = apiProperty;
         this.rsaKeysProperty = rsaKeysProperty;
+        this.jwtProperty = jwtProperty;
+        this.revocationList = revocationList;
     }
 
+    /**
+     * Decoder of access tokens, used to authenticate all requests.
+     */
     @Bean
+    @Primary
     public JwtDecoder jwtDecoder() {
         NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(rsaKeysProperty.getPublicKey()).build();
-        decoder.setJwtValidator(tokenValidator());
+
+        JwtProperty.DecoderCache spec = jwtProperty.getDecoderCache();
+        if (spec.getMaximumSize() <= 0) {
+            decoder.setJwtValidator(tokenValidator(JwtManager.ACCESS_TOKEN));
+            return decoder;
+        }
+
+        // Nimbus will only verify the signature. All validators run on every request, see 'CachingJwtDecoder'.
+        decoder.setJwtValidator(token -> OAuth2TokenValidatorResult.success());
+
+        CachingJwtDecoder cachingDecoder = new CachingJwtDecoder(decoder, tokenValidator(JwtManager.ACCESS_TOKEN), spec);
+        MXBeanUtils.register("com.lucasjosino.hawapi:type=CachingJwtDecoder", cachingDecoder);
+        return cachingDecoder;
+    }
+
+    /**
+     * Decoder of refresh tokens, only used by the refresh flow.
+     *
+     * @see JwtManager#decodeRefreshToken(String)
+     */
+    @Bean
+    public JwtDecoder refreshJwtDecoder() {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(rsaKeysProperty.getPublicKey()).build();
+        decoder.setJwtValidator(tokenValidator(JwtManager.REFRESH_TOKEN));
         return decoder;
     }
 
@@ -79,13 +122,16 @@ public class JwtConfig {
         return jwtAuthenticationConverter;
     }
 
-    public OAuth2TokenValidator<Jwt> tokenValidator() {
+    public OAuth2TokenValidator<Jwt> tokenValidator(String type) {
         List<OAuth2TokenValidator<Jwt>> validators =
                 Arrays.asList(
+                        // Tokens without expiration (issued by older versions) are not accepted.
+                        new JwtClaimValidator<Instant>(JwtClaimNames.EXP, Objects::nonNull),
                         new JwtTimestampValidator(),
+                        new JwtTypeValidator(type),
                         new JwtIssuerValidator(apiProperty.getTitle()),
                         new JwtAudienceValidator(apiProperty.getApiUrl()),
-                        new JwtUserValidator(authRepository)
+                        new JwtUserValidator(revocationList)
                 );
         return new DelegatingOAuth2TokenValidator<>(validators);
     }
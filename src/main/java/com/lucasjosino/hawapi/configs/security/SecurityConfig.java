@@ -1,5 +1,7 @@
 package com.lucasjosino.hawapi.configs.security;
 
+import com.lucasjosino.hawapi.core.security.BoundedPasswordEncoder;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,7 +14,6 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 import java.util.Arrays;
 
@@ -24,7 +25,6 @@ import java.util.Arrays;
  *      <li>Cors</li>
  *      <li>Password encoder</li>
  *      <li>API endpoints</li>
- *      <li>ETags</li>
  * </ul>
  *
  * @author Lucas Josino
@@ -73,7 +73,8 @@ public class SecurityConfig {
                 "X-Pagination-Page-Index",
                 "X-Pagination-Page-Size",
                 "X-Pagination-Page-Total",
-                "X-Pagination-Item-Total"
+                "X-Pagination-Item-Total",
+                "X-Pagination-Next-Cursor"
         ));
         config.setAllowedHeaders(Arrays.asList(
                 "Content-Type",
@@ -90,16 +91,13 @@ public class SecurityConfig {
         return source;
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     /**
-     * Enable ETag on requests
+     * BCrypt encoder. All auth requests will use it through the {@link BoundedPasswordEncoder}.
+     *
+     * @param property The password encoder configuration, see {@link PasswordEncoderProperty#getStrength()}
      */
     @Bean
-    public ShallowEtagHeaderFilter shallowEtagHeaderFilter() {
-        return new ShallowEtagHeaderFilter();
+    public PasswordEncoder passwordEncoder(PasswordEncoderProperty property) {
+        return new BCryptPasswordEncoder(property.getStrength());
     }
 }
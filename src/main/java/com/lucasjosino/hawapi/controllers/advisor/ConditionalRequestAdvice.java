@@ -0,0 +1,66 @@
+package com.lucasjosino.hawapi.controllers.advisor;
+
+import com.lucasjosino.hawapi.interceptors.ConditionalRequestInterceptor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Adds the ETag and Last-Modified computed by {@link ConditionalRequestInterceptor} to successful responses.
+ * <p> Errors (E.g: 404) will never include these headers.
+ *
+ * @author Lucas Josino
+ * @see ConditionalRequestInterceptor
+ * @since 1.2.0
+ */
+@ControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@SuppressWarnings("NullableProblems")
+public class ConditionalRequestAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (!(request instanceof ServletServerHttpRequest) || !(response instanceof ServletServerHttpResponse)) {
+            return body;
+        }
+
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        Object etag = servletRequest.getAttribute(ConditionalRequestInterceptor.ETAG_ATTRIBUTE);
+        if (etag == null) return body;
+
+        int status = ((ServletServerHttpResponse) response).getServletResponse().getStatus();
+        if (HttpStatus.Series.resolve(status) != HttpStatus.Series.SUCCESSFUL) return body;
+
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag((String) etag);
+
+        Object lastModified = servletRequest.getAttribute(ConditionalRequestInterceptor.LAST_MODIFIED_ATTRIBUTE);
+        if (lastModified != null) headers.setLastModified((Long) lastModified);
+
+        return body;
+    }
+}
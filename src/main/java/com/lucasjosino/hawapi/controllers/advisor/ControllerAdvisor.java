@@ -4,6 +4,7 @@ import com.lucasjosino.hawapi.exceptions.BadRequestException;
 import com.lucasjosino.hawapi.exceptions.InternalServerErrorException;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.exceptions.SaveConflictException;
+import com.lucasjosino.hawapi.exceptions.ServiceUnavailableException;
 import com.lucasjosino.hawapi.exceptions.auth.RoleBadRequestException;
 import com.lucasjosino.hawapi.exceptions.auth.UserConflictException;
 import com.lucasjosino.hawapi.exceptions.auth.UserNotFoundException;
@@ -145,6 +146,19 @@ public class ControllerAdvisor extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, HttpStatus.UNAUTHORIZED, servletRequest);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Object> handleServiceUnavailableException(
+            ServiceUnavailableException ex,
+            HttpServletRequest servletRequest
+    ) {
+        ResponseEntity<Object> res = handleExceptionInternal(ex, HttpStatus.SERVICE_UNAVAILABLE, servletRequest);
+
+        // Rejected operations are only waiting for a free slot, try again in a second.
+        return ResponseEntity.status(res.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(res.getBody());
+    }
+
     private ResponseEntity<Object> handleExceptionInternal(
             Exception ex,
             HttpStatus status,
@@ -0,0 +1,128 @@
+package com.lucasjosino.hawapi.controllers.advisor;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucasjosino.hawapi.core.cache.ResponseCache;
+import com.lucasjosino.hawapi.interceptors.ConditionalRequestInterceptor;
+import com.lucasjosino.hawapi.models.mappers.json.StreamingList;
+import com.lucasjosino.hawapi.models.mappers.json.StreamingListHttpMessageConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Serializes successful (JSON) responses once, stores the bytes in the {@link ResponseCache} and writes them.
+ * <p> Runs after {@link ConditionalRequestAdvice}, so ETag and Last-Modified are already defined. If unable to
+ * serialize, the body is written by the message converters, as usual.
+ *
+ * @author Lucas Josino
+ * @see ResponseCache
+ * @since 1.2.0
+ */
+@ControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+@SuppressWarnings("NullableProblems")
+public class ResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheAdvice.class);
+
+    private final ResponseCache responseCache;
+
+    private final ObjectMapper objectMapper;
+
+    public ResponseCacheAdvice(ResponseCache responseCache, ObjectMapper objectMapper) {
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (!responseCache.isEnabled()) return false;
+
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                || StreamingListHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (body == null || body instanceof MappingJacksonValue) return body;
+        if (!MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)) return body;
+
+        if (!(request instanceof ServletServerHttpRequest) || !(response instanceof ServletServerHttpResponse)) {
+            return body;
+        }
+
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        Object etag = servletRequest.getAttribute(ConditionalRequestInterceptor.ETAG_ATTRIBUTE);
+        Object key = servletRequest.getAttribute(ConditionalRequestInterceptor.CANONICAL_REQUEST_ATTRIBUTE);
+        if (etag == null || key == null) return body;
+
+        int status = ((ServletServerHttpResponse) response).getServletResponse().getStatus();
+        if (status != HttpStatus.OK.value()) return body;
+
+        byte[] bytes;
+        try {
+            bytes = serialize(body);
+        } catch (IOException exception) {
+            log.warn("Unable to serialize cached response: {}", exception.getMessage());
+            return body;
+        }
+
+        try {
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+            ResponseCache.CachedResponse cached = responseCache.put(
+                    (String) key,
+                    (String) etag,
+                    response.getHeaders(),
+                    bytes
+            );
+
+            responseCache.write(cached, servletRequest, response);
+        } catch (IOException exception) {
+            // Probably closed by the client, nothing else can be written.
+            log.debug("Unable to write cached response: {}", exception.getMessage());
+        }
+
+        // Already written.
+        return null;
+    }
+
+    private byte[] serialize(Object body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            if (body instanceof StreamingList) {
+                ((StreamingList<?>) body).writeTo(gen, objectMapper.getSerializerProviderInstance());
+            } else {
+                objectMapper.writeValue(gen, body);
+            }
+        }
+
+        return out.toByteArray();
+    }
+}
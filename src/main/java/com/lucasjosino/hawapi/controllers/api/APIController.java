@@ -1,5 +1,6 @@
 package com.lucasjosino.hawapi.controllers.api;
 
+import com.lucasjosino.hawapi.core.ModelVersionStore;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api")
 @Tag(
@@ -25,9 +28,12 @@ public class APIController {
 
     private final OpenAPIProperty apiConfig;
 
+    private final ModelVersionStore modelVersionStore;
+
     @Autowired
-    public APIController(OpenAPIProperty apiConfig) {
+    public APIController(OpenAPIProperty apiConfig, ModelVersionStore modelVersionStore) {
         this.apiConfig = apiConfig;
+        this.modelVersionStore = modelVersionStore;
     }
 
     @Operation(summary = "Get API information")
@@ -43,4 +49,11 @@ public class APIController {
     public ResponseEntity<String> getPing() {
         return ResponseEntity.ok("Pong");
     }
+
+    @Operation(summary = "Get version of all resources")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @GetMapping(value = "/versions", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Long>> getVersions() {
+        return ResponseEntity.ok(modelVersionStore.getVersions());
+    }
 }
@@ -23,7 +23,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -174,7 +173,7 @@ public class ActorController implements BaseControllerInterface<ActorDTO>, Socia
      * @since 1.0.0
      */
     @Operation(summary = "Patch actor", security = @SecurityRequirement(name = "Bearer"))
-    public ResponseEntity<ActorDTO> patch(UUID uuid, ActorDTO patch) throws IOException {
+    public ResponseEntity<ActorDTO> patch(UUID uuid, ActorDTO patch) {
         service.patch(uuid, patch);
         return ResponseEntity.ok(patch);
     }
@@ -190,7 +189,7 @@ public class ActorController implements BaseControllerInterface<ActorDTO>, Socia
      * @since 1.0.0
      */
     @Operation(summary = "Patch actor social", security = @SecurityRequirement(name = "Bearer"))
-    public ResponseEntity<ActorSocialDTO> patchSocial(UUID uuid, String name, ActorSocialDTO patch) throws IOException {
+    public ResponseEntity<ActorSocialDTO> patchSocial(UUID uuid, String name, ActorSocialDTO patch) {
         service.patchSocial(uuid, name, patch);
         return ResponseEntity.ok(patch);
     }
@@ -21,7 +21,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -122,7 +121,7 @@ public class CharacterController implements BaseControllerInterface<CharacterDTO
      * @since 1.0.0
      */
     @Operation(summary = "Patch character", security = @SecurityRequirement(name = "Bearer"))
-    public ResponseEntity<CharacterDTO> patch(UUID uuid, CharacterDTO patch) throws IOException {
+    public ResponseEntity<CharacterDTO> patch(UUID uuid, CharacterDTO patch) {
         service.patch(uuid, patch);
         return ResponseEntity.ok(patch);
     }
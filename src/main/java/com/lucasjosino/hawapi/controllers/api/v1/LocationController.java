@@ -9,6 +9,8 @@ import com.lucasjosino.hawapi.exceptions.SaveConflictException;
 import com.lucasjosino.hawapi.filters.LocationFilter;
 import com.lucasjosino.hawapi.models.dto.LocationDTO;
 import com.lucasjosino.hawapi.models.dto.translation.LocationTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.json.LocationJsonWriter;
+import com.lucasjosino.hawapi.models.mappers.json.StreamingList;
 import com.lucasjosino.hawapi.services.impl.LocationServiceImpl;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,7 +25,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -73,11 +74,12 @@ public class LocationController implements BaseTranslationInterface<LocationDTO,
         filters.putIfAbsent("language", responseUtils.getDefaultLanguage());
         pageable = responseUtils.validateSort(pageable);
 
-        Page<UUID> uuids = service.findAllUUIDs(filters, pageable);
-        List<LocationDTO> res = service.findAll(filters.get("language"), uuids);
-        HttpHeaders headers = responseUtils.getHeaders(uuids, filters.get("language"));
+        Page<LocationDTO> res = service.findAll(filters, pageable);
+        HttpHeaders headers = responseUtils.getHeaders(res, filters.get("language"));
 
-        return ResponseEntity.ok().headers(headers).body(res);
+        // Written straight to the response, see 'StreamingList'.
+        List<LocationDTO> content = new StreamingList<>(res.getContent(), LocationJsonWriter::write);
+        return ResponseEntity.ok().headers(headers).body(content);
     }
 
     /**
@@ -203,7 +205,7 @@ public class LocationController implements BaseTranslationInterface<LocationDTO,
      * @since 1.0.0
      */
     @Operation(summary = "Patch location", security = @SecurityRequirement(name = "Bearer"))
-    public ResponseEntity<LocationDTO> patch(UUID uuid, LocationDTO patch) throws IOException {
+    public ResponseEntity<LocationDTO> patch(UUID uuid, LocationDTO patch) {
         // All translation models will be queried with 'eager' type.
         // If 'language' is not provided, query will return more than one result, resulting in an error.
         patch.setLanguage(responseUtils.getDefaultLanguage());
@@ -228,7 +230,7 @@ public class LocationController implements BaseTranslationInterface<LocationDTO,
             UUID uuid,
             String language,
             LocationTranslationDTO patch
-    ) throws IOException {
+    ) {
         service.patchTranslation(uuid, language, patch);
         HttpHeaders headers = responseUtils.getHeaders(language);
 
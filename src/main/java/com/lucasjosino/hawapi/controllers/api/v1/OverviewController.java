@@ -22,7 +22,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import javax.annotation.PostConstruct;
-import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 
@@ -158,7 +157,7 @@ public class OverviewController implements BaseOverviewControllerInterface {
      * @since 1.0.0
      */
     @Operation(summary = "Patch API overview", security = @SecurityRequirement(name = "Bearer"))
-    public ResponseEntity<OverviewDTO> patchOverview(OverviewDTO patch) throws IOException {
+    public ResponseEntity<OverviewDTO> patchOverview(OverviewDTO patch) {
         // All translation models will be queried with 'eager' type.
         // If 'language' is not provided, query will return more than one result, resulting in an error.
         patch.setLanguage(responseUtils.getDefaultLanguage());
@@ -181,7 +180,7 @@ public class OverviewController implements BaseOverviewControllerInterface {
     public ResponseEntity<OverviewTranslationDTO> patchOverviewTranslation(
             String language,
             OverviewTranslationDTO patch
-    ) throws IOException {
+    ) {
         overviewService.patchOverviewTranslation(language, patch);
         HttpHeaders headers = responseUtils.getHeaders(language);
 
@@ -18,7 +18,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -119,7 +118,7 @@ public class SoundtrackController implements BaseControllerInterface<SoundtrackD
      * @since 1.0.0
      */
     @PatchMapping("/{uuid}")
-    public ResponseEntity<SoundtrackDTO> patch(UUID uuid, SoundtrackDTO patch) throws IOException {
+    public ResponseEntity<SoundtrackDTO> patch(UUID uuid, SoundtrackDTO patch) {
         service.patch(uuid, patch);
         return ResponseEntity.ok(patch);
     }
@@ -2,6 +2,7 @@ package com.lucasjosino.hawapi.controllers.api.v1.auth;
 
 import com.lucasjosino.hawapi.controllers.interfaces.BaseAuthControllerInterface;
 import com.lucasjosino.hawapi.exceptions.auth.UserUnauthorizedException;
+import com.lucasjosino.hawapi.models.dto.auth.RefreshTokenDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserAuthDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserRegistrationDTO;
@@ -72,6 +73,19 @@ public class AuthController implements BaseAuthControllerInterface {
         return ResponseEntity.ok(service.authenticate(userAuth));
     }
 
+    /**
+     * Method that issues new tokens using a refresh token
+     *
+     * @param refresh An {@link RefreshTokenDTO} with the refresh token
+     * @return An {@link UserDTO} with the new tokens
+     * @throws UserUnauthorizedException If refresh token is not valid
+     * @since 1.2.0
+     */
+    @Operation(summary = "Refresh token")
+    public ResponseEntity<UserDTO> refresh(RefreshTokenDTO refresh) {
+        return ResponseEntity.ok(service.refresh(refresh));
+    }
+
     /**
      * Method that delete a user
      *
@@ -85,6 +99,18 @@ public class AuthController implements BaseAuthControllerInterface {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Method that revokes the token used by the current request
+     *
+     * @throws UserUnauthorizedException If request is not authenticated with a token
+     * @since 1.2.0
+     */
+    @Operation(summary = "Revoke token")
+    public ResponseEntity<Void> revoke() {
+        service.revoke();
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Method checks if registration is available
      *
@@ -1,5 +1,6 @@
 package com.lucasjosino.hawapi.controllers.interfaces;
 
+import com.lucasjosino.hawapi.models.dto.auth.RefreshTokenDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserAuthDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserRegistrationDTO;
@@ -40,10 +41,27 @@ public interface BaseAuthControllerInterface {
     @ApiResponse(responseCode = "429", description = "Too Many Requests", content = @Content(schema = @Schema(hidden = true)))
     ResponseEntity<UserDTO> authenticate(@Valid @RequestBody UserAuthDTO userAuth);
 
+    @PostMapping(
+            value = "/refresh",
+            produces = MediaType.APPLICATION_JSON_VALUE,
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(hidden = true)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
+    @ApiResponse(responseCode = "429", description = "Too Many Requests", content = @Content(schema = @Schema(hidden = true)))
+    ResponseEntity<UserDTO> refresh(@Valid @RequestBody RefreshTokenDTO refresh);
+
     @PostMapping(value = "/delete", consumes = MediaType.APPLICATION_JSON_VALUE)
     @ApiResponse(responseCode = "204", description = "No Content")
     @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(hidden = true)))
     @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
     @ApiResponse(responseCode = "429", description = "Too Many Requests", content = @Content(schema = @Schema(hidden = true)))
     ResponseEntity<Void> delete(@Valid @RequestBody UserAuthDTO userAuth);
+
+    @PostMapping(value = "/revoke")
+    @ApiResponse(responseCode = "204", description = "No Content")
+    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
+    @ApiResponse(responseCode = "429", description = "Too Many Requests", content = @Content(schema = @Schema(hidden = true)))
+    ResponseEntity<Void> revoke();
 }
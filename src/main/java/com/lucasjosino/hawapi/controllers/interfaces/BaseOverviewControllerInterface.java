@@ -10,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.io.IOException;
 import java.util.List;
 
 /**
@@ -79,7 +78,7 @@ public interface BaseOverviewControllerInterface {
     @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
     @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true)))
     @ApiResponse(responseCode = "429", description = "Too Many Requests", content = @Content(schema = @Schema(hidden = true)))
-    ResponseEntity<OverviewDTO> patchOverview(@RequestBody OverviewDTO dto) throws IOException;
+    ResponseEntity<OverviewDTO> patchOverview(@RequestBody OverviewDTO dto);
 
     @PatchMapping(
             value = "/overview/translations/{language}",
@@ -94,7 +93,7 @@ public interface BaseOverviewControllerInterface {
     ResponseEntity<OverviewTranslationDTO> patchOverviewTranslation(
             @PathVariable String language,
             @RequestBody OverviewTranslationDTO dto
-    ) throws IOException;
+    );
 
     @DeleteMapping(value = "/overview")
     @ApiResponse(responseCode = "204", description = "No Content")
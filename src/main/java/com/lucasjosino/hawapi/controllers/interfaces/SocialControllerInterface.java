@@ -9,7 +9,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -68,7 +67,7 @@ public interface SocialControllerInterface {
             @PathVariable UUID uuid,
             @PathVariable String name,
             @RequestBody ActorSocialDTO dto
-    ) throws IOException;
+    );
 
     @DeleteMapping(value = "/{uuid}/socials/{name}")
     @ApiResponse(responseCode = "204", description = "No Content")
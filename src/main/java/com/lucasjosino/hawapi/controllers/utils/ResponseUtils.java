@@ -1,6 +1,7 @@
 package com.lucasjosino.hawapi.controllers.utils;
 
 import com.lucasjosino.hawapi.core.LanguageUtils;
+import com.lucasjosino.hawapi.repositories.pagination.PageResult;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -37,25 +38,36 @@ public class ResponseUtils {
      * <ul>
      *     <li>X-Pagination-Page-Index</li>
      *     <li>X-Pagination-Page-Size</li>
-     *     <li>X-Pagination-Page-Total</li>
-     *     <li>X-Pagination-Item-Total</li>
+     *     <li>X-Pagination-Page-Total (Only if count is enabled)</li>
+     *     <li>X-Pagination-Item-Total (Only if count is enabled)</li>
+     *     <li>X-Pagination-Next-Cursor (Only on keyset mode and if there's a next page)</li>
      *     <li>Content-Language</li>
      * </ul>
      *
-     * @param page     An {@link Page} of {@link UUID}. Cannot be null
+     * @param page     An {@link Page} of {@link UUID} or DTOs. Cannot be null
      * @param language An {@link String} with language. Can be null
      * @return An {@link HttpHeaders} with all defined params
      * @since 1.0.0
      */
-    public HttpHeaders getHeaders(Page<UUID> page, String language) {
+    public HttpHeaders getHeaders(Page<?> page, String language) {
         HttpHeaders headers = new HttpHeaders() {{
             // We add +1 because of 'one-indexed-parameters' is set to true
             add("X-Pagination-Page-Index", String.valueOf(page.getNumber() + 1));
             add("X-Pagination-Page-Size", String.valueOf(page.getNumberOfElements()));
-            add("X-Pagination-Page-Total", String.valueOf(page.getTotalPages()));
-            add("X-Pagination-Item-Total", String.valueOf(page.getTotalElements()));
         }};
 
+        PageResult<?> result = page instanceof PageResult ? (PageResult<?>) page : null;
+
+        // Uncounted pages (?count=false) only have estimated totals.
+        if (result == null || result.isCounted()) {
+            headers.add("X-Pagination-Page-Total", String.valueOf(page.getTotalPages()));
+            headers.add("X-Pagination-Item-Total", String.valueOf(page.getTotalElements()));
+        }
+
+        if (result != null && result.getNextCursor() != null) {
+            headers.add("X-Pagination-Next-Cursor", result.getNextCursor().encode());
+        }
+
         if (!isNullOrEmpty(language)) headers.add("Content-Language", language);
 
         return headers;
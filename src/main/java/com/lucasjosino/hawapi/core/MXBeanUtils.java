@@ -0,0 +1,40 @@
+package com.lucasjosino.hawapi.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * A JMX (MXBean) utils for HawAPI project
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+public class MXBeanUtils {
+
+    private static final Logger log = LoggerFactory.getLogger(MXBeanUtils.class);
+
+    /**
+     * Method to register a bean on the platform {@link MBeanServer}, replacing any bean with the same name.
+     * <p> Failures are only logged, statistics should never break the application.
+     *
+     * @param name The object name. E.g: com.lucasjosino.hawapi:type=JwtRevocationList
+     * @param bean The MXBean implementation
+     * @since 1.2.0
+     */
+    public static void register(String name, Object bean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(name);
+
+            if (server.isRegistered(objectName)) server.unregisterMBean(objectName);
+            server.registerMBean(bean, objectName);
+        } catch (JMException exception) {
+            log.warn("Unable to register MXBean '{}': {}", name, exception.getMessage());
+        }
+    }
+}
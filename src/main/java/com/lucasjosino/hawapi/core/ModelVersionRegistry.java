@@ -0,0 +1,105 @@
+package com.lucasjosino.hawapi.core;
+
+import com.lucasjosino.hawapi.models.listeners.ModelChangeListener;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in-memory registry of versions for each model type.
+ * <p> Every write (save, update or delete) of a model, or any of its translations, will increment the model version.
+ * Derived values (E.g: counts) can be stored with the version and safely reused while the version doesn't change.
+ * <p> The time of the last write is also stored. Before any write, the application start time is used.
+ * <p> Versions are only invalidation tokens (a write may increment it more than once). The number of written rows
+ * (statements) is counted separately, see {@link #getWriteCount(Class)}.
+ *
+ * @author Lucas Josino
+ * @see ModelChangeListener
+ * @since 1.2.0
+ */
+public final class ModelVersionRegistry {
+
+    private static final long START_TIME = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private static final ConcurrentMap<Class<?>, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<Class<?>, AtomicLong> lastModified = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<Class<?>, AtomicLong> writeCounts = new ConcurrentHashMap<>();
+
+    private ModelVersionRegistry() {}
+
+    /**
+     * Method to get the current version of a model type
+     *
+     * @param model The model class
+     * @return The current version. Starts with 0
+     * @since 1.2.0
+     */
+    public static long get(Class<?> model) {
+        AtomicLong version = versions.get(model);
+        return version == null ? 0 : version.get();
+    }
+
+    /**
+     * Method to get the time of the last write of a model type
+     *
+     * @param model The model class
+     * @return The time (in milliseconds) of the last write or the application start time
+     * @since 1.2.0
+     */
+    public static long getLastModified(Class<?> model) {
+        AtomicLong time = lastModified.get(model);
+        return time == null ? START_TIME : time.get();
+    }
+
+    /**
+     * Method to increment the version of a model type. Also updates the last modified time
+     *
+     * @param model The model class
+     * @return The new version
+     * @since 1.2.0
+     */
+    public static long increment(Class<?> model) {
+        long now = System.currentTimeMillis();
+        lastModified.computeIfAbsent(model, key -> new AtomicLong(START_TIME)).accumulateAndGet(now, Math::max);
+
+        return versions.computeIfAbsent(model, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Method to get the number of writes (statements) of a model type executed by this instance
+     * <p> Writes are counted as soon as executed, before the commit, and removed again if rolled back. So any write
+     * visible on the database was already counted.
+     *
+     * @param model The model class
+     * @return The number of writes not rolled back. Starts with 0
+     * @since 1.2.0
+     */
+    public static long getWriteCount(Class<?> model) {
+        AtomicLong count = writeCounts.get(model);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Method to count an executed write of a model type
+     *
+     * @param model The model class
+     * @since 1.2.0
+     */
+    public static void addWrite(Class<?> model) {
+        writeCounts.computeIfAbsent(model, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Method to remove a rolled back write of a model type
+     *
+     * @param model The model class
+     * @since 1.2.0
+     */
+    public static void removeWrite(Class<?> model) {
+        writeCounts.computeIfAbsent(model, key -> new AtomicLong()).decrementAndGet();
+    }
+}
@@ -0,0 +1,214 @@
+package com.lucasjosino.hawapi.core;
+
+import com.lucasjosino.hawapi.models.*;
+import com.lucasjosino.hawapi.models.properties.ModelVersionProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ModelVersionStore holds the version of each resource (E.g: actors, episodes) in memory, so clients can check if
+ * anything changed with a single request.
+ * <p> Versions are persisted in the 'model_versions' table and incremented by the database (triggers) on every
+ * write, so all instances share the same values and restarts never go back.
+ * <p> Values are loaded again when a local write is detected (see {@link ModelVersionRegistry}) and periodically,
+ * covering writes of other instances. Changes of other instances will also increment the local
+ * {@link ModelVersionRegistry}, so cached values (and ETags) of this instance are never reused.
+ * <p> Local writes already increment the registry (see 'ModelChangeListener'). A resource is only incremented when
+ * the database version rose more than the local write count ({@link ModelVersionRegistry#getWriteCount(Class)})
+ * since the last load, so a local write is never counted twice. Writes are counted before the commit, a write of
+ * another instance may only be detected after the local transactions running at the same time.
+ *
+ * @author Lucas Josino
+ * @see ModelVersionRegistry
+ * @since 1.2.0
+ */
+@Component
+public class ModelVersionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ModelVersionStore.class);
+
+    private static final String SELECT_QUERY = "SELECT resource, version FROM model_versions";
+
+    /**
+     * All resources, as defined by the 'model_versions' triggers, and its models.
+     */
+    private static final Map<String, Class<?>[]> RESOURCES = new LinkedHashMap<>();
+
+    static {
+        RESOURCES.put("actors", new Class<?>[]{ActorModel.class, ActorSocialModel.class});
+        RESOURCES.put("characters", new Class<?>[]{CharacterModel.class});
+        RESOURCES.put("episodes", new Class<?>[]{EpisodeModel.class});
+        RESOURCES.put("games", new Class<?>[]{GameModel.class});
+        RESOURCES.put("locations", new Class<?>[]{LocationModel.class});
+        RESOURCES.put("overview", new Class<?>[]{OverviewModel.class});
+        RESOURCES.put("seasons", new Class<?>[]{SeasonModel.class});
+        RESOURCES.put("soundtracks", new Class<?>[]{SoundtrackModel.class});
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final ModelVersionProperty spec;
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), Collections.emptyMap(), -1);
+
+    private ScheduledExecutorService scheduler;
+
+    public ModelVersionStore(NamedParameterJdbcTemplate jdbcTemplate, ModelVersionProperty spec) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.spec = spec;
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+
+        Duration interval = spec.getRefreshInterval();
+        if (interval.isZero() || interval.isNegative()) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "model-versions-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    /**
+     * Method to get the version of all resources.
+     * <p> The database is only used if some model was changed by this instance since the last load.
+     *
+     * @return An unmodifiable {@link Map} of resource names and its versions
+     * @since 1.2.0
+     */
+    public Map<String, Long> getVersions() {
+        Snapshot current = snapshot;
+        if (current.localVersion != getLocalVersion()) current = refresh(current);
+
+        return current.versions;
+    }
+
+    /**
+     * Method to load all versions from the database.
+     *
+     * @since 1.2.0
+     */
+    public void refresh() {
+        refresh(null);
+    }
+
+    /**
+     * Method to load all versions from the database. Failures are only logged, the last values are kept.
+     *
+     * @param expected The stale snapshot. If already replaced (by another thread), nothing is loaded
+     * @return The current snapshot
+     */
+    private synchronized Snapshot refresh(Snapshot expected) {
+        Snapshot current = snapshot;
+        if (expected != null && expected != current) return current;
+
+        // Read before the query, any write after it will be detected by the next call.
+        long localVersion = getLocalVersion();
+
+        try {
+            Map<String, Long> rows = new HashMap<>();
+            jdbcTemplate.query(SELECT_QUERY, rs -> {
+                rows.put(rs.getString("resource"), rs.getLong("version"));
+            });
+
+            // Read after the query, all local writes visible on the database were already counted.
+            Map<String, Long> writeCounts = getWriteCounts();
+
+            Map<String, Long> versions = new LinkedHashMap<>();
+            for (Map.Entry<String, Class<?>[]> resource : RESOURCES.entrySet()) {
+                String name = resource.getKey();
+                long version = rows.getOrDefault(name, 0L);
+                Long previous = current.versions.get(name);
+
+                // Writes not made by this instance. Values cached by this instance can't be reused.
+                long writes = writeCounts.get(name) - current.writeCounts.getOrDefault(name, 0L);
+                if (previous != null && version - previous > writes) {
+                    for (Class<?> model : resource.getValue()) {
+                        ModelVersionRegistry.increment(model);
+                        localVersion++;
+                    }
+                }
+
+                versions.put(name, previous == null ? version : Math.max(previous, version));
+            }
+
+            snapshot = new Snapshot(
+                    Collections.unmodifiableMap(versions),
+                    Collections.unmodifiableMap(writeCounts),
+                    localVersion
+            );
+        } catch (Exception exception) {
+            log.warn("Unable to load model versions: {}", exception.getMessage());
+            snapshot = new Snapshot(current.versions, current.writeCounts, localVersion);
+        }
+
+        return snapshot;
+    }
+
+    private static long getLocalVersion() {
+        long version = 0;
+        for (Class<?>[] models : RESOURCES.values()) {
+            for (Class<?> model : models) {
+                version += ModelVersionRegistry.get(model);
+            }
+        }
+
+        return version;
+    }
+
+    private static Map<String, Long> getWriteCounts() {
+        Map<String, Long> writeCounts = new HashMap<>();
+        for (Map.Entry<String, Class<?>[]> resource : RESOURCES.entrySet()) {
+            long count = 0;
+            for (Class<?> model : resource.getValue()) {
+                count += ModelVersionRegistry.getWriteCount(model);
+            }
+
+            writeCounts.put(resource.getKey(), count);
+        }
+
+        return writeCounts;
+    }
+
+    private static final class Snapshot {
+
+        private final Map<String, Long> versions;
+
+        /**
+         * Local write count ({@link ModelVersionRegistry#getWriteCount(Class)}) of each resource when loaded.
+         */
+        private final Map<String, Long> writeCounts;
+
+        /**
+         * Sum of all local versions ({@link ModelVersionRegistry}) when loaded.
+         */
+        private final long localVersion;
+
+        private Snapshot(Map<String, Long> versions, Map<String, Long> writeCounts, long localVersion) {
+            this.versions = versions;
+            this.writeCounts = writeCounts;
+            this.localVersion = localVersion;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.lucasjosino.hawapi.core.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EntityCache is a {@link Cache} of a single entity type (partition) with targeted evictions.
+ * <p> Evicting an {@link UUID} will remove all entries of this item, even if the key is composed by other values.
+ * E.g: Evicting <strong>[uuid]</strong> will also remove <strong>[uuid, 'en-US']</strong> and
+ * <strong>[uuid, 'pt-BR']</strong>.
+ * <p> Misses are loaded only once per key (single-flight). Concurrent callers of the same key will wait for the
+ * running loader and share its result (or exception). Used by {@code @Cacheable(sync = true)}.
+ *
+ * @author Lucas Josino
+ * @see EntityCacheResolver
+ * @since 1.2.0
+ */
+public final class EntityCache implements Cache, EntityCacheMXBean {
+
+    private final Cache delegate;
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented by any eviction. Values loaded before an eviction will not be stored.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final LongAdder loadFailureCount = new LongAdder();
+
+    private final LongAdder coalescedCount = new LongAdder();
+
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    public EntityCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) return (T) cached.get();
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = loading.putIfAbsent(key, future);
+        if (running != null) {
+            coalescedCount.increment();
+            return (T) await(key, valueLoader, running);
+        }
+
+        try {
+            T value = load(key, valueLoader);
+            future.complete(value);
+            return value;
+        } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+            throw new ValueRetrievalException(key, valueLoader, throwable);
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(Object key, Callable<T> valueLoader) throws Exception {
+        // Another loader may have finished between the first lookup and the registration of this one.
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) return (T) cached.get();
+
+        long version = evictions.get();
+        long start = System.nanoTime();
+        try {
+            T value = valueLoader.call();
+            loadCount.increment();
+
+            // Don't store values loaded with data changed (evicted) during the load.
+            if (version == evictions.get()) delegate.put(key, value);
+            return value;
+        } catch (Exception exception) {
+            loadFailureCount.increment();
+            throw exception;
+        } finally {
+            totalLoadTime.add(System.nanoTime() - start);
+        }
+    }
+
+    private static Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> running) {
+        try {
+            return running.get();
+        } catch (ExecutionException exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.incrementAndGet();
+        if (key instanceof UUID) {
+            evictItem((UUID) key);
+            return;
+        }
+
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictions.incrementAndGet();
+        if (key instanceof UUID) {
+            evictItem((UUID) key);
+            return true;
+        }
+
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        evictions.incrementAndGet();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        evictions.incrementAndGet();
+        return delegate.invalidate();
+    }
+
+    @Override
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    @Override
+    public long getLoadFailureCount() {
+        return loadFailureCount.sum();
+    }
+
+    @Override
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    @Override
+    public long getTotalLoadTime() {
+        return totalLoadTime.sum();
+    }
+
+    @Override
+    public int getLoadingCount() {
+        return loading.size();
+    }
+
+    /**
+     * Method to remove all entries of a single item.
+     * <p> Only the keys of this partition are visited. If the native cache doesn't allow key iteration,
+     * the whole partition will be cleared.
+     * <p> Every eviction is a full scan of this partition: O(n), where n is the number of entries of this entity
+     * type (bounded by its maximum-weight, see {@code CacheProperty}). Evictions are only triggered by writes, which
+     * are rare compared to reads, so keys are not indexed by uuid.
+     *
+     * @param uuid An {@link UUID} that represents a specific item
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    private void evictItem(UUID uuid) {
+        Object nativeCache = delegate.getNativeCache();
+
+        if (nativeCache instanceof Map) {
+            ((Map<Object, Object>) nativeCache).keySet().removeIf(key -> isItemKey(key, uuid));
+            return;
+        }
+
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache) {
+            ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).asMap()
+                    .keySet()
+                    .removeIf(key -> isItemKey(key, uuid));
+            return;
+        }
+
+        if (nativeCache instanceof javax.cache.Cache) {
+            javax.cache.Cache<Object, Object> jcache = (javax.cache.Cache<Object, Object>) nativeCache;
+
+            Set<Object> keys = new HashSet<>();
+            for (javax.cache.Cache.Entry<Object, Object> entry : jcache) {
+                if (isItemKey(entry.getKey(), uuid)) keys.add(entry.getKey());
+            }
+
+            jcache.removeAll(keys);
+            return;
+        }
+
+        delegate.clear();
+    }
+
+    /**
+     * Keys are defined as the item uuid or a list starting with the item uuid. E.g: <strong>{ #uuid, #language }</strong>
+     */
+    private static boolean isItemKey(Object key, UUID uuid) {
+        if (uuid.equals(key)) return true;
+
+        if (!(key instanceof List)) return false;
+
+        List<?> values = (List<?>) key;
+        return !values.isEmpty() && uuid.equals(values.get(0));
+    }
+}
@@ -0,0 +1,36 @@
+package com.lucasjosino.hawapi.core.cache;
+
+/**
+ * Loading statistics of a single {@link EntityCache}.
+ * <p> Registered as <strong>com.lucasjosino.hawapi:type=EntityCache,name=[cache name]</strong>.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+public interface EntityCacheMXBean {
+
+    /**
+     * @return Number of values loaded (misses that executed the loader)
+     */
+    long getLoadCount();
+
+    /**
+     * @return Number of loaders that threw an exception
+     */
+    long getLoadFailureCount();
+
+    /**
+     * @return Number of misses that waited for a running loader instead of executing its own
+     */
+    long getCoalescedCount();
+
+    /**
+     * @return Total time, in nanoseconds, spent loading values
+     */
+    long getTotalLoadTime();
+
+    /**
+     * @return Number of loaders currently running
+     */
+    int getLoadingCount();
+}
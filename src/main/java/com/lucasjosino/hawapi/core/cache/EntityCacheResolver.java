@@ -0,0 +1,124 @@
+package com.lucasjosino.hawapi.core.cache;
+
+import com.lucasjosino.hawapi.core.MXBeanUtils;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.cache.support.NoOpCache;
+
+import javax.cache.configuration.Configuration;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * EntityCacheResolver partitions all caches by entity type, using the service (target) class name.
+ * <p> E.g: Cache <strong>findBy</strong> used by <strong>EpisodeServiceImpl</strong> will be resolved as
+ * <strong>episode.findBy</strong>. Writes of an episode will only evict episode caches.
+ * <p> Partitions are created on first use, using the configuration of its name. If statistics are enabled, each
+ * partition is registered as an {@link EntityCacheMXBean}.
+ *
+ * @author Lucas Josino
+ * @see EntityCache
+ * @since 1.2.0
+ */
+public class EntityCacheResolver implements CacheResolver {
+
+    private static final String SERVICE_SUFFIX = "ServiceImpl";
+
+    private static final String MXBEAN_NAME = "com.lucasjosino.hawapi:type=EntityCache,name=";
+
+    private final ConcurrentMap<Class<?>, String> partitions = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    private final CacheManager cacheManager;
+
+    private final Function<String, Configuration<Object, Object>> configurations;
+
+    private final boolean statistics;
+
+    public EntityCacheResolver(
+            CacheManager cacheManager,
+            Function<String, Configuration<Object, Object>> configurations,
+            boolean statistics
+    ) {
+        this.cacheManager = cacheManager;
+        this.configurations = configurations;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        Class<?> target = AopProxyUtils.ultimateTargetClass(context.getTarget());
+        String partition = partitions.computeIfAbsent(target, EntityCacheResolver::getPartition);
+
+        Collection<String> cacheNames = context.getOperation().getCacheNames();
+        List<Cache> resolved = new ArrayList<>(cacheNames.size());
+        for (String cacheName : cacheNames) {
+            String name = partition + "." + cacheName;
+
+            Cache cache = caches.get(name);
+            if (cache == null) cache = caches.computeIfAbsent(name, this::createEntityCache);
+            resolved.add(cache);
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Method to get the partition name of a service.
+     *
+     * @param target The service class. E.g: EpisodeServiceImpl
+     * @return The partition name. E.g: episode
+     * @since 1.2.0
+     */
+    public static String getPartition(Class<?> target) {
+        String name = target.getSimpleName();
+        if (name.endsWith(SERVICE_SUFFIX)) name = name.substring(0, name.length() - SERVICE_SUFFIX.length());
+
+        return name.isEmpty() ? target.getName() : Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private Cache createEntityCache(String name) {
+        Cache cache = getOrCreateCache(name);
+
+        // Caching is disabled, there's nothing to load only once.
+        if (cache instanceof NoOpCache) return cache;
+
+        EntityCache entityCache = new EntityCache(cache);
+        if (statistics) MXBeanUtils.register(MXBEAN_NAME + ObjectName.quote(name), entityCache);
+        return entityCache;
+    }
+
+    private Cache getOrCreateCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) return cache;
+
+        // JCache will only return caches already defined on its own manager.
+        if (cacheManager instanceof JCacheCacheManager) {
+            javax.cache.CacheManager jcacheManager = ((JCacheCacheManager) cacheManager).getCacheManager();
+
+            synchronized (this) {
+                if (jcacheManager != null && jcacheManager.getCache(name) == null) {
+                    jcacheManager.createCache(name, configurations.apply(name));
+                }
+            }
+
+            cache = cacheManager.getCache(name);
+        }
+
+        if (cache == null) {
+            throw new IllegalArgumentException("Cannot find cache named '" + name + "'");
+        }
+
+        return cache;
+    }
+}
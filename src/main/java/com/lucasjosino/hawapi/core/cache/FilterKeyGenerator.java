@@ -0,0 +1,31 @@
+package com.lucasjosino.hawapi.core.cache;
+
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
+import com.lucasjosino.hawapi.repositories.specification.FilterKey;
+import com.lucasjosino.hawapi.services.base.BaseService;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * FilterKeyGenerator creates the cache key of list methods, E.g: <strong>findAllUUIDs(filters, pageable)</strong>.
+ * <p> Raw filters are replaced by its {@link FilterKey} and {@link PageOptions}, so unknown params, param order and
+ * whitespace variations will share the same cache entry.
+ *
+ * @author Lucas Josino
+ * @see BaseService#getFilterClass()
+ * @since 1.2.0
+ */
+public class FilterKeyGenerator implements KeyGenerator {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object generate(Object target, Method method, Object... params) {
+        Map<String, String> filters = (Map<String, String>) params[0];
+
+        FilterKey filterKey = FilterKey.of(((BaseService<?>) target).getFilterClass(), filters);
+        return new SimpleKey(method.getName(), filterKey, PageOptions.from(filters), params[1]);
+    }
+}
@@ -0,0 +1,257 @@
+package com.lucasjosino.hawapi.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lucasjosino.hawapi.controllers.advisor.ResponseCacheAdvice;
+import com.lucasjosino.hawapi.core.MXBeanUtils;
+import com.lucasjosino.hawapi.interceptors.ConditionalRequestInterceptor;
+import com.lucasjosino.hawapi.models.properties.ResponseCacheProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ResponseCache keeps the final (UTF-8 JSON) bytes of responses, optionally also gzip-compressed, with its headers.
+ * <p> Responses are keyed by the canonical request (path and sorted query) and validated by its ETag, computed from
+ * the version of all models, see {@link ConditionalRequestInterceptor}. Any write will change the ETag, so outdated
+ * responses are never written and are replaced by the next response of the same request. No eviction is required.
+ * <p> Hits are written by {@link ConditionalRequestInterceptor}, without any service, database or serialization work.
+ * Misses are serialized and stored by {@link ResponseCacheAdvice}.
+ *
+ * @author Lucas Josino
+ * @see ResponseCacheProperty
+ * @since 1.2.0
+ */
+@Component
+public class ResponseCache implements ResponseCacheMXBean {
+
+    private static final String MXBEAN_NAME = "com.lucasjosino.hawapi:type=ResponseCache";
+
+    /**
+     * Approximate size of headers and object overheads of a single entry.
+     */
+    private static final int ENTRY_OVERHEAD = 512;
+
+    private static final String GZIP = "gzip";
+
+    private final ResponseCacheProperty spec;
+
+    private final Cache<String, CachedResponse> cache;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseCache(ResponseCacheProperty spec) {
+        this.spec = spec;
+        this.cache = spec.isEnabled() ? build(spec) : null;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (cache != null) MXBeanUtils.register(MXBEAN_NAME, this);
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Method to get a cached response
+     *
+     * @param key  The canonical request. See {@link ConditionalRequestInterceptor#getCanonicalRequest}
+     * @param etag The current ETag of the request
+     * @return The cached response or null if disabled, not found or outdated
+     * @since 1.2.0
+     */
+    public CachedResponse get(String key, String etag) {
+        if (cache == null) return null;
+
+        CachedResponse response = cache.getIfPresent(key);
+        if (response == null || !response.etag.equals(etag)) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return response;
+    }
+
+    /**
+     * Method to create (and store, if enabled) a cached response
+     *
+     * @param key     The canonical request. See {@link ConditionalRequestInterceptor#getCanonicalRequest}
+     * @param etag    The ETag of the response
+     * @param headers All response headers. Validators (ETag, Last-Modified) and encoding headers are never stored
+     * @param body    The serialized body
+     * @return A new {@link CachedResponse}
+     * @throws IOException If unable to compress the body
+     * @since 1.2.0
+     */
+    public CachedResponse put(String key, String etag, HttpHeaders headers, byte[] body) throws IOException {
+        HttpHeaders copy = new HttpHeaders();
+        copy.putAll(headers);
+        copy.remove(HttpHeaders.ETAG);
+        copy.remove(HttpHeaders.LAST_MODIFIED);
+        copy.remove(HttpHeaders.CONTENT_LENGTH);
+        copy.remove(HttpHeaders.CONTENT_ENCODING);
+        copy.remove(HttpHeaders.VARY);
+
+        byte[] gzipBody = spec.isGzip() && body.length >= spec.getGzipMinSize().toBytes() ? gzip(body) : null;
+        CachedResponse response = new CachedResponse(etag, HttpHeaders.readOnlyHttpHeaders(copy), body, gzipBody);
+
+        if (cache != null) cache.put(key, response);
+        return response;
+    }
+
+    /**
+     * Method to write a cached response. The gzip body is used if the client accepts it.
+     * <p> Different encodings can't share a strong ETag, gzip responses use the weak ETag (W/). See RFC 7232.
+     *
+     * @param cached   The cached response
+     * @param request  The current request
+     * @param response The current response. Headers must not be committed
+     * @throws IOException If unable to write
+     * @since 1.2.0
+     */
+    public void write(CachedResponse cached, HttpServletRequest request, ServerHttpResponse response) throws IOException {
+        boolean gzip = cached.gzipBody != null && acceptsGzip(request);
+        byte[] body = gzip ? cached.gzipBody : cached.body;
+
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers);
+        headers.setETag(gzip ? "W/" + cached.etag : cached.etag);
+        headers.setContentLength(body.length);
+        if (spec.isGzip()) headers.setVary(Collections.singletonList(HttpHeaders.ACCEPT_ENCODING));
+        if (gzip) headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+
+        response.getBody().write(body);
+        response.flush();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 1.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public long getSize() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    @Override
+    public long getWeight() {
+        if (cache == null) return 0;
+
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+    }
+
+    private static Cache<String, CachedResponse> build(ResponseCacheProperty spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (spec.getExpireAfterAccess() != null) builder.expireAfterAccess(spec.getExpireAfterAccess());
+
+        return builder
+                .maximumWeight(spec.getMaximumWeight().toBytes())
+                .<String, CachedResponse>weigher((key, value) -> key.length() * 2 + value.getWeight())
+                .build();
+    }
+
+    /**
+     * Method to compress a body
+     *
+     * @return The compressed body or null if it isn't smaller
+     */
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+
+        return out.size() < body.length ? out.toByteArray() : null;
+    }
+
+    /**
+     * Method to check the 'Accept-Encoding' header. A gzip with zero quality (E.g: gzip;q=0) isn't accepted.
+     */
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (header == null) return false;
+
+        for (String value : header.split(",")) {
+            String[] params = value.split(";");
+            if (!params[0].trim().equalsIgnoreCase(GZIP)) continue;
+
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=") && isZero(param.substring(2))) return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * A serialized response. Immutable, shared by all requests.
+     */
+    public static final class CachedResponse {
+
+        private final String etag;
+
+        private final HttpHeaders headers;
+
+        private final byte[] body;
+
+        private final byte[] gzipBody;
+
+        private CachedResponse(String etag, HttpHeaders headers, byte[] body, byte[] gzipBody) {
+            this.etag = etag;
+            this.headers = headers;
+            this.body = body;
+            this.gzipBody = gzipBody;
+        }
+
+        public String getETag() {
+            return etag;
+        }
+
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        private int getWeight() {
+            return ENTRY_OVERHEAD + body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+}
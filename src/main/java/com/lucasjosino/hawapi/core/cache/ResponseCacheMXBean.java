@@ -0,0 +1,36 @@
+package com.lucasjosino.hawapi.core.cache;
+
+/**
+ * Statistics of the {@link ResponseCache}.
+ * <p> Registered as <strong>com.lucasjosino.hawapi:type=ResponseCache</strong>.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+public interface ResponseCacheMXBean {
+
+    /**
+     * @return Number of responses written from the cache
+     */
+    long getHitCount();
+
+    /**
+     * @return Number of responses not found or outdated (different ETag)
+     */
+    long getMissCount();
+
+    /**
+     * @return Ratio of hits, 1.0 if no requests
+     */
+    double getHitRate();
+
+    /**
+     * @return Approximate number of cached responses
+     */
+    long getSize();
+
+    /**
+     * @return Approximate size, in bytes, of all cached responses
+     */
+    long getWeight();
+}
@@ -0,0 +1,65 @@
+package com.lucasjosino.hawapi.core.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+
+/**
+ * SerializedSizeWeigher weighs a cache entry by its size, in bytes, once serialized (JSON).
+ * <p> The key is also included, since list keys are built with all (client defined) filters.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+public class SerializedSizeWeigher implements Weigher<Object, Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(SerializedSizeWeigher.class);
+
+    /**
+     * Used when the value can't be serialized.
+     */
+    private static final int DEFAULT_WEIGHT = 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public SerializedSizeWeigher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = String.valueOf(key).length();
+
+        try {
+            CountingOutputStream output = new CountingOutputStream();
+            objectMapper.writeValue(output, value);
+            weight += output.count;
+        } catch (Exception exception) {
+            log.debug("Unable to weigh cache value of '{}': {}", key, exception.getMessage());
+            weight += DEFAULT_WEIGHT;
+        }
+
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Only counts all written bytes, nothing is stored.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
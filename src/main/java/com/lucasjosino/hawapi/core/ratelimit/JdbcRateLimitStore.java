@@ -0,0 +1,389 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import com.lucasjosino.hawapi.core.MXBeanUtils;
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JdbcRateLimitStore shares all buckets between instances using the 'rate_limits' table.
+ * <p> Buckets use the same algorithm of {@link TokenBucket}, but the TAT is stored in the database, using the database
+ * clock (microseconds). Instances reserve a small batch of tokens with a single atomic upsert and serve them from
+ * memory (a 'lease'). Rejections are also kept until the next token is available, so a limited client will not touch
+ * the database either.
+ * <p> Unused tokens of expired leases are given back in batches and idle rows (fully refilled) are removed
+ * periodically. If the database is not available, the in-memory {@link TokenBucketStore} is used instead.
+ *
+ * @author Lucas Josino
+ * @see RateLimitProperty.Jdbc
+ * @since 1.2.0
+ */
+public class JdbcRateLimitStore implements RateLimitStore, JdbcRateLimitStoreMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcRateLimitStore.class);
+
+    private static final String NOW = "CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000000 AS BIGINT)";
+
+    /**
+     * Number of tokens reserved from an existing row. Expressions of 'UPDATE SET' always use the previous row values.
+     */
+    private static final String GRANTED = "GREATEST(0, LEAST(:requested, " +
+            "(:window - (GREATEST(r.tat, EXCLUDED.updated_at) - EXCLUDED.updated_at)) / :interval))";
+
+    /**
+     * New rows are created full. The current time is inserted as 'updated_at', so 'EXCLUDED.updated_at' is the
+     * current time of the update.
+     */
+    private static final String RESERVE_SQL = "INSERT INTO rate_limits AS r (bucket_key, tat, reserved, updated_at) " +
+            "SELECT :key, c.now + :requested * :interval, :requested, c.now FROM (SELECT " + NOW + " AS now) c " +
+            "ON CONFLICT (bucket_key) DO UPDATE SET " +
+            "reserved = " + GRANTED + ", " +
+            "tat = GREATEST(r.tat, EXCLUDED.updated_at) + " + GRANTED + " * :interval, " +
+            "updated_at = EXCLUDED.updated_at " +
+            "RETURNING tat, reserved, updated_at";
+
+    private static final String REFUND_SQL = "UPDATE rate_limits SET tat = tat - ? WHERE bucket_key = ?";
+
+    private static final String DELETE_IDLE_SQL = "DELETE FROM rate_limits WHERE tat < " + NOW;
+
+    private static final RowMapper<long[]> RESERVATION_MAPPER = (rs, rowNum) -> new long[]{
+            rs.getLong("tat"),
+            rs.getLong("reserved"),
+            rs.getLong("updated_at")
+    };
+
+    private static final long EXHAUSTED = Long.MIN_VALUE;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TokenBucketStore fallback;
+
+    private final int reservationSize;
+
+    private final long leaseTime;
+
+    private final Duration flushInterval;
+
+    private final Duration evictionInterval;
+
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+
+    /**
+     * Time (microseconds) to give back, by row key.
+     */
+    private final ConcurrentHashMap<String, LongAdder> refunds = new ConcurrentHashMap<>();
+
+    private final LongAdder consumedCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final LongAdder evictedCount = new LongAdder();
+
+    private final LongAdder reservationCount = new LongAdder();
+
+    private final LongAdder refundedCount = new LongAdder();
+
+    private final LongAdder fallbackCount = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    public JdbcRateLimitStore(NamedParameterJdbcTemplate jdbcTemplate, RateLimitProperty.Store spec) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fallback = new TokenBucketStore(spec);
+        this.reservationSize = Math.max(1, spec.getJdbc().getReservationSize());
+        this.leaseTime = spec.getJdbc().getLeaseTime().toNanos();
+        this.flushInterval = spec.getJdbc().getFlushInterval();
+        this.evictionInterval = spec.getEvictionInterval();
+    }
+
+    @PostConstruct
+    public void init() {
+        MXBeanUtils.register(RateLimitStore.MXBEAN_NAME, this);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (!flushInterval.isZero() && !flushInterval.isNegative()) {
+            long millis = flushInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+        }
+
+        if (!evictionInterval.isZero() && !evictionInterval.isNegative()) {
+            long millis = evictionInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::evictIdle, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (scheduler != null) scheduler.shutdownNow();
+
+        // Give back all reserved tokens, another instance may need them.
+        for (Lease lease : leases.values()) {
+            release(lease);
+        }
+        leases.clear();
+        flushRefunds();
+    }
+
+    @Override
+    public long tryConsume(String key, TokenBucket.Limit[] limits) {
+        long now = System.nanoTime();
+
+        Lease lease = leases.get(key);
+        if (lease != null && lease.expiresAt - now <= 0) lease = null;
+
+        while (true) {
+            if (lease != null) {
+                long result = lease.consume(now);
+                if (result != EXHAUSTED) {
+                    (result < 0 ? rejectedCount : consumedCount).increment();
+                    return result;
+                }
+            }
+
+            lease = reserve(key, limits, now);
+            if (lease == null) {
+                fallbackCount.increment();
+                return fallback.tryConsume(key, limits);
+            }
+
+            Lease previous = leases.put(key, lease);
+            if (previous != null) release(previous);
+        }
+    }
+
+    /**
+     * Method to remove all expired leases and give back its unused tokens (batched).
+     *
+     * @since 1.2.0
+     */
+    public void flush() {
+        long now = System.nanoTime();
+
+        leases.values().removeIf(lease -> {
+            if (lease.expiresAt - now > 0) return false;
+
+            release(lease);
+            evictedCount.increment();
+            return true;
+        });
+
+        flushRefunds();
+    }
+
+    /**
+     * Method to remove all idle (fully refilled) rows. Removed rows have the same state of a new one.
+     *
+     * @since 1.2.0
+     */
+    public void evictIdle() {
+        try {
+            int removed = jdbcTemplate.getJdbcOperations().update(DELETE_IDLE_SQL);
+            log.debug("Removed {} idle rate limit buckets", removed);
+        } catch (DataAccessException exception) {
+            log.warn("Unable to remove idle rate limit buckets: {}", exception.getMessage());
+        }
+
+        fallback.evictAll();
+    }
+
+    @Override
+    public long getConsumedCount() {
+        return consumedCount.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+
+    @Override
+    public long getSize() {
+        return leases.size();
+    }
+
+    @Override
+    public long getReservationCount() {
+        return reservationCount.sum();
+    }
+
+    @Override
+    public long getRefundedCount() {
+        return refundedCount.sum();
+    }
+
+    @Override
+    public long getFallbackCount() {
+        return fallbackCount.sum();
+    }
+
+    /**
+     * Method to reserve tokens of all limits. The lease holds the min number of tokens reserved by all limits, the
+     * remaining ones are given back.
+     *
+     * @return A new {@link Lease} or null if the database is not available
+     */
+    private Lease reserve(String key, TokenBucket.Limit[] limits, long now) {
+        long[] reserved = new long[limits.length];
+        long granted = Long.MAX_VALUE;
+        long available = Long.MAX_VALUE;
+        long wait = 0;
+
+        int i = 0;
+        try {
+            for (; i < limits.length; i++) {
+                TokenBucket.Limit limit = limits[i];
+                long interval = toMicros(limit.getInterval());
+                long window = interval * limit.getCapacity();
+
+                // Never reserve the whole bucket, other instances may receive requests of the same client.
+                long requested = Math.max(1, Math.min(reservationSize, limit.getCapacity() / 4));
+
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("key", getRowKey(key, i))
+                        .addValue("requested", requested)
+                        .addValue("interval", interval)
+                        .addValue("window", window);
+
+                long[] row = jdbcTemplate.queryForObject(RESERVE_SQL, params, RESERVATION_MAPPER);
+                reservationCount.increment();
+
+                // Row: [tat, reserved, now]
+                assert row != null;
+                long ahead = row[0] - row[2];
+
+                reserved[i] = row[1];
+                granted = Math.min(granted, row[1]);
+                available = Math.min(available, Math.max(0, (window - ahead) / interval));
+                if (row[1] == 0) wait = Math.max(wait, ahead + interval - window);
+            }
+        } catch (DataAccessException exception) {
+            log.warn("Unable to reserve rate limit tokens, using in-memory buckets: {}", exception.getMessage());
+
+            for (int j = 0; j < i; j++) {
+                refund(getRowKey(key, j), reserved[j], limits[j]);
+            }
+            return null;
+        }
+
+        for (int j = 0; j < limits.length; j++) {
+            refund(getRowKey(key, j), reserved[j] - granted, limits[j]);
+        }
+
+        if (granted == 0) {
+            long waitNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(1, wait));
+            return new Lease(key, limits, 0, 0, now + waitNanos);
+        }
+
+        return new Lease(key, limits, granted, available, now + leaseTime);
+    }
+
+    private void release(Lease lease) {
+        long unused = lease.tokens.getAndSet(0);
+        if (unused <= 0) return;
+
+        for (int i = 0; i < lease.limits.length; i++) {
+            refund(getRowKey(lease.key, i), unused, lease.limits[i]);
+        }
+    }
+
+    private void refund(String rowKey, long tokens, TokenBucket.Limit limit) {
+        if (tokens <= 0) return;
+
+        refundedCount.add(tokens);
+        refunds.computeIfAbsent(rowKey, k -> new LongAdder()).add(tokens * toMicros(limit.getInterval()));
+    }
+
+    private void flushRefunds() {
+        List<Object[]> batch = new ArrayList<>();
+        for (String rowKey : refunds.keySet()) {
+            LongAdder adder = refunds.remove(rowKey);
+            long micros = adder != null ? adder.sum() : 0;
+            if (micros > 0) batch.add(new Object[]{micros, rowKey});
+        }
+
+        if (batch.isEmpty()) return;
+
+        try {
+            jdbcTemplate.getJdbcOperations().batchUpdate(REFUND_SQL, batch);
+        } catch (DataAccessException exception) {
+            // Tokens not given back are only available after the refill.
+            log.warn("Unable to give back {} rate limit reservations: {}", batch.size(), exception.getMessage());
+        }
+    }
+
+    private static String getRowKey(String key, int limit) {
+        return key + "#" + limit;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Lease holds the tokens reserved by this instance, until it expires.
+     * <p> A lease without tokens is a rejection, holding the time to wait for the next token.
+     */
+    private static final class Lease {
+
+        private final String key;
+
+        private final TokenBucket.Limit[] limits;
+
+        private final AtomicLong tokens;
+
+        /**
+         * Tokens available on the database after the reservation.
+         */
+        private final long remaining;
+
+        private final long expiresAt;
+
+        private final boolean rejected;
+
+        private Lease(String key, TokenBucket.Limit[] limits, long tokens, long remaining, long expiresAt) {
+            this.key = key;
+            this.limits = limits;
+            this.tokens = new AtomicLong(tokens);
+            this.remaining = remaining;
+            this.expiresAt = expiresAt;
+            this.rejected = tokens == 0;
+        }
+
+        /**
+         * @return Remaining tokens, the negative time to wait or {@link #EXHAUSTED}
+         */
+        private long consume(long now) {
+            // Rejected until the next token is available (expiration).
+            if (rejected) return -(expiresAt - now);
+
+            long left = tokens.decrementAndGet();
+            return left >= 0 ? remaining + left : EXHAUSTED;
+        }
+    }
+}
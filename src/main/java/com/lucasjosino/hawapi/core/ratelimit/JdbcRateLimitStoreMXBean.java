@@ -0,0 +1,26 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+/**
+ * Statistics of the {@link JdbcRateLimitStore}.
+ * <p> Registered as <strong>com.lucasjosino.hawapi:type=RateLimit</strong>.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+public interface JdbcRateLimitStoreMXBean extends RateLimitStoreMXBean {
+
+    /**
+     * @return Number of reservations (upserts) sent to the database
+     */
+    long getReservationCount();
+
+    /**
+     * @return Number of reserved tokens given back to the database (unused before the lease expired)
+     */
+    long getRefundedCount();
+
+    /**
+     * @return Number of requests limited by the in-memory fallback, when the database is not available
+     */
+    long getFallbackCount();
+}
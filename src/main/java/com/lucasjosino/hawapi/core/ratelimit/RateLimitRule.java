@@ -0,0 +1,159 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RateLimitRule is a compiled {@link RateLimitProperty.RateLimit}.
+ * <p> Conditions are parsed once, on startup. Only role comparisons are supported (the same used by Bucket4j SpEL
+ * expressions), so every request only compares the (already resolved) role.
+ * <p> E.g:
+ * <ul>
+ *      <li>@authServiceImpl.getRole() == 'ROLE_BASIC'</li>
+ *      <li>@authServiceImpl.getRole() != 'ROLE_ADMIN'</li>
+ * </ul>
+ *
+ * @author Lucas Josino
+ * @see TokenBucketStore
+ * @since 1.2.0
+ */
+public final class RateLimitRule {
+
+    private static final Pattern ROLE_CONDITION = Pattern.compile("^(?:@\\w+\\.)?getRole\\(\\)\\s*(==|!=)\\s*'([^']*)'$");
+
+    private static final String REMOTE_ADDRESS_KEY = "getRemoteAddr()";
+
+    private final String id;
+
+    private final Condition executeCondition;
+
+    private final Condition skipCondition;
+
+    private final boolean remoteAddressKey;
+
+    private final TokenBucket.Limit[] limits;
+
+    private RateLimitRule(
+            String id,
+            Condition executeCondition,
+            Condition skipCondition,
+            boolean remoteAddressKey,
+            TokenBucket.Limit[] limits
+    ) {
+        this.id = id;
+        this.executeCondition = executeCondition;
+        this.skipCondition = skipCondition;
+        this.remoteAddressKey = remoteAddressKey;
+        this.limits = limits;
+    }
+
+    /**
+     * Method to compile a rate limit definition.
+     *
+     * @param id   The unique rule id, used as bucket key prefix
+     * @param spec The rate limit definition
+     * @return A new {@link RateLimitRule}
+     * @throws IllegalArgumentException If any condition, key or bandwidth is not supported
+     * @since 1.2.0
+     */
+    public static RateLimitRule compile(String id, RateLimitProperty.RateLimit spec) {
+        List<RateLimitProperty.Bandwidth> bandwidths = spec.getBandwidths();
+        if (bandwidths.isEmpty()) {
+            throw new IllegalArgumentException("Rate limit '" + id + "' should define at least one bandwidth");
+        }
+
+        TokenBucket.Limit[] limits = new TokenBucket.Limit[bandwidths.size()];
+        for (int i = 0; i < limits.length; i++) {
+            RateLimitProperty.Bandwidth bandwidth = bandwidths.get(i);
+            if (bandwidth.getRefillSpeed() != RateLimitProperty.RefillSpeed.GREEDY) {
+                throw new IllegalArgumentException(
+                        "Rate limit '" + id + "' refill speed '" + bandwidth.getRefillSpeed() + "' is not supported"
+                );
+            }
+
+            limits[i] = new TokenBucket.Limit(bandwidth.getCapacity(), bandwidth.getPeriod().toNanos());
+        }
+
+        return new RateLimitRule(
+                id + ":",
+                parseCondition(spec.getExecuteCondition()),
+                parseCondition(spec.getSkipCondition()),
+                parseKey(spec.getCacheKey()),
+                limits
+        );
+    }
+
+    /**
+     * Method to check if the rule should be used for a request.
+     *
+     * @param role The request role. E.g: ROLE_ANONYMOUS
+     * @return true if the 'execute' condition matches and the 'skip' condition doesn't
+     * @since 1.2.0
+     */
+    public boolean appliesTo(String role) {
+        if (skipCondition != null && skipCondition.matches(role)) return false;
+
+        return executeCondition == null || executeCondition.matches(role);
+    }
+
+    /**
+     * Method to get the bucket key of a request. Rules never share buckets.
+     *
+     * @param request The current request
+     * @return The rule id plus the client address, or only the rule id (a single bucket for all clients)
+     * @since 1.2.0
+     */
+    public String getKey(HttpServletRequest request) {
+        return remoteAddressKey ? id + request.getRemoteAddr() : id;
+    }
+
+    public TokenBucket.Limit[] getLimits() {
+        return limits;
+    }
+
+    private static Condition parseCondition(String expression) {
+        if (expression == null || expression.trim().isEmpty()) return null;
+
+        Matcher matcher = ROLE_CONDITION.matcher(expression.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException(
+                    "Rate limit condition '" + expression + "' is not supported. Only role comparisons are allowed"
+            );
+        }
+
+        return new Condition(matcher.group(2), matcher.group(1).equals("=="));
+    }
+
+    private static boolean parseKey(String cacheKey) {
+        // Bucket4j will use the same bucket for all requests if no key is defined.
+        if (cacheKey == null || cacheKey.trim().isEmpty()) return false;
+
+        if (!cacheKey.trim().equals(REMOTE_ADDRESS_KEY)) {
+            throw new IllegalArgumentException(
+                    "Rate limit key '" + cacheKey + "' is not supported. Only '" + REMOTE_ADDRESS_KEY + "' is allowed"
+            );
+        }
+
+        return true;
+    }
+
+    private static final class Condition {
+
+        private final String role;
+
+        private final boolean equals;
+
+        private Condition(String role, boolean equals) {
+            this.role = role;
+            this.equals = equals;
+        }
+
+        private boolean matches(String role) {
+            return this.role.equals(role) == equals;
+        }
+    }
+}
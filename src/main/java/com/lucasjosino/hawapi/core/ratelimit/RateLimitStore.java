@@ -0,0 +1,31 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+
+/**
+ * RateLimitStore defines where all rate limit buckets are stored.
+ * <ul>
+ *      <li>{@link TokenBucketStore}: Memory, each instance has its own buckets (default)</li>
+ *      <li>{@link JdbcRateLimitStore}: Database, buckets shared by all instances</li>
+ * </ul>
+ * Selected by <strong>bucket4j.store.type</strong>.
+ *
+ * @author Lucas Josino
+ * @see RateLimitProperty.Store
+ * @since 1.2.0
+ */
+public interface RateLimitStore {
+
+    String MXBEAN_NAME = "com.lucasjosino.hawapi:type=RateLimit";
+
+    /**
+     * Method to consume a single token from the bucket of the key. New buckets are created full.
+     *
+     * @param key    The bucket key
+     * @param limits All limits of the bucket
+     * @return Remaining tokens (zero or positive) or the negative time (nanos) to wait for the next token
+     * @see TokenBucket#tryConsume(long)
+     * @since 1.2.0
+     */
+    long tryConsume(String key, TokenBucket.Limit[] limits);
+}
@@ -0,0 +1,31 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+/**
+ * Statistics of the active {@link RateLimitStore}.
+ * <p> Registered as <strong>com.lucasjosino.hawapi:type=RateLimit</strong>.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+public interface RateLimitStoreMXBean {
+
+    /**
+     * @return Number of requests with an available token
+     */
+    long getConsumedCount();
+
+    /**
+     * @return Number of requests rejected (429)
+     */
+    long getRejectedCount();
+
+    /**
+     * @return Number of idle buckets (or leases) removed
+     */
+    long getEvictedCount();
+
+    /**
+     * @return Number of buckets (or leases) in memory
+     */
+    long getSize();
+}
@@ -0,0 +1,120 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TokenBucket is a lock-free bucket with greedy refill, stored as a single timestamp per limit.
+ * <p> Each limit holds its 'theoretical arrival time' (TAT), the time in which the bucket will be full again. A token
+ * costs one 'interval' (period / capacity) and can be consumed while the TAT is at most one 'period' ahead. Consuming
+ * is a single CAS and buckets with a TAT in the past are full, so they can be removed without losing any state.
+ * <p> All times are {@link System#nanoTime()} values.
+ *
+ * @author Lucas Josino
+ * @see TokenBucketStore
+ * @since 1.2.0
+ */
+public final class TokenBucket {
+
+    private final Limit[] limits;
+
+    private final AtomicLongArray tats;
+
+    public TokenBucket(Limit[] limits, long now) {
+        this.limits = limits;
+        this.tats = new AtomicLongArray(limits.length);
+        for (int i = 0; i < limits.length; i++) {
+            tats.set(i, now);
+        }
+    }
+
+    /**
+     * Method to consume a single token of all limits.
+     *
+     * @param now The current time
+     * @return Remaining tokens (zero or positive) or the negative time to wait for the next token
+     * @since 1.2.0
+     */
+    public long tryConsume(long now) {
+        long remaining = Long.MAX_VALUE;
+
+        for (int i = 0; i < limits.length; i++) {
+            Limit limit = limits[i];
+
+            long tat;
+            long next;
+            do {
+                tat = tats.get(i);
+                next = (tat - now < 0 ? now : tat) + limit.interval;
+
+                long wait = next - now - limit.window;
+                if (wait > 0) {
+                    // Give back tokens of the previous limits, nothing was consumed.
+                    for (int j = 0; j < i; j++) {
+                        tats.addAndGet(j, -limits[j].interval);
+                    }
+                    return -wait;
+                }
+            } while (!tats.compareAndSet(i, tat, next));
+
+            remaining = Math.min(remaining, (limit.window - (next - now)) / limit.interval);
+        }
+
+        return remaining;
+    }
+
+    /**
+     * Method to check if all limits are fully refilled.
+     *
+     * @param now The current time
+     * @return true if bucket has the same state of a new one
+     * @since 1.2.0
+     */
+    public boolean isIdle(long now) {
+        for (int i = 0; i < limits.length; i++) {
+            if (tats.get(i) - now > 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Limit is a compiled bandwidth: 'capacity' tokens, fully refilled every 'period'.
+     */
+    public static final class Limit {
+
+        private final long capacity;
+
+        private final long period;
+
+        private final long interval;
+
+        /**
+         * Max distance between the TAT and now. The 'period' rounded to 'interval', so a full bucket holds exactly
+         * 'capacity' tokens.
+         */
+        private final long window;
+
+        public Limit(long capacity, long period) {
+            if (capacity <= 0 || period <= 0) {
+                throw new IllegalArgumentException("Rate limit capacity and period should be positive");
+            }
+
+            this.capacity = capacity;
+            this.period = period;
+            this.interval = Math.max(1, period / capacity);
+            this.window = interval * capacity;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public long getPeriod() {
+            return period;
+        }
+
+        public long getInterval() {
+            return interval;
+        }
+    }
+}
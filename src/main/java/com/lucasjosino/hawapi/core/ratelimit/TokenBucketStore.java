@@ -0,0 +1,161 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.lucasjosino.hawapi.core.MXBeanUtils;
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TokenBucketStore is the default {@link RateLimitStore}, holding all {@link TokenBucket} in memory, split in multiple
+ * (striped) maps.
+ * <p> Existing buckets are found without any lock (get, then putIfAbsent only for new keys) and consumed with a single
+ * CAS. Idle buckets are removed in the background, one stripe at a time, so the map never grows with every client
+ * seen since startup and a sweep never holds the whole map.
+ *
+ * @author Lucas Josino
+ * @see TokenBucket
+ * @see RateLimitProperty.Store
+ * @since 1.2.0
+ */
+public class TokenBucketStore implements RateLimitStore, RateLimitStoreMXBean {
+
+    private final List<ConcurrentHashMap<String, TokenBucket>> stripes;
+
+    private final Duration evictionInterval;
+
+    private final Ticker ticker;
+
+    private final LongAdder consumedCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final LongAdder evictedCount = new LongAdder();
+
+    private int nextStripe;
+
+    private ScheduledExecutorService scheduler;
+
+    public TokenBucketStore(RateLimitProperty.Store spec) {
+        this(spec, Ticker.systemTicker());
+    }
+
+    TokenBucketStore(RateLimitProperty.Store spec, Ticker ticker) {
+        int size = spec.getStripes() <= 1 ? 1 : Integer.highestOneBit((spec.getStripes() - 1) << 1);
+
+        this.stripes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+
+        this.evictionInterval = spec.getEvictionInterval();
+        this.ticker = ticker;
+    }
+
+    @PostConstruct
+    public void init() {
+        MXBeanUtils.register(RateLimitStore.MXBEAN_NAME, this);
+
+        if (evictionInterval.isZero() || evictionInterval.isNegative()) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // All stripes are checked once per interval.
+        long period = Math.max(1, evictionInterval.toMillis() / stripes.size());
+        scheduler.scheduleWithFixedDelay(this::evictNextStripe, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    @Override
+    public long tryConsume(String key, TokenBucket.Limit[] limits) {
+        long now = ticker.read();
+        ConcurrentHashMap<String, TokenBucket> stripe = getStripe(key);
+
+        TokenBucket bucket = stripe.get(key);
+        if (bucket == null) {
+            TokenBucket created = new TokenBucket(limits, now);
+            bucket = stripe.putIfAbsent(key, created);
+            if (bucket == null) bucket = created;
+        }
+
+        long result = bucket.tryConsume(now);
+        (result < 0 ? rejectedCount : consumedCount).increment();
+        return result;
+    }
+
+    /**
+     * Method to remove all idle buckets of all stripes.
+     *
+     * @since 1.2.0
+     */
+    public void evictAll() {
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            evict(stripe);
+        }
+    }
+
+    @Override
+    public long getConsumedCount() {
+        return consumedCount.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+
+    @Override
+    public long getSize() {
+        long size = 0;
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            size += stripe.mappingCount();
+        }
+
+        return size;
+    }
+
+    private void evictNextStripe() {
+        // Only called by the scheduler (single thread).
+        evict(stripes.get(nextStripe));
+        nextStripe = (nextStripe + 1) & (stripes.size() - 1);
+    }
+
+    private void evict(ConcurrentHashMap<String, TokenBucket> stripe) {
+        long now = ticker.read();
+
+        // A request may still consume a bucket being removed. Since idle buckets are full, it will lose at most
+        // this single token.
+        stripe.values().removeIf(bucket -> {
+            boolean idle = bucket.isIdle(now);
+            if (idle) evictedCount.increment();
+            return idle;
+        });
+    }
+
+    private ConcurrentHashMap<String, TokenBucket> getStripe(String key) {
+        int hash = key.hashCode();
+        return stripes.get((hash ^ (hash >>> 16)) & (stripes.size() - 1));
+    }
+}
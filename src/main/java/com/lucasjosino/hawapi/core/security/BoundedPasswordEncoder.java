@@ -0,0 +1,175 @@
+package com.lucasjosino.hawapi.core.security;
+
+import com.lucasjosino.hawapi.core.MXBeanUtils;
+import com.lucasjosino.hawapi.exceptions.InternalServerErrorException;
+import com.lucasjosino.hawapi.exceptions.ServiceUnavailableException;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BoundedPasswordEncoder runs all password hashing/verification on a dedicated and bounded executor.
+ * <p> Key-stretching (BCrypt) is CPU heavy. A burst of auth requests will only use the configured threads, and once
+ * the queue is full, new operations are rejected immediately with {@link ServiceUnavailableException} (503), so
+ * the remaining CPU/workers are still available to the read API.
+ * <p> The request thread only waits (without CPU usage) for its operation, up to the configured timeout.
+ *
+ * @author Lucas Josino
+ * @see PasswordEncoderProperty
+ * @since 1.2.0
+ */
+@Primary
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder, BoundedPasswordEncoderMXBean {
+
+    private static final String MXBEAN_NAME = "com.lucasjosino.hawapi:type=PasswordEncoder";
+
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long timeout;
+
+    private final LongAdder encodeCount = new LongAdder();
+
+    private final LongAdder matchCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final LongAdder timeoutCount = new LongAdder();
+
+    private final LongAdder totalQueueTime = new LongAdder();
+
+    private final LongAdder totalHashTime = new LongAdder();
+
+    public BoundedPasswordEncoder(
+            @Qualifier("passwordEncoder") PasswordEncoder delegate,
+            PasswordEncoderProperty property
+    ) {
+        this.delegate = delegate;
+        this.timeout = property.getTimeout().toNanos();
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                property.getThreads(),
+                property.getThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, property.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-encoder-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        MXBeanUtils.register(MXBEAN_NAME, this);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        encodeCount.increment();
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        matchCount.increment();
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public long getEncodeCount() {
+        return encodeCount.sum();
+    }
+
+    @Override
+    public long getMatchCount() {
+        return matchCount.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    @Override
+    public long getTotalQueueTime() {
+        return totalQueueTime.sum();
+    }
+
+    @Override
+    public long getTotalHashTime() {
+        return totalHashTime.sum();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T execute(Callable<T> operation) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                totalQueueTime.add(startedAt - submittedAt);
+                try {
+                    return operation.call();
+                } finally {
+                    totalHashTime.add(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            rejectedCount.increment();
+            throw new ServiceUnavailableException("Too many auth requests, try again later", exception);
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            timeoutCount.increment();
+            future.cancel(true);
+            throw new ServiceUnavailableException("Too many auth requests, try again later", exception);
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Auth request was interrupted", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+
+            throw new InternalServerErrorException("Something went wrong while trying to validate password", cause);
+        }
+    }
+}
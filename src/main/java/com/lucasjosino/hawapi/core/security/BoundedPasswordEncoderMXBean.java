@@ -0,0 +1,51 @@
+package com.lucasjosino.hawapi.core.security;
+
+/**
+ * Statistics of the {@link BoundedPasswordEncoder}.
+ * <p> Registered as <strong>com.lucasjosino.hawapi:type=PasswordEncoder</strong>.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+public interface BoundedPasswordEncoderMXBean {
+
+    /**
+     * @return Number of hashed passwords
+     */
+    long getEncodeCount();
+
+    /**
+     * @return Number of verified passwords
+     */
+    long getMatchCount();
+
+    /**
+     * @return Number of operations rejected because the queue was full
+     */
+    long getRejectedCount();
+
+    /**
+     * @return Number of operations that exceeded the timeout
+     */
+    long getTimeoutCount();
+
+    /**
+     * @return Total time, in nanoseconds, operations waited on the queue
+     */
+    long getTotalQueueTime();
+
+    /**
+     * @return Total time, in nanoseconds, spent hashing/verifying passwords
+     */
+    long getTotalHashTime();
+
+    /**
+     * @return Number of operations currently running
+     */
+    int getActiveCount();
+
+    /**
+     * @return Number of operations currently waiting on the queue
+     */
+    int getQueueSize();
+}
@@ -0,0 +1,146 @@
+package com.lucasjosino.hawapi.filters.http;
+
+import com.lucasjosino.hawapi.core.ratelimit.RateLimitRule;
+import com.lucasjosino.hawapi.core.ratelimit.RateLimitStore;
+import com.lucasjosino.hawapi.jwt.JwtManager;
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+import com.lucasjosino.hawapi.services.impl.auth.AuthServiceImpl.RoleType;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Request filter to apply all rate limits defined by {@link RateLimitProperty}.
+ * <p> Replaces the Bucket4j filter, keeping the same behavior and headers. The role is resolved only once per request
+ * (and only if any url matches) and all buckets are stored by the {@link RateLimitStore}.
+ *
+ * @author Lucas Josino
+ * @see RateLimitRule
+ * @since 1.2.0
+ */
+@SuppressWarnings("NullableProblems")
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String REMAINING_HEADER = "X-Rate-Limit-Remaining";
+
+    public static final String RETRY_AFTER_HEADER = "X-Rate-Limit-Retry-After-Seconds";
+
+    private static final String ANONYMOUS_ROLE = JwtManager.ROLE_PREFIX + RoleType.ANONYMOUS.name();
+
+    private final RateLimitStore store;
+
+    private final List<Plan> plans = new ArrayList<>();
+
+    public RateLimitFilter(RateLimitProperty property, RateLimitStore store) {
+        this.store = store;
+
+        List<RateLimitProperty.Filter> filters = new ArrayList<>(property.getFilters());
+        filters.sort(Comparator.comparingInt(RateLimitProperty.Filter::getFilterOrder));
+
+        for (int i = 0; i < filters.size(); i++) {
+            plans.add(new Plan(i, filters.get(i)));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String uri = request.getRequestURI();
+        String role = null;
+        long remaining = Long.MAX_VALUE;
+
+        for (Plan plan : plans) {
+            if (!plan.url.matcher(uri).matches()) continue;
+
+            if (role == null) role = getRole();
+
+            for (RateLimitRule rule : plan.rules) {
+                if (!rule.appliesTo(role)) continue;
+
+                long result = store.tryConsume(rule.getKey(request), rule.getLimits());
+                if (result < 0) {
+                    reject(response, plan, -result);
+                    return;
+                }
+
+                remaining = Math.min(remaining, result);
+                if (plan.strategy == RateLimitProperty.Strategy.FIRST) break;
+            }
+        }
+
+        if (remaining != Long.MAX_VALUE) response.setHeader(REMAINING_HEADER, String.valueOf(remaining));
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Method to get current user role, same as 'AuthServiceImpl#getRole' without the service/SpEL lookup.
+     */
+    private static String getRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                return authority.getAuthority();
+            }
+        }
+
+        return ANONYMOUS_ROLE;
+    }
+
+    private static void reject(HttpServletResponse response, Plan plan, long wait) throws IOException {
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(RETRY_AFTER_HEADER, String.valueOf(seconds));
+
+        if (plan.body == null) return;
+
+        response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(plan.body.length);
+        response.getOutputStream().write(plan.body);
+    }
+
+    /**
+     * Plan is a compiled {@link RateLimitProperty.Filter}.
+     */
+    private static final class Plan {
+
+        private final Pattern url;
+
+        private final RateLimitProperty.Strategy strategy;
+
+        private final byte[] body;
+
+        private final List<RateLimitRule> rules = new ArrayList<>();
+
+        private Plan(int index, RateLimitProperty.Filter filter) {
+            this.url = Pattern.compile(filter.getUrl());
+            this.strategy = filter.getStrategy();
+
+            String body = filter.getHttpResponseBody();
+            this.body = body != null ? body.getBytes(StandardCharsets.UTF_8) : null;
+
+            List<RateLimitProperty.RateLimit> rateLimits = filter.getRateLimits();
+            for (int i = 0; i < rateLimits.size(); i++) {
+                rules.add(RateLimitRule.compile(index + "." + i, rateLimits.get(i)));
+            }
+        }
+    }
+}
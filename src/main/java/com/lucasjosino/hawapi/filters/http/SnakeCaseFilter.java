@@ -1,6 +1,10 @@
 package com.lucasjosino.hawapi.filters.http;
 
 import com.google.common.base.CaseFormat;
+import com.lucasjosino.hawapi.filters.*;
+import com.lucasjosino.hawapi.filters.base.BaseFilter;
+import com.lucasjosino.hawapi.repositories.pagination.KeysetCursor;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -10,13 +14,14 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.Enumeration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
 
 /**
  * Request filter to handle conversion from <strong>Camel case</strong> to <strong>Snake case</strong>
+ * <p> Names of all known params (filter fields and pagination) are converted once, on startup. Requests without
+ * params or with camel case params only (E.g: page, size, language) are never wrapped.
  *
  * @author Lucas Josino
  * @since 1.0.0
@@ -25,42 +30,137 @@ import java.util.concurrent.ConcurrentHashMap;
 @SuppressWarnings("NullableProblems")
 public class SnakeCaseFilter extends OncePerRequestFilter {
 
+    private static final List<Class<? extends BaseFilter>> FILTERS = Arrays.asList(
+            ActorFilter.class,
+            CharacterFilter.class,
+            EpisodeFilter.class,
+            GameFilter.class,
+            LocationFilter.class,
+            SeasonFilter.class,
+            SoundtrackFilter.class
+    );
+
+    private static final List<String> PAGEABLE_PARAMS = Arrays.asList(
+            "page",
+            "size",
+            "sort",
+            KeysetCursor.PARAM,
+            PageOptions.COUNT_PARAM
+    );
+
+    /**
+     * All known params, in snake and camel case, and its camel case name. E.g: first_name -> firstName
+     */
+    private static final Map<String, String> NAMES = getNames();
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        // Ref: https://stackoverflow.com/a/65696628/14500144
-        final Map<String, String[]> parameters = new ConcurrentHashMap<>();
+        if (isCamelCase(request.getParameterMap().keySet())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        for (String param : request.getParameterMap().keySet()) {
-            String[] values = request.getParameterValues(param);
+        filterChain.doFilter(new SnakeCaseRequest(request), response);
+    }
+
+    /**
+     * Method to convert a param name to camel case
+     *
+     * @param name The param name. E.g: first_name
+     * @return The camel case name. E.g: firstName
+     * @since 1.2.0
+     */
+    public static String toCamelCase(String name) {
+        String camelCase = NAMES.get(name);
+        if (camelCase != null) return camelCase;
+
+        // Unknown params, only converted if required.
+        if (isLowerCase(name)) return name;
+
+        return CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, name);
+    }
 
-            String formattedParam = CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, param);
-            parameters.put(formattedParam, values);
+    private static boolean isCamelCase(Set<String> names) {
+        for (String name : names) {
+            if (!name.equals(toCamelCase(name))) return false;
         }
 
-        filterChain.doFilter(new HttpServletRequestWrapper(request) {
-            @Override
-            public String getParameter(String name) {
-                return parameters.containsKey(name) ? parameters.get(name)[0] : null;
-            }
+        return true;
+    }
 
-            @Override
-            public Enumeration<String> getParameterNames() {
-                return Collections.enumeration(parameters.keySet());
-            }
+    private static boolean isLowerCase(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_' || Character.isUpperCase(c)) return false;
+        }
+
+        return true;
+    }
+
+    private static Map<String, String> getNames() {
+        Map<String, String> names = new HashMap<>();
+        for (String param : PAGEABLE_PARAMS) {
+            names.put(param, param);
+        }
 
-            @Override
-            public String[] getParameterValues(String name) {
-                return parameters.get(name);
+        for (Class<?> filter : FILTERS) {
+            for (Class<?> type = filter; type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) continue;
+
+                    String camelCase = field.getName();
+                    names.put(camelCase, camelCase);
+                    names.put(CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, camelCase), camelCase);
+                }
             }
+        }
+
+        return Collections.unmodifiableMap(names);
+    }
+
+    /**
+     * A request with all params in camel case. Params are only converted when first used.
+     */
+    private static final class SnakeCaseRequest extends HttpServletRequestWrapper {
 
-            @Override
-            public Map<String, String[]> getParameterMap() {
-                return parameters;
+        private Map<String, String[]> parameters;
+
+        private SnakeCaseRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getParameter(String name) {
+            String[] values = getParameterMap().get(name);
+            return values != null && values.length > 0 ? values[0] : null;
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(getParameterMap().keySet());
+        }
+
+        @Override
+        public String[] getParameterValues(String name) {
+            return getParameterMap().get(name);
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            if (parameters != null) return parameters;
+
+            Map<String, String[]> original = super.getParameterMap();
+            Map<String, String[]> result = new LinkedHashMap<>((int) (original.size() / .75f) + 1);
+            for (Map.Entry<String, String[]> entry : original.entrySet()) {
+                result.put(toCamelCase(entry.getKey()), entry.getValue());
             }
-        }, response);
+
+            parameters = Collections.unmodifiableMap(result);
+            return parameters;
+        }
     }
 }
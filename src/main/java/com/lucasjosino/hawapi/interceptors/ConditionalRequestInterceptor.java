@@ -0,0 +1,194 @@
+package com.lucasjosino.hawapi.interceptors;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.lucasjosino.hawapi.configs.HttpCacheConfig;
+import com.lucasjosino.hawapi.controllers.advisor.ConditionalRequestAdvice;
+import com.lucasjosino.hawapi.core.ModelVersionRegistry;
+import com.lucasjosino.hawapi.core.cache.ResponseCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * Interceptor that answers conditional requests (If-None-Match and If-Modified-Since) before the controller.
+ * <p> The ETag is computed from the request (path and query) and the version of all models used by the response, see
+ * {@link ModelVersionRegistry}. The Last-Modified is the time of the last write of any of these models, so it also
+ * covers deleted items. A matching request will return 304 without any service, database or serialization work.
+ * Otherwise, both headers are added by {@link ConditionalRequestAdvice} to successful responses.
+ * <p> If enabled, responses with the same ETag are written from the {@link ResponseCache}.
+ * <p> Versions are reset on restart, so all tags also include a random (per instance) epoch.
+ *
+ * @author Lucas Josino
+ * @see HttpCacheConfig
+ * @since 1.2.0
+ */
+@SuppressWarnings("NullableProblems")
+public class ConditionalRequestInterceptor implements HandlerInterceptor {
+
+    public static final String ETAG_ATTRIBUTE = ConditionalRequestInterceptor.class.getName() + ".ETAG";
+
+    public static final String LAST_MODIFIED_ATTRIBUTE = ConditionalRequestInterceptor.class.getName() + ".LAST_MODIFIED";
+
+    public static final String CANONICAL_REQUEST_ATTRIBUTE =
+            ConditionalRequestInterceptor.class.getName() + ".CANONICAL_REQUEST";
+
+    private static final long EPOCH = new SecureRandom().nextLong();
+
+    private final ResponseCache responseCache;
+
+    private final Class<?>[] models;
+
+    public ConditionalRequestInterceptor(ResponseCache responseCache, Class<?>... models) {
+        this.responseCache = responseCache;
+        this.models = models;
+    }
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler
+    ) throws IOException {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) return true;
+
+        String canonicalRequest = getCanonicalRequest(request);
+        String etag = getETag(canonicalRequest);
+        long lastModified = getLastModified();
+
+        // The 'If-Modified-Since' is ignored when 'If-None-Match' is present. See RFC 7232 (Section 3.3).
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        boolean notModified = ifNoneMatch != null
+                ? matches(ifNoneMatch, etag)
+                : isNotModifiedSince(request, lastModified);
+
+        if (notModified) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            response.setHeader(HttpHeaders.ETAG, etag);
+            if (isStable(lastModified)) response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+            return false;
+        }
+
+        ResponseCache.CachedResponse cached = responseCache.get(canonicalRequest, etag);
+        if (cached != null) {
+            ServletServerHttpResponse output = new ServletServerHttpResponse(response);
+            if (isStable(lastModified)) output.getHeaders().setLastModified(lastModified);
+
+            responseCache.write(cached, request, output);
+            return false;
+        }
+
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        request.setAttribute(CANONICAL_REQUEST_ATTRIBUTE, canonicalRequest);
+        if (isStable(lastModified)) request.setAttribute(LAST_MODIFIED_ATTRIBUTE, lastModified);
+        return true;
+    }
+
+    /**
+     * Method to get the (strong) ETag of a request.
+     *
+     * @param canonicalRequest The canonical request. See {@link #getCanonicalRequest(HttpServletRequest)}
+     * @return The quoted hash of the epoch, all model versions and the request path/query
+     * @since 1.2.0
+     */
+    public String getETag(String canonicalRequest) {
+        Hasher hasher = Hashing.murmur3_128().newHasher().putLong(EPOCH);
+        for (Class<?> model : models) {
+            hasher.putLong(ModelVersionRegistry.get(model));
+        }
+
+        hasher.putString(canonicalRequest, StandardCharsets.UTF_8);
+        return '"' + hasher.hash().toString() + '"';
+    }
+
+    /**
+     * Method to get the canonical form of a request, so the same params in a different order share the same ETag.
+     *
+     * @param request The current request
+     * @return The request path and all (non-empty) query params, sorted
+     * @since 1.2.0
+     */
+    public static String getCanonicalRequest(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String query = request.getQueryString();
+        if (query == null || query.isEmpty()) return uri;
+
+        String[] params = query.split("&");
+        Arrays.sort(params);
+
+        StringBuilder builder = new StringBuilder(uri.length() + query.length() + 1).append(uri);
+        char separator = '?';
+        for (String param : params) {
+            if (param.isEmpty()) continue;
+
+            builder.append(separator).append(param);
+            separator = '&';
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Method to get the last modified time of all models. This is the upper bound of the 'updated_at' of any
+     * (filtered) item, without querying the database.
+     *
+     * @return The time of the last write, truncated to seconds (HTTP-date precision)
+     * @since 1.2.0
+     */
+    public long getLastModified() {
+        long lastModified = 0;
+        for (Class<?> model : models) {
+            lastModified = Math.max(lastModified, ModelVersionRegistry.getLastModified(model));
+        }
+
+        return lastModified - (lastModified % 1000);
+    }
+
+    /**
+     * Method to check the 'If-Modified-Since' header.
+     */
+    private static boolean isNotModifiedSince(HttpServletRequest request, long lastModified) {
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        return ifModifiedSince != -1 && isStable(lastModified) && lastModified <= ifModifiedSince;
+    }
+
+    /**
+     * Method to check if a last modified time can be used as validator.
+     * <p> A write in the current second could happen after the response, with the same (truncated) time.
+     */
+    private static boolean isStable(long lastModified) {
+        return lastModified + 1000 <= System.currentTimeMillis();
+    }
+
+    /**
+     * Method to check the 'If-None-Match' header. Uses the weak comparison, as defined by RFC 7232.
+     */
+    private static boolean matches(String header, String etag) {
+        if (header.isEmpty()) return false;
+
+        for (String value : header.split(",")) {
+            String tag = value.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+
+        return false;
+    }
+}
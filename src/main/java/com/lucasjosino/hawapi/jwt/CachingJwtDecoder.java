@@ -0,0 +1,155 @@
+package com.lucasjosino.hawapi.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.lucasjosino.hawapi.configs.security.JwtConfig;
+import com.lucasjosino.hawapi.models.properties.JwtProperty;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * CachingJwtDecoder reuses decoded tokens, skipping the parse and (RSA) signature verification of repeated tokens.
+ * <p> Tokens are keyed by the hash (SHA-256) of its raw value and are only cached until its expiration (or the
+ * configured max TTL). The validator is called on every decode, cached or not, so time-based validations
+ * (E.g: {@link JwtTimestampValidator}) and revocations are always applied.
+ * <p> The delegate decoder should only verify the signature, see {@link JwtConfig#jwtDecoder()}.
+ *
+ * @author Lucas Josino
+ * @see NimbusJwtDecoder
+ * @since 1.2.0
+ */
+public class CachingJwtDecoder implements JwtDecoder, CachingJwtDecoderMXBean {
+
+    private static final String DECODING_ERROR_MESSAGE_TEMPLATE = "An error occurred while attempting to decode the Jwt: %s";
+
+    private final JwtDecoder delegate;
+
+    private final OAuth2TokenValidator<Jwt> validator;
+
+    private final Cache<HashCode, Jwt> cache;
+
+    public CachingJwtDecoder(
+            JwtDecoder delegate,
+            OAuth2TokenValidator<Jwt> validator,
+            JwtProperty.DecoderCache spec
+    ) {
+        this(delegate, validator, spec, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(
+            JwtDecoder delegate,
+            OAuth2TokenValidator<Jwt> validator,
+            JwtProperty.DecoderCache spec,
+            Ticker ticker,
+            Clock clock
+    ) {
+        this.delegate = delegate;
+        this.validator = validator;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfter(new TokenExpiry(spec.getMaximumTtl(), clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        HashCode key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+
+        Jwt jwt = cache.getIfPresent(key);
+        if (jwt == null || !jwt.getTokenValue().equals(token)) {
+            // Invalid tokens (signature, format) will throw and never be cached.
+            jwt = delegate.decode(token);
+            cache.put(key, jwt);
+        }
+
+        return validate(jwt);
+    }
+
+    @Override
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    @Override
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+    @Override
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Same behavior of {@link NimbusJwtDecoder}, throws using the first error description.
+     */
+    private Jwt validate(Jwt jwt) {
+        OAuth2TokenValidatorResult result = validator.validate(jwt);
+        if (!result.hasErrors()) return jwt;
+
+        Collection<OAuth2Error> errors = result.getErrors();
+        for (OAuth2Error error : errors) {
+            String description = error.getDescription();
+            if (description != null && !description.isEmpty()) {
+                throw new JwtValidationException(String.format(DECODING_ERROR_MESSAGE_TEMPLATE, description), errors);
+            }
+        }
+
+        throw new JwtValidationException("Unable to validate Jwt", errors);
+    }
+
+    /**
+     * Expires tokens at its 'exp' claim, never after the max TTL.
+     */
+    private static final class TokenExpiry implements Expiry<HashCode, Jwt> {
+
+        private final Duration maximumTtl;
+
+        private final Clock clock;
+
+        private TokenExpiry(Duration maximumTtl, Clock clock) {
+            this.maximumTtl = maximumTtl;
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(HashCode key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) return maximumTtl.toNanos();
+
+            Duration remaining = Duration.between(clock.instant(), expiresAt);
+            if (remaining.compareTo(maximumTtl) >= 0) return maximumTtl.toNanos();
+
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(HashCode key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(HashCode key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.lucasjosino.hawapi.jwt;
+
+/**
+ * Statistics of the {@link CachingJwtDecoder}.
+ * <p> Registered as <strong>com.lucasjosino.hawapi:type=CachingJwtDecoder</strong>.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+public interface CachingJwtDecoderMXBean {
+
+    /**
+     * @return Number of tokens found on cache (signature verification skipped)
+     */
+    long getHitCount();
+
+    /**
+     * @return Number of tokens parsed and verified
+     */
+    long getMissCount();
+
+    /**
+     * @return Ratio of tokens found on cache
+     */
+    double getHitRate();
+
+    /**
+     * @return Approximate number of cached tokens
+     */
+    long getSize();
+}
@@ -1,12 +1,14 @@
 package com.lucasjosino.hawapi.jwt;
 
+import com.lucasjosino.hawapi.configs.security.JwtConfig;
+import com.lucasjosino.hawapi.models.properties.JwtProperty;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.user.UserModel;
-import org.springframework.security.oauth2.jwt.JwtClaimsSet;
-import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.UUID;
@@ -16,6 +18,7 @@ import java.util.UUID;
  *
  * @author Lucas Josino
  * @see OpenAPIProperty
+ * @see JwtProperty
  * @see UserModel
  * @since 1.0.0
  */
@@ -24,23 +27,46 @@ public class JwtManager {
 
     public static final String JWT_ROLE_NAME = "role";
 
+    public static final String JWT_TYPE_NAME = "token_use";
+
+    /**
+     * The issue time in milliseconds. The 'iat' claim only holds seconds.
+     */
+    public static final String JWT_ISSUED_AT_MILLIS_NAME = "iat_ms";
+
+    public static final String ACCESS_TOKEN = "access";
+
+    public static final String REFRESH_TOKEN = "refresh";
+
     public static final String ROLE_PREFIX = "ROLE_";
 
     private final JwtEncoder jwtEncoder;
 
+    private final JwtDecoder refreshJwtDecoder;
+
     private final OpenAPIProperty apiProperty;
 
-    public JwtManager(JwtEncoder jwtEncoder, OpenAPIProperty apiProperty) {
+    private final JwtProperty jwtProperty;
+
+    public JwtManager(
+            JwtEncoder jwtEncoder,
+            @Qualifier("refreshJwtDecoder") JwtDecoder refreshJwtDecoder,
+            OpenAPIProperty apiProperty,
+            JwtProperty jwtProperty
+    ) {
         this.jwtEncoder = jwtEncoder;
+        this.refreshJwtDecoder = refreshJwtDecoder;
         this.apiProperty = apiProperty;
+        this.jwtProperty = jwtProperty;
     }
 
     /**
-     * Generate a JWT with using:
+     * Generate an access JWT with using:
      * <ul>
      *     <li>Random {@link UUID}</li>
      *     <li>Project name</li>
      *     <li>Request time</li>
+     *     <li>Expiration time</li>
      *     <li>Project url</li>
      *     <li>Username</li>
      *     <li>Email</li>
@@ -48,24 +74,81 @@ public class JwtManager {
      * </ul>
      *
      * @see OpenAPIProperty
+     * @see JwtProperty#getAccessTokenTtl()
      */
     public String generateToken(UserModel user) {
+        JwtClaimsSet claims = createClaims(user, ACCESS_TOKEN, jwtProperty.getAccessTokenTtl())
+                .claim(JWT_ROLE_NAME, user.getRole())
+                .build();
+
+        JwtEncoderParameters params = JwtEncoderParameters.from(claims);
+        return jwtEncoder.encode(params).getTokenValue();
+    }
+
+    /**
+     * Generate a refresh JWT. Same claims of access token, without role.
+     * <p> Refresh tokens are only accepted by {@link #decodeRefreshToken(String)}.
+     *
+     * @see JwtProperty#getRefreshTokenTtl()
+     * @since 1.2.0
+     */
+    public String generateRefreshToken(UserModel user) {
+        JwtClaimsSet claims = createClaims(user, REFRESH_TOKEN, jwtProperty.getRefreshTokenTtl()).build();
+
+        JwtEncoderParameters params = JwtEncoderParameters.from(claims);
+        return jwtEncoder.encode(params).getTokenValue();
+    }
+
+    /**
+     * Decode and validate a refresh JWT
+     *
+     * @param token The raw refresh token
+     * @return The decoded {@link Jwt}
+     * @throws JwtException If token is not valid, expired, revoked or not a refresh token
+     * @see JwtConfig#refreshJwtDecoder()
+     * @since 1.2.0
+     */
+    public Jwt decodeRefreshToken(String token) {
+        return refreshJwtDecoder.decode(token);
+    }
+
+    /**
+     * Method to get the issue time of a token, in milliseconds if defined. Tokens issued without
+     * {@link #JWT_ISSUED_AT_MILLIS_NAME} will use 'iat', in seconds.
+     *
+     * @param token The decoded token
+     * @return The token issue time, may be null
+     * @since 1.2.0
+     */
+    public static Instant getIssuedAt(Jwt token) {
+        Object millis = token.getClaims().get(JWT_ISSUED_AT_MILLIS_NAME);
+        if (millis instanceof Number) return Instant.ofEpochMilli(((Number) millis).longValue());
+
+        return token.getIssuedAt();
+    }
+
+    /**
+     * @return The access token lifetime, in seconds
+     * @since 1.2.0
+     */
+    public long getAccessTokenExpiresIn() {
+        return jwtProperty.getAccessTokenTtl().getSeconds();
+    }
+
+    private JwtClaimsSet.Builder createClaims(UserModel user, String type, Duration ttl) {
         Instant now = Instant.now();
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        return JwtClaimsSet.builder()
                 .id(UUID.randomUUID().toString())
                 .issuer(apiProperty.getTitle())
                 .issuedAt(now)
+                .claim(JWT_ISSUED_AT_MILLIS_NAME, now.toEpochMilli())
+                .expiresAt(now.plus(ttl))
                 .audience(new ArrayList<String>() {{
                     add(apiProperty.getApiUrl());
                 }})
                 .claim("username", user.getUsername())
                 .claim("email", user.getEmail())
-                .claim(JWT_ROLE_NAME, user.getRole())
-                .build();
-
-
-        JwtEncoderParameters params = JwtEncoderParameters.from(claims);
-        return jwtEncoder.encode(params).getTokenValue();
+                .claim(JWT_TYPE_NAME, type);
     }
 }
@@ -0,0 +1,311 @@
+package com.lucasjosino.hawapi.jwt;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.lucasjosino.hawapi.core.MXBeanUtils;
+import com.lucasjosino.hawapi.jwt.validators.JwtUserValidator;
+import com.lucasjosino.hawapi.models.properties.JwtProperty;
+import com.lucasjosino.hawapi.models.user.RevocationModel;
+import com.lucasjosino.hawapi.models.user.RevocationModel.RevocationType;
+import com.lucasjosino.hawapi.repositories.auth.RevocationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JwtRevocationList holds all revoked tokens (jti) and deleted users in memory, so token validation never touches
+ * the database.
+ * <p> Every check will first use a bloom filter. Only (rare) filter matches will use the exact map, which also
+ * defines when a user was revoked. Tokens of a user are only rejected if issued until the revocation time, so the
+ * same username can be registered again.
+ * <p> The list is rebuilt from the 'revocations' table on startup and revocations of other instances are loaded
+ * periodically. Since all tokens expire, revocations older than the max token lifetime are ignored.
+ *
+ * @author Lucas Josino
+ * @see JwtUserValidator
+ * @see RevocationModel
+ * @since 1.2.0
+ */
+@Component
+public class JwtRevocationList implements JwtRevocationListMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtRevocationList.class);
+
+    private static final String MXBEAN_NAME = "com.lucasjosino.hawapi:type=JwtRevocationList";
+
+    private static final String TOKEN_PREFIX = "token:";
+
+    private static final String USER_PREFIX = "user:";
+
+    private final RevocationRepository repository;
+
+    private final JwtProperty.Revocation spec;
+
+    /**
+     * Revocations older than the max token lifetime can't match any valid token.
+     */
+    private final Duration retention;
+
+    private final LongAdder checkCount = new LongAdder();
+
+    private final LongAdder filterMatchCount = new LongAdder();
+
+    private final LongAdder revokedCount = new LongAdder();
+
+    private volatile State state;
+
+    private volatile Instant lastRefresh;
+
+    private ScheduledExecutorService scheduler;
+
+    public JwtRevocationList(RevocationRepository repository, JwtProperty jwtProperty) {
+        this.repository = repository;
+        this.spec = jwtProperty.getRevocation();
+        this.retention = jwtProperty.getMaximumTokenTtl();
+        this.state = new State(spec.getExpectedInsertions(), spec.getFalsePositiveProbability());
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+        MXBeanUtils.register(MXBEAN_NAME, this);
+
+        Duration interval = spec.getRefreshInterval();
+        if (interval.isZero() || interval.isNegative()) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-revocation-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    /**
+     * Method to check if a token was revoked, by its id or by its user.
+     *
+     * @param id       The token id (jti), may be null
+     * @param username The token username
+     * @param issuedAt The token issue time, in milliseconds, may be null. See {@link JwtManager#getIssuedAt(Jwt)}
+     * @return true if token should be rejected
+     * @since 1.2.0
+     */
+    public boolean isRevoked(String id, String username, Instant issuedAt) {
+        checkCount.increment();
+        State current = state;
+
+        if (id != null && current.filter.mightContain(TOKEN_PREFIX + id)) {
+            filterMatchCount.increment();
+            if (current.entries.containsKey(TOKEN_PREFIX + id)) return revoked();
+        }
+
+        if (username != null && current.filter.mightContain(USER_PREFIX + username)) {
+            filterMatchCount.increment();
+            Instant revokedAt = current.entries.get(USER_PREFIX + username);
+
+            // Tokens issued after the revocation (E.g: same username registered again) are still valid.
+            if (revokedAt != null && (issuedAt == null || !issuedAt.isAfter(revokedAt))) return revoked();
+        }
+
+        return false;
+    }
+
+    /**
+     * Method to revoke a single token. Tokens already revoked are ignored.
+     *
+     * @param id The token id (jti)
+     * @see #consumeToken(String)
+     * @since 1.2.0
+     */
+    public void revokeToken(String id) {
+        consumeToken(id);
+    }
+
+    /**
+     * Method to revoke a single token, only if not revoked before (by any instance).
+     * <p> Used to consume a token once, E.g: refresh tokens. The check and the revocation are a single (atomic)
+     * insert, so concurrent calls with the same token will only succeed once.
+     *
+     * @param id The token id (jti)
+     * @return true if token was revoked by this call, false if already revoked
+     * @since 1.2.0
+     */
+    public boolean consumeToken(String id) {
+        Instant revokedAt = Instant.now();
+        if (repository.insertTokenIfAbsent(id, revokedAt) == 0) return false;
+
+        apply(getKey(RevocationType.TOKEN, id), revokedAt);
+        return true;
+    }
+
+    /**
+     * Method to revoke all tokens of a user, issued until now.
+     *
+     * @param username The user username
+     * @since 1.2.0
+     */
+    public void revokeUser(String username) {
+        revoke(RevocationType.USER, username);
+    }
+
+    /**
+     * Method to replace the in-memory list with all (not expired) revocations from the database.
+     *
+     * @since 1.2.0
+     */
+    public synchronized void rebuild() {
+        Instant start = Instant.now();
+        List<RevocationModel> revocations = repository.findAllByRevokedAtAfter(start.minus(retention));
+
+        State rebuilt = new State(
+                Math.max(spec.getExpectedInsertions(), revocations.size() * 2),
+                spec.getFalsePositiveProbability()
+        );
+        for (RevocationModel revocation : revocations) {
+            rebuilt.add(getKey(revocation.getType(), revocation.getValue()), revocation.getRevokedAt());
+        }
+
+        state = rebuilt;
+        lastRefresh = start;
+        log.debug("Revocation list rebuilt with {} entries", revocations.size());
+    }
+
+    /**
+     * Method to load all revocations created (by any instance) since the last refresh.
+     * <p> The previous interval is also loaded again, covering transactions committed after the last refresh.
+     * Expired revocations are removed from the exact map, the bloom filter is only cleaned by {@link #rebuild()}.
+     *
+     * @since 1.2.0
+     */
+    public synchronized void refresh() {
+        try {
+            Instant start = Instant.now();
+            Instant since = lastRefresh.minus(spec.getRefreshInterval());
+
+            for (RevocationModel revocation : repository.findAllByRevokedAtAfter(since)) {
+                add(getKey(revocation.getType(), revocation.getValue()), revocation.getRevokedAt());
+            }
+
+            Instant expired = start.minus(retention);
+            state.entries.values().removeIf(revokedAt -> revokedAt.isBefore(expired));
+
+            lastRefresh = start;
+        } catch (Exception exception) {
+            log.warn("Unable to refresh revocation list: {}", exception.getMessage());
+        }
+    }
+
+    @Override
+    public long getCheckCount() {
+        return checkCount.sum();
+    }
+
+    @Override
+    public long getFilterMatchCount() {
+        return filterMatchCount.sum();
+    }
+
+    @Override
+    public long getRevokedCount() {
+        return revokedCount.sum();
+    }
+
+    @Override
+    public int getSize() {
+        return state.entries.size();
+    }
+
+    @Override
+    public int getCapacity() {
+        return state.capacity;
+    }
+
+    private boolean revoked() {
+        revokedCount.increment();
+        return true;
+    }
+
+    private void revoke(RevocationType type, String value) {
+        RevocationModel revocation = repository.save(new RevocationModel(type, value, Instant.now()));
+        apply(getKey(type, value), revocation.getRevokedAt());
+    }
+
+    private void apply(String key, Instant revokedAt) {
+        // Only apply if the revocation is persisted. Otherwise, a rollback would keep rejecting valid tokens.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(key, revokedAt);
+                }
+            });
+            return;
+        }
+
+        add(key, revokedAt);
+    }
+
+    private synchronized void add(String key, Instant revokedAt) {
+        State current = state;
+
+        // Bloom filter is full, rebuild it with twice the capacity.
+        if (current.entries.size() >= current.capacity) {
+            State grown = new State(current.capacity * 2, spec.getFalsePositiveProbability());
+            for (Map.Entry<String, Instant> entry : current.entries.entrySet()) {
+                grown.add(entry.getKey(), entry.getValue());
+            }
+
+            state = current = grown;
+        }
+
+        current.add(key, revokedAt);
+    }
+
+    private static String getKey(RevocationType type, String value) {
+        return (type == RevocationType.USER ? USER_PREFIX : TOKEN_PREFIX) + value;
+    }
+
+    private static final class State {
+
+        private final BloomFilter<CharSequence> filter;
+
+        private final ConcurrentMap<String, Instant> entries = new ConcurrentHashMap<>();
+
+        private final int capacity;
+
+        private State(int capacity, double falsePositiveProbability) {
+            this.capacity = capacity;
+            this.filter = BloomFilter.create(
+                    Funnels.stringFunnel(StandardCharsets.UTF_8),
+                    capacity,
+                    falsePositiveProbability
+            );
+        }
+
+        private void add(String key, Instant revokedAt) {
+            // Entries are defined before the filter, any filter match will find its entry.
+            entries.merge(key, revokedAt, (previous, current) -> previous.isAfter(current) ? previous : current);
+            filter.put(key);
+        }
+    }
+}
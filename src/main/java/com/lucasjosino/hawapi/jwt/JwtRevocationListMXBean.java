@@ -0,0 +1,36 @@
+package com.lucasjosino.hawapi.jwt;
+
+/**
+ * Statistics of the {@link JwtRevocationList}.
+ * <p> Registered as <strong>com.lucasjosino.hawapi:type=JwtRevocationList</strong>.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+public interface JwtRevocationListMXBean {
+
+    /**
+     * @return Number of validated tokens
+     */
+    long getCheckCount();
+
+    /**
+     * @return Number of tokens that matched the bloom filter and required the exact lookup
+     */
+    long getFilterMatchCount();
+
+    /**
+     * @return Number of rejected (revoked) tokens
+     */
+    long getRevokedCount();
+
+    /**
+     * @return Number of revocations (users and tokens) held in memory
+     */
+    int getSize();
+
+    /**
+     * @return Current capacity of the bloom filter
+     */
+    int getCapacity();
+}
@@ -0,0 +1,39 @@
+package com.lucasjosino.hawapi.jwt.validators;
+
+import com.lucasjosino.hawapi.jwt.JwtManager;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.util.Assert;
+
+/**
+ * Validates the "token_use" claim in a {@link Jwt}, that is matches a configured value
+ * <p> Access tokens can't be used to refresh and refresh tokens can't be used to authenticate requests.
+ *
+ * @author Lucas Josino
+ * @see Jwt
+ * @see JwtManager#JWT_TYPE_NAME
+ * @see OAuth2TokenValidator
+ * @since 1.2.0
+ */
+public final class JwtTypeValidator implements OAuth2TokenValidator<Jwt> {
+
+    private final JwtClaimValidator<Object> validator;
+
+    /**
+     * Constructs a {@link JwtTypeValidator} using the provided parameters
+     *
+     * @param type - The type that each {@link Jwt} should have. E.g: access, refresh
+     */
+    public JwtTypeValidator(String type) {
+        Assert.notNull(type, "type cannot be null");
+
+        this.validator = new JwtClaimValidator<>(JwtManager.JWT_TYPE_NAME, type::equals);
+    }
+
+    public OAuth2TokenValidatorResult validate(Jwt token) {
+        Assert.notNull(token, "token cannot be null");
+        return this.validator.validate(token);
+    }
+}
@@ -1,6 +1,7 @@
 package com.lucasjosino.hawapi.jwt.validators;
 
-import com.lucasjosino.hawapi.repositories.auth.AuthRepository;
+import com.lucasjosino.hawapi.jwt.JwtManager;
+import com.lucasjosino.hawapi.jwt.JwtRevocationList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
@@ -10,21 +11,23 @@ import org.springframework.security.oauth2.jwt.JwtIssuerValidator;
 
 /**
  * Validates the "username" and "email" claims in a {@link Jwt}, that is matches a configured value
+ * <p> Deleted users and revoked tokens are rejected using the in-memory {@link JwtRevocationList}.
  *
  * @author Lucas Josino
  * @see Jwt
  * @see JwtIssuerValidator
  * @see JwtAudienceValidator
  * @see OAuth2TokenValidator
+ * @see JwtRevocationList
  * @since 1.0.0
  */
 public class JwtUserValidator implements OAuth2TokenValidator<Jwt> {
 
-    private final AuthRepository authRepository;
+    private final JwtRevocationList revocationList;
 
     @Autowired
-    public JwtUserValidator(AuthRepository authRepository) {
-        this.authRepository = authRepository;
+    public JwtUserValidator(JwtRevocationList revocationList) {
+        this.revocationList = revocationList;
     }
 
     /**
@@ -43,12 +46,12 @@ public class JwtUserValidator implements OAuth2TokenValidator<Jwt> {
             );
         }
 
-        if (authRepository.existsByUsernameAndEmail(username, email)) {
+        if (!revocationList.isRevoked(token.getId(), username, JwtManager.getIssuedAt(token))) {
             return OAuth2TokenValidatorResult.success();
         }
 
         return OAuth2TokenValidatorResult.failure(
-                this.createOAuth2Error("User not found!")
+                this.createOAuth2Error("Token has been revoked!")
         );
     }
 
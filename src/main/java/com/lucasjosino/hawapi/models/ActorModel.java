@@ -2,6 +2,7 @@ package com.lucasjosino.hawapi.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.lucasjosino.hawapi.models.base.BaseModel;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
@@ -10,6 +11,7 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
+@DynamicUpdate
 @Table(name = "actors")
 public class ActorModel extends BaseModel {
 
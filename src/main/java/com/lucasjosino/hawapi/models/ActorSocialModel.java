@@ -2,12 +2,16 @@ package com.lucasjosino.hawapi.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.lucasjosino.hawapi.models.listeners.ModelChangeListener;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.io.Serializable;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
+@EntityListeners(ModelChangeListener.class)
 @Table(name = "actors_socials")
 public class ActorSocialModel implements Serializable {
 
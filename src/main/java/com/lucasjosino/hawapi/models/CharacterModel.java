@@ -2,6 +2,7 @@ package com.lucasjosino.hawapi.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.lucasjosino.hawapi.models.base.BaseModel;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.Column;
@@ -11,6 +12,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Table(name = "characters")
 public class CharacterModel extends BaseModel {
 
@@ -3,12 +3,14 @@ package com.lucasjosino.hawapi.models;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.lucasjosino.hawapi.models.base.BaseModel;
 import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Table(name = "episodes")
 public class EpisodeModel extends BaseModel {
 
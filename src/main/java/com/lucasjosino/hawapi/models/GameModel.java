@@ -2,6 +2,7 @@ package com.lucasjosino.hawapi.models;
 
 import com.lucasjosino.hawapi.models.base.BaseModel;
 import com.lucasjosino.hawapi.models.translations.GameTranslation;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
@@ -9,6 +10,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Table(name = "games")
 public class GameModel extends BaseModel {
 
@@ -2,12 +2,14 @@ package com.lucasjosino.hawapi.models;
 
 import com.lucasjosino.hawapi.models.base.BaseModel;
 import com.lucasjosino.hawapi.models.translations.LocationTranslation;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Table(name = "locations")
 public class LocationModel extends BaseModel {
 
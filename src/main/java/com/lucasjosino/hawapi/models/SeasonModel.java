@@ -3,6 +3,7 @@ package com.lucasjosino.hawapi.models;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.lucasjosino.hawapi.models.base.BaseModel;
 import com.lucasjosino.hawapi.models.translations.SeasonTranslation;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
@@ -10,6 +11,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Table(name = "seasons")
 public class SeasonModel extends BaseModel {
 
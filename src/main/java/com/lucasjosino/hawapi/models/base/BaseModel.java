@@ -3,6 +3,7 @@ package com.lucasjosino.hawapi.models.base;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.lucasjosino.hawapi.models.listeners.ModelChangeListener;
 import com.vladmihalcea.hibernate.type.array.ListArrayType;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Type;
@@ -10,6 +11,7 @@ import org.hibernate.annotations.TypeDef;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.Column;
+import javax.persistence.EntityListeners;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
 import java.io.Serializable;
@@ -18,6 +20,7 @@ import java.util.List;
 import java.util.UUID;
 
 @MappedSuperclass
+@EntityListeners(ModelChangeListener.class)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @TypeDef(name = "list-array", typeClass = ListArrayType.class)
 abstract public class BaseModel implements Serializable {
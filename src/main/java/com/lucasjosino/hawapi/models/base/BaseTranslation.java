@@ -2,11 +2,13 @@ package com.lucasjosino.hawapi.models.base;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.lucasjosino.hawapi.models.listeners.ModelChangeListener;
 
 import javax.persistence.*;
 import java.io.Serializable;
 
 @MappedSuperclass
+@EntityListeners(ModelChangeListener.class)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 abstract public class BaseTranslation implements Serializable {
 
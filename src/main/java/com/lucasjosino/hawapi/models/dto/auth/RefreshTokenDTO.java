@@ -0,0 +1,20 @@
+package com.lucasjosino.hawapi.models.dto.auth;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.validation.constraints.NotBlank;
+
+public class RefreshTokenDTO {
+
+    @JsonProperty("refresh_token")
+    @NotBlank(message = "Field 'refresh_token' is required")
+    private String refreshToken;
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
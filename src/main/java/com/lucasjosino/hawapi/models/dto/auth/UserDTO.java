@@ -43,6 +43,15 @@ public class UserDTO {
     @JsonProperty("token_type")
     private String tokenType;
 
+    @JsonProperty("refresh_token")
+    private String refreshToken;
+
+    /**
+     * Lifetime, in seconds, of the access token.
+     */
+    @JsonProperty("expires_in")
+    private Long expiresIn;
+
     @JsonProperty("created_at")
     private LocalDateTime createdAt;
 
@@ -105,6 +114,22 @@ public class UserDTO {
         this.tokenType = tokenType;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -130,6 +155,7 @@ public class UserDTO {
                 ", email='" + email + '\'' +
                 ", role='" + role + '\'' +
                 ", tokenType='" + tokenType + '\'' +
+                ", expiresIn=" + expiresIn +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
@@ -0,0 +1,70 @@
+package com.lucasjosino.hawapi.models.listeners;
+
+import com.lucasjosino.hawapi.core.ModelVersionRegistry;
+import com.lucasjosino.hawapi.models.base.BaseModel;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Entity listener that increments the {@link ModelVersionRegistry} on every write.
+ * <p> Translations will increment the version of its owner model. E.g: EpisodeTranslation -> EpisodeModel
+ * <p> The version is incremented when the change is flushed and again after the transaction commit, so values
+ * computed from uncommitted data will never be reused.
+ * <p> Each change is also counted as a single write (removed if rolled back). Writes outside a transaction are not
+ * counted.
+ *
+ * @author Lucas Josino
+ * @see ModelVersionRegistry
+ * @since 1.2.0
+ */
+public class ModelChangeListener {
+
+    private static final ConcurrentMap<Class<?>, Class<?>> owners = new ConcurrentHashMap<>();
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Class<?> owner = owners.computeIfAbsent(entity.getClass(), ModelChangeListener::resolveOwner);
+        ModelVersionRegistry.increment(owner);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        ModelVersionRegistry.addWrite(owner);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ModelVersionRegistry.increment(owner);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) ModelVersionRegistry.removeWrite(owner);
+            }
+        });
+    }
+
+    /**
+     * Method to get the model that owns an entity.
+     *
+     * @param entity The entity class
+     * @return The first field type that extends {@link BaseModel} or the entity class itself
+     * @since 1.2.0
+     */
+    private static Class<?> resolveOwner(Class<?> entity) {
+        if (BaseModel.class.isAssignableFrom(entity)) return entity;
+
+        for (Field field : entity.getDeclaredFields()) {
+            if (BaseModel.class.isAssignableFrom(field.getType())) return field.getType();
+        }
+
+        return entity;
+    }
+}
@@ -0,0 +1,143 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.ActorModel;
+import com.lucasjosino.hawapi.models.ActorSocialModel;
+import com.lucasjosino.hawapi.models.dto.ActorDTO;
+import com.lucasjosino.hawapi.models.dto.ActorSocialDTO;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Explicit mapper of actors and its socials
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+public final class ActorMapper {
+
+    private static final EntityMerger<ActorDTO, ActorModel> MERGER =
+            BaseMapper.<ActorDTO, ActorModel>merger()
+                    .property(ActorDTO::getFirstName, ActorModel::setFirstName)
+                    .property(ActorDTO::getLastName, ActorModel::setLastName)
+                    .property(ActorDTO::getNicknames, ActorModel::setNicknames)
+                    .property(ActorDTO::getBirthDate, ActorModel::setBirthDate)
+                    .property(ActorDTO::getDeathDate, ActorModel::setDeathDate)
+                    .property(ActorDTO::getGender, ActorModel::setGender)
+                    .property(ActorDTO::getNationality, ActorModel::setNationality)
+                    .property(ActorDTO::getSeasons, ActorModel::setSeasons)
+                    .property(ActorDTO::getAwards, ActorModel::setAwards)
+                    .property(ActorDTO::getCharacter, ActorModel::setCharacter)
+                    .property(ActorDTO::getImages, ActorModel::setImages)
+                    .build();
+
+    private static final EntityMerger<ActorSocialDTO, ActorSocialModel> SOCIAL_MERGER =
+            EntityMerger.<ActorSocialDTO, ActorSocialModel>builder()
+                    .property(ActorSocialDTO::getSocial, ActorSocialModel::setSocial)
+                    .property(ActorSocialDTO::getHandle, ActorSocialModel::setHandle)
+                    .property(ActorSocialDTO::getUrl, ActorSocialModel::setUrl)
+                    .build();
+
+    private ActorMapper() {}
+
+    public static ActorDTO toDTO(ActorModel model) {
+        ActorDTO dto = BaseMapper.toDTO(model, new ActorDTO());
+        dto.setFirstName(model.getFirstName());
+        dto.setLastName(model.getLastName());
+        dto.setNicknames(model.getNicknames());
+        dto.setBirthDate(model.getBirthDate());
+        dto.setDeathDate(model.getDeathDate());
+        dto.setGender(model.getGender());
+        dto.setNationality(model.getNationality());
+        dto.setSeasons(model.getSeasons());
+        dto.setAwards(model.getAwards());
+        dto.setCharacter(model.getCharacter());
+        dto.setSocials(map(model.getSocials(), ActorMapper::toSocialDTO));
+        dto.setImages(model.getImages());
+        return dto;
+    }
+
+    public static ActorModel toModel(ActorDTO dto) {
+        ActorModel model = BaseMapper.toModel(dto, new ActorModel());
+        model.setFirstName(dto.getFirstName());
+        model.setLastName(dto.getLastName());
+        model.setNicknames(dto.getNicknames());
+        model.setBirthDate(dto.getBirthDate());
+        model.setDeathDate(dto.getDeathDate());
+        model.setGender(dto.getGender());
+        model.setNationality(dto.getNationality());
+        model.setSeasons(dto.getSeasons());
+        model.setAwards(dto.getAwards());
+        model.setCharacter(dto.getCharacter());
+        model.setSocials(map(dto.getSocials(), ActorMapper::toSocial));
+        model.setImages(dto.getImages());
+        return model;
+    }
+
+    public static ActorModel copy(ActorModel source) {
+        ActorModel model = BaseMapper.copy(source, new ActorModel());
+        model.setFirstName(source.getFirstName());
+        model.setLastName(source.getLastName());
+        model.setNicknames(BaseMapper.copy(source.getNicknames()));
+        model.setBirthDate(source.getBirthDate());
+        model.setDeathDate(source.getDeathDate());
+        model.setGender(source.getGender());
+        model.setNationality(source.getNationality());
+        model.setSeasons(BaseMapper.copy(source.getSeasons()));
+        model.setAwards(BaseMapper.copy(source.getAwards()));
+        model.setCharacter(source.getCharacter());
+        model.setSocials(map(source.getSocials(), ActorMapper::copy));
+        model.setImages(BaseMapper.copy(source.getImages()));
+        return model;
+    }
+
+    public static ActorSocialDTO toSocialDTO(ActorSocialModel social) {
+        ActorSocialDTO dto = new ActorSocialDTO();
+        dto.setSocial(social.getSocial());
+        dto.setHandle(social.getHandle());
+        dto.setUrl(social.getUrl());
+        return dto;
+    }
+
+    public static ActorSocialModel toSocial(ActorSocialDTO dto) {
+        ActorSocialModel social = new ActorSocialModel();
+        social.setSocial(dto.getSocial());
+        social.setHandle(dto.getHandle());
+        social.setUrl(dto.getUrl());
+        return social;
+    }
+
+    public static ActorSocialModel copy(ActorSocialModel source) {
+        ActorSocialModel social = new ActorSocialModel();
+        social.setId(source.getId());
+        social.setSocial(source.getSocial());
+        social.setHandle(source.getHandle());
+        social.setUrl(source.getUrl());
+        social.setActorUuid(source.getActorUuid());
+        return social;
+    }
+
+    public static void register(EntityMapper mapper) {
+        mapper.register(ActorModel.class, ActorDTO.class, ActorMapper::toDTO)
+                .register(ActorDTO.class, ActorModel.class, ActorMapper::toModel)
+                .register(ActorModel.class, ActorModel.class, ActorMapper::copy)
+                .register(ActorSocialModel.class, ActorSocialDTO.class, ActorMapper::toSocialDTO)
+                .register(ActorSocialDTO.class, ActorSocialModel.class, ActorMapper::toSocial)
+                .register(ActorSocialModel.class, ActorSocialModel.class, ActorMapper::copy)
+                .registerMerger(ActorDTO.class, ActorModel.class, MERGER)
+                .registerMerger(ActorSocialDTO.class, ActorSocialModel.class, SOCIAL_MERGER);
+    }
+
+    private static <S, D> Set<D> map(Set<S> source, Function<S, D> mapper) {
+        if (source == null) return null;
+
+        Set<D> result = new HashSet<>(Math.max(16, (int) (source.size() / .75f) + 1));
+        for (S item : source) {
+            if (item != null) result.add(mapper.apply(item));
+        }
+
+        return result;
+    }
+}
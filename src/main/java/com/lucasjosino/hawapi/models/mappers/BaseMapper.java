@@ -0,0 +1,78 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.base.BaseDTO;
+import com.lucasjosino.hawapi.models.base.BaseModel;
+import com.lucasjosino.hawapi.models.base.BaseTranslation;
+import com.lucasjosino.hawapi.models.base.BaseTranslationDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapper of all fields shared by models, translations and DTOs.
+ * <p> Lists are shared between models and DTOs (both are short-lived). Only copies of a model will copy all lists,
+ * so changes are never applied to the original (managed) model.
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+final class BaseMapper {
+
+    private BaseMapper() {}
+
+    static <D extends BaseDTO> D toDTO(BaseModel model, D dto) {
+        dto.setUuid(model.getUuid());
+        dto.setHref(model.getHref());
+        dto.setSources(model.getSources());
+        dto.setThumbnail(model.getThumbnail());
+        dto.setCreatedAt(model.getCreatedAt());
+        dto.setUpdatedAt(model.getUpdatedAt());
+        return dto;
+    }
+
+    static <M extends BaseModel> M toModel(BaseDTO dto, M model) {
+        model.setUuid(dto.getUuid());
+        model.setHref(dto.getHref());
+        model.setSources(dto.getSources());
+        model.setThumbnail(dto.getThumbnail());
+        model.setCreatedAt(dto.getCreatedAt());
+        model.setUpdatedAt(dto.getUpdatedAt());
+        return model;
+    }
+
+    static <M extends BaseModel> M copy(BaseModel source, M model) {
+        model.setId(source.getId());
+        model.setUuid(source.getUuid());
+        model.setHref(source.getHref());
+        model.setSources(copy(source.getSources()));
+        model.setThumbnail(source.getThumbnail());
+        model.setCreatedAt(source.getCreatedAt());
+        model.setUpdatedAt(source.getUpdatedAt());
+        return model;
+    }
+
+    static <T extends BaseTranslation> T copy(BaseTranslation source, T translation) {
+        translation.setId(source.getId());
+        translation.setLanguage(source.getLanguage());
+        return translation;
+    }
+
+    /**
+     * Merger of all shared (writable) properties. Read-only properties (uuid, href, created_at, updated_at) are ignored.
+     */
+    static <S extends BaseDTO, T extends BaseModel> EntityMerger.Builder<S, T> merger() {
+        return EntityMerger.<S, T>builder()
+                .property(BaseDTO::getSources, BaseModel::setSources)
+                .property(BaseDTO::getThumbnail, BaseModel::setThumbnail);
+    }
+
+    static <S extends BaseTranslationDTO, T extends BaseTranslation> EntityMerger.Builder<S, T> translationMerger() {
+        return EntityMerger.<S, T>builder()
+                .property(BaseTranslationDTO::getLanguage, BaseTranslation::setLanguage);
+    }
+
+    static <T> List<T> copy(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+}
@@ -0,0 +1,74 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.CharacterModel;
+import com.lucasjosino.hawapi.models.dto.CharacterDTO;
+
+/**
+ * Explicit mapper of characters
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+public final class CharacterMapper {
+
+    private static final EntityMerger<CharacterDTO, CharacterModel> MERGER =
+            BaseMapper.<CharacterDTO, CharacterModel>merger()
+                    .property(CharacterDTO::getFirstName, CharacterModel::setFirstName)
+                    .property(CharacterDTO::getLastName, CharacterModel::setLastName)
+                    .property(CharacterDTO::getNicknames, CharacterModel::setNicknames)
+                    .property(CharacterDTO::getBirthDate, CharacterModel::setBirthDate)
+                    .property(CharacterDTO::getDeathDate, CharacterModel::setDeathDate)
+                    .property(CharacterDTO::getGender, CharacterModel::setGender)
+                    .property(CharacterDTO::getActor, CharacterModel::setActor)
+                    .property(CharacterDTO::getImages, CharacterModel::setImages)
+                    .build();
+
+    private CharacterMapper() {}
+
+    public static CharacterDTO toDTO(CharacterModel model) {
+        CharacterDTO dto = BaseMapper.toDTO(model, new CharacterDTO());
+        dto.setFirstName(model.getFirstName());
+        dto.setLastName(model.getLastName());
+        dto.setNicknames(model.getNicknames());
+        dto.setBirthDate(model.getBirthDate());
+        dto.setDeathDate(model.getDeathDate());
+        dto.setGender(model.getGender());
+        dto.setActor(model.getActor());
+        dto.setImages(model.getImages());
+        return dto;
+    }
+
+    public static CharacterModel toModel(CharacterDTO dto) {
+        CharacterModel model = BaseMapper.toModel(dto, new CharacterModel());
+        model.setFirstName(dto.getFirstName());
+        model.setLastName(dto.getLastName());
+        model.setNicknames(dto.getNicknames());
+        model.setBirthDate(dto.getBirthDate());
+        model.setDeathDate(dto.getDeathDate());
+        model.setGender(dto.getGender());
+        model.setActor(dto.getActor());
+        model.setImages(dto.getImages());
+        return model;
+    }
+
+    public static CharacterModel copy(CharacterModel source) {
+        CharacterModel model = BaseMapper.copy(source, new CharacterModel());
+        model.setFirstName(source.getFirstName());
+        model.setLastName(source.getLastName());
+        model.setNicknames(BaseMapper.copy(source.getNicknames()));
+        model.setBirthDate(source.getBirthDate());
+        model.setDeathDate(source.getDeathDate());
+        model.setGender(source.getGender());
+        model.setActor(source.getActor());
+        model.setImages(BaseMapper.copy(source.getImages()));
+        return model;
+    }
+
+    public static void register(EntityMapper mapper) {
+        mapper.register(CharacterModel.class, CharacterDTO.class, CharacterMapper::toDTO)
+                .register(CharacterDTO.class, CharacterModel.class, CharacterMapper::toModel)
+                .register(CharacterModel.class, CharacterModel.class, CharacterMapper::copy)
+                .registerMerger(CharacterDTO.class, CharacterModel.class, MERGER);
+    }
+}
@@ -0,0 +1,172 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.configs.MappersConfig;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * EntityMapper maps models to DTOs (and back) using explicit mappers, registered once on startup.
+ * <p> Every mapper is a direct chain of getters/setters (E.g: {@link EpisodeMapper}), no property is matched or
+ * accessed by reflection. Sources are resolved by its class, superclasses or interfaces, so (Hibernate/Spring Data)
+ * proxies use the mapper of the original type.
+ * <p> A {@link Collection} can be mapped to an array of any registered destination type. E.g: EpisodeDTO[].class
+ * <p> Patches are merged into (managed) models by explicit mergers. See {@link EntityMerger}
+ *
+ * @author Lucas Josino
+ * @see MappersConfig
+ * @since 1.2.0
+ */
+public class EntityMapper {
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Function<Object, ?>>> mappers =
+            new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, EntityMerger<Object, Object>>> mergers =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Method to register a mapper
+     *
+     * @param source      The source type
+     * @param destination The destination type
+     * @param mapper      A function that creates the destination from a (not null) source
+     * @return This {@link EntityMapper}
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    public <S, D> EntityMapper register(Class<S> source, Class<D> destination, Function<? super S, ? extends D> mapper) {
+        mappers.computeIfAbsent(destination, key -> new ConcurrentHashMap<>())
+                .put(source, (Function<Object, ?>) mapper);
+        return this;
+    }
+
+    /**
+     * Method to register a merger
+     *
+     * @param source The source type. E.g: EpisodeDTO.class
+     * @param target The target type. E.g: EpisodeModel.class
+     * @param merger The merger of all shared properties
+     * @return This {@link EntityMapper}
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> EntityMapper registerMerger(Class<S> source, Class<T> target, EntityMerger<? super S, ? super T> merger) {
+        mergers.computeIfAbsent(target, key -> new ConcurrentHashMap<>())
+                .put(source, (EntityMerger<Object, Object>) merger);
+        return this;
+    }
+
+    /**
+     * Method to map a source to a destination type
+     *
+     * @param source          The source object. A {@link Collection} if destination is an array
+     * @param destinationType The destination type. E.g: EpisodeDTO.class or EpisodeDTO[].class
+     * @return A new destination instance
+     * @throws IllegalArgumentException If source is null or no mapper is registered
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    public <D> D map(Object source, Class<D> destinationType) {
+        if (source == null) throw new IllegalArgumentException("Source can't be null");
+
+        if (destinationType.isArray()) return (D) mapAll(source, destinationType.getComponentType());
+
+        return (D) getMapper(source.getClass(), destinationType).apply(source);
+    }
+
+    /**
+     * Method to copy all non-null properties of a source to a target
+     *
+     * @param source The source object. E.g: A patch DTO
+     * @param target The target object, updated in place. E.g: A managed model
+     * @return The target
+     * @throws IllegalArgumentException If source/target is null or no merger is registered
+     * @since 1.2.0
+     */
+    public <T> T merge(Object source, T target) {
+        if (source == null || target == null) throw new IllegalArgumentException("Source/Target can't be null");
+
+        getMerger(source.getClass(), target.getClass()).merge(source, target);
+        return target;
+    }
+
+    private Object[] mapAll(Object source, Class<?> destinationType) {
+        if (!(source instanceof Collection)) {
+            throw new IllegalArgumentException("Source '" + source.getClass().getName() + "' isn't a collection");
+        }
+
+        Collection<?> items = (Collection<?>) source;
+        Object[] result = (Object[]) Array.newInstance(destinationType, items.size());
+
+        // Items usually have the same type, the mapper is only resolved again if it changes.
+        Class<?> lastType = null;
+        Function<Object, ?> mapper = null;
+
+        int index = 0;
+        for (Object item : items) {
+            if (item != null) {
+                if (item.getClass() != lastType) {
+                    lastType = item.getClass();
+                    mapper = getMapper(lastType, destinationType);
+                }
+
+                result[index] = mapper.apply(item);
+            }
+
+            index++;
+        }
+
+        return result;
+    }
+
+    private Function<Object, ?> getMapper(Class<?> sourceType, Class<?> destinationType) {
+        ConcurrentMap<Class<?>, Function<Object, ?>> sources = mappers.get(destinationType);
+
+        Function<Object, ?> mapper = sources != null ? sources.get(sourceType) : null;
+        if (mapper != null) return mapper;
+
+        mapper = sources != null ? resolve(sources, sourceType) : null;
+        if (mapper == null) {
+            throw new IllegalArgumentException(
+                    "No mapper from '" + sourceType.getName() + "' to '" + destinationType.getName() + "'"
+            );
+        }
+
+        // Subclasses (E.g: proxies) are resolved only once.
+        sources.putIfAbsent(sourceType, mapper);
+        return mapper;
+    }
+
+    private EntityMerger<Object, Object> getMerger(Class<?> sourceType, Class<?> targetType) {
+        // Targets are usually managed models, maybe (Hibernate) proxies of the registered type.
+        for (Class<?> type = targetType; type != null; type = type.getSuperclass()) {
+            ConcurrentMap<Class<?>, EntityMerger<Object, Object>> sources = mergers.get(type);
+            if (sources == null) continue;
+
+            EntityMerger<Object, Object> merger = resolve(sources, sourceType);
+            if (merger != null) return merger;
+        }
+
+        throw new IllegalArgumentException(
+                "No merger from '" + sourceType.getName() + "' to '" + targetType.getName() + "'"
+        );
+    }
+
+    private static <V> V resolve(Map<Class<?>, V> sources, Class<?> sourceType) {
+        for (Class<?> type = sourceType; type != null; type = type.getSuperclass()) {
+            V mapper = sources.get(type);
+            if (mapper != null) return mapper;
+
+            for (Class<?> contract : type.getInterfaces()) {
+                mapper = resolve(sources, contract);
+                if (mapper != null) return mapper;
+            }
+        }
+
+        return null;
+    }
+}
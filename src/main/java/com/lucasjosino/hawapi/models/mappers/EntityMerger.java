@@ -0,0 +1,81 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * EntityMerger copies all non-null properties of a source (E.g: a patch DTO) to a target (E.g: a managed model).
+ * <p> Properties are defined once, as getter/setter pairs (E.g: EpisodeDTO::getSeason, EpisodeModel::setSeason), and
+ * copied without reflection or any intermediate (JSON) representation. Only properties that exist on both types are
+ * defined, read-only properties (E.g: uuid, href, created_at) are never copied.
+ * <p> Lists are replaced, not merged.
+ *
+ * @param <S> The source type
+ * @param <T> The target type
+ * @author Lucas Josino
+ * @see EntityMapper#merge(Object, Object)
+ * @since 1.2.0
+ */
+public final class EntityMerger<S, T> {
+
+    private final List<Property<S, T, ?>> properties;
+
+    private EntityMerger(List<Property<S, T, ?>> properties) {
+        this.properties = properties;
+    }
+
+    public static <S, T> Builder<S, T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Method to copy all non-null properties
+     *
+     * @param source The source object
+     * @param target The target object, updated in place
+     * @return The target
+     * @since 1.2.0
+     */
+    public T merge(S source, T target) {
+        for (Property<S, T, ?> property : properties) {
+            property.copy(source, target);
+        }
+
+        return target;
+    }
+
+    public static final class Builder<S, T> {
+
+        private final List<Property<S, T, ?>> properties = new ArrayList<>();
+
+        private Builder() {}
+
+        public <V> Builder<S, T> property(Function<? super S, ? extends V> getter, BiConsumer<? super T, ? super V> setter) {
+            properties.add(new Property<>(getter, setter));
+            return this;
+        }
+
+        public EntityMerger<S, T> build() {
+            return new EntityMerger<>(new ArrayList<>(properties));
+        }
+    }
+
+    private static final class Property<S, T, V> {
+
+        private final Function<? super S, ? extends V> getter;
+
+        private final BiConsumer<? super T, ? super V> setter;
+
+        private Property(Function<? super S, ? extends V> getter, BiConsumer<? super T, ? super V> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        private void copy(S source, T target) {
+            V value = getter.apply(source);
+            if (value != null) setter.accept(target, value);
+        }
+    }
+}
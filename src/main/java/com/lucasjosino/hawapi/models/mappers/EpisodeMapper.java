@@ -0,0 +1,120 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.EpisodeModel;
+import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
+import com.lucasjosino.hawapi.models.dto.translation.EpisodeTranslationDTO;
+import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
+
+/**
+ * Explicit mapper of episodes and its translations
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+public final class EpisodeMapper {
+
+    private static final EntityMerger<EpisodeDTO, EpisodeModel> MERGER =
+            BaseMapper.<EpisodeDTO, EpisodeModel>merger()
+                    .property(EpisodeDTO::getDuration, EpisodeModel::setDuration)
+                    .property(EpisodeDTO::getEpisodeNum, EpisodeModel::setEpisodeNum)
+                    .property(EpisodeDTO::getNextEpisode, EpisodeModel::setNextEpisode)
+                    .property(EpisodeDTO::getPrevEpisode, EpisodeModel::setPrevEpisode)
+                    .property(EpisodeDTO::getSeason, EpisodeModel::setSeason)
+                    .property(EpisodeDTO::getImages, EpisodeModel::setImages)
+                    .build();
+
+    private static final EntityMerger<EpisodeTranslationDTO, EpisodeTranslation> TRANSLATION_MERGER =
+            BaseMapper.<EpisodeTranslationDTO, EpisodeTranslation>translationMerger()
+                    .property(EpisodeTranslationDTO::getTitle, EpisodeTranslation::setTitle)
+                    .property(EpisodeTranslationDTO::getDescription, EpisodeTranslation::setDescription)
+                    .build();
+
+    private EpisodeMapper() {}
+
+    public static EpisodeDTO toDTO(EpisodeModel model) {
+        EpisodeDTO dto = BaseMapper.toDTO(model, new EpisodeDTO());
+        dto.setDuration(model.getDuration());
+        dto.setEpisodeNum(model.getEpisodeNum());
+        dto.setNextEpisode(model.getNextEpisode());
+        dto.setPrevEpisode(model.getPrevEpisode());
+        dto.setSeason(model.getSeason());
+        dto.setImages(model.getImages());
+
+        EpisodeTranslation translation = model.getTranslation();
+        if (translation != null) {
+            dto.setTitle(translation.getTitle());
+            dto.setDescription(translation.getDescription());
+            dto.setLanguage(translation.getLanguage());
+        }
+
+        return dto;
+    }
+
+    public static EpisodeModel toModel(EpisodeDTO dto) {
+        EpisodeModel model = BaseMapper.toModel(dto, new EpisodeModel());
+        model.setDuration(dto.getDuration());
+        model.setEpisodeNum(dto.getEpisodeNum());
+        model.setNextEpisode(dto.getNextEpisode());
+        model.setPrevEpisode(dto.getPrevEpisode());
+        model.setSeason(dto.getSeason());
+        model.setImages(dto.getImages());
+
+        EpisodeTranslation translation = new EpisodeTranslation();
+        translation.setTitle(dto.getTitle());
+        translation.setDescription(dto.getDescription());
+        translation.setLanguage(dto.getLanguage());
+        model.setTranslation(translation);
+
+        return model;
+    }
+
+    public static EpisodeModel copy(EpisodeModel source) {
+        EpisodeModel model = BaseMapper.copy(source, new EpisodeModel());
+        model.setDuration(source.getDuration());
+        model.setEpisodeNum(source.getEpisodeNum());
+        model.setNextEpisode(source.getNextEpisode());
+        model.setPrevEpisode(source.getPrevEpisode());
+        model.setSeason(source.getSeason());
+        model.setImages(BaseMapper.copy(source.getImages()));
+
+        if (source.getTranslation() != null) model.setTranslation(copy(source.getTranslation()));
+
+        return model;
+    }
+
+    public static EpisodeTranslationDTO toTranslationDTO(EpisodeTranslation translation) {
+        EpisodeTranslationDTO dto = new EpisodeTranslationDTO();
+        dto.setTitle(translation.getTitle());
+        dto.setDescription(translation.getDescription());
+        dto.setLanguage(translation.getLanguage());
+        return dto;
+    }
+
+    public static EpisodeTranslation toTranslation(EpisodeTranslationDTO dto) {
+        EpisodeTranslation translation = new EpisodeTranslation();
+        translation.setTitle(dto.getTitle());
+        translation.setDescription(dto.getDescription());
+        translation.setLanguage(dto.getLanguage());
+        return translation;
+    }
+
+    public static EpisodeTranslation copy(EpisodeTranslation source) {
+        EpisodeTranslation translation = BaseMapper.copy(source, new EpisodeTranslation());
+        translation.setEpisodeUuid(source.getEpisodeUuid());
+        translation.setTitle(source.getTitle());
+        translation.setDescription(source.getDescription());
+        translation.setEpisode(source.getEpisode());
+        return translation;
+    }
+
+    public static void register(EntityMapper mapper) {
+        mapper.register(EpisodeModel.class, EpisodeDTO.class, EpisodeMapper::toDTO)
+                .register(EpisodeDTO.class, EpisodeModel.class, EpisodeMapper::toModel)
+                .register(EpisodeModel.class, EpisodeModel.class, EpisodeMapper::copy)
+                .register(EpisodeTranslation.class, EpisodeTranslationDTO.class, EpisodeMapper::toTranslationDTO)
+                .register(EpisodeTranslationDTO.class, EpisodeTranslation.class, EpisodeMapper::toTranslation)
+                .registerMerger(EpisodeDTO.class, EpisodeModel.class, MERGER)
+                .registerMerger(EpisodeTranslationDTO.class, EpisodeTranslation.class, TRANSLATION_MERGER);
+    }
+}
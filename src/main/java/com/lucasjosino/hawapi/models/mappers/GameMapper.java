@@ -0,0 +1,152 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.GameModel;
+import com.lucasjosino.hawapi.models.dto.GameDTO;
+import com.lucasjosino.hawapi.models.dto.translation.GameTranslationDTO;
+import com.lucasjosino.hawapi.models.translations.GameTranslation;
+
+/**
+ * Explicit mapper of games and its translations
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+public final class GameMapper {
+
+    private static final EntityMerger<GameDTO, GameModel> MERGER =
+            BaseMapper.<GameDTO, GameModel>merger()
+                    .property(GameDTO::getPlaytime, GameModel::setPlaytime)
+                    .property(GameDTO::getAgeRating, GameModel::setAgeRating)
+                    .property(GameDTO::getStores, GameModel::setStores)
+                    .property(GameDTO::getModes, GameModel::setModes)
+                    .property(GameDTO::getPlatforms, GameModel::setPlatforms)
+                    .property(GameDTO::getPublishers, GameModel::setPublishers)
+                    .property(GameDTO::getDevelopers, GameModel::setDevelopers)
+                    .property(GameDTO::getTags, GameModel::setTags)
+                    .property(GameDTO::getReleaseDate, GameModel::setReleaseDate)
+                    .property(GameDTO::getWebsite, GameModel::setWebsite)
+                    .property(GameDTO::getImages, GameModel::setImages)
+                    .build();
+
+    private static final EntityMerger<GameTranslationDTO, GameTranslation> TRANSLATION_MERGER =
+            BaseMapper.<GameTranslationDTO, GameTranslation>translationMerger()
+                    .property(GameTranslationDTO::getName, GameTranslation::setName)
+                    .property(GameTranslationDTO::getDescription, GameTranslation::setDescription)
+                    .property(GameTranslationDTO::getGenres, GameTranslation::setGenres)
+                    .property(GameTranslationDTO::getTrailer, GameTranslation::setTrailer)
+                    .build();
+
+    private GameMapper() {}
+
+    public static GameDTO toDTO(GameModel model) {
+        GameDTO dto = BaseMapper.toDTO(model, new GameDTO());
+        dto.setPlaytime(model.getPlaytime());
+        dto.setAgeRating(model.getAgeRating());
+        dto.setStores(model.getStores());
+        dto.setModes(model.getModes());
+        dto.setPlatforms(model.getPlatforms());
+        dto.setPublishers(model.getPublishers());
+        dto.setDevelopers(model.getDevelopers());
+        dto.setTags(model.getTags());
+        dto.setReleaseDate(model.getReleaseDate());
+        dto.setWebsite(model.getWebsite());
+        dto.setImages(model.getImages());
+
+        GameTranslation translation = model.getTranslation();
+        if (translation != null) {
+            dto.setName(translation.getName());
+            dto.setDescription(translation.getDescription());
+            dto.setGenres(translation.getGenres());
+            dto.setTrailer(translation.getTrailer());
+            dto.setLanguage(translation.getLanguage());
+        }
+
+        return dto;
+    }
+
+    public static GameModel toModel(GameDTO dto) {
+        GameModel model = BaseMapper.toModel(dto, new GameModel());
+        model.setPlaytime(dto.getPlaytime());
+        model.setAgeRating(dto.getAgeRating());
+        model.setStores(dto.getStores());
+        model.setModes(dto.getModes());
+        model.setPlatforms(dto.getPlatforms());
+        model.setPublishers(dto.getPublishers());
+        model.setDevelopers(dto.getDevelopers());
+        model.setTags(dto.getTags());
+        model.setReleaseDate(dto.getReleaseDate());
+        model.setWebsite(dto.getWebsite());
+        model.setImages(dto.getImages());
+
+        GameTranslation translation = new GameTranslation();
+        translation.setName(dto.getName());
+        translation.setDescription(dto.getDescription());
+        translation.setGenres(dto.getGenres());
+        translation.setTrailer(dto.getTrailer());
+        translation.setLanguage(dto.getLanguage());
+        model.setTranslation(translation);
+
+        return model;
+    }
+
+    public static GameModel copy(GameModel source) {
+        GameModel model = BaseMapper.copy(source, new GameModel());
+        model.setPlaytime(source.getPlaytime());
+        model.setAgeRating(source.getAgeRating());
+        model.setStores(BaseMapper.copy(source.getStores()));
+        model.setModes(BaseMapper.copy(source.getModes()));
+        model.setPlatforms(BaseMapper.copy(source.getPlatforms()));
+        model.setPublishers(BaseMapper.copy(source.getPublishers()));
+        model.setDevelopers(BaseMapper.copy(source.getDevelopers()));
+        model.setTags(BaseMapper.copy(source.getTags()));
+        model.setReleaseDate(source.getReleaseDate());
+        model.setWebsite(source.getWebsite());
+        model.setImages(BaseMapper.copy(source.getImages()));
+
+        if (source.getTranslation() != null) model.setTranslation(copy(source.getTranslation()));
+
+        return model;
+    }
+
+    public static GameTranslationDTO toTranslationDTO(GameTranslation translation) {
+        GameTranslationDTO dto = new GameTranslationDTO();
+        dto.setName(translation.getName());
+        dto.setDescription(translation.getDescription());
+        dto.setGenres(translation.getGenres());
+        dto.setTrailer(translation.getTrailer());
+        dto.setLanguage(translation.getLanguage());
+        return dto;
+    }
+
+    public static GameTranslation toTranslation(GameTranslationDTO dto) {
+        GameTranslation translation = new GameTranslation();
+        translation.setName(dto.getName());
+        translation.setDescription(dto.getDescription());
+        translation.setGenres(dto.getGenres());
+        translation.setTrailer(dto.getTrailer());
+        translation.setLanguage(dto.getLanguage());
+        return translation;
+    }
+
+    public static GameTranslation copy(GameTranslation source) {
+        GameTranslation translation = BaseMapper.copy(source, new GameTranslation());
+        translation.setGameUuid(source.getGameUuid());
+        translation.setName(source.getName());
+        translation.setDescription(source.getDescription());
+        translation.setGenres(BaseMapper.copy(source.getGenres()));
+        translation.setTrailer(source.getTrailer());
+        translation.setGame(source.getGame());
+        return translation;
+    }
+
+    public static void register(EntityMapper mapper) {
+        mapper.register(GameModel.class, GameDTO.class, GameMapper::toDTO)
+                .register(GameDTO.class, GameModel.class, GameMapper::toModel)
+                .register(GameModel.class, GameModel.class, GameMapper::copy)
+                .register(GameTranslation.class, GameTranslationDTO.class, GameMapper::toTranslationDTO)
+                .register(GameTranslationDTO.class, GameTranslation.class, GameMapper::toTranslation)
+                .registerMerger(GameDTO.class, GameModel.class, MERGER)
+                .registerMerger(GameTranslationDTO.class, GameTranslation.class, TRANSLATION_MERGER);
+    }
+}
@@ -0,0 +1,100 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.LocationModel;
+import com.lucasjosino.hawapi.models.dto.LocationDTO;
+import com.lucasjosino.hawapi.models.dto.translation.LocationTranslationDTO;
+import com.lucasjosino.hawapi.models.translations.LocationTranslation;
+
+/**
+ * Explicit mapper of locations and its translations
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+public final class LocationMapper {
+
+    private static final EntityMerger<LocationDTO, LocationModel> MERGER =
+            BaseMapper.<LocationDTO, LocationModel>merger()
+                    .property(LocationDTO::getImages, LocationModel::setImages)
+                    .build();
+
+    private static final EntityMerger<LocationTranslationDTO, LocationTranslation> TRANSLATION_MERGER =
+            BaseMapper.<LocationTranslationDTO, LocationTranslation>translationMerger()
+                    .property(LocationTranslationDTO::getName, LocationTranslation::setName)
+                    .property(LocationTranslationDTO::getDescription, LocationTranslation::setDescription)
+                    .build();
+
+    private LocationMapper() {}
+
+    public static LocationDTO toDTO(LocationModel model) {
+        LocationDTO dto = BaseMapper.toDTO(model, new LocationDTO());
+        dto.setImages(model.getImages());
+
+        LocationTranslation translation = model.getTranslation();
+        if (translation != null) {
+            dto.setName(translation.getName());
+            dto.setDescription(translation.getDescription());
+            dto.setLanguage(translation.getLanguage());
+        }
+
+        return dto;
+    }
+
+    public static LocationModel toModel(LocationDTO dto) {
+        LocationModel model = BaseMapper.toModel(dto, new LocationModel());
+        model.setImages(dto.getImages());
+
+        LocationTranslation translation = new LocationTranslation();
+        translation.setName(dto.getName());
+        translation.setDescription(dto.getDescription());
+        translation.setLanguage(dto.getLanguage());
+        model.setTranslation(translation);
+
+        return model;
+    }
+
+    public static LocationModel copy(LocationModel source) {
+        LocationModel model = BaseMapper.copy(source, new LocationModel());
+        model.setImages(BaseMapper.copy(source.getImages()));
+
+        if (source.getTranslation() != null) model.setTranslation(copy(source.getTranslation()));
+
+        return model;
+    }
+
+    public static LocationTranslationDTO toTranslationDTO(LocationTranslation translation) {
+        LocationTranslationDTO dto = new LocationTranslationDTO();
+        dto.setName(translation.getName());
+        dto.setDescription(translation.getDescription());
+        dto.setLanguage(translation.getLanguage());
+        return dto;
+    }
+
+    public static LocationTranslation toTranslation(LocationTranslationDTO dto) {
+        LocationTranslation translation = new LocationTranslation();
+        translation.setName(dto.getName());
+        translation.setDescription(dto.getDescription());
+        translation.setLanguage(dto.getLanguage());
+        return translation;
+    }
+
+    public static LocationTranslation copy(LocationTranslation source) {
+        LocationTranslation translation = BaseMapper.copy(source, new LocationTranslation());
+        translation.setLocationUuid(source.getLocationUuid());
+        translation.setName(source.getName());
+        translation.setDescription(source.getDescription());
+        translation.setLocation(source.getLocation());
+        return translation;
+    }
+
+    public static void register(EntityMapper mapper) {
+        mapper.register(LocationModel.class, LocationDTO.class, LocationMapper::toDTO)
+                .register(LocationDTO.class, LocationModel.class, LocationMapper::toModel)
+                .register(LocationModel.class, LocationModel.class, LocationMapper::copy)
+                .register(LocationTranslation.class, LocationTranslationDTO.class, LocationMapper::toTranslationDTO)
+                .register(LocationTranslationDTO.class, LocationTranslation.class, LocationMapper::toTranslation)
+                .registerMerger(LocationDTO.class, LocationModel.class, MERGER)
+                .registerMerger(LocationTranslationDTO.class, LocationTranslation.class, TRANSLATION_MERGER);
+    }
+}
@@ -0,0 +1,121 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.OverviewModel;
+import com.lucasjosino.hawapi.models.dto.OverviewDTO;
+import com.lucasjosino.hawapi.models.dto.translation.OverviewTranslationDTO;
+import com.lucasjosino.hawapi.models.translations.OverviewTranslation;
+
+/**
+ * Explicit mapper of overview, its translations and data count
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+public final class OverviewMapper {
+
+    private static final EntityMerger<OverviewDTO, OverviewModel> MERGER =
+            BaseMapper.<OverviewDTO, OverviewModel>merger()
+                    .property(OverviewDTO::getLanguages, OverviewModel::setLanguages)
+                    .property(OverviewDTO::getCreators, OverviewModel::setCreators)
+                    .build();
+
+    private static final EntityMerger<OverviewTranslationDTO, OverviewTranslation> TRANSLATION_MERGER =
+            BaseMapper.<OverviewTranslationDTO, OverviewTranslation>translationMerger()
+                    .property(OverviewTranslationDTO::getTitle, OverviewTranslation::setTitle)
+                    .property(OverviewTranslationDTO::getDescription, OverviewTranslation::setDescription)
+                    .build();
+
+    private OverviewMapper() {}
+
+    public static OverviewDTO toDTO(OverviewModel model) {
+        OverviewDTO dto = BaseMapper.toDTO(model, new OverviewDTO());
+        dto.setLanguages(model.getLanguages());
+        dto.setCreators(model.getCreators());
+
+        OverviewTranslation translation = model.getTranslation();
+        if (translation != null) {
+            dto.setTitle(translation.getTitle());
+            dto.setDescription(translation.getDescription());
+            dto.setLanguage(translation.getLanguage());
+        }
+
+        return dto;
+    }
+
+    public static OverviewModel toModel(OverviewDTO dto) {
+        OverviewModel model = BaseMapper.toModel(dto, new OverviewModel());
+        model.setLanguages(dto.getLanguages());
+        model.setCreators(dto.getCreators());
+
+        OverviewTranslation translation = new OverviewTranslation();
+        translation.setTitle(dto.getTitle());
+        translation.setDescription(dto.getDescription());
+        translation.setLanguage(dto.getLanguage());
+        model.setTranslation(translation);
+
+        return model;
+    }
+
+    public static OverviewModel copy(OverviewModel source) {
+        OverviewModel model = BaseMapper.copy(source, new OverviewModel());
+        model.setLanguages(BaseMapper.copy(source.getLanguages()));
+        model.setCreators(BaseMapper.copy(source.getCreators()));
+
+        if (source.getTranslation() != null) model.setTranslation(copy(source.getTranslation()));
+
+        return model;
+    }
+
+    public static OverviewTranslationDTO toTranslationDTO(OverviewTranslation translation) {
+        OverviewTranslationDTO dto = new OverviewTranslationDTO();
+        dto.setTitle(translation.getTitle());
+        dto.setDescription(translation.getDescription());
+        dto.setLanguage(translation.getLanguage());
+        return dto;
+    }
+
+    public static OverviewTranslation toTranslation(OverviewTranslationDTO dto) {
+        OverviewTranslation translation = new OverviewTranslation();
+        translation.setTitle(dto.getTitle());
+        translation.setDescription(dto.getDescription());
+        translation.setLanguage(dto.getLanguage());
+        return translation;
+    }
+
+    public static OverviewTranslation copy(OverviewTranslation source) {
+        OverviewTranslation translation = BaseMapper.copy(source, new OverviewTranslation());
+        translation.setOverviewUuid(source.getOverviewUuid());
+        translation.setTitle(source.getTitle());
+        translation.setDescription(source.getDescription());
+        translation.setOverview(source.getOverview());
+        return translation;
+    }
+
+    public static OverviewDTO.DataCount toDataCount(OverviewDTO.DataCountProjection projection) {
+        OverviewDTO.DataCount dataCount = new OverviewDTO.DataCount();
+        dataCount.setActors(projection.getActors());
+        dataCount.setCharacters(projection.getCharacters());
+        dataCount.setEpisodes(projection.getEpisodes());
+        dataCount.setGames(projection.getGames());
+        dataCount.setLocations(projection.getLocations());
+        dataCount.setSeasons(projection.getSeasons());
+        dataCount.setSoundtracks(projection.getSoundtracks());
+        return dataCount;
+    }
+
+    public static void register(EntityMapper mapper) {
+        mapper.register(OverviewModel.class, OverviewDTO.class, OverviewMapper::toDTO)
+                .register(OverviewDTO.class, OverviewModel.class, OverviewMapper::toModel)
+                .register(OverviewModel.class, OverviewModel.class, OverviewMapper::copy)
+                .register(OverviewTranslation.class, OverviewTranslationDTO.class, OverviewMapper::toTranslationDTO)
+                .register(OverviewTranslationDTO.class, OverviewTranslation.class, OverviewMapper::toTranslation)
+                .register(
+                        OverviewDTO.DataCountProjection.class,
+                        OverviewDTO.DataCount.class,
+                        OverviewMapper::toDataCount
+                )
+                .registerMerger(OverviewDTO.class, OverviewModel.class, MERGER)
+                .registerMerger(OverviewTranslationDTO.class, OverviewTranslation.class, TRANSLATION_MERGER);
+    }
+}
@@ -0,0 +1,144 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.SeasonModel;
+import com.lucasjosino.hawapi.models.dto.SeasonDTO;
+import com.lucasjosino.hawapi.models.dto.translation.SeasonTranslationDTO;
+import com.lucasjosino.hawapi.models.translations.SeasonTranslation;
+
+/**
+ * Explicit mapper of seasons and its translations
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+public final class SeasonMapper {
+
+    private static final EntityMerger<SeasonDTO, SeasonModel> MERGER =
+            BaseMapper.<SeasonDTO, SeasonModel>merger()
+                    .property(SeasonDTO::getDurationTotal, SeasonModel::setDurationTotal)
+                    .property(SeasonDTO::getSeasonNum, SeasonModel::setSeasonNum)
+                    .property(SeasonDTO::getReleaseDate, SeasonModel::setReleaseDate)
+                    .property(SeasonDTO::getNextSeason, SeasonModel::setNextSeason)
+                    .property(SeasonDTO::getPrevSeason, SeasonModel::setPrevSeason)
+                    .property(SeasonDTO::getEpisodes, SeasonModel::setEpisodes)
+                    .property(SeasonDTO::getSoundtracks, SeasonModel::setSoundtracks)
+                    .property(SeasonDTO::getBudget, SeasonModel::setBudget)
+                    .property(SeasonDTO::getImages, SeasonModel::setImages)
+                    .build();
+
+    private static final EntityMerger<SeasonTranslationDTO, SeasonTranslation> TRANSLATION_MERGER =
+            BaseMapper.<SeasonTranslationDTO, SeasonTranslation>translationMerger()
+                    .property(SeasonTranslationDTO::getTitle, SeasonTranslation::setTitle)
+                    .property(SeasonTranslationDTO::getDescription, SeasonTranslation::setDescription)
+                    .property(SeasonTranslationDTO::getGenres, SeasonTranslation::setGenres)
+                    .property(SeasonTranslationDTO::getTrailers, SeasonTranslation::setTrailers)
+                    .build();
+
+    private SeasonMapper() {}
+
+    public static SeasonDTO toDTO(SeasonModel model) {
+        SeasonDTO dto = BaseMapper.toDTO(model, new SeasonDTO());
+        dto.setDurationTotal(model.getDurationTotal());
+        dto.setSeasonNum(model.getSeasonNum());
+        dto.setReleaseDate(model.getReleaseDate());
+        dto.setNextSeason(model.getNextSeason());
+        dto.setPrevSeason(model.getPrevSeason());
+        dto.setEpisodes(model.getEpisodes());
+        dto.setSoundtracks(model.getSoundtracks());
+        dto.setBudget(model.getBudget());
+        dto.setImages(model.getImages());
+
+        SeasonTranslation translation = model.getTranslation();
+        if (translation != null) {
+            dto.setTitle(translation.getTitle());
+            dto.setDescription(translation.getDescription());
+            dto.setGenres(translation.getGenres());
+            dto.setTrailers(translation.getTrailers());
+            dto.setLanguage(translation.getLanguage());
+        }
+
+        return dto;
+    }
+
+    public static SeasonModel toModel(SeasonDTO dto) {
+        SeasonModel model = BaseMapper.toModel(dto, new SeasonModel());
+        model.setDurationTotal(dto.getDurationTotal());
+        model.setSeasonNum(dto.getSeasonNum());
+        model.setReleaseDate(dto.getReleaseDate());
+        model.setNextSeason(dto.getNextSeason());
+        model.setPrevSeason(dto.getPrevSeason());
+        model.setEpisodes(dto.getEpisodes());
+        model.setSoundtracks(dto.getSoundtracks());
+        model.setBudget(dto.getBudget());
+        model.setImages(dto.getImages());
+
+        SeasonTranslation translation = new SeasonTranslation();
+        translation.setTitle(dto.getTitle());
+        translation.setDescription(dto.getDescription());
+        translation.setGenres(dto.getGenres());
+        translation.setTrailers(dto.getTrailers());
+        translation.setLanguage(dto.getLanguage());
+        model.setTranslation(translation);
+
+        return model;
+    }
+
+    public static SeasonModel copy(SeasonModel source) {
+        SeasonModel model = BaseMapper.copy(source, new SeasonModel());
+        model.setDurationTotal(source.getDurationTotal());
+        model.setSeasonNum(source.getSeasonNum());
+        model.setReleaseDate(source.getReleaseDate());
+        model.setNextSeason(source.getNextSeason());
+        model.setPrevSeason(source.getPrevSeason());
+        model.setEpisodes(BaseMapper.copy(source.getEpisodes()));
+        model.setSoundtracks(BaseMapper.copy(source.getSoundtracks()));
+        model.setBudget(source.getBudget());
+        model.setImages(BaseMapper.copy(source.getImages()));
+
+        if (source.getTranslation() != null) model.setTranslation(copy(source.getTranslation()));
+
+        return model;
+    }
+
+    public static SeasonTranslationDTO toTranslationDTO(SeasonTranslation translation) {
+        SeasonTranslationDTO dto = new SeasonTranslationDTO();
+        dto.setTitle(translation.getTitle());
+        dto.setDescription(translation.getDescription());
+        dto.setGenres(translation.getGenres());
+        dto.setTrailers(translation.getTrailers());
+        dto.setLanguage(translation.getLanguage());
+        return dto;
+    }
+
+    public static SeasonTranslation toTranslation(SeasonTranslationDTO dto) {
+        SeasonTranslation translation = new SeasonTranslation();
+        translation.setTitle(dto.getTitle());
+        translation.setDescription(dto.getDescription());
+        translation.setGenres(dto.getGenres());
+        translation.setTrailers(dto.getTrailers());
+        translation.setLanguage(dto.getLanguage());
+        return translation;
+    }
+
+    public static SeasonTranslation copy(SeasonTranslation source) {
+        SeasonTranslation translation = BaseMapper.copy(source, new SeasonTranslation());
+        translation.setSeasonUuid(source.getSeasonUuid());
+        translation.setTitle(source.getTitle());
+        translation.setDescription(source.getDescription());
+        translation.setGenres(BaseMapper.copy(source.getGenres()));
+        translation.setTrailers(BaseMapper.copy(source.getTrailers()));
+        translation.setSeason(source.getSeason());
+        return translation;
+    }
+
+    public static void register(EntityMapper mapper) {
+        mapper.register(SeasonModel.class, SeasonDTO.class, SeasonMapper::toDTO)
+                .register(SeasonDTO.class, SeasonModel.class, SeasonMapper::toModel)
+                .register(SeasonModel.class, SeasonModel.class, SeasonMapper::copy)
+                .register(SeasonTranslation.class, SeasonTranslationDTO.class, SeasonMapper::toTranslationDTO)
+                .register(SeasonTranslationDTO.class, SeasonTranslation.class, SeasonMapper::toTranslation)
+                .registerMerger(SeasonDTO.class, SeasonModel.class, MERGER)
+                .registerMerger(SeasonTranslationDTO.class, SeasonTranslation.class, TRANSLATION_MERGER);
+    }
+}
@@ -0,0 +1,66 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.SoundtrackModel;
+import com.lucasjosino.hawapi.models.dto.SoundtrackDTO;
+
+/**
+ * Explicit mapper of soundtracks
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+public final class SoundtrackMapper {
+
+    private static final EntityMerger<SoundtrackDTO, SoundtrackModel> MERGER =
+            BaseMapper.<SoundtrackDTO, SoundtrackModel>merger()
+                    .property(SoundtrackDTO::getName, SoundtrackModel::setName)
+                    .property(SoundtrackDTO::getDuration, SoundtrackModel::setDuration)
+                    .property(SoundtrackDTO::getArtist, SoundtrackModel::setArtist)
+                    .property(SoundtrackDTO::getAlbum, SoundtrackModel::setAlbum)
+                    .property(SoundtrackDTO::getReleaseDate, SoundtrackModel::setReleaseDate)
+                    .property(SoundtrackDTO::getUrls, SoundtrackModel::setUrls)
+                    .build();
+
+    private SoundtrackMapper() {}
+
+    public static SoundtrackDTO toDTO(SoundtrackModel model) {
+        SoundtrackDTO dto = BaseMapper.toDTO(model, new SoundtrackDTO());
+        dto.setName(model.getName());
+        dto.setDuration(model.getDuration());
+        dto.setArtist(model.getArtist());
+        dto.setAlbum(model.getAlbum());
+        dto.setReleaseDate(model.getReleaseDate());
+        dto.setUrls(model.getUrls());
+        return dto;
+    }
+
+    public static SoundtrackModel toModel(SoundtrackDTO dto) {
+        SoundtrackModel model = BaseMapper.toModel(dto, new SoundtrackModel());
+        model.setName(dto.getName());
+        if (dto.getDuration() != null) model.setDuration(dto.getDuration());
+        model.setArtist(dto.getArtist());
+        model.setAlbum(dto.getAlbum());
+        model.setReleaseDate(dto.getReleaseDate());
+        model.setUrls(dto.getUrls());
+        return model;
+    }
+
+    public static SoundtrackModel copy(SoundtrackModel source) {
+        SoundtrackModel model = BaseMapper.copy(source, new SoundtrackModel());
+        model.setName(source.getName());
+        model.setDuration(source.getDuration());
+        model.setArtist(source.getArtist());
+        model.setAlbum(source.getAlbum());
+        model.setReleaseDate(source.getReleaseDate());
+        model.setUrls(BaseMapper.copy(source.getUrls()));
+        return model;
+    }
+
+    public static void register(EntityMapper mapper) {
+        mapper.register(SoundtrackModel.class, SoundtrackDTO.class, SoundtrackMapper::toDTO)
+                .register(SoundtrackDTO.class, SoundtrackModel.class, SoundtrackMapper::toModel)
+                .register(SoundtrackModel.class, SoundtrackModel.class, SoundtrackMapper::copy)
+                .registerMerger(SoundtrackDTO.class, SoundtrackModel.class, MERGER);
+    }
+}
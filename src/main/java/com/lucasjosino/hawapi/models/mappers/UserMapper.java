@@ -0,0 +1,31 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.lucasjosino.hawapi.models.dto.auth.UserRegistrationDTO;
+import com.lucasjosino.hawapi.models.user.UserModel;
+
+/**
+ * Explicit mapper of users
+ *
+ * @author Lucas Josino
+ * @see EntityMapper
+ * @since 1.2.0
+ */
+public final class UserMapper {
+
+    private UserMapper() {}
+
+    public static UserModel toModel(UserRegistrationDTO dto) {
+        UserModel model = new UserModel();
+        model.setFirstName(dto.getFirstName());
+        model.setLastName(dto.getLastName());
+        model.setUsername(dto.getUsername());
+        model.setEmail(dto.getEmail());
+        model.setPassword(dto.getPassword());
+        model.setRole(dto.getRole());
+        return model;
+    }
+
+    public static void register(EntityMapper mapper) {
+        mapper.register(UserRegistrationDTO.class, UserModel.class, UserMapper::toModel);
+    }
+}
@@ -0,0 +1,104 @@
+package com.lucasjosino.hawapi.models.mappers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.lucasjosino.hawapi.models.base.BaseDTO;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writer of all fields shared by DTOs and helpers for (snake_case) fields.
+ * <p> All names are {@link SerializedString}, encoded only once. Null values are never written, same as
+ * {@link BaseDTO}.
+ * <p> Fields follow the Jackson (DTO) order: Declared fields first, fields renamed by {@code @JsonProperty} last
+ * (E.g: created_at and updated_at).
+ *
+ * @author Lucas Josino
+ * @see JsonWriter
+ * @since 1.2.0
+ */
+final class BaseJsonWriter {
+
+    static final SerializedString DESCRIPTION = new SerializedString("description");
+
+    static final SerializedString GENRES = new SerializedString("genres");
+
+    static final SerializedString IMAGES = new SerializedString("images");
+
+    static final SerializedString LANGUAGE = new SerializedString("language");
+
+    static final SerializedString NAME = new SerializedString("name");
+
+    static final SerializedString RELEASE_DATE = new SerializedString("release_date");
+
+    static final SerializedString TITLE = new SerializedString("title");
+
+    private static final SerializedString UUID = new SerializedString("uuid");
+
+    private static final SerializedString HREF = new SerializedString("href");
+
+    private static final SerializedString SOURCES = new SerializedString("sources");
+
+    private static final SerializedString THUMBNAIL = new SerializedString("thumbnail");
+
+    private static final SerializedString CREATED_AT = new SerializedString("created_at");
+
+    private static final SerializedString UPDATED_AT = new SerializedString("updated_at");
+
+    private BaseJsonWriter() {}
+
+    static void writeBase(BaseDTO dto, JsonGenerator generator) throws IOException {
+        if (dto.getUuid() != null) writeString(generator, UUID, dto.getUuid().toString());
+        writeString(generator, HREF, dto.getHref());
+        writeStrings(generator, SOURCES, dto.getSources());
+        writeString(generator, THUMBNAIL, dto.getThumbnail());
+    }
+
+    static void writeDates(BaseDTO dto, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        writeValue(generator, provider, CREATED_AT, dto.getCreatedAt());
+        writeValue(generator, provider, UPDATED_AT, dto.getUpdatedAt());
+    }
+
+    static void writeString(JsonGenerator generator, SerializableString name, String value) throws IOException {
+        if (value == null) return;
+
+        generator.writeFieldName(name);
+        generator.writeString(value);
+    }
+
+    static void writeNumber(JsonGenerator generator, SerializableString name, Number value) throws IOException {
+        if (value == null) return;
+
+        generator.writeFieldName(name);
+        generator.writeNumber(value.intValue());
+    }
+
+    static void writeStrings(JsonGenerator generator, SerializableString name, List<String> values) throws IOException {
+        if (values == null) return;
+
+        generator.writeFieldName(name);
+        generator.writeStartArray();
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Values without a direct representation (E.g: Dates) use the serializers of the configured ObjectMapper.
+     */
+    static void writeValue(
+            JsonGenerator generator,
+            SerializerProvider provider,
+            SerializableString name,
+            Object value
+    ) throws IOException {
+        if (value == null) return;
+
+        generator.writeFieldName(name);
+        provider.defaultSerializeValue(value, generator);
+    }
+}
@@ -0,0 +1,52 @@
+package com.lucasjosino.hawapi.models.mappers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
+
+import java.io.IOException;
+
+import static com.lucasjosino.hawapi.models.mappers.json.BaseJsonWriter.*;
+
+/**
+ * Writes an {@link EpisodeDTO} with the same fields (and order) of its Jackson serializer
+ *
+ * @author Lucas Josino
+ * @see JsonWriter
+ * @since 1.2.0
+ */
+public final class EpisodeJsonWriter {
+
+    private static final SerializedString DURATION = new SerializedString("duration");
+
+    private static final SerializedString EPISODE_NUM = new SerializedString("episode_num");
+
+    private static final SerializedString NEXT_EPISODE = new SerializedString("next_episode");
+
+    private static final SerializedString PREV_EPISODE = new SerializedString("prev_episode");
+
+    private static final SerializedString SEASON = new SerializedString("season");
+
+    private EpisodeJsonWriter() {}
+
+    public static void write(
+            EpisodeDTO dto,
+            JsonGenerator generator,
+            SerializerProvider provider
+    ) throws IOException {
+        generator.writeStartObject();
+        writeBase(dto, generator);
+        writeString(generator, TITLE, dto.getTitle());
+        writeString(generator, DESCRIPTION, dto.getDescription());
+        writeString(generator, LANGUAGE, dto.getLanguage());
+        writeNumber(generator, DURATION, dto.getDuration());
+        writeString(generator, SEASON, dto.getSeason());
+        writeStrings(generator, IMAGES, dto.getImages());
+        writeDates(dto, generator, provider);
+        writeNumber(generator, EPISODE_NUM, dto.getEpisodeNum());
+        writeString(generator, NEXT_EPISODE, dto.getNextEpisode());
+        writeString(generator, PREV_EPISODE, dto.getPrevEpisode());
+        generator.writeEndObject();
+    }
+}
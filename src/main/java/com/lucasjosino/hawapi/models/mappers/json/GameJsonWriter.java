@@ -0,0 +1,69 @@
+package com.lucasjosino.hawapi.models.mappers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.lucasjosino.hawapi.models.dto.GameDTO;
+
+import java.io.IOException;
+
+import static com.lucasjosino.hawapi.models.mappers.json.BaseJsonWriter.*;
+
+/**
+ * Writes a {@link GameDTO} with the same fields (and order) of its Jackson serializer
+ *
+ * @author Lucas Josino
+ * @see JsonWriter
+ * @since 1.2.0
+ */
+public final class GameJsonWriter {
+
+    private static final SerializedString PLAYTIME = new SerializedString("playtime");
+
+    private static final SerializedString AGE_RATING = new SerializedString("age_rating");
+
+    private static final SerializedString PLATFORMS = new SerializedString("platforms");
+
+    private static final SerializedString STORES = new SerializedString("stores");
+
+    private static final SerializedString MODES = new SerializedString("modes");
+
+    private static final SerializedString PUBLISHERS = new SerializedString("publishers");
+
+    private static final SerializedString DEVELOPERS = new SerializedString("developers");
+
+    private static final SerializedString WEBSITE = new SerializedString("website");
+
+    private static final SerializedString TAGS = new SerializedString("tags");
+
+    private static final SerializedString TRAILER = new SerializedString("trailer");
+
+    private GameJsonWriter() {}
+
+    public static void write(
+            GameDTO dto,
+            JsonGenerator generator,
+            SerializerProvider provider
+    ) throws IOException {
+        generator.writeStartObject();
+        writeBase(dto, generator);
+        writeString(generator, NAME, dto.getName());
+        writeString(generator, DESCRIPTION, dto.getDescription());
+        writeNumber(generator, PLAYTIME, dto.getPlaytime());
+        writeString(generator, LANGUAGE, dto.getLanguage());
+        writeStrings(generator, PLATFORMS, dto.getPlatforms());
+        writeStrings(generator, STORES, dto.getStores());
+        writeStrings(generator, MODES, dto.getModes());
+        writeStrings(generator, GENRES, dto.getGenres());
+        writeStrings(generator, PUBLISHERS, dto.getPublishers());
+        writeStrings(generator, DEVELOPERS, dto.getDevelopers());
+        writeString(generator, WEBSITE, dto.getWebsite());
+        writeStrings(generator, TAGS, dto.getTags());
+        writeString(generator, TRAILER, dto.getTrailer());
+        writeStrings(generator, IMAGES, dto.getImages());
+        writeDates(dto, generator, provider);
+        writeString(generator, AGE_RATING, dto.getAgeRating());
+        writeValue(generator, provider, RELEASE_DATE, dto.getReleaseDate());
+        generator.writeEndObject();
+    }
+}
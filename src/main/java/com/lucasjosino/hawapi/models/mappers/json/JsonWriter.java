@@ -0,0 +1,29 @@
+package com.lucasjosino.hawapi.models.mappers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * Writes a single DTO as a JSON object, producing the same output of its Jackson serializer.
+ *
+ * @param <T> The DTO type
+ * @author Lucas Josino
+ * @see StreamingList
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface JsonWriter<T> {
+
+    /**
+     * Method to write a DTO
+     *
+     * @param value     The DTO. Cannot be null
+     * @param generator The (response) {@link JsonGenerator}
+     * @param provider  The {@link SerializerProvider} used by values without a direct representation. E.g: Dates
+     * @throws IOException If unable to write
+     * @since 1.2.0
+     */
+    void write(T value, JsonGenerator generator, SerializerProvider provider) throws IOException;
+}
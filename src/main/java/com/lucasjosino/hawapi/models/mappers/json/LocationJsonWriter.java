@@ -0,0 +1,36 @@
+package com.lucasjosino.hawapi.models.mappers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.lucasjosino.hawapi.models.dto.LocationDTO;
+
+import java.io.IOException;
+
+import static com.lucasjosino.hawapi.models.mappers.json.BaseJsonWriter.*;
+
+/**
+ * Writes a {@link LocationDTO} with the same fields (and order) of its Jackson serializer
+ *
+ * @author Lucas Josino
+ * @see JsonWriter
+ * @since 1.2.0
+ */
+public final class LocationJsonWriter {
+
+    private LocationJsonWriter() {}
+
+    public static void write(
+            LocationDTO dto,
+            JsonGenerator generator,
+            SerializerProvider provider
+    ) throws IOException {
+        generator.writeStartObject();
+        writeBase(dto, generator);
+        writeString(generator, NAME, dto.getName());
+        writeString(generator, DESCRIPTION, dto.getDescription());
+        writeString(generator, LANGUAGE, dto.getLanguage());
+        writeStrings(generator, IMAGES, dto.getImages());
+        writeDates(dto, generator, provider);
+        generator.writeEndObject();
+    }
+}
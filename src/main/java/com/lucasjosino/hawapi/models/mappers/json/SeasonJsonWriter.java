@@ -0,0 +1,63 @@
+package com.lucasjosino.hawapi.models.mappers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.lucasjosino.hawapi.models.dto.SeasonDTO;
+
+import java.io.IOException;
+
+import static com.lucasjosino.hawapi.models.mappers.json.BaseJsonWriter.*;
+
+/**
+ * Writes a {@link SeasonDTO} with the same fields (and order) of its Jackson serializer
+ *
+ * @author Lucas Josino
+ * @see JsonWriter
+ * @since 1.2.0
+ */
+public final class SeasonJsonWriter {
+
+    private static final SerializedString DURATION_TOTAL = new SerializedString("duration_total");
+
+    private static final SerializedString SEASON_NUM = new SerializedString("season_num");
+
+    private static final SerializedString NEXT_SEASON = new SerializedString("next_season");
+
+    private static final SerializedString PREV_SEASON = new SerializedString("prev_season");
+
+    private static final SerializedString EPISODES = new SerializedString("episodes");
+
+    private static final SerializedString SOUNDTRACKS = new SerializedString("soundtracks");
+
+    private static final SerializedString TRAILERS = new SerializedString("trailers");
+
+    private static final SerializedString BUDGET = new SerializedString("budget");
+
+    private SeasonJsonWriter() {}
+
+    public static void write(
+            SeasonDTO dto,
+            JsonGenerator generator,
+            SerializerProvider provider
+    ) throws IOException {
+        generator.writeStartObject();
+        writeBase(dto, generator);
+        writeString(generator, TITLE, dto.getTitle());
+        writeString(generator, DESCRIPTION, dto.getDescription());
+        writeString(generator, LANGUAGE, dto.getLanguage());
+        writeStrings(generator, GENRES, dto.getGenres());
+        writeStrings(generator, EPISODES, dto.getEpisodes());
+        writeStrings(generator, SOUNDTRACKS, dto.getSoundtracks());
+        writeStrings(generator, TRAILERS, dto.getTrailers());
+        writeNumber(generator, BUDGET, dto.getBudget());
+        writeStrings(generator, IMAGES, dto.getImages());
+        writeDates(dto, generator, provider);
+        writeNumber(generator, DURATION_TOTAL, dto.getDurationTotal());
+        writeNumber(generator, SEASON_NUM, dto.getSeasonNum());
+        writeValue(generator, provider, RELEASE_DATE, dto.getReleaseDate());
+        writeString(generator, NEXT_SEASON, dto.getNextSeason());
+        writeString(generator, PREV_SEASON, dto.getPrevSeason());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,58 @@
+package com.lucasjosino.hawapi.models.mappers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An unmodifiable list of DTOs, written straight to the response {@link JsonGenerator} (see
+ * {@link StreamingListHttpMessageConverter}) by a {@link JsonWriter}, without any Jackson (bean) serializer.
+ * <p> Only created by controllers, wrapping the (cached) content returned by services. Services never return it,
+ * so cached values are always plain DTOs.
+ *
+ * @param <T> The DTO type
+ * @author Lucas Josino
+ * @see JsonWriter
+ * @since 1.2.0
+ */
+public class StreamingList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<T> items;
+
+    private final JsonWriter<? super T> writer;
+
+    public StreamingList(List<T> items, JsonWriter<? super T> writer) {
+        this.items = items;
+        this.writer = writer;
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Method to write all items as a JSON array
+     *
+     * @param generator The (response) {@link JsonGenerator}
+     * @param provider  The {@link SerializerProvider} of the configured ObjectMapper
+     * @throws IOException If unable to write
+     * @since 1.2.0
+     */
+    public void writeTo(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartArray();
+        for (T item : items) {
+            writer.write(item, generator, provider);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,74 @@
+package com.lucasjosino.hawapi.models.mappers.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucasjosino.hawapi.configs.MappersConfig;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Writes a {@link StreamingList} straight to the response.
+ * <p> Controllers declare a List of DTOs, so the Jackson converter would serialize each item as a DTO. This converter
+ * is registered first and only supports (writing) a {@link StreamingList}.
+ *
+ * @author Lucas Josino
+ * @see MappersConfig
+ * @since 1.2.0
+ */
+@SuppressWarnings("NullableProblems")
+public class StreamingListHttpMessageConverter extends AbstractGenericHttpMessageConverter<StreamingList<?>> {
+
+    private final ObjectMapper objectMapper;
+
+    public StreamingListHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return StreamingList.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(
+            StreamingList<?> list,
+            Type type,
+            HttpOutputMessage outputMessage
+    ) throws IOException {
+        // Same as the Jackson converter, the generator is only flushed. The response stream is closed by the container.
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8);
+        list.writeTo(generator, objectMapper.getSerializerProviderInstance());
+        generator.flush();
+    }
+
+    @Override
+    public StreamingList<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Streaming lists can't be read", inputMessage);
+    }
+
+    @Override
+    protected StreamingList<?> readInternal(
+            Class<? extends StreamingList<?>> clazz,
+            HttpInputMessage inputMessage
+    ) {
+        throw new HttpMessageNotReadableException("Streaming lists can't be read", inputMessage);
+    }
+}
@@ -0,0 +1,122 @@
+package com.lucasjosino.hawapi.models.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of all service caches.
+ * <p> Every cache is configured by its own name (E.g: episode.findBy), then by its base name (E.g: findBy) and then
+ * by the default values. Missing fields will use the next level.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@Component
+@ConfigurationProperties(prefix = "com.lucasjosino.hawapi.cache")
+public class CacheProperty {
+
+    private boolean statistics = true;
+
+    private Spec defaults = new Spec();
+
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public CacheProperty() {
+    }
+
+    /**
+     * Method to get the resolved configuration of a cache.
+     *
+     * @param name The cache name. E.g: episode.findBy
+     * @return A {@link Spec} with all fields resolved
+     * @since 1.2.0
+     */
+    public Spec getSpec(String name) {
+        String baseName = name.substring(name.lastIndexOf('.') + 1);
+        return Spec.merge(caches.get(name), Spec.merge(caches.get(baseName), defaults));
+    }
+
+    public boolean isStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(boolean statistics) {
+        this.statistics = statistics;
+    }
+
+    public Spec getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Spec defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Spec> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Spec> caches) {
+        this.caches = caches;
+    }
+
+    public static class Spec {
+
+        /**
+         * Max size of all entries, weighed by its serialized size. E.g: 16MB
+         */
+        private DataSize maximumWeight;
+
+        private Duration expireAfterWrite;
+
+        private Duration expireAfterAccess;
+
+        public Spec() {
+        }
+
+        public Spec(DataSize maximumWeight, Duration expireAfterWrite, Duration expireAfterAccess) {
+            this.maximumWeight = maximumWeight;
+            this.expireAfterWrite = expireAfterWrite;
+            this.expireAfterAccess = expireAfterAccess;
+        }
+
+        private static Spec merge(Spec spec, Spec fallback) {
+            if (spec == null) return fallback;
+
+            return new Spec(
+                    spec.maximumWeight != null ? spec.maximumWeight : fallback.maximumWeight,
+                    spec.expireAfterWrite != null ? spec.expireAfterWrite : fallback.expireAfterWrite,
+                    spec.expireAfterAccess != null ? spec.expireAfterAccess : fallback.expireAfterAccess
+            );
+        }
+
+        public DataSize getMaximumWeight() {
+            return maximumWeight;
+        }
+
+        public void setMaximumWeight(DataSize maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        public Duration getExpireAfterAccess() {
+            return expireAfterAccess;
+        }
+
+        public void setExpireAfterAccess(Duration expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+        }
+    }
+}
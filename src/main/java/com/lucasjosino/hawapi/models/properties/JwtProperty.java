@@ -0,0 +1,162 @@
+package com.lucasjosino.hawapi.models.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration of all JWT validations.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@Component
+@ConfigurationProperties(prefix = "com.lucasjosino.hawapi.jwt")
+public class JwtProperty {
+
+    /**
+     * Lifetime of tokens used to authenticate requests.
+     */
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+
+    /**
+     * Lifetime of tokens used to issue new access tokens. Refresh tokens can only be used once.
+     */
+    private Duration refreshTokenTtl = Duration.ofDays(7);
+
+    private Revocation revocation = new Revocation();
+
+    private DecoderCache decoderCache = new DecoderCache();
+
+    public JwtProperty() {
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    public void setAccessTokenTtl(Duration accessTokenTtl) {
+        this.accessTokenTtl = accessTokenTtl;
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return refreshTokenTtl;
+    }
+
+    public void setRefreshTokenTtl(Duration refreshTokenTtl) {
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    /**
+     * Method to get the max lifetime of any issued token.
+     *
+     * @return The longest {@link Duration} between access and refresh tokens
+     * @since 1.2.0
+     */
+    public Duration getMaximumTokenTtl() {
+        return accessTokenTtl.compareTo(refreshTokenTtl) >= 0 ? accessTokenTtl : refreshTokenTtl;
+    }
+
+    public Revocation getRevocation() {
+        return revocation;
+    }
+
+    public void setRevocation(Revocation revocation) {
+        this.revocation = revocation;
+    }
+
+    public DecoderCache getDecoderCache() {
+        return decoderCache;
+    }
+
+    public void setDecoderCache(DecoderCache decoderCache) {
+        this.decoderCache = decoderCache;
+    }
+
+    /**
+     * Configuration of the in-memory token revocation list.
+     *
+     * @author Lucas Josino
+     * @since 1.2.0
+     */
+    public static class Revocation {
+
+        /**
+         * Initial capacity of the bloom filter. The filter will be rebuilt (doubled) when full.
+         */
+        private int expectedInsertions = 10_000;
+
+        private double falsePositiveProbability = 0.01;
+
+        /**
+         * How often revocations created by other instances will be loaded. Zero will disable it.
+         */
+        private Duration refreshInterval = Duration.ofMinutes(1);
+
+        public Revocation() {
+        }
+
+        public int getExpectedInsertions() {
+            return expectedInsertions;
+        }
+
+        public void setExpectedInsertions(int expectedInsertions) {
+            this.expectedInsertions = expectedInsertions;
+        }
+
+        public double getFalsePositiveProbability() {
+            return falsePositiveProbability;
+        }
+
+        public void setFalsePositiveProbability(double falsePositiveProbability) {
+            this.falsePositiveProbability = falsePositiveProbability;
+        }
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+    }
+
+    /**
+     * Configuration of the decoded (signature verified) token cache.
+     *
+     * @author Lucas Josino
+     * @since 1.2.0
+     */
+    public static class DecoderCache {
+
+        /**
+         * Max number of cached tokens. Zero will disable the cache.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Max time a token will be cached. Tokens are never cached after its expiration.
+         */
+        private Duration maximumTtl = Duration.ofHours(1);
+
+        public DecoderCache() {
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getMaximumTtl() {
+            return maximumTtl;
+        }
+
+        public void setMaximumTtl(Duration maximumTtl) {
+            this.maximumTtl = maximumTtl;
+        }
+    }
+}
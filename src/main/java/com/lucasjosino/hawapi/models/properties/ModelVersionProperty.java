@@ -0,0 +1,33 @@
+package com.lucasjosino.hawapi.models.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the resource versions (model_versions table).
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@Component
+@ConfigurationProperties(prefix = "com.lucasjosino.hawapi.versions")
+public class ModelVersionProperty {
+
+    /**
+     * Interval to load versions changed by other instances. Zero will disable it.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(5);
+
+    public ModelVersionProperty() {
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+}
@@ -0,0 +1,72 @@
+package com.lucasjosino.hawapi.models.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the password encoder (BCrypt) and its executor.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@Component
+@ConfigurationProperties(prefix = "com.lucasjosino.hawapi.password-encoder")
+public class PasswordEncoderProperty {
+
+    /**
+     * The log rounds (cost) of BCrypt.
+     */
+    private int strength = 10;
+
+    /**
+     * Max number of passwords hashed/verified at the same time.
+     */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Max number of operations waiting for a thread. New operations will be rejected (503).
+     */
+    private int queueCapacity = 50;
+
+    /**
+     * Max time a request will wait for its operation, including the queue time.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public PasswordEncoderProperty() {
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public void setStrength(int strength) {
+        this.strength = strength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,357 @@
+package com.lucasjosino.hawapi.models.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of all rate limits, defined by the <strong>bucket4j.properties</strong> file.
+ * <p> The same (Bucket4j) format is kept, but conditions are only compiled once. See 'RateLimitRule'.
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@Component
+@ConfigurationProperties(prefix = "bucket4j")
+public class RateLimitProperty {
+
+    private boolean enabled = true;
+
+    private List<Filter> filters = new ArrayList<>();
+
+    private Store store = new Store();
+
+    public RateLimitProperty() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Filter> getFilters() {
+        return filters;
+    }
+
+    public void setFilters(List<Filter> filters) {
+        this.filters = filters;
+    }
+
+    public Store getStore() {
+        return store;
+    }
+
+    public void setStore(Store store) {
+        this.store = store;
+    }
+
+    public enum Strategy {
+        /**
+         * Only the first rate limit matching the request conditions is used.
+         */
+        FIRST,
+        /**
+         * All rate limits matching the request conditions are used.
+         */
+        ALL
+    }
+
+    public enum RefillSpeed {
+        /**
+         * Tokens are added as soon as possible. E.g: 16 tokens per minute = 1 token every 3.75 seconds.
+         */
+        GREEDY,
+        /**
+         * All tokens are added at once, at the end of the period. <strong>Not supported</strong>.
+         */
+        INTERVAL
+    }
+
+    public enum StoreType {
+        /**
+         * Buckets are stored in memory, each instance has its own limits.
+         */
+        MEMORY,
+        /**
+         * Buckets are stored in the database (table 'rate_limits'), shared by all instances.
+         */
+        JDBC
+    }
+
+    public static class Filter {
+
+        /**
+         * Regex matching the request URI.
+         */
+        private String url = ".*";
+
+        private Strategy strategy = Strategy.FIRST;
+
+        private int filterOrder = 0;
+
+        /**
+         * Body (JSON) returned when a rate limit is exhausted.
+         */
+        private String httpResponseBody;
+
+        private List<RateLimit> rateLimits = new ArrayList<>();
+
+        public Filter() {
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public Strategy getStrategy() {
+            return strategy;
+        }
+
+        public void setStrategy(Strategy strategy) {
+            this.strategy = strategy;
+        }
+
+        public int getFilterOrder() {
+            return filterOrder;
+        }
+
+        public void setFilterOrder(int filterOrder) {
+            this.filterOrder = filterOrder;
+        }
+
+        public String getHttpResponseBody() {
+            return httpResponseBody;
+        }
+
+        public void setHttpResponseBody(String httpResponseBody) {
+            this.httpResponseBody = httpResponseBody;
+        }
+
+        public List<RateLimit> getRateLimits() {
+            return rateLimits;
+        }
+
+        public void setRateLimits(List<RateLimit> rateLimits) {
+            this.rateLimits = rateLimits;
+        }
+    }
+
+    public static class RateLimit {
+
+        /**
+         * Bucket key. Empty (shared by all requests) or <strong>getRemoteAddr()</strong>.
+         */
+        private String cacheKey;
+
+        /**
+         * Role condition, e.g: <strong>@authServiceImpl.getRole() == 'ROLE_BASIC'</strong>.
+         */
+        private String executeCondition;
+
+        /**
+         * Role condition, e.g: <strong>@authServiceImpl.getRole() == 'ROLE_ADMIN'</strong>.
+         */
+        private String skipCondition;
+
+        private List<Bandwidth> bandwidths = new ArrayList<>();
+
+        public RateLimit() {
+        }
+
+        public String getCacheKey() {
+            return cacheKey;
+        }
+
+        public void setCacheKey(String cacheKey) {
+            this.cacheKey = cacheKey;
+        }
+
+        public String getExecuteCondition() {
+            return executeCondition;
+        }
+
+        public void setExecuteCondition(String executeCondition) {
+            this.executeCondition = executeCondition;
+        }
+
+        public String getSkipCondition() {
+            return skipCondition;
+        }
+
+        public void setSkipCondition(String skipCondition) {
+            this.skipCondition = skipCondition;
+        }
+
+        public List<Bandwidth> getBandwidths() {
+            return bandwidths;
+        }
+
+        public void setBandwidths(List<Bandwidth> bandwidths) {
+            this.bandwidths = bandwidths;
+        }
+    }
+
+    public static class Bandwidth {
+
+        private long capacity;
+
+        private long time = 1;
+
+        private ChronoUnit unit = ChronoUnit.MINUTES;
+
+        private RefillSpeed refillSpeed = RefillSpeed.GREEDY;
+
+        public Bandwidth() {
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public void setTime(long time) {
+            this.time = time;
+        }
+
+        public ChronoUnit getUnit() {
+            return unit;
+        }
+
+        public void setUnit(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public RefillSpeed getRefillSpeed() {
+            return refillSpeed;
+        }
+
+        public void setRefillSpeed(RefillSpeed refillSpeed) {
+            this.refillSpeed = refillSpeed;
+        }
+
+        /**
+         * Method to get the period in which all tokens are refilled.
+         *
+         * @return The {@link Duration} of 'time' in 'unit'
+         * @since 1.2.0
+         */
+        public Duration getPeriod() {
+            return unit.getDuration().multipliedBy(time);
+        }
+    }
+
+    public static class Store {
+
+        private StoreType type = StoreType.MEMORY;
+
+        /**
+         * Number of independent maps holding the buckets. Rounded up to a power of two.
+         */
+        private int stripes = 16;
+
+        /**
+         * Interval in which all buckets are checked. Idle buckets (fully refilled) are removed.
+         */
+        private Duration evictionInterval = Duration.ofMinutes(1);
+
+        private Jdbc jdbc = new Jdbc();
+
+        public Store() {
+        }
+
+        public StoreType getType() {
+            return type;
+        }
+
+        public void setType(StoreType type) {
+            this.type = type;
+        }
+
+        public int getStripes() {
+            return stripes;
+        }
+
+        public void setStripes(int stripes) {
+            this.stripes = stripes;
+        }
+
+        public Duration getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        public void setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        public Jdbc getJdbc() {
+            return jdbc;
+        }
+
+        public void setJdbc(Jdbc jdbc) {
+            this.jdbc = jdbc;
+        }
+    }
+
+    public static class Jdbc {
+
+        /**
+         * Max number of tokens reserved by a single query. Never more than a quarter of the bucket capacity.
+         */
+        private int reservationSize = 5;
+
+        /**
+         * Time a reservation can be used by the instance. Unused tokens are given back to the database.
+         */
+        private Duration leaseTime = Duration.ofSeconds(1);
+
+        /**
+         * Interval in which expired reservations are given back to the database (batched).
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        public Jdbc() {
+        }
+
+        public int getReservationSize() {
+            return reservationSize;
+        }
+
+        public void setReservationSize(int reservationSize) {
+            this.reservationSize = reservationSize;
+        }
+
+        public Duration getLeaseTime() {
+            return leaseTime;
+        }
+
+        public void setLeaseTime(Duration leaseTime) {
+            this.leaseTime = leaseTime;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.lucasjosino.hawapi.models.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the response cache (serialized responses).
+ *
+ * @author Lucas Josino
+ * @since 1.2.0
+ */
+@Component
+@ConfigurationProperties(prefix = "com.lucasjosino.hawapi.response-cache")
+public class ResponseCacheProperty {
+
+    private boolean enabled = false;
+
+    /**
+     * Max size of all entries, weighed by its (identity and gzip) bytes. E.g: 32MB
+     */
+    private DataSize maximumWeight = DataSize.ofMegabytes(32);
+
+    private Duration expireAfterAccess;
+
+    /**
+     * Also keep a gzip-compressed copy of each response, used by clients that accept it.
+     */
+    private boolean gzip = true;
+
+    /**
+     * Min size of a response to be compressed. Smaller responses won't benefit from gzip.
+     */
+    private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+
+    public ResponseCacheProperty() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public void setMaximumWeight(DataSize maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    public void setExpireAfterAccess(Duration expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    public DataSize getGzipMinSize() {
+        return gzipMinSize;
+    }
+
+    public void setGzipMinSize(DataSize gzipMinSize) {
+        this.gzipMinSize = gzipMinSize;
+    }
+}
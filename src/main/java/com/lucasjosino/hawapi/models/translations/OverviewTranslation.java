@@ -5,11 +5,13 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.lucasjosino.hawapi.models.OverviewModel;
 import com.lucasjosino.hawapi.models.base.BaseTranslation;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "overviews_translations")
 @JsonIgnoreProperties("overview_uuid")
 public class OverviewTranslation extends BaseTranslation {
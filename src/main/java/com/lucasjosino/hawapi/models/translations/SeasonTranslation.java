@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.lucasjosino.hawapi.models.SeasonModel;
 import com.lucasjosino.hawapi.models.base.BaseTranslation;
 import com.lucasjosino.hawapi.validators.annotations.BasicURL;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
@@ -13,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "seasons_translations")
 @JsonIgnoreProperties("season_uuid")
 public class SeasonTranslation extends BaseTranslation {
@@ -0,0 +1,90 @@
+package com.lucasjosino.hawapi.models.user;
+
+import com.lucasjosino.hawapi.jwt.JwtRevocationList;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * A single revocation entry. Used to rebuild the {@link JwtRevocationList}.
+ *
+ * @author Lucas Josino
+ * @see RevocationType
+ * @since 1.2.0
+ */
+@Entity
+@Table(name = "revocations")
+public class RevocationModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RevocationType type;
+
+    @Column(nullable = false)
+    private String value;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    public RevocationModel() {
+    }
+
+    public RevocationModel(RevocationType type, String value, Instant revokedAt) {
+        this.type = type;
+        this.value = value;
+        this.revokedAt = revokedAt;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public RevocationType getType() {
+        return type;
+    }
+
+    public void setType(RevocationType type) {
+        this.type = type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Instant revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+
+    /**
+     * Values for the revocation type.
+     *
+     * @author Lucas Josino
+     * @since 1.2.0
+     */
+    public enum RevocationType {
+        /**
+         * A single token, identified by its id (jti).
+         */
+        TOKEN,
+        /**
+         * All tokens of a user (username) issued until the revocation time.
+         */
+        USER
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +30,8 @@ public interface ActorSocialRepository extends JpaRepository<ActorSocialModel, I
      * @return An {@link Optional} of {@link ActorSocialModel}
      * @since 1.0.0
      */
+    List<ActorSocialModel> findAllByActorUuid(UUID actorUuid);
+
     Optional<ActorSocialModel> findByActorUuidAndSocial(UUID actorUuid, String social);
 
     /**
@@ -0,0 +1,48 @@
+package com.lucasjosino.hawapi.repositories.auth;
+
+import com.lucasjosino.hawapi.models.user.RevocationModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Interface that implements the Revocation Repository, with JPA CRUD methods.
+ *
+ * @author Lucas Josino
+ * @see JpaRepository
+ * @see RevocationModel
+ * @since 1.2.0
+ */
+@Repository
+public interface RevocationRepository extends JpaRepository<RevocationModel, Integer> {
+
+    /**
+     * Method to get all revocations created after a specific time.
+     *
+     * @param revokedAt An {@link Instant} that represents the start time (exclusive)
+     * @return A {@link List} of {@link RevocationModel}
+     * @since 1.2.0
+     */
+    List<RevocationModel> findAllByRevokedAtAfter(Instant revokedAt);
+
+    /**
+     * Method to revoke a token only if it wasn't revoked before. Concurrent calls with the same token id will
+     * only insert a single row.
+     * <p>
+     * OBS: Native Query
+     *
+     * @param value     The token id (jti)
+     * @param revokedAt An {@link Instant} that represents the revocation time
+     * @return 1 if token was revoked, 0 if token was already revoked
+     * @since 1.2.0
+     */
+    @Modifying
+    @Query(value = "INSERT INTO revocations (type, value, revoked_at) VALUES ('TOKEN', :value, :revokedAt) " +
+            "ON CONFLICT (value) WHERE type = 'TOKEN' DO NOTHING", nativeQuery = true)
+    int insertTokenIfAbsent(@Param("value") String value, @Param("revokedAt") Instant revokedAt);
+}
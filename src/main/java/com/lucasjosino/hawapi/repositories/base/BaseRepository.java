@@ -1,6 +1,8 @@
 package com.lucasjosino.hawapi.repositories.base;
 
 import com.lucasjosino.hawapi.models.base.BaseModel;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
+import com.lucasjosino.hawapi.repositories.pagination.PageResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -21,4 +23,44 @@ public interface BaseRepository<M extends BaseModel, ID> {
      * @since 1.0.0
      */
     Page<UUID> findAllUUIDs(Specification<M> specification, Pageable pageable);
+
+    /**
+     * Method to get all items with filters, {@link Pageable} and {@link PageOptions}
+     * <ul>
+     *     <li>Keyset mode will ignore the page number and only supports the default sort (createdAt)</li>
+     *     <li>The total count is only queried when needed, and cached until the model is changed</li>
+     * </ul>
+     *
+     * @param specification An {@link Specification} with all filter params. Can be empty
+     * @param pageable      Cannot be null
+     * @param options       An {@link PageOptions} with keyset cursor and count options. Cannot be null
+     * @return An {@link List} of {@link UUID}. Will be a {@link PageResult} if keyset mode or count is disabled
+     * @since 1.2.0
+     */
+    Page<UUID> findAllUUIDs(Specification<M> specification, Pageable pageable, PageOptions options);
+
+    /**
+     * Method to get all items, and its translation, with filters, {@link Pageable} and {@link PageOptions}
+     * <p> Items and translations are fetched in a single query. Only models with a 'translation' table are supported
+     *
+     * @param specification An {@link Specification} with all filter params. Can be empty
+     * @param pageable      Cannot be null
+     * @param options       An {@link PageOptions} with keyset cursor and count options. Cannot be null
+     * @return An {@link Page} of {@link M}. Will be a {@link PageResult} if keyset mode or count is disabled
+     * @since 1.2.0
+     */
+    Page<M> findAllWithTranslation(Specification<M> specification, Pageable pageable, PageOptions options);
+
+    /**
+     * Method to get all item uuids, filtered by language, from an in-memory index
+     * <ul>
+     *     <li>The index is rebuilt (single query) on the first access after any write of the same model</li>
+     *     <li>Models without a 'translation' table will ignore the language</li>
+     * </ul>
+     *
+     * @param language An {@link String} that specify a language filter. Can be null
+     * @return An unmodifiable (random access) {@link List} of {@link UUID}
+     * @since 1.2.0
+     */
+    List<UUID> findAllIndexedUUIDs(String language);
 }
@@ -1,10 +1,22 @@
 package com.lucasjosino.hawapi.repositories.base.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lucasjosino.hawapi.core.ModelVersionRegistry;
+import com.lucasjosino.hawapi.exceptions.BadRequestException;
+import com.lucasjosino.hawapi.exceptions.InternalServerErrorException;
 import com.lucasjosino.hawapi.models.base.BaseModel;
 import com.lucasjosino.hawapi.repositories.base.BaseRepository;
+import com.lucasjosino.hawapi.repositories.pagination.KeysetCursor;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
+import com.lucasjosino.hawapi.repositories.pagination.PageResult;
+import com.lucasjosino.hawapi.repositories.specification.FilterKey;
+import com.lucasjosino.hawapi.repositories.specification.FilterSpecification;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
@@ -12,18 +24,51 @@ import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
-import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
-import javax.persistence.criteria.Root;
+import javax.persistence.criteria.*;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 public class BaseRepositoryImpl<M extends BaseModel, ID> extends SimpleJpaRepository<M, ID> implements BaseRepository<M, ID> {
 
+    private static final Sort defaultSort = Sort.by("createdAt").ascending();
+
+    private static final String TRANSLATION_ATTRIBUTE = "translation";
+
     private final JpaEntityInformation<M, ID> jpaEntityInformation;
 
     private final EntityManager entityManager;
 
+    /**
+     * Counts by (model version + canonical filter). Any write will increment the model version.
+     *
+     * @see ModelVersionRegistry
+     */
+    private final Cache<List<Object>, Long> countCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    /**
+     * All item uuids by (model version + language), used to select a random item. Any write will increment the model
+     * version and the index will be rebuilt on next access. Indexes of old versions are no longer read and expire.
+     *
+     * @see ModelVersionRegistry
+     */
+    private final Cache<List<Object>, List<UUID>> uuidIndexCache = Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
     @Autowired
     public BaseRepositoryImpl(
             JpaEntityInformation<M, ID> jpaEntityInformation,
@@ -36,20 +81,237 @@ public class BaseRepositoryImpl<M extends BaseModel, ID> extends SimpleJpaReposi
 
     @Override
     public Page<UUID> findAllUUIDs(Specification<M> specification, Pageable pageable) {
+        return findAllUUIDs(specification, pageable, PageOptions.DEFAULT);
+    }
+
+    @Override
+    public Page<UUID> findAllUUIDs(Specification<M> specification, Pageable pageable, PageOptions options) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<M> root = query.from(jpaEntityInformation.getJavaType());
+
+        query.multiselect(root.get("uuid"), root.get("createdAt"));
+        applyPagination(query, root, builder, specification.toPredicate(root, query, builder), pageable, options);
+
+        List<Tuple> rows = limit(entityManager.createQuery(query), pageable, options).getResultList();
+        return toPage(
+                rows,
+                pageable,
+                specification,
+                options,
+                row -> row.get(0, UUID.class),
+                row -> KeysetCursor.of(row.get(1, LocalDateTime.class), row.get(0, UUID.class))
+        );
+    }
+
+    @Override
+    public Page<M> findAllWithTranslation(Specification<M> specification, Pageable pageable, PageOptions options) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<M> query = builder.createQuery(jpaEntityInformation.getJavaType());
+        Root<M> root = query.from(jpaEntityInformation.getJavaType());
+
+        // The 'translation' fetch will be reused by the specification join. See 'FilterSpecification'.
+        //
+        // Only single-valued associations are fetched, so the page limit is still applied by the
+        // database and 'fail_on_pagination_over_collection_fetch' will never be triggered.
+        root.fetch(getTranslationAttribute(root.getModel()), JoinType.INNER);
+
+        query.select(root);
+        applyPagination(query, root, builder, specification.toPredicate(root, query, builder), pageable, options);
+
+        List<M> rows = limit(entityManager.createQuery(query), pageable, options).getResultList();
+        return toPage(
+                rows,
+                pageable,
+                specification,
+                options,
+                Function.identity(),
+                row -> KeysetCursor.of(row.getCreatedAt(), row.getUuid())
+        );
+    }
+
+    @Override
+    public List<UUID> findAllIndexedUUIDs(String language) {
+        Class<M> model = jpaEntityInformation.getJavaType();
+        long version = ModelVersionRegistry.get(model);
+
+        // Models without 'translation' table will ignore the language.
+        boolean translatable = language != null && isTranslatable(entityManager.getMetamodel().managedType(model));
+        String key = translatable ? language : "";
+
+        // Only one thread will build the index of the same version and language.
+        // Existing indexes are read without waiting.
+        return uuidIndexCache.get(Arrays.asList(version, key), k -> queryUUIDs(translatable ? language : null));
+    }
+
+    private List<UUID> queryUUIDs(String language) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
 
         CriteriaQuery<UUID> query = builder.createQuery(UUID.class);
         Root<M> root = query.from(jpaEntityInformation.getJavaType());
 
         query.select(root.get("uuid"));
-        query.where(specification.toPredicate(root, query, builder));
-        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        if (language != null) {
+            Join<M, Object> translation = root.join(TRANSLATION_ATTRIBUTE, JoinType.INNER);
+            query.where(builder.equal(translation.get("language"), language));
+        }
+
+        return Collections.unmodifiableList(new ArrayList<>(entityManager.createQuery(query).getResultList()));
+    }
+
+    /**
+     * Method to apply the filter predicate and sort. In keyset mode, the seek predicate will also be applied.
+     *
+     * @throws BadRequestException If keyset mode is used with a custom sort
+     * @since 1.2.0
+     */
+    private void applyPagination(
+            CriteriaQuery<?> query,
+            Root<M> root,
+            CriteriaBuilder builder,
+            Predicate predicate,
+            Pageable pageable,
+            PageOptions options
+    ) {
+        if (!options.isKeyset()) {
+            if (predicate != null) query.where(predicate);
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+            return;
+        }
+
+        if (pageable.getSort().isSorted() && !pageable.getSort().equals(defaultSort)) {
+            throw new BadRequestException("Param '" + KeysetCursor.PARAM + "' only supports the default sort");
+        }
+
+        KeysetCursor cursor = options.getCursor();
+        if (!cursor.isFirst()) {
+            Path<UUID> uuid = root.get("uuid");
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+
+            // Seek predicate: (created_at, uuid) > (:createdAt, :uuid)
+            Predicate seek = builder.or(
+                    builder.greaterThan(createdAt, cursor.getCreatedAt()),
+                    builder.and(
+                            builder.equal(createdAt, cursor.getCreatedAt()),
+                            builder.greaterThan(uuid, cursor.getUuid())
+                    )
+            );
+            predicate = predicate == null ? seek : builder.and(predicate, seek);
+        }
+
+        if (predicate != null) query.where(predicate);
+        query.orderBy(QueryUtils.toOrders(KeysetCursor.SORT, root, builder));
+    }
+
+    /**
+     * Method to define the query offset and limit.
+     * <p> If the count is not required (keyset mode or count disabled), one more item will be fetched to know if
+     * there's a next page.
+     *
+     * @since 1.2.0
+     */
+    private <R> TypedQuery<R> limit(TypedQuery<R> query, Pageable pageable, PageOptions options) {
+        if (!options.isKeyset()) query.setFirstResult((int) pageable.getOffset());
+
+        boolean fetchNext = options.isKeyset() || !options.isCount();
+        query.setMaxResults(pageable.getPageSize() + (fetchNext ? 1 : 0));
+        return query;
+    }
+
+    /**
+     * Method to build the page from all fetched rows.
+     *
+     * @param rows          All rows returned by a query defined with {@link #limit(TypedQuery, Pageable, PageOptions)}
+     * @param content       The function to convert a row into the page content
+     * @param cursor        The function to get the {@link KeysetCursor} of a row
+     * @return A {@link Page} or {@link PageResult} if keyset mode or count is disabled
+     * @since 1.2.0
+     */
+    private <R, T> Page<T> toPage(
+            List<R> rows,
+            Pageable pageable,
+            Specification<M> specification,
+            PageOptions options,
+            Function<R, T> content,
+            Function<R, KeysetCursor> cursor
+    ) {
+        if (!options.isKeyset() && options.isCount()) {
+            // The count will only be queried if it can't be computed from the page content.
+            return PageableExecutionUtils.getPage(map(rows, content), pageable, () -> getCount(specification));
+        }
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) rows = rows.subList(0, pageable.getPageSize());
+
+        List<T> items = map(rows, content);
+        if (!options.isKeyset()) {
+            long total = pageable.getOffset() + items.size() + (hasNext ? 1 : 0);
+            return new PageResult<>(items, pageable, total, false, hasNext, null);
+        }
+
+        KeysetCursor nextCursor = hasNext ? cursor.apply(rows.get(rows.size() - 1)) : null;
+
+        // Keyset pages are always the first page of the remaining items.
+        Pageable keysetPageable = PageRequest.of(0, pageable.getPageSize(), KeysetCursor.SORT);
+
+        long total = options.isCount() ? getCount(specification) : items.size() + (hasNext ? 1 : 0);
+        return new PageResult<>(items, keysetPageable, total, options.isCount(), hasNext, nextCursor);
+    }
+
+    private static <R, T> List<T> map(List<R> rows, Function<R, T> content) {
+        List<T> items = new ArrayList<>(rows.size());
+        for (R row : rows) {
+            items.add(content.apply(row));
+        }
+        return items;
+    }
+
+    /**
+     * Method to count all items using the cached value if the model wasn't changed.
+     *
+     * @param specification An {@link Specification} with all filter params
+     * @return The total of items
+     * @since 1.2.0
+     */
+    private long getCount(Specification<M> specification) {
+        if (!(specification instanceof FilterSpecification)) return this.count(specification);
+
+        long version = ModelVersionRegistry.get(jpaEntityInformation.getJavaType());
+        FilterKey filter = ((FilterSpecification<M>) specification).getKey();
+
+        return countCache.get(Arrays.asList(version, filter), k -> this.count(specification));
+    }
+
+    private static boolean isTranslatable(ManagedType<?> entity) {
+        try {
+            return !entity.getAttribute(TRANSLATION_ATTRIBUTE).isCollection();
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Method to validate and get the 'translation' attribute name.
+     *
+     * @throws InternalServerErrorException If entity doesn't have a single-valued 'translation' association
+     * @since 1.2.0
+     */
+    private static String getTranslationAttribute(ManagedType<?> entity) {
+        Attribute<?, ?> attribute = null;
+        try {
+            attribute = entity.getAttribute(TRANSLATION_ATTRIBUTE);
+        } catch (IllegalArgumentException ignored) {
+            // Handled below.
+        }
 
-        TypedQuery<UUID> futureRes = entityManager.createQuery(query);
-        futureRes.setFirstResult((int) pageable.getOffset());
-        futureRes.setMaxResults(pageable.getPageSize());
+        if (attribute == null || attribute.isCollection()) {
+            throw new InternalServerErrorException(
+                    "Entity '" + entity.getJavaType().getSimpleName() + "' doesn't have a single 'translation' table"
+            );
+        }
 
-        long count = this.count(specification);
-        return PageableExecutionUtils.getPage(futureRes.getResultList(), pageable, () -> count);
+        return attribute.getName();
     }
 }
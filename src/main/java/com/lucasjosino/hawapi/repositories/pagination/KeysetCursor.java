@@ -0,0 +1,145 @@
+package com.lucasjosino.hawapi.repositories.pagination;
+
+import com.lucasjosino.hawapi.exceptions.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * KeysetCursor represents the position of the last item returned by a keyset (seek) page.
+ * <p> The cursor is built on the default sort (createdAt) using the uuid as tiebreaker, and it's sent to the
+ * client as an opaque (base64) value. E.g:
+ * <ul>
+ *     <li>/api/v1/episodes?after=          -> First page, using keyset mode</li>
+ *     <li>/api/v1/episodes?after=[cursor]  -> Next page after [cursor]</li>
+ * </ul>
+ *
+ * @author Lucas Josino
+ * @see PageResult
+ * @since 1.2.0
+ */
+public final class KeysetCursor implements Serializable {
+
+    /**
+     * The request param used to enable keyset mode.
+     */
+    public static final String PARAM = "after";
+
+    /**
+     * The only sort supported by keyset mode.
+     */
+    public static final Sort SORT = Sort.by("createdAt").ascending().and(Sort.by("uuid").ascending());
+
+    /**
+     * Keyset mode without position, used to request the first page.
+     */
+    public static final KeysetCursor FIRST = new KeysetCursor(null, null);
+
+    private static final String SEPARATOR = "|";
+
+    private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    private final LocalDateTime createdAt;
+
+    private final UUID uuid;
+
+    private KeysetCursor(LocalDateTime createdAt, UUID uuid) {
+        this.createdAt = createdAt;
+        this.uuid = uuid;
+    }
+
+    public static KeysetCursor of(LocalDateTime createdAt, UUID uuid) {
+        return new KeysetCursor(Objects.requireNonNull(createdAt), Objects.requireNonNull(uuid));
+    }
+
+    /**
+     * Method to get the cursor from all request params.
+     *
+     * @param params All request params
+     * @return The decoded {@link KeysetCursor}, {@link #FIRST} if value is empty or null if not defined
+     * @throws BadRequestException If cursor is not valid
+     * @since 1.2.0
+     */
+    public static KeysetCursor from(Map<String, String> params) {
+        if (params == null || !params.containsKey(PARAM)) return null;
+
+        return decode(params.get(PARAM));
+    }
+
+    /**
+     * Method to decode an opaque cursor value.
+     *
+     * @param value The encoded value
+     * @return The decoded {@link KeysetCursor} or {@link #FIRST} if value is empty
+     * @throws BadRequestException If cursor is not valid
+     * @since 1.2.0
+     */
+    public static KeysetCursor decode(String value) {
+        if (value == null || value.isEmpty()) return FIRST;
+
+        try {
+            String decoded = new String(decoder.decode(value), StandardCharsets.UTF_8);
+            int index = decoded.indexOf(SEPARATOR);
+
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, index));
+            UUID uuid = UUID.fromString(decoded.substring(index + 1));
+            return new KeysetCursor(createdAt, uuid);
+        } catch (Exception exception) {
+            throw new BadRequestException("Invalid '" + PARAM + "' cursor value", exception);
+        }
+    }
+
+    /**
+     * Method to encode the cursor as an opaque value.
+     *
+     * @return The encoded cursor or an empty {@link String} if cursor is {@link #FIRST}
+     * @since 1.2.0
+     */
+    public String encode() {
+        if (isFirst()) return "";
+
+        String value = createdAt + SEPARATOR + uuid;
+        return encoder.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return createdAt == null;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        KeysetCursor that = (KeysetCursor) o;
+        return Objects.equals(createdAt, that.createdAt) && Objects.equals(uuid, that.uuid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, uuid);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor{" +
+                "createdAt=" + createdAt +
+                ", uuid=" + uuid +
+                '}';
+    }
+}
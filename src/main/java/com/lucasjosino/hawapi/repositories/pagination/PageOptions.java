@@ -0,0 +1,92 @@
+package com.lucasjosino.hawapi.repositories.pagination;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Extra pagination options defined by request params:
+ * <ul>
+ *     <li>after: Enable keyset mode. See {@link KeysetCursor}</li>
+ *     <li>count: If 'false', the total count will not be queried</li>
+ * </ul>
+ *
+ * @author Lucas Josino
+ * @see PageResult
+ * @since 1.2.0
+ */
+public final class PageOptions {
+
+    /**
+     * The request param used to disable the total count.
+     */
+    public static final String COUNT_PARAM = "count";
+
+    public static final PageOptions DEFAULT = new PageOptions(null, true);
+
+    private final KeysetCursor cursor;
+
+    private final boolean count;
+
+    private PageOptions(KeysetCursor cursor, boolean count) {
+        this.cursor = cursor;
+        this.count = count;
+    }
+
+    public static PageOptions of(KeysetCursor cursor, boolean count) {
+        return new PageOptions(cursor, count);
+    }
+
+    /**
+     * Method to get the options from all request params.
+     *
+     * @param params All request params
+     * @return A new {@link PageOptions} or {@link #DEFAULT} if no option is defined
+     * @throws com.lucasjosino.hawapi.exceptions.BadRequestException If cursor is not valid
+     * @since 1.2.0
+     */
+    public static PageOptions from(Map<String, String> params) {
+        if (params == null) return DEFAULT;
+
+        KeysetCursor cursor = KeysetCursor.from(params);
+        boolean count = !"false".equalsIgnoreCase(params.get(COUNT_PARAM));
+        if (cursor == null && count) return DEFAULT;
+
+        return new PageOptions(cursor, count);
+    }
+
+    /**
+     * @return The {@link KeysetCursor} or null if keyset mode is not enabled
+     */
+    public KeysetCursor getCursor() {
+        return cursor;
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    public boolean isCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PageOptions that = (PageOptions) o;
+        return count == that.count && Objects.equals(cursor, that.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cursor, count);
+    }
+
+    @Override
+    public String toString() {
+        return "PageOptions{" +
+                "cursor=" + cursor +
+                ", count=" + count +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+package com.lucasjosino.hawapi.repositories.pagination;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * A {@link PageImpl} returned when {@link PageOptions} are defined.
+ * <ul>
+ *     <li>Keyset mode: Holds the cursor of the next page</li>
+ *     <li>Without count: Total values are only estimated from the current page</li>
+ * </ul>
+ *
+ * @param <T> The page content type
+ * @author Lucas Josino
+ * @see PageOptions
+ * @see KeysetCursor
+ * @since 1.2.0
+ */
+public class PageResult<T> extends PageImpl<T> {
+
+    private final boolean counted;
+
+    private final boolean hasNext;
+
+    private final KeysetCursor nextCursor;
+
+    public PageResult(
+            List<T> content,
+            Pageable pageable,
+            long total,
+            boolean counted,
+            boolean hasNext,
+            KeysetCursor nextCursor
+    ) {
+        super(content, pageable, total);
+        this.counted = counted;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Method to create a new page, keeping all pagination values, with a different content.
+     *
+     * @param page    The source page
+     * @param content The new content. Should have the same size of the source page content
+     * @param <T>     The source page content type
+     * @param <U>     The new content type
+     * @return A new {@link Page}, or {@link PageResult} if source page is a {@link PageResult}
+     * @since 1.2.0
+     */
+    public static <T, U> Page<U> withContent(Page<T> page, List<U> content) {
+        if (!(page instanceof PageResult)) {
+            return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+        }
+
+        PageResult<T> result = (PageResult<T>) page;
+        return new PageResult<>(
+                content,
+                page.getPageable(),
+                page.getTotalElements(),
+                result.counted,
+                result.hasNext,
+                result.nextCursor
+        );
+    }
+
+    /**
+     * Method to get the cursor of the next page.
+     *
+     * @return The {@link KeysetCursor} of the last item or null if this is the last page or not in keyset mode
+     * @since 1.2.0
+     */
+    public KeysetCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Uncounted pages will only estimate 'totalElements' and 'totalPages'.
+     *
+     * @return true if total values were queried from the database
+     * @since 1.2.0
+     */
+    public boolean isCounted() {
+        return counted;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+}
@@ -0,0 +1,142 @@
+package com.lucasjosino.hawapi.repositories.specification;
+
+import com.lucasjosino.hawapi.filters.base.BaseFilter;
+import com.lucasjosino.hawapi.filters.base.BaseTranslationFilter;
+import com.lucasjosino.hawapi.repositories.specification.SpecificationBuilder.SegmentationType;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * FilterKey is the canonical (normalized) version of all request params used by a filter class.
+ * <ul>
+ *     <li>Only fields declared by the filter class (and language, if translatable) are kept</li>
+ *     <li>Values are trimmed and empty values are removed</li>
+ *     <li>IN/NOT_IN values are trimmed, sorted and deduplicated</li>
+ * </ul>
+ * Two requests with the same key will build the same query, E.g:
+ * <strong>?title=:b,a&page=2</strong> and <strong>?title=: a, b&foo=bar</strong>
+ * <p> The key is immutable and its hash is computed only once, it can be safely used as cache key.
+ *
+ * @author Lucas Josino
+ * @see FilterSpecification
+ * @since 1.2.0
+ */
+public final class FilterKey {
+
+    private static final String LANGUAGE = "language";
+
+    private static final ConcurrentMap<Class<? extends BaseFilter>, List<String>> fieldNames = new ConcurrentHashMap<>();
+
+    private final Class<? extends BaseFilter> filterClass;
+
+    private final SortedMap<String, String> params;
+
+    private final int hash;
+
+    private FilterKey(Class<? extends BaseFilter> filterClass, SortedMap<String, String> params) {
+        this.filterClass = filterClass;
+        this.params = Collections.unmodifiableSortedMap(params);
+        this.hash = 31 * filterClass.hashCode() + params.hashCode();
+    }
+
+    /**
+     * Method to get the canonical key of all request params.
+     *
+     * @param fClass The filter class
+     * @param params All request params. Unknown params will be ignored
+     * @return A new {@link FilterKey}
+     * @since 1.2.0
+     */
+    public static FilterKey of(Class<? extends BaseFilter> fClass, Map<String, String> params) {
+        SortedMap<String, String> canonical = new TreeMap<>();
+
+        if (BaseTranslationFilter.class.isAssignableFrom(fClass) && params.get(LANGUAGE) != null) {
+            canonical.put(LANGUAGE, params.get(LANGUAGE).trim());
+        }
+
+        for (String fieldName : getFieldNames(fClass)) {
+            String value = params.get(fieldName);
+            if (value == null) continue;
+
+            String normalized = normalize(value);
+            if (!normalized.isEmpty()) canonical.put(fieldName, normalized);
+        }
+
+        return new FilterKey(fClass, canonical);
+    }
+
+    /**
+     * Field from superclass will be ignored using 'getDeclaredFields'. See {@link FilterPlan}
+     */
+    private static List<String> getFieldNames(Class<? extends BaseFilter> fClass) {
+        List<String> names = fieldNames.get(fClass);
+        if (names != null) return names;
+
+        return fieldNames.computeIfAbsent(fClass, key -> {
+            List<String> declared = new ArrayList<>();
+            for (Field field : key.getDeclaredFields()) {
+                if (!field.isSynthetic()) declared.add(field.getName());
+            }
+            return Collections.unmodifiableList(declared);
+        });
+    }
+
+    /**
+     * Method to normalize a single value without changing its operator. See {@link SegmentationType#get(String)}
+     *
+     * @param value The raw request value
+     * @return The normalized value
+     * @since 1.2.0
+     */
+    static String normalize(String value) {
+        String trimmed = value.trim();
+
+        SegmentationType operator = SegmentationType.get(trimmed);
+        if (operator == SegmentationType.EQUALS || !trimmed.startsWith(operator.getValue())) return trimmed;
+
+        String operand = trimmed.substring(operator.getValue().length()).trim();
+        if (operator == SegmentationType.IN || operator == SegmentationType.NOT_IN) {
+            SortedSet<String> values = new TreeSet<>();
+            for (String item : operand.split(",")) {
+                if (!item.trim().isEmpty()) values.add(item.trim());
+            }
+            operand = String.join(",", values);
+        }
+
+        // The normalized value should always be parsed with the same operator.
+        String normalized = operator.getValue() + operand;
+        return SegmentationType.get(normalized) == operator ? normalized : trimmed;
+    }
+
+    public Class<? extends BaseFilter> getFilterClass() {
+        return filterClass;
+    }
+
+    /**
+     * @return An unmodifiable and sorted {@link Map} with all canonical params
+     */
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FilterKey that = (FilterKey) o;
+        return hash == that.hash && filterClass.equals(that.filterClass) && params.equals(that.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return filterClass.getSimpleName() + params;
+    }
+}
@@ -0,0 +1,192 @@
+package com.lucasjosino.hawapi.repositories.specification;
+
+import com.lucasjosino.hawapi.filters.base.BaseFilter;
+import com.lucasjosino.hawapi.filters.base.BaseTranslationFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.persistence.metamodel.Type;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * FilterPlan is the compiled version of a filter class (extended from {@link BaseFilter}).
+ * <p> Every filter field is resolved only once (per filter class) to its path (root or translation table), its
+ * Java type and its array-ness. Requests will only bind values to the already resolved fields.
+ *
+ * @author Lucas Josino
+ * @see SpecificationBuilder
+ * @see BaseFilter
+ * @since 1.2.0
+ */
+public final class FilterPlan {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterPlan.class);
+
+    private static final String TRANSLATION_ATTRIBUTE = "translation";
+
+    private static final ConcurrentMap<Class<? extends BaseFilter>, FilterPlan> registry = new ConcurrentHashMap<>();
+
+    private final Class<? extends BaseFilter> filterClass;
+
+    private final boolean translatable;
+
+    private final List<FilterField> fields;
+
+    private FilterPlan(Class<? extends BaseFilter> filterClass, boolean translatable, List<FilterField> fields) {
+        this.filterClass = filterClass;
+        this.translatable = translatable;
+        this.fields = Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Method to get the compiled plan of a filter class. The plan will be compiled on the first call.
+     *
+     * @param fClass The filter class
+     * @param entity The entity (root) that will be filtered
+     * @return The compiled and immutable {@link FilterPlan}
+     * @since 1.2.0
+     */
+    public static FilterPlan of(Class<? extends BaseFilter> fClass, ManagedType<?> entity) {
+        FilterPlan plan = registry.get(fClass);
+        if (plan != null) return plan;
+
+        return registry.computeIfAbsent(fClass, key -> compile(key, entity));
+    }
+
+    /**
+     * Method to compile a filter class against an entity metamodel.
+     * <p> Field from superclass will be ignored using 'getDeclaredFields'. E.g: language
+     *
+     * @param fClass The filter class
+     * @param entity The entity (root) that will be filtered
+     * @return A new {@link FilterPlan}
+     * @since 1.2.0
+     */
+    static FilterPlan compile(Class<? extends BaseFilter> fClass, ManagedType<?> entity) {
+        boolean translatable = BaseTranslationFilter.class.isAssignableFrom(fClass);
+
+        Set<String> rootAttributes = getAttributeNames(entity);
+        Set<String> translationAttributes = Collections.emptySet();
+        if (translatable && rootAttributes.contains(TRANSLATION_ATTRIBUTE)) {
+            Attribute<?, ?> translation = entity.getAttribute(TRANSLATION_ATTRIBUTE);
+            if (translation instanceof SingularAttribute) {
+                Type<?> type = ((SingularAttribute<?, ?>) translation).getType();
+                if (type instanceof ManagedType) translationAttributes = getAttributeNames((ManagedType<?>) type);
+            }
+        }
+
+        List<FilterField> fields = new ArrayList<>();
+        for (Field field : fClass.getDeclaredFields()) {
+            String fieldName = field.getName();
+
+            FieldSource source;
+            if (rootAttributes.contains(fieldName)) {
+                source = FieldSource.ROOT;
+            } else if (translationAttributes.contains(fieldName)) {
+                source = FieldSource.TRANSLATION;
+            } else {
+                log.warn(
+                        "Couldn't find field name neither from root and translation, skipping field: {}",
+                        fieldName
+                );
+                continue;
+            }
+
+            fields.add(new FilterField(fieldName, field.getType(), source));
+        }
+
+        log.debug("Compiled filter plan '{}' with fields: {}", fClass.getSimpleName(), fields);
+        return new FilterPlan(fClass, translatable, fields);
+    }
+
+    private static Set<String> getAttributeNames(ManagedType<?> type) {
+        Set<String> names = new HashSet<>();
+        for (Attribute<?, ?> attribute : type.getAttributes()) {
+            names.add(attribute.getName());
+        }
+        return names;
+    }
+
+    public Class<? extends BaseFilter> getFilterClass() {
+        return filterClass;
+    }
+
+    /**
+     * Models with multi-languages will require the 'translation' table.
+     *
+     * @return true if filter class is assignable from {@link BaseTranslationFilter}
+     * @since 1.2.0
+     */
+    public boolean isTranslatable() {
+        return translatable;
+    }
+
+    public List<FilterField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Where a filter field is located.
+     *
+     * @since 1.2.0
+     */
+    public enum FieldSource {
+        ROOT,
+        TRANSLATION
+    }
+
+    /**
+     * A single resolved filter field.
+     *
+     * @author Lucas Josino
+     * @since 1.2.0
+     */
+    public static final class FilterField {
+
+        private final String name;
+
+        private final Class<?> type;
+
+        private final boolean array;
+
+        private final FieldSource source;
+
+        FilterField(String name, Class<?> type, FieldSource source) {
+            this.name = name;
+            this.type = type;
+            this.array = type.isArray();
+            this.source = source;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public boolean isArray() {
+            return array;
+        }
+
+        public FieldSource getSource() {
+            return source;
+        }
+
+        @Override
+        public String toString() {
+            return "FilterField{" +
+                    "name='" + name + '\'' +
+                    ", type=" + type.getSimpleName() +
+                    ", source=" + source +
+                    '}';
+        }
+    }
+}
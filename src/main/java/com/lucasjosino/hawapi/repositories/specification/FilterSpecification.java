@@ -0,0 +1,264 @@
+package com.lucasjosino.hawapi.repositories.specification;
+
+import com.lucasjosino.hawapi.exceptions.InternalServerErrorException;
+import com.lucasjosino.hawapi.filters.base.BaseFilter;
+import com.lucasjosino.hawapi.models.base.BaseModel;
+import com.lucasjosino.hawapi.repositories.specification.SpecificationBuilder.SegmentationType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.*;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * FilterSpecification is an immutable, per-request {@link Specification} created by
+ * {@link SpecificationBuilder#with(Map, Class)}.
+ * <p> All (canonical) request values are copied on creation and the {@link CriteriaBuilder} is only used as a method argument,
+ * so the same instance can be safely used by multiple threads.
+ *
+ * @param <T> An object that extends {@link BaseModel}
+ * @author Lucas Josino
+ * @see SpecificationBuilder
+ * @see FilterPlan
+ * @since 1.2.0
+ */
+@SuppressWarnings({"NullableProblems", "unchecked", "rawtypes"})
+public final class FilterSpecification<T extends BaseModel> implements Specification<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterSpecification.class);
+
+    private final FilterKey key;
+
+    private final Map<String, String> params;
+
+    private final Class<? extends BaseFilter> fClass;
+
+    FilterSpecification(Map<String, String> params, Class<? extends BaseFilter> fClass) {
+        // Only canonical params are used, see 'FilterKey'.
+        this.key = FilterKey.of(fClass, params);
+        this.params = key.getParams();
+        this.fClass = fClass;
+    }
+
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    public Class<? extends BaseFilter> getFilterClass() {
+        return fClass;
+    }
+
+    /**
+     * Method to get the canonical key of this specification.
+     * <p> Any param not defined by the filter class (E.g: page, size, sort) is ignored. Two specifications with the
+     * same key will build the same query.
+     *
+     * @return The {@link FilterKey} of all used filters
+     * @since 1.2.0
+     */
+    public FilterKey getKey() {
+        return key;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        List<Predicate> predicates = new ArrayList<>();
+        try {
+            // Resolved only once per filter class. See 'FilterPlan#compile'.
+            FilterPlan plan = FilterPlan.of(fClass, root.getModel());
+
+            // Models with multi-languages will require the 'translation' table.
+            Join<T, Object> translation = null;
+            if (plan.isTranslatable()) {
+                log.debug("Filter class '{}' is assignable from 'BaseTranslationFilter'", fClass.getSimpleName());
+                translation = getOrCreateTranslationJoin(root);
+
+                // By default, 'language' is defined as 'en-US'. (Configured on the application properties)
+                String language = params.get("language");
+
+                // Language field defined as '*' will return all languages.
+                if (!language.equals("*")) {
+                    predicates.add(builder.equal(translation.get("language"), language));
+                }
+
+                log.debug("Defined language: {}", language);
+            }
+
+            for (FilterPlan.FilterField field : plan.getFields()) {
+                String fieldName = field.getName();
+                String fieldValue = params.get(fieldName);
+
+                if (fieldValue == null || fieldValue.isEmpty()) continue;
+
+                log.debug("Field '{}' has value: {}", fieldName, fieldValue);
+
+                // Fields are already resolved to 'root' or 'translation' table.
+                Path<?> expression;
+                if (field.getSource() == FilterPlan.FieldSource.TRANSLATION) {
+                    // Translation fields are only resolved for translatable plans.
+                    assert translation != null;
+                    expression = translation.get(fieldName);
+                } else {
+                    expression = root.get(fieldName);
+                }
+
+                Predicate predicate = createPredicate(builder, expression, fieldValue, field);
+                predicates.add(predicate);
+            }
+        } catch (Exception exception) {
+            String message = "Something went wrong while trying to build specification";
+            log.error(message + ": {}", exception.getMessage());
+            throw new InternalServerErrorException(message, exception);
+        }
+
+        return builder.and(predicates.toArray(new Predicate[0]));
+    }
+
+    /**
+     * Method to get the 'translation' join. If the query already fetches the translation (single query), the same
+     * join will be used, avoiding a second (and not filtered) join.
+     *
+     * @param root The entity (root) that will be filtered
+     * @return The 'translation' join
+     * @since 1.2.0
+     */
+    private Join<T, Object> getOrCreateTranslationJoin(Root<T> root) {
+        for (Fetch<T, ?> fetch : root.getFetches()) {
+            if (fetch instanceof Join && fetch.getAttribute().getName().equals("translation")) {
+                return (Join<T, Object>) fetch;
+            }
+        }
+
+        return root.join("translation", JoinType.INNER);
+    }
+
+    private Predicate createInPredicate(
+            CriteriaBuilder builder,
+            Expression expression,
+            String fieldValue,
+            FilterPlan.FilterField field,
+            boolean include
+    ) {
+        // Convert 'fieldValue' in a list of strings.
+        //
+        // E.g:
+        //  * IN(:)      = [..]?nicknames=:filter1,filter2 -> where <nicknames> in ('field1', 'field2')
+        //  * NOT_IN(!:) = [..]?gender=:!0                 -> where <gender> not in ('0')
+        String[] values = fieldValue.split(",");
+        Predicate predicate = builder.conjunction();
+        log.debug("In predicate should include: '{}'", include);
+
+        // Check if the field type is a list. If so, we need a different approach to search words in
+        // PostgreSQL array.
+        if (field.isArray()) {
+            log.debug("Creating a postgres 'array_position' with predicate values: {}", fieldValue);
+
+            for (String value : values) {
+                // Function: array_position(anyarray, anyelement [, int])
+                //
+                // "Returns the subscript of the first occurrence of the second argument in
+                // the array, starting at the element indicated by the third argument or at
+                // the first element (array must be one-dimensional)"
+                //
+                // Ref¹: https://www.postgresql.org/docs/9.5/functions-array.html
+                // Ref²: https://stackoverflow.com/a/67372002/14500144
+                Expression<?> pos = builder.function(
+                        "array_position",
+                        String.class,
+                        expression,
+                        builder.literal(value)
+                );
+
+                // Join predicates.
+                predicate = builder.and(predicate, include ? builder.isNotNull(pos) : builder.isNull(pos));
+            }
+
+            return predicate;
+        }
+
+        log.debug("Creating predicate with values: {}", fieldValue);
+        // Normal 'in/not in' query.
+        predicate = expression.in(Arrays.asList(values));
+        return include ? predicate : builder.not(predicate);
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate createBetweenPredicate(
+            CriteriaBuilder builder,
+            Expression expression,
+            String fieldValue,
+            Class<?> fieldType
+    ) {
+        String[] values = fieldValue.split(SegmentationType.BETWEEN.getValue());
+
+        // By default, both 'start' and 'end' values will be strings.
+        Comparable<?> startValue = values[0];
+        Comparable<?> endValue = values[1];
+        log.debug("Between predicate values: Start '{}' - End '{}'", startValue, endValue);
+
+        // Convert the 'startValue' and 'endValue' into predefined field filter.
+
+        if (fieldType.isAssignableFrom(Integer.class)) {
+            startValue = Integer.parseInt(values[0]);
+            endValue = Integer.parseInt(values[1]);
+        }
+
+        if (fieldType.isAssignableFrom(Byte.class)) {
+            startValue = Byte.parseByte(values[0]);
+            endValue = Byte.parseByte(values[1]);
+        }
+
+        if (fieldType.isAssignableFrom(LocalDate.class)) {
+            startValue = LocalDate.parse(values[0]);
+            endValue = LocalDate.parse(values[1]);
+        }
+
+        return builder.between(expression, (Y) startValue, (Y) endValue);
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate createPredicate(
+            CriteriaBuilder builder,
+            Expression expression,
+            String fieldValue,
+            FilterPlan.FilterField field
+    ) {
+        log.debug("Creating predicate with class type '{}'", field.getType().getSimpleName());
+        SegmentationType operator = SegmentationType.get(fieldValue);
+
+        // Remove the operator from 'fieldValue'.
+        //
+        // E.g:
+        //  * LIKE(*)          = "*John"  -> "John"
+        //  * GREATER_THAN(>)  = ">0"     -> "0"
+        //  * NOT_EQUALS(!)    = "!Lorem" -> "Lorem"
+        String value = fieldValue.substring(operator.getValue().length());
+
+        log.debug("Predicate type '{}' defined with '{}' and value '{}'", operator, operator.getValue(), value);
+        switch (operator) {
+            case LIKE:
+                return builder.like(expression, "%" + value + "%");
+            case NOT_LIKE:
+                return builder.notLike(expression, "%" + value + "%");
+            case BETWEEN:
+                return createBetweenPredicate(builder, expression, fieldValue, field.getType());
+            case NOT_IN:
+                return createInPredicate(builder, expression, value, field, false);
+            case IN:
+                return createInPredicate(builder, expression, value, field, true);
+            case GREATER_THAN:
+                return builder.greaterThan(expression, (Y) value);
+            case LESS_THAN:
+                return builder.lessThan(expression, (Y) value);
+            case GREATER_OR_EQUALS_TO:
+                return builder.greaterThanOrEqualTo(expression, (Y) value);
+            case LESS_OR_EQUALS_TO:
+                return builder.lessThanOrEqualTo(expression, (Y) value);
+            case NOT_EQUALS:
+                return builder.notEqual(expression, value);
+            case EQUALS:
+            default:
+                return builder.equal(expression, value);
+        }
+    }
+}
@@ -8,12 +8,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.jpa.domain.Specification;
 
-import javax.persistence.criteria.*;
-import java.lang.reflect.Field;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
 import java.util.Map;
 
 /**
@@ -25,33 +21,28 @@ import java.util.Map;
  * @author Lucas Josino
  * @see Specification
  * @see BaseModel
+ * @see FilterSpecification
+ * @see FilterPlan
  * @since 1.0.0
  */
 @SuppressWarnings({"NullableProblems", "unchecked", "rawtypes"})
-public class SpecificationBuilder<T extends BaseModel> implements Specification<T> {
+public class SpecificationBuilder<T extends BaseModel> {
 
     private static final Logger log = LoggerFactory.getLogger(SpecificationBuilder.class);
 
-    private CriteriaBuilder builder;
-
-    private Map<String, String> params;
-
-    private Class<? extends BaseFilter> fClass;
-
     public SpecificationBuilder() {}
 
     /**
-     * Initialize all the required params to build the query filter.
+     * Create a specification filter with all the required params to build the query filter.
+     * <p> The builder itself doesn't hold any state, every call will return a new immutable {@link Specification}.
      *
      * @param params All filters
      * @param fClass The filter class
-     * @return The specification builder with defined params
+     * @return A new {@link FilterSpecification} with defined params
      * @since 1.0.0
      */
-    public <S extends BaseFilter> SpecificationBuilder<T> with(Map<String, String> params, Class<S> fClass) {
-        this.params = params;
-        this.fClass = fClass;
-        return this;
+    public <S extends BaseFilter> Specification<T> with(Map<String, String> params, Class<S> fClass) {
+        return new FilterSpecification<>(params, fClass);
     }
 
     /**
@@ -77,196 +68,6 @@ public class SpecificationBuilder<T extends BaseModel> implements Specification<
         };
     }
 
-    @Override
-    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
-        List<Predicate> predicates = new ArrayList<>();
-        try {
-            this.builder = builder;
-
-            // Models with multi-languages will require the 'translation' table.
-            Join<T, Object> translation = null;
-            if (BaseTranslationFilter.class.isAssignableFrom(fClass)) {
-                log.debug("Filter class '{}' is assignable from 'BaseTranslationFilter'", fClass.getSimpleName());
-                translation = root.join("translation", JoinType.INNER);
-
-                // By default, 'language' is defined as 'en-US'. (Configured on the application properties)
-                String language = params.get("language");
-
-                // Language field defined as '*' will return all languages.
-                if (!language.equals("*")) {
-                    predicates.add(builder.equal(translation.get("language"), language));
-                }
-
-                log.debug("Defined language: {}", language);
-            }
-
-            // Loop over all fields from 'fClass'.
-            //
-            // Field from superclass will be ignored using 'getDeclaredFields'. E.g: language
-            for (Field field : fClass.getDeclaredFields()) {
-                String fieldName = field.getName();
-                String fieldValue = params.get(fieldName);
-
-                if (fieldValue == null || fieldValue.isEmpty()) {
-                    log.debug("Field '{}' has null or empty value. Skipping...", fieldName);
-                    continue;
-                }
-
-                log.debug("Field '{}' has value: {}", fieldName, fieldValue);
-
-                // Calling 'root.get' using a non-existing 'fieldName' will throw 'IllegalArgumentException'.
-                // If this happens, try to get from 'translation' table.
-                Path<?> expression;
-                try {
-                    expression = root.get(fieldName);
-                    log.debug("Getting value from root");
-                } catch (IllegalArgumentException argumentException) {
-                    log.debug("Field '{}' not found on root. Getting value from translation", fieldName);
-                    // If 'fieldName' is unknown from 'root' and 'translation' is null, skip this field.
-                    if (translation == null) {
-                        log.warn(
-                                "Couldn't find field name neither from root and translation, skipping field: {}",
-                                fieldName
-                        );
-                        continue;
-                    }
-
-                    expression = translation.get(fieldName);
-                    log.debug("Getting value from translation");
-                }
-
-                Predicate predicate = createPredicate(expression, fieldValue, field.getType());
-                predicates.add(predicate);
-            }
-        } catch (Exception exception) {
-            String message = "Something went wrong while trying to build specification";
-            log.error(message + ": {}", exception.getMessage());
-            throw new InternalServerErrorException(message, exception);
-        }
-
-        return builder.and(predicates.toArray(new Predicate[0]));
-    }
-
-    private Predicate createInPredicate(Expression expression, String fieldValue, Class<?> fieldType, boolean include) {
-        // Convert 'fieldValue' in a list of strings.
-        //
-        // E.g:
-        //  * IN(:)      = [..]?nicknames=:filter1,filter2 -> where <nicknames> in ('field1', 'field2')
-        //  * NOT_IN(!:) = [..]?gender=:!0                 -> where <gender> not in ('0')
-        String[] values = fieldValue.split(",");
-        Predicate predicate = builder.conjunction();
-        log.debug("In predicate should include: '{}'", include);
-
-        // Check if the field type is a list. If so, we need a different approach to search words in
-        // PostgreSQL array.
-        if (fieldType.isAssignableFrom(String[].class)) {
-            log.debug("Creating a postgres 'array_position' with predicate values: {}", fieldValue);
-
-            for (String value : values) {
-                // Function: array_position(anyarray, anyelement [, int])
-                //
-                // "Returns the subscript of the first occurrence of the second argument in
-                // the array, starting at the element indicated by the third argument or at
-                // the first element (array must be one-dimensional)"
-                //
-                // Ref¹: https://www.postgresql.org/docs/9.5/functions-array.html
-                // Ref²: https://stackoverflow.com/a/67372002/14500144
-                Expression<?> pos = builder.function(
-                        "array_position",
-                        String.class,
-                        expression,
-                        builder.literal(value)
-                );
-
-                // Join predicates.
-                predicate = builder.and(predicate, include ? builder.isNotNull(pos) : builder.isNull(pos));
-            }
-
-            return predicate;
-        }
-
-        log.debug("Creating predicate with values: {}", fieldValue);
-        // Normal 'in/not in' query.
-        predicate = expression.in(Arrays.asList(values));
-        return include ? predicate : builder.not(predicate);
-    }
-
-    private <Y extends Comparable<? super Y>> Predicate createBetweenPredicate(
-            Expression expression,
-            String fieldValue,
-            Class<?> fieldType
-    ) {
-        String[] values = fieldValue.split(SegmentationType.BETWEEN.getValue());
-
-        // By default, both 'start' and 'end' values will be strings.
-        Comparable<?> startValue = values[0];
-        Comparable<?> endValue = values[1];
-        log.debug("Between predicate values: Start '{}' - End '{}'", startValue, endValue);
-
-        // Convert the 'startValue' and 'endValue' into predefined field filter.
-
-        if (fieldType.isAssignableFrom(Integer.class)) {
-            startValue = Integer.parseInt(values[0]);
-            endValue = Integer.parseInt(values[1]);
-        }
-
-        if (fieldType.isAssignableFrom(Byte.class)) {
-            startValue = Byte.parseByte(values[0]);
-            endValue = Byte.parseByte(values[1]);
-        }
-
-        if (fieldType.isAssignableFrom(LocalDate.class)) {
-            startValue = LocalDate.parse(values[0]);
-            endValue = LocalDate.parse(values[1]);
-        }
-
-        return builder.between(expression, (Y) startValue, (Y) endValue);
-    }
-
-    private <Y extends Comparable<? super Y>> Predicate createPredicate(
-            Expression expression,
-            String fieldValue,
-            Class<?> fieldType
-    ) {
-        log.debug("Creating predicate with class type '{}'", fieldType.getSimpleName());
-        SegmentationType operator = SegmentationType.get(fieldValue);
-
-        // Remove the operator from 'fieldValue'.
-        //
-        // E.g:
-        //  * LIKE(*)          = "*John"  -> "John"
-        //  * GREATER_THAN(>)  = ">0"     -> "0"
-        //  * NOT_EQUALS(!)    = "!Lorem" -> "Lorem"
-        String value = fieldValue.substring(operator.getValue().length());
-
-        log.debug("Predicate type '{}' defined with '{}' and value '{}'", operator, operator.getValue(), value);
-        switch (operator) {
-            case LIKE:
-                return builder.like(expression, "%" + value + "%");
-            case NOT_LIKE:
-                return builder.notLike(expression, "%" + value + "%");
-            case BETWEEN:
-                return createBetweenPredicate(expression, fieldValue, fieldType);
-            case NOT_IN:
-                return createInPredicate(expression, value, fieldType, false);
-            case IN:
-                return createInPredicate(expression, value, fieldType, true);
-            case GREATER_THAN:
-                return builder.greaterThan(expression, (Y) value);
-            case LESS_THAN:
-                return builder.lessThan(expression, (Y) value);
-            case GREATER_OR_EQUALS_TO:
-                return builder.greaterThanOrEqualTo(expression, (Y) value);
-            case LESS_OR_EQUALS_TO:
-                return builder.lessThanOrEqualTo(expression, (Y) value);
-            case NOT_EQUALS:
-                return builder.notEqual(expression, value);
-            case EQUALS:
-            default:
-                return builder.equal(expression, value);
-        }
-    }
-
     /**
      * Values for the API filtering parameter.
      *
@@ -287,6 +88,8 @@ public class SpecificationBuilder<T extends BaseModel> implements Specification<
         NOT_EQUALS("!"),
         EQUALS("");
 
+        private static final SegmentationType[] operators = values();
+
         private final String value;
 
         SegmentationType(String value) {
@@ -301,7 +104,7 @@ public class SpecificationBuilder<T extends BaseModel> implements Specification<
          */
         public static SegmentationType get(String value) {
             // TODO: Check for false result.
-            for (SegmentationType operator : SegmentationType.values()) {
+            for (SegmentationType operator : operators) {
                 if (value.startsWith(operator.getValue()) || value.contains(operator.getValue())) return operator;
             }
             return SegmentationType.EQUALS;
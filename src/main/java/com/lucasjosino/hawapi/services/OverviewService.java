@@ -2,45 +2,46 @@ package com.lucasjosino.hawapi.services;
 
 import com.lucasjosino.hawapi.models.dto.OverviewDTO;
 import com.lucasjosino.hawapi.models.dto.translation.OverviewTranslationDTO;
+import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.List;
 
+@CacheConfig(cacheResolver = "entityCacheResolver")
 public interface OverviewService {
 
-    @Cacheable(value = "findAllTranslation", key = "{ #root.methodName }")
+    @Cacheable(value = "findAllTranslation", key = "{ #root.methodName }", sync = true)
     List<OverviewTranslationDTO> findAllOverviewTranslations();
 
-    @Cacheable(value = "findBy", key = "{ #root.methodName, #language }")
+    @Cacheable(value = "findBy", key = "{ #root.methodName, #language }", sync = true)
     OverviewDTO findOverviewBy(String language);
 
-    @Cacheable(value = "findTranslationBy", key = "{ #root.methodName, #language }")
+    @Cacheable(value = "findTranslationBy", key = "{ #root.methodName, #language }", sync = true)
     OverviewTranslationDTO findOverviewTranslationBy(String language);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAll", "findBy"}, allEntries = true)
+    @CacheEvict(cacheNames = "findBy", allEntries = true)
     OverviewDTO saveOverview(OverviewDTO dto);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAllTranslation", "findTranslationBy", "findAll", "findBy"}, allEntries = true)
+    @CacheEvict(cacheNames = {"findAllTranslation", "findTranslationBy", "findBy"}, allEntries = true)
     OverviewTranslationDTO saveOverviewTranslation(String defaultLanguage, OverviewTranslationDTO dto);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAll", "findBy"}, allEntries = true)
-    void patchOverview(OverviewDTO patch) throws IOException;
+    @CacheEvict(cacheNames = "findBy", allEntries = true)
+    void patchOverview(OverviewDTO patch);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAllTranslation", "findTranslationBy", "findAll", "findBy"}, allEntries = true)
-    void patchOverviewTranslation(String language, OverviewTranslationDTO patch) throws IOException;
+    @CacheEvict(cacheNames = {"findAllTranslation", "findTranslationBy", "findBy"}, allEntries = true)
+    void patchOverviewTranslation(String language, OverviewTranslationDTO patch);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAll", "findBy"}, allEntries = true)
+    @CacheEvict(cacheNames = "findBy", allEntries = true)
     void deleteOverview();
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAllTranslation", "findTranslationBy", "findAll", "findBy"}, allEntries = true)
+    @CacheEvict(cacheNames = {"findAllTranslation", "findTranslationBy", "findBy"}, allEntries = true)
     void deleteOverviewTranslation(String language);
 }
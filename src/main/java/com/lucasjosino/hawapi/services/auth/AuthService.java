@@ -1,5 +1,6 @@
 package com.lucasjosino.hawapi.services.auth;
 
+import com.lucasjosino.hawapi.models.dto.auth.RefreshTokenDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserAuthDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserRegistrationDTO;
@@ -12,6 +13,12 @@ public interface AuthService {
 
     UserDTO authenticate(UserAuthDTO userAuth);
 
+    @Transactional
+    UserDTO refresh(RefreshTokenDTO refresh);
+
     @Transactional
     void delete(UserAuthDTO userAuth);
+
+    @Transactional
+    void revoke();
 }
@@ -1,13 +1,16 @@
 package com.lucasjosino.hawapi.services.base;
 
+import com.lucasjosino.hawapi.core.cache.EntityCacheResolver;
+import com.lucasjosino.hawapi.filters.base.BaseFilter;
 import com.lucasjosino.hawapi.models.base.BaseDTO;
+import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -19,31 +22,44 @@ import java.util.UUID;
  * @author Lucas Josino
  * @see Transactional
  * @see Cacheable
+ * @see EntityCacheResolver
  * @see Pageable
  * @since 1.0.0
  */
+@CacheConfig(cacheResolver = "entityCacheResolver")
 public interface BaseService<D extends BaseDTO> {
 
-    @Cacheable(value = "findAll", key = "{ #root.targetClass, #root.methodName, #p0, #p1 }")
+    Class<? extends BaseFilter> getFilterClass();
+
+    @Cacheable(value = "findAll", keyGenerator = "filterKeyGenerator", sync = true)
     Page<UUID> findAllUUIDs(Map<String, String> filters, Pageable pageable);
 
-    @Cacheable(value = "findAll", key = "{ #root.targetClass, #root.methodName, #p0.getPageable() }")
+    @Cacheable(value = "findAll", key = "{ #root.methodName, #p0.getContent() }", sync = true)
     List<D> findAll(Page<UUID> uuids) throws NoSuchMethodException;
 
     D findRandom(String language);
 
-    @Cacheable(value = "findBy", key = "{ #p0, #p1 }")
+    @Cacheable(value = "findBy", key = "{ #p0, #p1 }", sync = true)
     D findBy(UUID uuid, String language);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAll", "findBy"}, allEntries = true)
+    @CacheEvict(cacheNames = "findAll", allEntries = true)
     D save(D dto);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAll", "findBy"}, allEntries = true)
-    void patch(UUID uuid, D patch) throws IOException;
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "findAll", allEntries = true),
+            @CacheEvict(cacheNames = "findBy", key = "#p0")
+    })
+    void patch(UUID uuid, D patch);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAll", "findBy"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "findAll", allEntries = true),
+            @CacheEvict(
+                    cacheNames = {"findBy", "findAllTranslation", "findTranslationBy", "findAllSocial", "findSocialBy"},
+                    key = "#p0"
+            )
+    })
     void deleteById(UUID uuid);
 }
@@ -1,15 +1,18 @@
 package com.lucasjosino.hawapi.services.base;
 
+import com.lucasjosino.hawapi.core.cache.EntityCacheResolver;
 import com.lucasjosino.hawapi.models.base.BaseDTO;
 import com.lucasjosino.hawapi.models.base.BaseTranslationDTO;
+import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -20,10 +23,12 @@ import java.util.UUID;
  * @author Lucas Josino
  * @see Transactional
  * @see Cacheable
+ * @see EntityCacheResolver
  * @see Pageable
  * @see BaseService
  * @since 1.0.0
  */
+@CacheConfig(cacheResolver = "entityCacheResolver")
 public interface BaseTranslationService<D extends BaseDTO, T extends BaseTranslationDTO> extends BaseService<D> {
 
     @Override
@@ -31,26 +36,35 @@ public interface BaseTranslationService<D extends BaseDTO, T extends BaseTransla
         throw new NoSuchMethodException();
     }
 
-    @Cacheable(value = "findAll", key = "{ #root.targetClass, #root.methodName, #p0, #p1.getPageable() }")
-    List<D> findAll(String language, Page<UUID> uuids);
+    @Cacheable(value = "findAll", keyGenerator = "filterKeyGenerator", sync = true)
+    Page<D> findAll(Map<String, String> filters, Pageable pageable);
 
-    @Cacheable(value = "findAllTranslation")
+    @Cacheable(value = "findAllTranslation", sync = true)
     List<T> findAllTranslationsBy(UUID uuid);
 
     T findRandomTranslation(UUID uuid);
 
-    @Cacheable(value = "findTranslationBy", key = "{ #uuid, #language }")
+    @Cacheable(value = "findTranslationBy", key = "{ #uuid, #language }", sync = true)
     T findTranslationBy(UUID uuid, String language);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAllTranslation", "findTranslationBy", "findAll", "findBy"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "findAll", allEntries = true),
+            @CacheEvict(cacheNames = {"findBy", "findAllTranslation", "findTranslationBy"}, key = "#p0")
+    })
     T saveTranslation(UUID uuid, T dto);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAllTranslation", "findTranslationBy", "findAll", "findBy"}, allEntries = true)
-    void patchTranslation(UUID uuid, String language, T patch) throws IOException;
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "findAll", allEntries = true),
+            @CacheEvict(cacheNames = {"findBy", "findAllTranslation", "findTranslationBy"}, key = "#p0")
+    })
+    void patchTranslation(UUID uuid, String language, T patch);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAllTranslation", "findTranslationBy", "findAll", "findBy"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "findAll", allEntries = true),
+            @CacheEvict(cacheNames = {"findBy", "findAllTranslation", "findTranslationBy"}, key = "#p0")
+    })
     void deleteTranslation(UUID uuid, String language);
 }
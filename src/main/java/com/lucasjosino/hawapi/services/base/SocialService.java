@@ -1,12 +1,14 @@
 package com.lucasjosino.hawapi.services.base;
 
+import com.lucasjosino.hawapi.core.cache.EntityCacheResolver;
 import com.lucasjosino.hawapi.models.dto.ActorSocialDTO;
+import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,28 +18,39 @@ import java.util.UUID;
  * @author Lucas Josino
  * @see Transactional
  * @see Cacheable
+ * @see EntityCacheResolver
  * @see Pageable
  * @since 1.0.0
  */
+@CacheConfig(cacheResolver = "entityCacheResolver")
 public interface SocialService {
 
-    @Cacheable(value = "findAllSocial")
+    @Cacheable(value = "findAllSocial", sync = true)
     List<ActorSocialDTO> findAllSocials(UUID uuid);
 
     ActorSocialDTO findRandomSocial(UUID uuid);
 
-    @Cacheable(value = "findSocialBy", key = "{ #uuid, #name }")
+    @Cacheable(value = "findSocialBy", key = "{ #uuid, #name }", sync = true)
     ActorSocialDTO findSocialBy(UUID uuid, String name);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAllSocial", "findSocialBy", "findAll", "findBy"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "findAll", allEntries = true),
+            @CacheEvict(cacheNames = {"findBy", "findAllSocial", "findSocialBy"}, key = "#p0")
+    })
     ActorSocialDTO saveSocial(UUID uuid, ActorSocialDTO dto);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAllSocial", "findSocialBy", "findAll", "findBy"}, allEntries = true)
-    void patchSocial(UUID uuid, String name, ActorSocialDTO patch) throws IOException;
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "findAll", allEntries = true),
+            @CacheEvict(cacheNames = {"findBy", "findAllSocial", "findSocialBy"}, key = "#p0")
+    })
+    void patchSocial(UUID uuid, String name, ActorSocialDTO patch);
 
     @Transactional
-    @CacheEvict(cacheNames = {"findAllSocial", "findSocialBy", "findAll", "findBy"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "findAll", allEntries = true),
+            @CacheEvict(cacheNames = {"findBy", "findAllSocial", "findSocialBy"}, key = "#p0")
+    })
     void deleteSocial(UUID uuid, String name);
 }
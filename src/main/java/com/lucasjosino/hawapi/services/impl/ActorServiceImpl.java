@@ -7,20 +7,19 @@ import com.lucasjosino.hawapi.models.ActorModel;
 import com.lucasjosino.hawapi.models.ActorSocialModel;
 import com.lucasjosino.hawapi.models.dto.ActorDTO;
 import com.lucasjosino.hawapi.models.dto.ActorSocialDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.repositories.ActorRepository;
 import com.lucasjosino.hawapi.repositories.ActorSocialRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
 import com.lucasjosino.hawapi.repositories.specification.SpecificationBuilder;
 import com.lucasjosino.hawapi.services.ActorService;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
 
 /**
@@ -41,7 +40,7 @@ public class ActorServiceImpl implements ActorService {
 
     private final ServiceUtils utils;
 
-    private final ModelMapper modelMapper;
+    private final EntityMapper mapper;
 
     private final ActorRepository repository;
 
@@ -53,17 +52,28 @@ public class ActorServiceImpl implements ActorService {
             ActorRepository repository,
             ServiceUtils utils,
             OpenAPIProperty config,
-            ModelMapper modelMapper,
+            EntityMapper mapper,
             ActorSocialRepository socialRepository
     ) {
         this.random = random;
         this.utils = utils;
         this.repository = repository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
         this.basePath = config.getApiBaseUrl() + "/actors";
         this.socialRepository = socialRepository;
     }
 
+    /**
+     * Method that get the actor filter class
+     *
+     * @return ActorFilter
+     * @since 1.2.0
+     */
+    @Override
+    public Class<ActorFilter> getFilterClass() {
+        return ActorFilter.class;
+    }
+
     /**
      * Method that get all actor uuids with filters and {@link Pageable}
      *
@@ -74,7 +84,8 @@ public class ActorServiceImpl implements ActorService {
      */
     @Override
     public Page<UUID> findAllUUIDs(Map<String, String> filters, Pageable pageable) {
-        return repository.findAllUUIDs(spec.with(filters, ActorFilter.class), pageable);
+        PageOptions options = PageOptions.from(filters);
+        return repository.findAllUUIDs(spec.with(filters, getFilterClass()), pageable, options);
     }
 
     /**
@@ -86,7 +97,7 @@ public class ActorServiceImpl implements ActorService {
     @Override
     public List<ActorDTO> findAll(Page<UUID> uuids) {
         List<ActorModel> res = repository.findAllByUuidIn(uuids.getContent(), uuids.getSort());
-        return Arrays.asList(modelMapper.map(res, ActorDTO[].class));
+        return Arrays.asList(mapper.map(res, ActorDTO[].class));
     }
 
     /**
@@ -100,7 +111,7 @@ public class ActorServiceImpl implements ActorService {
         existsByIdOrThrow(uuid);
 
         List<ActorSocialModel> res = socialRepository.findAll();
-        return Arrays.asList(modelMapper.map(res, ActorSocialDTO[].class));
+        return Arrays.asList(mapper.map(res, ActorSocialDTO[].class));
     }
 
     /**
@@ -111,13 +122,11 @@ public class ActorServiceImpl implements ActorService {
      */
     @Override
     public ActorDTO findRandom(String language) {
-        long count = utils.getCountOrThrow(repository.count());
-        int index = random.nextInt((int) count);
+        List<UUID> uuids = repository.findAllIndexedUUIDs(null);
+        int index = random.nextInt((int) utils.getCountOrThrow(uuids.size()));
 
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<ActorModel> page = repository.findAll(singleAndRandomItem);
-
-        return modelMapper.map(page.getContent().get(0), ActorDTO.class);
+        ActorModel res = repository.findById(uuids.get(index)).orElseThrow(ItemNotFoundException::new);
+        return mapper.map(res, ActorDTO.class);
     }
 
     /**
@@ -130,13 +139,11 @@ public class ActorServiceImpl implements ActorService {
     public ActorSocialDTO findRandomSocial(UUID uuid) {
         existsByIdOrThrow(uuid);
 
-        long count = utils.getCountOrThrow(socialRepository.count());
-        int index = random.nextInt((int) count);
-
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<ActorSocialModel> page = socialRepository.findAll(singleAndRandomItem);
+        // Only socials of this actor.
+        List<ActorSocialModel> res = socialRepository.findAllByActorUuid(uuid);
+        int index = random.nextInt((int) utils.getCountOrThrow(res.size()));
 
-        return modelMapper.map(page.getContent().get(0), ActorSocialDTO.class);
+        return mapper.map(res.get(index), ActorSocialDTO.class);
     }
 
     /**
@@ -148,7 +155,7 @@ public class ActorServiceImpl implements ActorService {
     @Override
     public ActorDTO findBy(UUID uuid, String language) {
         ActorModel res = repository.findById(uuid).orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, ActorDTO.class);
+        return mapper.map(res, ActorDTO.class);
     }
 
     /**
@@ -161,7 +168,7 @@ public class ActorServiceImpl implements ActorService {
     public ActorSocialDTO findSocialBy(UUID uuid, String name) {
         ActorSocialModel res = socialRepository.findByActorUuidAndSocial(uuid, name)
                 .orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, ActorSocialDTO.class);
+        return mapper.map(res, ActorSocialDTO.class);
     }
 
     /**
@@ -176,14 +183,14 @@ public class ActorServiceImpl implements ActorService {
         dto.setUuid(uuid);
         dto.setHref(basePath + "/" + uuid);
 
-        ActorModel dtoToModel = modelMapper.map(dto, ActorModel.class);
+        ActorModel dtoToModel = mapper.map(dto, ActorModel.class);
         if (dto.getSocials() != null && !dto.getSocials().isEmpty()) {
             dtoToModel.getSocials().forEach(actorSocial -> actorSocial.setActorUuid(uuid));
         }
 
         ActorModel res = repository.save(dtoToModel);
 
-        return modelMapper.map(res, ActorDTO.class);
+        return mapper.map(res, ActorDTO.class);
     }
 
     /**
@@ -198,12 +205,12 @@ public class ActorServiceImpl implements ActorService {
             throw new ItemNotFoundException("Item '" + uuid + "' doesn't exist!");
         }
 
-        ActorSocialModel dtoToModel = modelMapper.map(dto, ActorSocialModel.class);
+        ActorSocialModel dtoToModel = mapper.map(dto, ActorSocialModel.class);
         dtoToModel.setActorUuid(uuid);
 
         ActorSocialModel res = socialRepository.save(dtoToModel);
 
-        return modelMapper.map(res, ActorSocialDTO.class);
+        return mapper.map(res, ActorSocialDTO.class);
     }
 
     /**
@@ -213,11 +220,10 @@ public class ActorServiceImpl implements ActorService {
      * @since 1.0.0
      */
     @Override
-    public void patch(UUID uuid, ActorDTO patch) throws IOException {
+    public void patch(UUID uuid, ActorDTO patch) {
         ActorModel dbRes = repository.findById(uuid).orElseThrow(ItemNotFoundException::new);
 
-        ActorModel dtoToModel = modelMapper.map(dbRes, ActorModel.class);
-        ActorModel patchedModel = utils.merge(dtoToModel, patch);
+        ActorModel patchedModel = utils.merge(dbRes, patch);
 
         patchedModel.setUuid(uuid);
         repository.save(patchedModel);
@@ -230,12 +236,11 @@ public class ActorServiceImpl implements ActorService {
      * @since 1.0.0
      */
     @Override
-    public void patchSocial(UUID uuid, String name, ActorSocialDTO patch) throws IOException {
+    public void patchSocial(UUID uuid, String name, ActorSocialDTO patch) {
         ActorSocialModel dbRes = socialRepository.findByActorUuidAndSocial(uuid, name)
                 .orElseThrow(ItemNotFoundException::new);
 
-        ActorSocialModel dtoToModel = modelMapper.map(dbRes, ActorSocialModel.class);
-        ActorSocialModel patchedModel = utils.merge(dtoToModel, patch);
+        ActorSocialModel patchedModel = utils.merge(dbRes, patch);
 
         patchedModel.setActorUuid(uuid);
         socialRepository.save(patchedModel);
@@ -5,19 +5,18 @@ import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.filters.CharacterFilter;
 import com.lucasjosino.hawapi.models.CharacterModel;
 import com.lucasjosino.hawapi.models.dto.CharacterDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.repositories.CharacterRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
 import com.lucasjosino.hawapi.repositories.specification.SpecificationBuilder;
 import com.lucasjosino.hawapi.services.CharacterService;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
 
 /**
@@ -38,7 +37,7 @@ public class CharacterServiceImpl implements CharacterService {
 
     private final ServiceUtils utils;
 
-    private final ModelMapper modelMapper;
+    private final EntityMapper mapper;
 
     private final CharacterRepository repository;
 
@@ -46,16 +45,27 @@ public class CharacterServiceImpl implements CharacterService {
     public CharacterServiceImpl(
             Random random, ServiceUtils utils,
             OpenAPIProperty config,
-            ModelMapper modelMapper,
+            EntityMapper mapper,
             CharacterRepository repository
     ) {
         this.random = random;
         this.utils = utils;
         this.repository = repository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
         this.basePath = config.getApiBaseUrl() + "/characters";
     }
 
+    /**
+     * Method that get the character filter class
+     *
+     * @return CharacterFilter
+     * @since 1.2.0
+     */
+    @Override
+    public Class<CharacterFilter> getFilterClass() {
+        return CharacterFilter.class;
+    }
+
     /**
      * Method that get all character uuids with filters and {@link Pageable}
      *
@@ -65,7 +75,8 @@ public class CharacterServiceImpl implements CharacterService {
      * @since 1.0.0
      */
     public Page<UUID> findAllUUIDs(Map<String, String> filters, Pageable pageable) {
-        return repository.findAllUUIDs(spec.with(filters, CharacterFilter.class), pageable);
+        PageOptions options = PageOptions.from(filters);
+        return repository.findAllUUIDs(spec.with(filters, getFilterClass()), pageable, options);
     }
 
     /**
@@ -76,7 +87,7 @@ public class CharacterServiceImpl implements CharacterService {
      */
     public List<CharacterDTO> findAll(Page<UUID> uuids) {
         List<CharacterModel> res = repository.findAllByUuidIn(uuids.getContent(), uuids.getSort());
-        return Arrays.asList(modelMapper.map(res, CharacterDTO[].class));
+        return Arrays.asList(mapper.map(res, CharacterDTO[].class));
     }
 
     /**
@@ -86,13 +97,11 @@ public class CharacterServiceImpl implements CharacterService {
      * @since 1.0.0
      */
     public CharacterDTO findRandom(String language) {
-        long count = utils.getCountOrThrow(repository.count());
-        int index = random.nextInt((int) count);
-
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<CharacterModel> page = repository.findAll(singleAndRandomItem);
+        List<UUID> uuids = repository.findAllIndexedUUIDs(null);
+        int index = random.nextInt((int) utils.getCountOrThrow(uuids.size()));
 
-        return modelMapper.map(page.getContent().get(0), CharacterDTO.class);
+        CharacterModel res = repository.findById(uuids.get(index)).orElseThrow(ItemNotFoundException::new);
+        return mapper.map(res, CharacterDTO.class);
     }
 
     /**
@@ -103,7 +112,7 @@ public class CharacterServiceImpl implements CharacterService {
      */
     public CharacterDTO findBy(UUID uuid, String language) {
         CharacterModel res = repository.findById(uuid).orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, CharacterDTO.class);
+        return mapper.map(res, CharacterDTO.class);
     }
 
     /**
@@ -117,10 +126,10 @@ public class CharacterServiceImpl implements CharacterService {
         dto.setUuid(uuid);
         dto.setHref(basePath + "/" + uuid);
 
-        CharacterModel dtoToModel = modelMapper.map(dto, CharacterModel.class);
+        CharacterModel dtoToModel = mapper.map(dto, CharacterModel.class);
         CharacterModel res = repository.save(dtoToModel);
 
-        return modelMapper.map(res, CharacterDTO.class);
+        return mapper.map(res, CharacterDTO.class);
     }
 
     /**
@@ -129,11 +138,10 @@ public class CharacterServiceImpl implements CharacterService {
      * @see CharacterController#patch(UUID, CharacterDTO)
      * @since 1.0.0
      */
-    public void patch(UUID uuid, CharacterDTO patch) throws IOException {
+    public void patch(UUID uuid, CharacterDTO patch) {
         CharacterModel dbRes = repository.findById(uuid).orElseThrow(ItemNotFoundException::new);
 
-        CharacterModel dtoToModel = modelMapper.map(dbRes, CharacterModel.class);
-        CharacterModel patchedModel = utils.merge(dtoToModel, patch);
+        CharacterModel patchedModel = utils.merge(dbRes, patch);
 
         patchedModel.setUuid(uuid);
         repository.save(patchedModel);
@@ -9,21 +9,21 @@ import com.lucasjosino.hawapi.filters.EpisodeFilter;
 import com.lucasjosino.hawapi.models.EpisodeModel;
 import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
 import com.lucasjosino.hawapi.models.dto.translation.EpisodeTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
 import com.lucasjosino.hawapi.repositories.EpisodeRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
+import com.lucasjosino.hawapi.repositories.pagination.PageResult;
 import com.lucasjosino.hawapi.repositories.specification.SpecificationBuilder;
 import com.lucasjosino.hawapi.repositories.translation.EpisodeTranslationRepository;
 import com.lucasjosino.hawapi.services.EpisodeService;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
 
 /**
@@ -44,7 +44,7 @@ public class EpisodeServiceImpl implements EpisodeService {
 
     private final ServiceUtils utils;
 
-    private final ModelMapper modelMapper;
+    private final EntityMapper mapper;
 
     private final EpisodeRepository repository;
 
@@ -55,17 +55,28 @@ public class EpisodeServiceImpl implements EpisodeService {
             Random random, EpisodeRepository repository,
             ServiceUtils utils,
             OpenAPIProperty config,
-            ModelMapper modelMapper,
+            EntityMapper mapper,
             EpisodeTranslationRepository translationRepository
     ) {
         this.random = random;
         this.utils = utils;
         this.repository = repository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
         this.translationRepository = translationRepository;
         this.basePath = config.getApiBaseUrl() + "/episodes";
     }
 
+    /**
+     * Method that get the episode filter class
+     *
+     * @return EpisodeFilter
+     * @since 1.2.0
+     */
+    @Override
+    public Class<EpisodeFilter> getFilterClass() {
+        return EpisodeFilter.class;
+    }
+
     /**
      * Method that get all episode uuids with filters and {@link Pageable}
      *
@@ -75,7 +86,8 @@ public class EpisodeServiceImpl implements EpisodeService {
      * @since 1.0.0
      */
     public Page<UUID> findAllUUIDs(Map<String, String> filters, Pageable pageable) {
-        return repository.findAllUUIDs(spec.with(filters, EpisodeFilter.class), pageable);
+        PageOptions options = PageOptions.from(filters);
+        return repository.findAllUUIDs(spec.with(filters, getFilterClass()), pageable, options);
     }
 
     /**
@@ -84,13 +96,15 @@ public class EpisodeServiceImpl implements EpisodeService {
      * @see EpisodeController#findAll(Map, Pageable)
      * @since 1.0.0
      */
-    public List<EpisodeDTO> findAll(String language, Page<UUID> uuids) {
-        List<EpisodeModel> res = repository.findAllByTranslationLanguageAndUuidIn(
-                language,
-                uuids.getContent(),
-                uuids.getSort()
+    public Page<EpisodeDTO> findAll(Map<String, String> filters, Pageable pageable) {
+        Page<EpisodeModel> res = repository.findAllWithTranslation(
+                spec.with(filters, getFilterClass()),
+                pageable,
+                PageOptions.from(filters)
         );
-        return Arrays.asList(modelMapper.map(res, EpisodeDTO[].class));
+
+        List<EpisodeDTO> content = Arrays.asList(mapper.map(res.getContent(), EpisodeDTO[].class));
+        return PageResult.withContent(res, content);
     }
 
     /**
@@ -100,13 +114,13 @@ public class EpisodeServiceImpl implements EpisodeService {
      * @since 1.0.0
      */
     public EpisodeDTO findRandom(String language) {
-        long count = utils.getCountOrThrow(repository.count());
-        int index = random.nextInt((int) count);
+        List<UUID> uuids = repository.findAllIndexedUUIDs(language);
+        int index = random.nextInt((int) utils.getCountOrThrow(uuids.size()));
 
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<EpisodeModel> page = repository.findAll(spec.withTranslation(language), singleAndRandomItem);
+        EpisodeModel res = repository.findByUuidAndTranslationLanguage(uuids.get(index), language)
+                .orElseThrow(ItemNotFoundException::new);
 
-        return modelMapper.map(page.getContent().get(0), EpisodeDTO.class);
+        return mapper.map(res, EpisodeDTO.class);
     }
 
     /**
@@ -119,7 +133,7 @@ public class EpisodeServiceImpl implements EpisodeService {
         existsByIdOrThrow(uuid);
 
         List<EpisodeTranslation> res = translationRepository.findAllByEpisodeUuid(uuid);
-        return Arrays.asList(modelMapper.map(res, EpisodeTranslationDTO[].class));
+        return Arrays.asList(mapper.map(res, EpisodeTranslationDTO[].class));
     }
 
     /**
@@ -131,13 +145,11 @@ public class EpisodeServiceImpl implements EpisodeService {
     public EpisodeTranslationDTO findRandomTranslation(UUID uuid) {
         existsByIdOrThrow(uuid);
 
-        long count = utils.getCountOrThrow(translationRepository.count());
-        int index = random.nextInt((int) count);
-
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<EpisodeTranslation> page = translationRepository.findAllByEpisodeUuid(uuid, singleAndRandomItem);
+        // Only translations of this item, usually a few languages.
+        List<EpisodeTranslation> res = translationRepository.findAllByEpisodeUuid(uuid);
+        int index = random.nextInt((int) utils.getCountOrThrow(res.size()));
 
-        return modelMapper.map(page.getContent().get(0), EpisodeTranslationDTO.class);
+        return mapper.map(res.get(index), EpisodeTranslationDTO.class);
     }
 
     /**
@@ -150,7 +162,7 @@ public class EpisodeServiceImpl implements EpisodeService {
         EpisodeModel res = repository
                 .findByUuidAndTranslationLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, EpisodeDTO.class);
+        return mapper.map(res, EpisodeDTO.class);
     }
 
     /**
@@ -163,7 +175,7 @@ public class EpisodeServiceImpl implements EpisodeService {
         EpisodeTranslation res = translationRepository
                 .findByEpisodeUuidAndLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, EpisodeTranslationDTO.class);
+        return mapper.map(res, EpisodeTranslationDTO.class);
     }
 
     /**
@@ -179,12 +191,12 @@ public class EpisodeServiceImpl implements EpisodeService {
 
         validateRequest(uuid, dto.getLanguage());
 
-        EpisodeModel dtoToModel = modelMapper.map(dto, EpisodeModel.class);
+        EpisodeModel dtoToModel = mapper.map(dto, EpisodeModel.class);
         dtoToModel.getTranslation().setEpisodeUuid(uuid);
 
         EpisodeModel res = repository.save(dtoToModel);
 
-        return modelMapper.map(res, EpisodeDTO.class);
+        return mapper.map(res, EpisodeDTO.class);
     }
 
     /**
@@ -200,12 +212,12 @@ public class EpisodeServiceImpl implements EpisodeService {
 
         validateRequest(uuid, dto.getLanguage());
 
-        EpisodeTranslation dtoToModel = modelMapper.map(dto, EpisodeTranslation.class);
+        EpisodeTranslation dtoToModel = mapper.map(dto, EpisodeTranslation.class);
         dtoToModel.setEpisodeUuid(uuid);
 
         EpisodeTranslation res = translationRepository.save(dtoToModel);
 
-        return modelMapper.map(res, EpisodeTranslationDTO.class);
+        return mapper.map(res, EpisodeTranslationDTO.class);
     }
 
     /**
@@ -214,12 +226,11 @@ public class EpisodeServiceImpl implements EpisodeService {
      * @see EpisodeController#patch(UUID, EpisodeDTO)
      * @since 1.0.0
      */
-    public void patch(UUID uuid, EpisodeDTO patch) throws IOException {
+    public void patch(UUID uuid, EpisodeDTO patch) {
         EpisodeModel dbRes = repository.findByUuidAndTranslationLanguage(uuid, patch.getLanguage())
                 .orElseThrow(ItemNotFoundException::new);
 
-        EpisodeModel dtoToModel = modelMapper.map(dbRes, EpisodeModel.class);
-        EpisodeModel patchedModel = utils.merge(dtoToModel, patch);
+        EpisodeModel patchedModel = utils.merge(dbRes, patch);
 
         patchedModel.setUuid(uuid);
         repository.save(patchedModel);
@@ -231,7 +242,7 @@ public class EpisodeServiceImpl implements EpisodeService {
      * @see EpisodeController#patchTranslation(UUID, String, EpisodeTranslationDTO)
      * @since 1.0.0
      */
-    public void patchTranslation(UUID uuid, String language, EpisodeTranslationDTO patch) throws IOException {
+    public void patchTranslation(UUID uuid, String language, EpisodeTranslationDTO patch) {
         EpisodeTranslation translation = translationRepository.findByEpisodeUuidAndLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
 
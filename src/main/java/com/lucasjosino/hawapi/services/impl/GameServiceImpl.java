@@ -9,21 +9,21 @@ import com.lucasjosino.hawapi.filters.GameFilter;
 import com.lucasjosino.hawapi.models.GameModel;
 import com.lucasjosino.hawapi.models.dto.GameDTO;
 import com.lucasjosino.hawapi.models.dto.translation.GameTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.GameTranslation;
 import com.lucasjosino.hawapi.repositories.GameRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
+import com.lucasjosino.hawapi.repositories.pagination.PageResult;
 import com.lucasjosino.hawapi.repositories.specification.SpecificationBuilder;
 import com.lucasjosino.hawapi.repositories.translation.GameTranslationRepository;
 import com.lucasjosino.hawapi.services.GameService;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
 
 /**
@@ -44,7 +44,7 @@ public class GameServiceImpl implements GameService {
 
     private final ServiceUtils utils;
 
-    private final ModelMapper modelMapper;
+    private final EntityMapper mapper;
 
     private final GameRepository repository;
 
@@ -55,17 +55,28 @@ public class GameServiceImpl implements GameService {
             Random random, GameRepository repository,
             ServiceUtils utils,
             OpenAPIProperty config,
-            ModelMapper modelMapper,
+            EntityMapper mapper,
             GameTranslationRepository translationRepository
     ) {
         this.random = random;
         this.utils = utils;
         this.repository = repository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
         this.translationRepository = translationRepository;
         this.basePath = config.getApiBaseUrl() + "/games";
     }
 
+    /**
+     * Method that get the game filter class
+     *
+     * @return GameFilter
+     * @since 1.2.0
+     */
+    @Override
+    public Class<GameFilter> getFilterClass() {
+        return GameFilter.class;
+    }
+
     /**
      * Method that get all game uuids with filters and {@link Pageable}
      *
@@ -75,7 +86,8 @@ public class GameServiceImpl implements GameService {
      * @since 1.0.0
      */
     public Page<UUID> findAllUUIDs(Map<String, String> filters, Pageable pageable) {
-        return repository.findAllUUIDs(spec.with(filters, GameFilter.class), pageable);
+        PageOptions options = PageOptions.from(filters);
+        return repository.findAllUUIDs(spec.with(filters, getFilterClass()), pageable, options);
     }
 
     /**
@@ -84,13 +96,15 @@ public class GameServiceImpl implements GameService {
      * @see GameController#findAll(Map, Pageable)
      * @since 1.0.0
      */
-    public List<GameDTO> findAll(String language, Page<UUID> uuids) {
-        List<GameModel> res = repository.findAllByTranslationLanguageAndUuidIn(
-                language,
-                uuids.getContent(),
-                uuids.getSort()
+    public Page<GameDTO> findAll(Map<String, String> filters, Pageable pageable) {
+        Page<GameModel> res = repository.findAllWithTranslation(
+                spec.with(filters, getFilterClass()),
+                pageable,
+                PageOptions.from(filters)
         );
-        return Arrays.asList(modelMapper.map(res, GameDTO[].class));
+
+        List<GameDTO> content = Arrays.asList(mapper.map(res.getContent(), GameDTO[].class));
+        return PageResult.withContent(res, content);
     }
 
     /**
@@ -100,13 +114,13 @@ public class GameServiceImpl implements GameService {
      * @since 1.0.0
      */
     public GameDTO findRandom(String language) {
-        long count = utils.getCountOrThrow(repository.count());
-        int index = random.nextInt((int) count);
+        List<UUID> uuids = repository.findAllIndexedUUIDs(language);
+        int index = random.nextInt((int) utils.getCountOrThrow(uuids.size()));
 
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<GameModel> page = repository.findAll(spec.withTranslation(language), singleAndRandomItem);
+        GameModel res = repository.findByUuidAndTranslationLanguage(uuids.get(index), language)
+                .orElseThrow(ItemNotFoundException::new);
 
-        return modelMapper.map(page.getContent().get(0), GameDTO.class);
+        return mapper.map(res, GameDTO.class);
     }
 
     /**
@@ -119,7 +133,7 @@ public class GameServiceImpl implements GameService {
         existsByIdOrThrow(uuid);
 
         List<GameTranslation> res = translationRepository.findAllByGameUuid(uuid);
-        return Arrays.asList(modelMapper.map(res, GameTranslationDTO[].class));
+        return Arrays.asList(mapper.map(res, GameTranslationDTO[].class));
     }
 
     /**
@@ -131,13 +145,11 @@ public class GameServiceImpl implements GameService {
     public GameTranslationDTO findRandomTranslation(UUID uuid) {
         existsByIdOrThrow(uuid);
 
-        long count = utils.getCountOrThrow(translationRepository.count());
-        int index = random.nextInt((int) count);
-
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<GameTranslation> page = translationRepository.findAllByGameUuid(uuid, singleAndRandomItem);
+        // Only translations of this item, usually a few languages.
+        List<GameTranslation> res = translationRepository.findAllByGameUuid(uuid);
+        int index = random.nextInt((int) utils.getCountOrThrow(res.size()));
 
-        return modelMapper.map(page.getContent().get(0), GameTranslationDTO.class);
+        return mapper.map(res.get(index), GameTranslationDTO.class);
     }
 
     /**
@@ -150,7 +162,7 @@ public class GameServiceImpl implements GameService {
         GameModel res = repository
                 .findByUuidAndTranslationLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, GameDTO.class);
+        return mapper.map(res, GameDTO.class);
     }
 
     /**
@@ -163,7 +175,7 @@ public class GameServiceImpl implements GameService {
         GameTranslation res = translationRepository
                 .findByGameUuidAndLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, GameTranslationDTO.class);
+        return mapper.map(res, GameTranslationDTO.class);
     }
 
     /**
@@ -179,12 +191,12 @@ public class GameServiceImpl implements GameService {
 
         validateRequest(uuid, dto.getLanguage());
 
-        GameModel dtoToModel = modelMapper.map(dto, GameModel.class);
+        GameModel dtoToModel = mapper.map(dto, GameModel.class);
         dtoToModel.getTranslation().setGameUuid(uuid);
 
         GameModel res = repository.save(dtoToModel);
 
-        return modelMapper.map(res, GameDTO.class);
+        return mapper.map(res, GameDTO.class);
     }
 
     /**
@@ -200,12 +212,12 @@ public class GameServiceImpl implements GameService {
 
         validateRequest(uuid, dto.getLanguage());
 
-        GameTranslation dtoToModel = modelMapper.map(dto, GameTranslation.class);
+        GameTranslation dtoToModel = mapper.map(dto, GameTranslation.class);
         dtoToModel.setGameUuid(uuid);
 
         GameTranslation res = translationRepository.save(dtoToModel);
 
-        return modelMapper.map(res, GameTranslationDTO.class);
+        return mapper.map(res, GameTranslationDTO.class);
     }
 
     /**
@@ -214,12 +226,11 @@ public class GameServiceImpl implements GameService {
      * @see GameController#patch(UUID, GameDTO)
      * @since 1.0.0
      */
-    public void patch(UUID uuid, GameDTO patch) throws IOException {
+    public void patch(UUID uuid, GameDTO patch) {
         GameModel dbRes = repository.findByUuidAndTranslationLanguage(uuid, patch.getLanguage())
                 .orElseThrow(ItemNotFoundException::new);
 
-        GameModel dtoToModel = modelMapper.map(dbRes, GameModel.class);
-        GameModel patchedModel = utils.merge(dtoToModel, patch);
+        GameModel patchedModel = utils.merge(dbRes, patch);
 
         patchedModel.setUuid(uuid);
         repository.save(patchedModel);
@@ -231,7 +242,7 @@ public class GameServiceImpl implements GameService {
      * @see GameController#patchTranslation(UUID, String, GameTranslationDTO)
      * @since 1.0.0
      */
-    public void patchTranslation(UUID uuid, String language, GameTranslationDTO patch) throws IOException {
+    public void patchTranslation(UUID uuid, String language, GameTranslationDTO patch) {
         GameTranslation translation = translationRepository.findByGameUuidAndLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
 
@@ -9,21 +9,21 @@ import com.lucasjosino.hawapi.filters.LocationFilter;
 import com.lucasjosino.hawapi.models.LocationModel;
 import com.lucasjosino.hawapi.models.dto.LocationDTO;
 import com.lucasjosino.hawapi.models.dto.translation.LocationTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.LocationTranslation;
 import com.lucasjosino.hawapi.repositories.LocationRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
+import com.lucasjosino.hawapi.repositories.pagination.PageResult;
 import com.lucasjosino.hawapi.repositories.specification.SpecificationBuilder;
 import com.lucasjosino.hawapi.repositories.translation.LocationTranslationRepository;
 import com.lucasjosino.hawapi.services.LocationService;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
 
 /**
@@ -44,7 +44,7 @@ public class LocationServiceImpl implements LocationService {
 
     private final ServiceUtils utils;
 
-    private final ModelMapper modelMapper;
+    private final EntityMapper mapper;
 
     private final LocationRepository repository;
 
@@ -55,16 +55,27 @@ public class LocationServiceImpl implements LocationService {
             Random random, LocationRepository repository,
             ServiceUtils utils,
             OpenAPIProperty config,
-            ModelMapper modelMapper, LocationTranslationRepository translationRepository
+            EntityMapper mapper, LocationTranslationRepository translationRepository
     ) {
         this.random = random;
         this.utils = utils;
         this.repository = repository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
         this.translationRepository = translationRepository;
         this.basePath = config.getApiBaseUrl() + "/locations";
     }
 
+    /**
+     * Method that get the location filter class
+     *
+     * @return LocationFilter
+     * @since 1.2.0
+     */
+    @Override
+    public Class<LocationFilter> getFilterClass() {
+        return LocationFilter.class;
+    }
+
     /**
      * Method that get all location uuids with filters and {@link Pageable}
      *
@@ -74,7 +85,8 @@ public class LocationServiceImpl implements LocationService {
      * @since 1.0.0
      */
     public Page<UUID> findAllUUIDs(Map<String, String> filters, Pageable pageable) {
-        return repository.findAllUUIDs(spec.with(filters, LocationFilter.class), pageable);
+        PageOptions options = PageOptions.from(filters);
+        return repository.findAllUUIDs(spec.with(filters, getFilterClass()), pageable, options);
     }
 
     /**
@@ -83,13 +95,15 @@ public class LocationServiceImpl implements LocationService {
      * @see LocationController#findAll(Map, Pageable)
      * @since 1.0.0
      */
-    public List<LocationDTO> findAll(String language, Page<UUID> uuids) {
-        List<LocationModel> res = repository.findAllByTranslationLanguageAndUuidIn(
-                language,
-                uuids.getContent(),
-                uuids.getSort()
+    public Page<LocationDTO> findAll(Map<String, String> filters, Pageable pageable) {
+        Page<LocationModel> res = repository.findAllWithTranslation(
+                spec.with(filters, getFilterClass()),
+                pageable,
+                PageOptions.from(filters)
         );
-        return Arrays.asList(modelMapper.map(res, LocationDTO[].class));
+
+        List<LocationDTO> content = Arrays.asList(mapper.map(res.getContent(), LocationDTO[].class));
+        return PageResult.withContent(res, content);
     }
 
     /**
@@ -99,13 +113,13 @@ public class LocationServiceImpl implements LocationService {
      * @since 1.0.0
      */
     public LocationDTO findRandom(String language) {
-        long count = utils.getCountOrThrow(repository.count());
-        int index = random.nextInt((int) count);
+        List<UUID> uuids = repository.findAllIndexedUUIDs(language);
+        int index = random.nextInt((int) utils.getCountOrThrow(uuids.size()));
 
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<LocationModel> page = repository.findAll(spec.withTranslation(language), singleAndRandomItem);
+        LocationModel res = repository.findByUuidAndTranslationLanguage(uuids.get(index), language)
+                .orElseThrow(ItemNotFoundException::new);
 
-        return modelMapper.map(page.getContent().get(0), LocationDTO.class);
+        return mapper.map(res, LocationDTO.class);
     }
 
     /**
@@ -118,7 +132,7 @@ public class LocationServiceImpl implements LocationService {
         existsByIdOrThrow(uuid);
 
         List<LocationTranslation> res = translationRepository.findAllByLocationUuid(uuid);
-        return Arrays.asList(modelMapper.map(res, LocationTranslationDTO[].class));
+        return Arrays.asList(mapper.map(res, LocationTranslationDTO[].class));
     }
 
     /**
@@ -130,13 +144,11 @@ public class LocationServiceImpl implements LocationService {
     public LocationTranslationDTO findRandomTranslation(UUID uuid) {
         existsByIdOrThrow(uuid);
 
-        long count = utils.getCountOrThrow(translationRepository.count());
-        int index = random.nextInt((int) count);
-
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<LocationTranslation> page = translationRepository.findAllByLocationUuid(uuid, singleAndRandomItem);
+        // Only translations of this item, usually a few languages.
+        List<LocationTranslation> res = translationRepository.findAllByLocationUuid(uuid);
+        int index = random.nextInt((int) utils.getCountOrThrow(res.size()));
 
-        return modelMapper.map(page.getContent().get(0), LocationTranslationDTO.class);
+        return mapper.map(res.get(index), LocationTranslationDTO.class);
     }
 
     /**
@@ -149,7 +161,7 @@ public class LocationServiceImpl implements LocationService {
         LocationModel res = repository
                 .findByUuidAndTranslationLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, LocationDTO.class);
+        return mapper.map(res, LocationDTO.class);
     }
 
     /**
@@ -162,7 +174,7 @@ public class LocationServiceImpl implements LocationService {
         LocationTranslation res = translationRepository
                 .findByLocationUuidAndLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, LocationTranslationDTO.class);
+        return mapper.map(res, LocationTranslationDTO.class);
     }
 
     /**
@@ -178,12 +190,12 @@ public class LocationServiceImpl implements LocationService {
 
         validateRequest(uuid, dto.getLanguage());
 
-        LocationModel dtoToModel = modelMapper.map(dto, LocationModel.class);
+        LocationModel dtoToModel = mapper.map(dto, LocationModel.class);
         dtoToModel.getTranslation().setLocationUuid(uuid);
 
         LocationModel res = repository.save(dtoToModel);
 
-        return modelMapper.map(res, LocationDTO.class);
+        return mapper.map(res, LocationDTO.class);
     }
 
     /**
@@ -199,12 +211,12 @@ public class LocationServiceImpl implements LocationService {
 
         validateRequest(uuid, dto.getLanguage());
 
-        LocationTranslation dtoToModel = modelMapper.map(dto, LocationTranslation.class);
+        LocationTranslation dtoToModel = mapper.map(dto, LocationTranslation.class);
         dtoToModel.setLocationUuid(uuid);
 
         LocationTranslation res = translationRepository.save(dtoToModel);
 
-        return modelMapper.map(res, LocationTranslationDTO.class);
+        return mapper.map(res, LocationTranslationDTO.class);
     }
 
     /**
@@ -213,12 +225,11 @@ public class LocationServiceImpl implements LocationService {
      * @see LocationController#patch(UUID, LocationDTO)
      * @since 1.0.0
      */
-    public void patch(UUID uuid, LocationDTO patch) throws IOException {
+    public void patch(UUID uuid, LocationDTO patch) {
         LocationModel dbRes = repository.findByUuidAndTranslationLanguage(uuid, patch.getLanguage())
                 .orElseThrow(ItemNotFoundException::new);
 
-        LocationModel dtoToModel = modelMapper.map(dbRes, LocationModel.class);
-        LocationModel patchedModel = utils.merge(dtoToModel, patch);
+        LocationModel patchedModel = utils.merge(dbRes, patch);
 
         patchedModel.setUuid(uuid);
         repository.save(patchedModel);
@@ -230,7 +241,7 @@ public class LocationServiceImpl implements LocationService {
      * @see LocationController#patchTranslation(UUID, String, LocationTranslationDTO)
      * @since 1.0.0
      */
-    public void patchTranslation(UUID uuid, String language, LocationTranslationDTO patch) throws IOException {
+    public void patchTranslation(UUID uuid, String language, LocationTranslationDTO patch) {
         LocationTranslation translation = translationRepository.findByLocationUuidAndLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
 
@@ -8,17 +8,16 @@ import com.lucasjosino.hawapi.exceptions.SaveConflictException;
 import com.lucasjosino.hawapi.models.OverviewModel;
 import com.lucasjosino.hawapi.models.dto.OverviewDTO;
 import com.lucasjosino.hawapi.models.dto.translation.OverviewTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.OverviewTranslation;
 import com.lucasjosino.hawapi.repositories.OverviewRepository;
 import com.lucasjosino.hawapi.repositories.translation.OverviewTranslationRepository;
 import com.lucasjosino.hawapi.services.OverviewService;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -37,7 +36,7 @@ public class OverviewServiceImpl implements OverviewService {
 
     private final ServiceUtils utils;
 
-    private final ModelMapper modelMapper;
+    private final EntityMapper mapper;
 
     private final OverviewRepository repository;
 
@@ -47,13 +46,13 @@ public class OverviewServiceImpl implements OverviewService {
     public OverviewServiceImpl(
             OpenAPIProperty config,
             ServiceUtils utils,
-            ModelMapper modelMapper,
+            EntityMapper mapper,
             OverviewRepository repository,
             OverviewTranslationRepository translationRepository
     ) {
         this.basePath = config.getApiBaseUrl() + "/overview";
         this.utils = utils;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
         this.repository = repository;
         this.translationRepository = translationRepository;
     }
@@ -66,7 +65,7 @@ public class OverviewServiceImpl implements OverviewService {
      */
     public List<OverviewTranslationDTO> findAllOverviewTranslations() {
         List<OverviewTranslation> res = translationRepository.findAll();
-        return Arrays.asList(modelMapper.map(res, OverviewTranslationDTO[].class));
+        return Arrays.asList(mapper.map(res, OverviewTranslationDTO[].class));
     }
 
     /**
@@ -78,9 +77,9 @@ public class OverviewServiceImpl implements OverviewService {
     public OverviewDTO findOverviewBy(String language) {
         OverviewModel res = repository.findByTranslationLanguage(language).orElseThrow(ItemNotFoundException::new);
 
-        OverviewDTO dto = modelMapper.map(res, OverviewDTO.class);
+        OverviewDTO dto = mapper.map(res, OverviewDTO.class);
         OverviewDTO.DataCountProjection dataCount = repository.getAllCounts();
-        dto.setDataCount(modelMapper.map(dataCount, OverviewDTO.DataCount.class));
+        dto.setDataCount(mapper.map(dataCount, OverviewDTO.DataCount.class));
 
         return dto;
     }
@@ -93,7 +92,7 @@ public class OverviewServiceImpl implements OverviewService {
      */
     public OverviewTranslationDTO findOverviewTranslationBy(String language) {
         OverviewTranslation res = translationRepository.findByLanguage(language).orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, OverviewTranslationDTO.class);
+        return mapper.map(res, OverviewTranslationDTO.class);
     }
 
     /**
@@ -109,12 +108,12 @@ public class OverviewServiceImpl implements OverviewService {
 
         validateRequest(dto.getLanguage());
 
-        OverviewModel dtoToModel = modelMapper.map(dto, OverviewModel.class);
+        OverviewModel dtoToModel = mapper.map(dto, OverviewModel.class);
         dtoToModel.getTranslation().setOverviewUuid(uuid);
 
         OverviewModel res = repository.save(dtoToModel);
 
-        return modelMapper.map(res, OverviewDTO.class);
+        return mapper.map(res, OverviewDTO.class);
     }
 
     /**
@@ -128,12 +127,12 @@ public class OverviewServiceImpl implements OverviewService {
 
         validateRequest(dto.getLanguage());
 
-        OverviewTranslation dtoToModel = modelMapper.map(dto, OverviewTranslation.class);
+        OverviewTranslation dtoToModel = mapper.map(dto, OverviewTranslation.class);
         dtoToModel.setOverviewUuid(UUID.fromString(dbRes));
 
         OverviewTranslation res = translationRepository.save(dtoToModel);
 
-        return modelMapper.map(res, OverviewTranslationDTO.class);
+        return mapper.map(res, OverviewTranslationDTO.class);
     }
 
     /**
@@ -142,12 +141,11 @@ public class OverviewServiceImpl implements OverviewService {
      * @see OverviewController#patchOverview(OverviewDTO)
      * @since 1.0.0
      */
-    public void patchOverview(OverviewDTO patch) throws IOException {
+    public void patchOverview(OverviewDTO patch) {
         OverviewModel dbRes = repository.findByTranslationLanguage(patch.getLanguage())
                 .orElseThrow(ItemNotFoundException::new);
 
-        OverviewModel dtoToModel = modelMapper.map(dbRes, OverviewModel.class);
-        OverviewModel patchedModel = utils.merge(dtoToModel, patch);
+        OverviewModel patchedModel = utils.merge(dbRes, patch);
 
         patchedModel.setUuid(dbRes.getUuid());
         repository.save(patchedModel);
@@ -159,7 +157,7 @@ public class OverviewServiceImpl implements OverviewService {
      * @see OverviewController#patchOverviewTranslation(String, OverviewTranslationDTO)
      * @since 1.0.0
      */
-    public void patchOverviewTranslation(String language, OverviewTranslationDTO patch) throws IOException {
+    public void patchOverviewTranslation(String language, OverviewTranslationDTO patch) {
         OverviewTranslation translation = translationRepository.findByLanguage(language)
                 .orElseThrow(ItemNotFoundException::new);
 
@@ -9,21 +9,21 @@ import com.lucasjosino.hawapi.filters.SeasonFilter;
 import com.lucasjosino.hawapi.models.SeasonModel;
 import com.lucasjosino.hawapi.models.dto.SeasonDTO;
 import com.lucasjosino.hawapi.models.dto.translation.SeasonTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.SeasonTranslation;
 import com.lucasjosino.hawapi.repositories.SeasonRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
+import com.lucasjosino.hawapi.repositories.pagination.PageResult;
 import com.lucasjosino.hawapi.repositories.specification.SpecificationBuilder;
 import com.lucasjosino.hawapi.repositories.translation.SeasonTranslationRepository;
 import com.lucasjosino.hawapi.services.SeasonService;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
 
 /**
@@ -44,7 +44,7 @@ public class SeasonServiceImpl implements SeasonService {
 
     private final ServiceUtils utils;
 
-    private final ModelMapper modelMapper;
+    private final EntityMapper mapper;
 
     private final SeasonRepository repository;
 
@@ -55,17 +55,28 @@ public class SeasonServiceImpl implements SeasonService {
             Random random, SeasonRepository repository,
             ServiceUtils utils,
             OpenAPIProperty config,
-            ModelMapper modelMapper,
+            EntityMapper mapper,
             SeasonTranslationRepository translationRepository
     ) {
         this.random = random;
         this.utils = utils;
         this.repository = repository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
         this.translationRepository = translationRepository;
         this.basePath = config.getApiBaseUrl() + "/seasons";
     }
 
+    /**
+     * Method that get the season filter class
+     *
+     * @return SeasonFilter
+     * @since 1.2.0
+     */
+    @Override
+    public Class<SeasonFilter> getFilterClass() {
+        return SeasonFilter.class;
+    }
+
     /**
      * Method that get all season uuids with filters and {@link Pageable}
      *
@@ -75,7 +86,8 @@ public class SeasonServiceImpl implements SeasonService {
      * @since 1.0.0
      */
     public Page<UUID> findAllUUIDs(Map<String, String> filters, Pageable pageable) {
-        return repository.findAllUUIDs(spec.with(filters, SeasonFilter.class), pageable);
+        PageOptions options = PageOptions.from(filters);
+        return repository.findAllUUIDs(spec.with(filters, getFilterClass()), pageable, options);
     }
 
     /**
@@ -84,13 +96,15 @@ public class SeasonServiceImpl implements SeasonService {
      * @see SeasonController#findAll(Map, Pageable)
      * @since 1.0.0
      */
-    public List<SeasonDTO> findAll(String language, Page<UUID> uuids) {
-        List<SeasonModel> res = repository.findAllByTranslationLanguageAndUuidIn(
-                language,
-                uuids.getContent(),
-                uuids.getSort()
+    public Page<SeasonDTO> findAll(Map<String, String> filters, Pageable pageable) {
+        Page<SeasonModel> res = repository.findAllWithTranslation(
+                spec.with(filters, getFilterClass()),
+                pageable,
+                PageOptions.from(filters)
         );
-        return Arrays.asList(modelMapper.map(res, SeasonDTO[].class));
+
+        List<SeasonDTO> content = Arrays.asList(mapper.map(res.getContent(), SeasonDTO[].class));
+        return PageResult.withContent(res, content);
     }
 
     /**
@@ -100,13 +114,13 @@ public class SeasonServiceImpl implements SeasonService {
      * @since 1.0.0
      */
     public SeasonDTO findRandom(String language) {
-        long count = utils.getCountOrThrow(repository.count());
-        int index = random.nextInt((int) count);
+        List<UUID> uuids = repository.findAllIndexedUUIDs(language);
+        int index = random.nextInt((int) utils.getCountOrThrow(uuids.size()));
 
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<SeasonModel> page = repository.findAll(spec.withTranslation(language), singleAndRandomItem);
+        SeasonModel res = repository.findByUuidAndTranslationLanguage(uuids.get(index), language)
+                .orElseThrow(ItemNotFoundException::new);
 
-        return modelMapper.map(page.getContent().get(0), SeasonDTO.class);
+        return mapper.map(res, SeasonDTO.class);
     }
 
     /**
@@ -119,7 +133,7 @@ public class SeasonServiceImpl implements SeasonService {
         existsByIdOrThrow(uuid);
 
         List<SeasonTranslation> res = translationRepository.findAllBySeasonUuid(uuid);
-        return Arrays.asList(modelMapper.map(res, SeasonTranslationDTO[].class));
+        return Arrays.asList(mapper.map(res, SeasonTranslationDTO[].class));
     }
 
     /**
@@ -131,13 +145,11 @@ public class SeasonServiceImpl implements SeasonService {
     public SeasonTranslationDTO findRandomTranslation(UUID uuid) {
         existsByIdOrThrow(uuid);
 
-        long count = utils.getCountOrThrow(translationRepository.count());
-        int index = random.nextInt((int) count);
-
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<SeasonTranslation> page = translationRepository.findAllBySeasonUuid(uuid, singleAndRandomItem);
+        // Only translations of this item, usually a few languages.
+        List<SeasonTranslation> res = translationRepository.findAllBySeasonUuid(uuid);
+        int index = random.nextInt((int) utils.getCountOrThrow(res.size()));
 
-        return modelMapper.map(page.getContent().get(0), SeasonTranslationDTO.class);
+        return mapper.map(res.get(index), SeasonTranslationDTO.class);
     }
 
     /**
@@ -150,7 +162,7 @@ public class SeasonServiceImpl implements SeasonService {
         SeasonModel res = repository
                 .findByUuidAndTranslationLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, SeasonDTO.class);
+        return mapper.map(res, SeasonDTO.class);
     }
 
     /**
@@ -163,7 +175,7 @@ public class SeasonServiceImpl implements SeasonService {
         SeasonTranslation res = translationRepository
                 .findBySeasonUuidAndLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, SeasonTranslationDTO.class);
+        return mapper.map(res, SeasonTranslationDTO.class);
     }
 
     /**
@@ -179,12 +191,12 @@ public class SeasonServiceImpl implements SeasonService {
 
         validateRequest(uuid, dto.getLanguage());
 
-        SeasonModel dtoToModel = modelMapper.map(dto, SeasonModel.class);
+        SeasonModel dtoToModel = mapper.map(dto, SeasonModel.class);
         dtoToModel.getTranslation().setSeasonUuid(uuid);
 
         SeasonModel res = repository.save(dtoToModel);
 
-        return modelMapper.map(res, SeasonDTO.class);
+        return mapper.map(res, SeasonDTO.class);
     }
 
     /**
@@ -200,12 +212,12 @@ public class SeasonServiceImpl implements SeasonService {
 
         validateRequest(uuid, dto.getLanguage());
 
-        SeasonTranslation dtoToModel = modelMapper.map(dto, SeasonTranslation.class);
+        SeasonTranslation dtoToModel = mapper.map(dto, SeasonTranslation.class);
         dtoToModel.setSeasonUuid(uuid);
 
         SeasonTranslation res = translationRepository.save(dtoToModel);
 
-        return modelMapper.map(res, SeasonTranslationDTO.class);
+        return mapper.map(res, SeasonTranslationDTO.class);
     }
 
     /**
@@ -214,12 +226,11 @@ public class SeasonServiceImpl implements SeasonService {
      * @see SeasonController#patch(UUID, SeasonDTO)
      * @since 1.0.0
      */
-    public void patch(UUID uuid, SeasonDTO patch) throws IOException {
+    public void patch(UUID uuid, SeasonDTO patch) {
         SeasonModel dbRes = repository.findByUuidAndTranslationLanguage(uuid, patch.getLanguage())
                 .orElseThrow(ItemNotFoundException::new);
 
-        SeasonModel dtoToModel = modelMapper.map(dbRes, SeasonModel.class);
-        SeasonModel patchedModel = utils.merge(dtoToModel, patch);
+        SeasonModel patchedModel = utils.merge(dbRes, patch);
 
         patchedModel.setUuid(uuid);
         repository.save(patchedModel);
@@ -231,7 +242,7 @@ public class SeasonServiceImpl implements SeasonService {
      * @see SeasonController#patchTranslation(UUID, String, SeasonTranslationDTO)
      * @since 1.0.0
      */
-    public void patchTranslation(UUID uuid, String language, SeasonTranslationDTO patch) throws IOException {
+    public void patchTranslation(UUID uuid, String language, SeasonTranslationDTO patch) {
         SeasonTranslation translation = translationRepository.findBySeasonUuidAndLanguage(uuid, language)
                 .orElseThrow(ItemNotFoundException::new);
 
@@ -5,19 +5,18 @@ import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.filters.SoundtrackFilter;
 import com.lucasjosino.hawapi.models.SoundtrackModel;
 import com.lucasjosino.hawapi.models.dto.SoundtrackDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.repositories.SoundtrackRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
 import com.lucasjosino.hawapi.repositories.specification.SpecificationBuilder;
 import com.lucasjosino.hawapi.services.SoundtrackService;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
 
 /**
@@ -38,7 +37,7 @@ public class SoundtrackServiceImpl implements SoundtrackService {
 
     private final ServiceUtils utils;
 
-    private final ModelMapper modelMapper;
+    private final EntityMapper mapper;
 
     private final SoundtrackRepository repository;
 
@@ -47,15 +46,26 @@ public class SoundtrackServiceImpl implements SoundtrackService {
             Random random, SoundtrackRepository repository,
             ServiceUtils utils,
             OpenAPIProperty config,
-            ModelMapper modelMapper
+            EntityMapper mapper
     ) {
         this.random = random;
         this.utils = utils;
         this.repository = repository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
         this.basePath = config.getApiBaseUrl() + "/soundtracks";
     }
 
+    /**
+     * Method that get the soundtrack filter class
+     *
+     * @return SoundtrackFilter
+     * @since 1.2.0
+     */
+    @Override
+    public Class<SoundtrackFilter> getFilterClass() {
+        return SoundtrackFilter.class;
+    }
+
     /**
      * Method that get all soundtrack uuids with filters and {@link Pageable}
      *
@@ -65,7 +75,8 @@ public class SoundtrackServiceImpl implements SoundtrackService {
      * @since 1.0.0
      */
     public Page<UUID> findAllUUIDs(Map<String, String> filters, Pageable pageable) {
-        return repository.findAllUUIDs(spec.with(filters, SoundtrackFilter.class), pageable);
+        PageOptions options = PageOptions.from(filters);
+        return repository.findAllUUIDs(spec.with(filters, getFilterClass()), pageable, options);
     }
 
     /**
@@ -76,7 +87,7 @@ public class SoundtrackServiceImpl implements SoundtrackService {
      */
     public List<SoundtrackDTO> findAll(Page<UUID> uuids) {
         List<SoundtrackModel> res = repository.findAllByUuidIn(uuids.getContent(), uuids.getSort());
-        return Arrays.asList(modelMapper.map(res, SoundtrackDTO[].class));
+        return Arrays.asList(mapper.map(res, SoundtrackDTO[].class));
     }
 
     /**
@@ -86,13 +97,11 @@ public class SoundtrackServiceImpl implements SoundtrackService {
      * @since 1.0.0
      */
     public SoundtrackDTO findRandom(String language) {
-        long count = utils.getCountOrThrow(repository.count());
-        int index = random.nextInt((int) count);
-
-        PageRequest singleAndRandomItem = PageRequest.of(index, 1);
-        Page<SoundtrackModel> page = repository.findAll(singleAndRandomItem);
+        List<UUID> uuids = repository.findAllIndexedUUIDs(null);
+        int index = random.nextInt((int) utils.getCountOrThrow(uuids.size()));
 
-        return modelMapper.map(page.getContent().get(0), SoundtrackDTO.class);
+        SoundtrackModel res = repository.findById(uuids.get(index)).orElseThrow(ItemNotFoundException::new);
+        return mapper.map(res, SoundtrackDTO.class);
     }
 
     /**
@@ -103,7 +112,7 @@ public class SoundtrackServiceImpl implements SoundtrackService {
      */
     public SoundtrackDTO findBy(UUID uuid, String language) {
         SoundtrackModel res = repository.findById(uuid).orElseThrow(ItemNotFoundException::new);
-        return modelMapper.map(res, SoundtrackDTO.class);
+        return mapper.map(res, SoundtrackDTO.class);
     }
 
     /**
@@ -117,10 +126,10 @@ public class SoundtrackServiceImpl implements SoundtrackService {
         dto.setUuid(uuid);
         dto.setHref(basePath + "/" + uuid);
 
-        SoundtrackModel dtoToModel = modelMapper.map(dto, SoundtrackModel.class);
+        SoundtrackModel dtoToModel = mapper.map(dto, SoundtrackModel.class);
         SoundtrackModel res = repository.save(dtoToModel);
 
-        return modelMapper.map(res, SoundtrackDTO.class);
+        return mapper.map(res, SoundtrackDTO.class);
     }
 
     /**
@@ -129,11 +138,10 @@ public class SoundtrackServiceImpl implements SoundtrackService {
      * @see SoundtrackController#patch(UUID, SoundtrackDTO)
      * @since 1.0.0
      */
-    public void patch(UUID uuid, SoundtrackDTO patch) throws IOException {
+    public void patch(UUID uuid, SoundtrackDTO patch) {
         SoundtrackModel dbRes = repository.findById(uuid).orElseThrow(ItemNotFoundException::new);
 
-        SoundtrackModel dtoToModel = modelMapper.map(dbRes, SoundtrackModel.class);
-        SoundtrackModel patchedModel = utils.merge(dtoToModel, patch);
+        SoundtrackModel patchedModel = utils.merge(dbRes, patch);
 
         patchedModel.setUuid(uuid);
         repository.save(patchedModel);
@@ -6,16 +6,22 @@ import com.lucasjosino.hawapi.exceptions.auth.UserConflictException;
 import com.lucasjosino.hawapi.exceptions.auth.UserNotFoundException;
 import com.lucasjosino.hawapi.exceptions.auth.UserUnauthorizedException;
 import com.lucasjosino.hawapi.jwt.JwtManager;
+import com.lucasjosino.hawapi.jwt.JwtRevocationList;
+import com.lucasjosino.hawapi.models.dto.auth.RefreshTokenDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserAuthDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserRegistrationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.user.UserModel;
 import com.lucasjosino.hawapi.repositories.auth.AuthRepository;
 import com.lucasjosino.hawapi.services.auth.AuthService;
-import org.modelmapper.ModelMapper;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
@@ -38,16 +44,19 @@ public class AuthServiceImpl implements AuthService {
 
     private final JwtManager jwtManager;
 
-    private final ModelMapper modelMapper;
+    private final EntityMapper mapper;
+
+    private final JwtRevocationList revocationList;
 
     public AuthServiceImpl(
             AuthRepository authRepository, PasswordEncoder passwordEncoder, JwtManager jwtManager,
-            ModelMapper modelMapper
+            EntityMapper mapper, JwtRevocationList revocationList
     ) {
         this.authRepository = authRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtManager = jwtManager;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
+        this.revocationList = revocationList;
     }
 
     /**
@@ -83,13 +92,14 @@ public class AuthServiceImpl implements AuthService {
             user.setRole(RoleType.BASIC.name());
         }
 
-        UserModel userModel = modelMapper.map(user, UserModel.class);
+        UserModel userModel = mapper.map(user, UserModel.class);
 
         // Create and set user uuid.
         UUID userUuid = UUID.randomUUID();
         userModel.setUuid(userUuid);
 
         String token = jwtManager.generateToken(userModel);
+        String refreshToken = jwtManager.generateRefreshToken(userModel);
 
         userModel.setPassword(passwordEncoder.encode(userModel.getPassword()));
         userModel.setRole(userModel.getRole().toUpperCase());
@@ -102,6 +112,8 @@ public class AuthServiceImpl implements AuthService {
             setRole(userModel.getRole());
             setToken(token);
             setTokenType("Bearer");
+            setRefreshToken(refreshToken);
+            setExpiresIn(jwtManager.getAccessTokenExpiresIn());
         }};
     }
 
@@ -122,17 +134,34 @@ public class AuthServiceImpl implements AuthService {
             }
         }
 
-        String token = jwtManager.generateToken(dbUser);
+        return createAuthenticatedUser(dbUser);
+    }
 
-        return new UserDTO() {{
-            setUsername(dbUser.getUsername());
-            setEmail(dbUser.getEmail());
-            setRole(dbUser.getRole());
-            setToken(token);
-            setTokenType("Bearer");
-            setCreatedAt(dbUser.getCreatedAt());
-            setUpdatedAt(dbUser.getUpdatedAt());
-        }};
+    /**
+     * Method that issues new tokens using a refresh token
+     * <p> Refresh tokens can only be used once, the used token will be revoked atomically.
+     *
+     * @throws UserUnauthorizedException If refresh token is not valid, already used or user no longer exists
+     * @see AuthController#refresh(RefreshTokenDTO)
+     * @since 1.2.0
+     */
+    public UserDTO refresh(RefreshTokenDTO refresh) {
+        Jwt token;
+        try {
+            token = jwtManager.decodeRefreshToken(refresh.getRefreshToken());
+        } catch (JwtException exception) {
+            throw new UserUnauthorizedException("Refresh token is not valid", exception);
+        }
+
+        UserModel dbUser = authRepository.findByUsernameAndEmail(token.getClaim("username"), token.getClaim("email"))
+                .orElseThrow(() -> new UserUnauthorizedException("User not found!"));
+
+        // Concurrent refreshes with the same token will only succeed once.
+        if (!revocationList.consumeToken(token.getId())) {
+            throw new UserUnauthorizedException("Refresh token has already been used");
+        }
+
+        return createAuthenticatedUser(dbUser);
     }
 
     /**
@@ -154,6 +183,31 @@ public class AuthServiceImpl implements AuthService {
 
         assert dbUser != null;
         authRepository.deleteById(dbUser.getUuid());
+
+        // All tokens issued to this user should be rejected.
+        revocationList.revokeUser(dbUser.getUsername());
+    }
+
+    /**
+     * Method that revokes the token used by the current request
+     *
+     * @throws UserUnauthorizedException If request is not authenticated with a token
+     * @see AuthController#revoke()
+     * @since 1.2.0
+     */
+    public void revoke() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!(authentication instanceof JwtAuthenticationToken)) {
+            throw new UserUnauthorizedException("Only token authentication can be revoked");
+        }
+
+        Jwt token = ((JwtAuthenticationToken) authentication).getToken();
+        if (token.getId() == null) {
+            throw new UserUnauthorizedException("Token id not found on token");
+        }
+
+        revocationList.revokeToken(token.getId());
     }
 
     /**
@@ -175,6 +229,29 @@ public class AuthServiceImpl implements AuthService {
         return JwtManager.ROLE_PREFIX + RoleType.ANONYMOUS.name();
     }
 
+    /**
+     * Method to create a user with new access and refresh tokens
+     *
+     * @return An {@link UserDTO} with basic information + tokens
+     * @since 1.2.0
+     */
+    private UserDTO createAuthenticatedUser(UserModel dbUser) {
+        String token = jwtManager.generateToken(dbUser);
+        String refreshToken = jwtManager.generateRefreshToken(dbUser);
+
+        return new UserDTO() {{
+            setUsername(dbUser.getUsername());
+            setEmail(dbUser.getEmail());
+            setRole(dbUser.getRole());
+            setToken(token);
+            setTokenType("Bearer");
+            setRefreshToken(refreshToken);
+            setExpiresIn(jwtManager.getAccessTokenExpiresIn());
+            setCreatedAt(dbUser.getCreatedAt());
+            setUpdatedAt(dbUser.getUpdatedAt());
+        }};
+    }
+
     /**
      * Method to validate user using its <strong>username</strong> and <strong>email</strong>
      *
@@ -1,14 +1,13 @@
 package com.lucasjosino.hawapi.services.utils;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
+import com.lucasjosino.hawapi.models.mappers.EntityMerger;
 import com.lucasjosino.hawapi.services.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
 import java.util.Random;
 
 /**
@@ -27,10 +26,10 @@ import java.util.Random;
 @Component
 public class ServiceUtils {
 
-    private final ObjectMapper mapper;
+    private final EntityMapper mapper;
 
     @Autowired
-    public ServiceUtils(ObjectMapper mapper) {
+    public ServiceUtils(EntityMapper mapper) {
         this.mapper = mapper;
     }
 
@@ -41,15 +40,17 @@ public class ServiceUtils {
 
     /**
      * Method to merge/update two models/dtos
+     * <p> Only non-null (and writable) properties of the dto are copied, so the (managed) model can be updated in
+     * place and only changed columns are written.
      *
-     * @param model The original model
+     * @param model The original model, updated in place
      * @param dto   The dto to be merged
-     * @return A merged/updated model
-     * @throws IOException If {@link ObjectMapper#readerForUpdating} couldn't merge models
-     * @see ObjectMapper
+     * @return The merged/updated model
+     * @throws IllegalArgumentException If no merger is registered for the dto/model
+     * @see EntityMerger
      */
-    public <T, Y> T merge(T model, Y dto) throws IOException {
-        return mapper.readerForUpdating(model).readValue((JsonNode) mapper.valueToTree(dto));
+    public <T, Y> T merge(T model, Y dto) {
+        return mapper.merge(dto, model);
     }
 
     /**
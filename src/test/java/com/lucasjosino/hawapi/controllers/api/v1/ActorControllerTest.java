@@ -7,6 +7,7 @@ import com.lucasjosino.hawapi.controllers.utils.ResponseUtils;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.models.dto.ActorDTO;
 import com.lucasjosino.hawapi.models.dto.ActorSocialDTO;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
 import com.lucasjosino.hawapi.services.impl.ActorServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,7 +43,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @ActiveProfiles("test")
 @WebMvcTest(controllers = ActorController.class)
-@ContextConfiguration(classes = {ActorController.class, ControllerAdvisor.class, SecurityConfig.class})
+@ContextConfiguration(
+        classes = {
+                ActorController.class,
+                ControllerAdvisor.class,
+                SecurityConfig.class,
+                PasswordEncoderProperty.class
+        }
+)
 class ActorControllerTest {
 
     private static final String URL = "/api/v1/actors";
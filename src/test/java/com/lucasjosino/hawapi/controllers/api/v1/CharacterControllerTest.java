@@ -6,6 +6,7 @@ import com.lucasjosino.hawapi.controllers.advisor.ControllerAdvisor;
 import com.lucasjosino.hawapi.controllers.utils.ResponseUtils;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.models.dto.CharacterDTO;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
 import com.lucasjosino.hawapi.services.impl.CharacterServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,7 +42,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @ActiveProfiles("test")
 @WebMvcTest(controllers = CharacterController.class)
-@ContextConfiguration(classes = {CharacterController.class, ControllerAdvisor.class, SecurityConfig.class})
+@ContextConfiguration(
+        classes = {
+                CharacterController.class,
+                ControllerAdvisor.class,
+                SecurityConfig.class,
+                PasswordEncoderProperty.class
+        }
+)
 class CharacterControllerTest {
 
     private static final String URL = "/api/v1/characters";
@@ -7,6 +7,7 @@ import com.lucasjosino.hawapi.controllers.utils.ResponseUtils;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
 import com.lucasjosino.hawapi.models.dto.translation.EpisodeTranslationDTO;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
 import com.lucasjosino.hawapi.services.impl.EpisodeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,7 +42,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @ActiveProfiles("test")
 @WebMvcTest(controllers = EpisodeController.class)
-@ContextConfiguration(classes = {EpisodeController.class, ControllerAdvisor.class, SecurityConfig.class})
+@ContextConfiguration(
+        classes = {
+                EpisodeController.class,
+                ControllerAdvisor.class,
+                SecurityConfig.class,
+                PasswordEncoderProperty.class
+        }
+)
 class EpisodeControllerTest {
 
     private static final String URL = "/api/v1/episodes";
@@ -93,18 +101,16 @@ class EpisodeControllerTest {
     @Test
     void shouldReturnAllEpisodes() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<EpisodeDTO> res = Collections.singletonList(episode);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(episode.getUuid()),
+        Page<EpisodeDTO> res = PageableExecutionUtils.getPage(
+                Collections.singletonList(episode),
                 pageable,
                 () -> 1
         );
-        HttpHeaders headers = buildHeaders(uuids, "en-US");
+        HttpHeaders headers = buildHeaders(res, "en-US");
 
         when(responseUtils.getDefaultLanguage()).thenReturn("en-US");
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL))
@@ -120,25 +126,22 @@ class EpisodeControllerTest {
 
         verify(responseUtils, times(1)).getDefaultLanguage();
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
     @Test
     void shouldReturnAllEpisodesWithPortugueseLanguage() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<EpisodeDTO> res = Collections.singletonList(episode);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(episode.getUuid()),
+        Page<EpisodeDTO> res = PageableExecutionUtils.getPage(
+                Collections.singletonList(episode),
                 pageable,
                 () -> 1
         );
-        HttpHeaders headers = buildHeaders(uuids, "pt-BR");
+        HttpHeaders headers = buildHeaders(res, "pt-BR");
 
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL + "?language=pt-BR"))
@@ -153,8 +156,7 @@ class EpisodeControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)));
 
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
@@ -188,18 +190,16 @@ class EpisodeControllerTest {
     @Test
     void whenNoUUIDIsFoundShouldReturnEmptyListOnAllEpisodes() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<EpisodeDTO> res = Collections.emptyList();
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
+        Page<EpisodeDTO> res = PageableExecutionUtils.getPage(
                 Collections.emptyList(),
                 pageable,
                 () -> 0
         );
-        HttpHeaders headers = buildHeaders(uuids, "en-US");
+        HttpHeaders headers = buildHeaders(res, "en-US");
 
         when(responseUtils.getDefaultLanguage()).thenReturn("en-US");
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL))
@@ -214,8 +214,7 @@ class EpisodeControllerTest {
 
         verify(responseUtils, times(1)).getDefaultLanguage();
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
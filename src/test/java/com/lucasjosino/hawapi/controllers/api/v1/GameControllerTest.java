@@ -7,6 +7,7 @@ import com.lucasjosino.hawapi.controllers.utils.ResponseUtils;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.models.dto.GameDTO;
 import com.lucasjosino.hawapi.models.dto.translation.GameTranslationDTO;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
 import com.lucasjosino.hawapi.services.impl.GameServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,7 +43,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @ActiveProfiles("test")
 @WebMvcTest(controllers = GameController.class)
-@ContextConfiguration(classes = {GameController.class, ControllerAdvisor.class, SecurityConfig.class})
+@ContextConfiguration(
+        classes = {
+                GameController.class,
+                ControllerAdvisor.class,
+                SecurityConfig.class,
+                PasswordEncoderProperty.class
+        }
+)
 class GameControllerTest {
 
     private static final String URL = "/api/v1/games";
@@ -102,18 +110,16 @@ class GameControllerTest {
     @Test
     void shouldReturnAllGames() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<GameDTO> res = Collections.singletonList(game);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(game.getUuid()),
+        Page<GameDTO> res = PageableExecutionUtils.getPage(
+                Collections.singletonList(game),
                 pageable,
                 () -> 1
         );
-        HttpHeaders headers = buildHeaders(uuids, "en-US");
+        HttpHeaders headers = buildHeaders(res, "en-US");
 
         when(responseUtils.getDefaultLanguage()).thenReturn("en-US");
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL))
@@ -129,25 +135,22 @@ class GameControllerTest {
 
         verify(responseUtils, times(1)).getDefaultLanguage();
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
     @Test
     void shouldReturnAllGamesWithPortugueseLanguage() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<GameDTO> res = Collections.singletonList(game);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(game.getUuid()),
+        Page<GameDTO> res = PageableExecutionUtils.getPage(
+                Collections.singletonList(game),
                 pageable,
                 () -> 1
         );
-        HttpHeaders headers = buildHeaders(uuids, "pt-BR");
+        HttpHeaders headers = buildHeaders(res, "pt-BR");
 
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL + "?language=pt-BR"))
@@ -162,8 +165,7 @@ class GameControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)));
 
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
@@ -197,18 +199,16 @@ class GameControllerTest {
     @Test
     void whenNoUUIDIsFoundShouldReturnEmptyListOnAllGames() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<GameDTO> res = Collections.emptyList();
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
+        Page<GameDTO> res = PageableExecutionUtils.getPage(
                 Collections.emptyList(),
                 pageable,
                 () -> 0
         );
-        HttpHeaders headers = buildHeaders(uuids, "en-US");
+        HttpHeaders headers = buildHeaders(res, "en-US");
 
         when(responseUtils.getDefaultLanguage()).thenReturn("en-US");
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL))
@@ -223,8 +223,7 @@ class GameControllerTest {
 
         verify(responseUtils, times(1)).getDefaultLanguage();
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
@@ -7,6 +7,7 @@ import com.lucasjosino.hawapi.controllers.utils.ResponseUtils;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.models.dto.LocationDTO;
 import com.lucasjosino.hawapi.models.dto.translation.LocationTranslationDTO;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
 import com.lucasjosino.hawapi.services.impl.LocationServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,7 +42,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @ActiveProfiles("test")
 @WebMvcTest(controllers = LocationController.class)
-@ContextConfiguration(classes = {LocationController.class, ControllerAdvisor.class, SecurityConfig.class})
+@ContextConfiguration(
+        classes = {
+                LocationController.class,
+                ControllerAdvisor.class,
+                SecurityConfig.class,
+                PasswordEncoderProperty.class
+        }
+)
 class LocationControllerTest {
 
     private static final String URL = "/api/v1/locations";
@@ -88,18 +96,16 @@ class LocationControllerTest {
     @Test
     void shouldReturnAllLocations() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<LocationDTO> res = Collections.singletonList(location);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(location.getUuid()),
+        Page<LocationDTO> res = PageableExecutionUtils.getPage(
+                Collections.singletonList(location),
                 pageable,
                 () -> 1
         );
-        HttpHeaders headers = buildHeaders(uuids, "en-US");
+        HttpHeaders headers = buildHeaders(res, "en-US");
 
         when(responseUtils.getDefaultLanguage()).thenReturn("en-US");
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL))
@@ -115,25 +121,22 @@ class LocationControllerTest {
 
         verify(responseUtils, times(1)).getDefaultLanguage();
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
     @Test
     void shouldReturnAllLocationsWithPortugueseLanguage() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<LocationDTO> res = Collections.singletonList(location);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(location.getUuid()),
+        Page<LocationDTO> res = PageableExecutionUtils.getPage(
+                Collections.singletonList(location),
                 pageable,
                 () -> 1
         );
-        HttpHeaders headers = buildHeaders(uuids, "pt-BR");
+        HttpHeaders headers = buildHeaders(res, "pt-BR");
 
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL + "?language=pt-BR"))
@@ -148,8 +151,7 @@ class LocationControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)));
 
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
@@ -183,18 +185,16 @@ class LocationControllerTest {
     @Test
     void whenNoUUIDIsFoundShouldReturnEmptyListOnAllLocations() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<LocationDTO> res = Collections.emptyList();
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
+        Page<LocationDTO> res = PageableExecutionUtils.getPage(
                 Collections.emptyList(),
                 pageable,
                 () -> 0
         );
-        HttpHeaders headers = buildHeaders(uuids, "en-US");
+        HttpHeaders headers = buildHeaders(res, "en-US");
 
         when(responseUtils.getDefaultLanguage()).thenReturn("en-US");
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL))
@@ -209,8 +209,7 @@ class LocationControllerTest {
 
         verify(responseUtils, times(1)).getDefaultLanguage();
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
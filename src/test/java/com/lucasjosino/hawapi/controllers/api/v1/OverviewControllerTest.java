@@ -8,6 +8,7 @@ import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.models.dto.OverviewDTO;
 import com.lucasjosino.hawapi.models.dto.translation.OverviewTranslationDTO;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
 import com.lucasjosino.hawapi.services.impl.OverviewServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,7 +44,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 OverviewController.class,
                 ControllerAdvisor.class,
                 SecurityConfig.class,
-                OpenAPIProperty.class
+                OpenAPIProperty.class,
+                PasswordEncoderProperty.class
         }
 )
 class OverviewControllerTest {
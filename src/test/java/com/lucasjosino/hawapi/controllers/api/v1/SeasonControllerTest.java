@@ -7,6 +7,7 @@ import com.lucasjosino.hawapi.controllers.utils.ResponseUtils;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.models.dto.SeasonDTO;
 import com.lucasjosino.hawapi.models.dto.translation.SeasonTranslationDTO;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
 import com.lucasjosino.hawapi.services.impl.SeasonServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,7 +43,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @ActiveProfiles("test")
 @WebMvcTest(controllers = SeasonController.class)
-@ContextConfiguration(classes = {SeasonController.class, ControllerAdvisor.class, SecurityConfig.class})
+@ContextConfiguration(
+        classes = {
+                SeasonController.class,
+                ControllerAdvisor.class,
+                SecurityConfig.class,
+                PasswordEncoderProperty.class
+        }
+)
 class SeasonControllerTest {
 
     private static final String URL = "/api/v1/seasons";
@@ -101,18 +109,16 @@ class SeasonControllerTest {
     @Test
     void shouldReturnAllSeasons() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<SeasonDTO> res = Collections.singletonList(season);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(season.getUuid()),
+        Page<SeasonDTO> res = PageableExecutionUtils.getPage(
+                Collections.singletonList(season),
                 pageable,
                 () -> 1
         );
-        HttpHeaders headers = buildHeaders(uuids, "en-US");
+        HttpHeaders headers = buildHeaders(res, "en-US");
 
         when(responseUtils.getDefaultLanguage()).thenReturn("en-US");
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL))
@@ -128,25 +134,22 @@ class SeasonControllerTest {
 
         verify(responseUtils, times(1)).getDefaultLanguage();
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
     @Test
     void shouldReturnAllSeasonsWithPortugueseLanguage() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<SeasonDTO> res = Collections.singletonList(season);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(season.getUuid()),
+        Page<SeasonDTO> res = PageableExecutionUtils.getPage(
+                Collections.singletonList(season),
                 pageable,
                 () -> 1
         );
-        HttpHeaders headers = buildHeaders(uuids, "pt-BR");
+        HttpHeaders headers = buildHeaders(res, "pt-BR");
 
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL + "?language=pt-BR"))
@@ -161,8 +164,7 @@ class SeasonControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)));
 
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
@@ -198,18 +200,16 @@ class SeasonControllerTest {
     @Test
     void whenNoUUIDIsFoundShouldReturnEmptyListOnAllSeasons() throws Exception {
         Pageable pageable = Pageable.ofSize(1);
-        List<SeasonDTO> res = Collections.emptyList();
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
+        Page<SeasonDTO> res = PageableExecutionUtils.getPage(
                 Collections.emptyList(),
                 pageable,
                 () -> 0
         );
-        HttpHeaders headers = buildHeaders(uuids, "en-US");
+        HttpHeaders headers = buildHeaders(res, "en-US");
 
         when(responseUtils.getDefaultLanguage()).thenReturn("en-US");
         when(responseUtils.validateSort(any(Pageable.class))).thenReturn(pageable);
-        when(service.findAllUUIDs(anyMap(), any(Pageable.class))).thenReturn(uuids);
-        when(service.findAll(anyString(), any())).thenReturn(res);
+        when(service.findAll(anyMap(), any(Pageable.class))).thenReturn(res);
         when(responseUtils.getHeaders(any(), nullable(String.class))).thenReturn(headers);
 
         mockMvc.perform(get(URL))
@@ -224,8 +224,7 @@ class SeasonControllerTest {
 
         verify(responseUtils, times(1)).getDefaultLanguage();
         verify(responseUtils, times(1)).validateSort(any(Pageable.class));
-        verify(service, times(1)).findAllUUIDs(anyMap(), any(Pageable.class));
-        verify(service, times(1)).findAll(anyString(), any());
+        verify(service, times(1)).findAll(anyMap(), any(Pageable.class));
         verify(responseUtils, times(1)).getHeaders(any(), nullable(String.class));
     }
 
@@ -3,9 +3,12 @@ package com.lucasjosino.hawapi.controllers.api.v1.auth;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lucasjosino.hawapi.configs.security.SecurityConfig;
 import com.lucasjosino.hawapi.controllers.advisor.ControllerAdvisor;
+import com.lucasjosino.hawapi.exceptions.ServiceUnavailableException;
+import com.lucasjosino.hawapi.models.dto.auth.RefreshTokenDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserAuthDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserRegistrationDTO;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
 import com.lucasjosino.hawapi.services.impl.auth.AuthServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,7 +34,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @ActiveProfiles("test")
 @WebMvcTest(controllers = AuthController.class)
-@ContextConfiguration(classes = {AuthController.class, ControllerAdvisor.class, SecurityConfig.class})
+@ContextConfiguration(
+        classes = {
+                AuthController.class,
+                ControllerAdvisor.class,
+                SecurityConfig.class,
+                PasswordEncoderProperty.class
+        }
+)
 class AuthControllerTest {
 
     private static final String URL = "/api/v1/auth";
@@ -175,6 +185,30 @@ class AuthControllerTest {
         verify(service, times(1)).authenticate(any(UserAuthDTO.class));
     }
 
+    @Test
+    void whenPasswordEncoderIsBusyShouldThrowServiceUnavailableExceptionOnAuthenticateUser() throws Exception {
+        UserAuthDTO authentication = mapper.map(user, UserAuthDTO.class);
+        authentication.setPassword("MY_SUPER_SECRET_PASSWORD");
+
+        when(service.authenticate(any(UserAuthDTO.class)))
+                .thenThrow(new ServiceUnavailableException("Too many auth requests, try again later"));
+
+        mockMvc.perform(post(URL + "/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(authentication))
+                )
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value(HttpStatus.SERVICE_UNAVAILABLE.value()))
+                .andExpect(jsonPath("$.status").value(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase()))
+                .andExpect(jsonPath("$.method").value(HttpMethod.POST.name()))
+                .andExpect(jsonPath("$.message").value("Too many auth requests, try again later"))
+                .andExpect(jsonPath("$.url").value(URL + "/authenticate"));
+
+        verify(service, times(1)).authenticate(any(UserAuthDTO.class));
+    }
+
     @Test
     void whenFieldValidationFailsShouldThrowBadRequestExceptionOnAuthenticateUser() throws Exception {
         UserAuthDTO authentication = mapper.map(user, UserAuthDTO.class);
@@ -194,6 +228,42 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.url").value(URL + "/authenticate"));
     }
 
+    @Test
+    void shouldRefreshToken() throws Exception {
+        RefreshTokenDTO refresh = new RefreshTokenDTO();
+        refresh.setRefreshToken("REFRESH_TOKEN");
+
+        when(service.refresh(any(RefreshTokenDTO.class))).thenReturn(user);
+
+        mockMvc.perform(post(URL + "/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refresh))
+                )
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        verify(service, times(1)).refresh(any(RefreshTokenDTO.class));
+    }
+
+    @Test
+    void whenFieldValidationFailsShouldThrowBadRequestExceptionOnRefreshToken() throws Exception {
+        RefreshTokenDTO refresh = new RefreshTokenDTO();
+
+        mockMvc.perform(post(URL + "/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refresh))
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.code").value(HttpStatus.BAD_REQUEST.value()))
+                .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.getReasonPhrase()))
+                .andExpect(jsonPath("$.method").value(HttpMethod.POST.name()))
+                .andExpect(jsonPath("$.message").value("Field 'refresh_token' is required"))
+                .andExpect(jsonPath("$.timestamps").exists())
+                .andExpect(jsonPath("$.url").value(URL + "/refresh"));
+    }
+
     @Test
     void shouldDeleteUser() throws Exception {
         UserAuthDTO deletion = mapper.map(user, UserAuthDTO.class);
@@ -211,6 +281,17 @@ class AuthControllerTest {
         verify(service, times(1)).delete(any(UserAuthDTO.class));
     }
 
+    @Test
+    void shouldRevokeToken() throws Exception {
+        doNothing().when(service).revoke();
+
+        mockMvc.perform(post(URL + "/revoke"))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(service, times(1)).revoke();
+    }
+
     @Test
     void whenFieldValidationFailsShouldThrowBadRequestExceptionOnDeleteUser() throws Exception {
         UserAuthDTO deletion = mapper.map(user, UserAuthDTO.class);
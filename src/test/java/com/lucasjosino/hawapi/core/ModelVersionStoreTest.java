@@ -0,0 +1,154 @@
+package com.lucasjosino.hawapi.core;
+
+import com.lucasjosino.hawapi.models.ActorModel;
+import com.lucasjosino.hawapi.models.ActorSocialModel;
+import com.lucasjosino.hawapi.models.EpisodeModel;
+import com.lucasjosino.hawapi.models.properties.ModelVersionProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ModelVersionStoreTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private Map<String, Long> rows;
+
+    private ModelVersionStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rows = new HashMap<>();
+        rows.put("actors", 1L);
+        rows.put("episodes", 1L);
+
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map.Entry<String, Long> row : rows.entrySet()) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("resource")).thenReturn(row.getKey());
+                when(rs.getLong("version")).thenReturn(row.getValue());
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        ModelVersionProperty spec = new ModelVersionProperty();
+        spec.setRefreshInterval(Duration.ZERO);
+
+        store = new ModelVersionStore(jdbcTemplate, spec);
+        store.init();
+    }
+
+    @Test
+    void shouldLoadVersions() {
+        Map<String, Long> versions = store.getVersions();
+
+        assertEquals(1L, versions.get("actors"));
+        assertEquals(1L, versions.get("episodes"));
+        assertEquals(0L, versions.get("games"));
+    }
+
+    @Test
+    void shouldNotIncrementLocalVersionForLocalWrite() {
+        long before = ModelVersionRegistry.get(EpisodeModel.class);
+
+        // Local write, counted once and incremented twice (flush and commit) by the listener, once by the database.
+        writeEpisode();
+        rows.put("episodes", 2L);
+
+        assertEquals(2L, store.getVersions().get("episodes"));
+        assertEquals(before + 2, ModelVersionRegistry.get(EpisodeModel.class));
+
+        store.refresh();
+
+        assertEquals(2L, store.getVersions().get("episodes"));
+        assertEquals(before + 2, ModelVersionRegistry.get(EpisodeModel.class));
+    }
+
+    @Test
+    void shouldIncrementLocalVersionForWriteOfAnotherInstance() {
+        long actors = ModelVersionRegistry.get(ActorModel.class);
+        long socials = ModelVersionRegistry.get(ActorSocialModel.class);
+        long episodes = ModelVersionRegistry.get(EpisodeModel.class);
+
+        rows.put("actors", 2L);
+        store.refresh();
+
+        assertEquals(2L, store.getVersions().get("actors"));
+        assertEquals(actors + 1, ModelVersionRegistry.get(ActorModel.class));
+        assertEquals(socials + 1, ModelVersionRegistry.get(ActorSocialModel.class));
+        assertEquals(episodes, ModelVersionRegistry.get(EpisodeModel.class));
+
+        store.refresh();
+
+        assertEquals(actors + 1, ModelVersionRegistry.get(ActorModel.class));
+    }
+
+    @Test
+    void shouldIncrementLocalVersionForConcurrentWriteOfAnotherInstance() {
+        long before = ModelVersionRegistry.get(EpisodeModel.class);
+
+        writeEpisode();
+        rows.put("episodes", 3L);
+
+        assertEquals(3L, store.getVersions().get("episodes"));
+        assertEquals(before + 3, ModelVersionRegistry.get(EpisodeModel.class));
+    }
+
+    @Test
+    void shouldIncrementLocalVersionForWriteOfAnotherInstanceAfterRollback() {
+        long before = ModelVersionRegistry.get(EpisodeModel.class);
+
+        // Local write not committed yet, the write of another instance can't be detected.
+        ModelVersionRegistry.addWrite(EpisodeModel.class);
+        rows.put("episodes", 2L);
+        store.refresh();
+
+        assertEquals(before, ModelVersionRegistry.get(EpisodeModel.class));
+
+        ModelVersionRegistry.removeWrite(EpisodeModel.class);
+        store.refresh();
+
+        assertEquals(2L, store.getVersions().get("episodes"));
+        assertEquals(before + 1, ModelVersionRegistry.get(EpisodeModel.class));
+    }
+
+    @Test
+    void shouldKeepVersionsWhenDatabaseIsNotAvailable() {
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        long before = ModelVersionRegistry.get(EpisodeModel.class);
+
+        writeEpisode();
+
+        assertEquals(1L, store.getVersions().get("episodes"));
+        assertEquals(before + 2, ModelVersionRegistry.get(EpisodeModel.class));
+    }
+
+    /**
+     * Same as 'ModelChangeListener' for a committed write.
+     */
+    private static void writeEpisode() {
+        ModelVersionRegistry.addWrite(EpisodeModel.class);
+        ModelVersionRegistry.increment(EpisodeModel.class);
+        ModelVersionRegistry.increment(EpisodeModel.class);
+    }
+}
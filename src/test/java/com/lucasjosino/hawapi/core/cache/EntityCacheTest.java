@@ -0,0 +1,219 @@
+package com.lucasjosino.hawapi.core.cache;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.jcache.JCacheCache;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityCacheTest {
+
+    private static final UUID ITEM = UUID.randomUUID();
+
+    private static final UUID OTHER_ITEM = UUID.randomUUID();
+
+    private static final int THREADS = 8;
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String name : cacheManager.getCacheNames()) {
+            cacheManager.destroyCache(name);
+        }
+    }
+
+    @Test
+    void shouldEvictAllKeysOfItem() {
+        EntityCache cache = jcache("episode.findBy");
+        cache.put(ITEM, "item");
+        cache.put(key(ITEM, "en-US"), "item en-US");
+        cache.put(key(ITEM, "pt-BR"), "item pt-BR");
+        cache.put(key(OTHER_ITEM, "en-US"), "other item en-US");
+        cache.put(OTHER_ITEM, "other item");
+
+        cache.evict(ITEM);
+
+        assertNull(cache.get(ITEM));
+        assertNull(cache.get(key(ITEM, "en-US")));
+        assertNull(cache.get(key(ITEM, "pt-BR")));
+        assertNotNull(cache.get(key(OTHER_ITEM, "en-US")));
+        assertNotNull(cache.get(OTHER_ITEM));
+    }
+
+    @Test
+    void shouldNotEvictOtherPartitions() {
+        EntityCache episodes = jcache("episode.findBy");
+        EntityCache games = jcache("game.findBy");
+        episodes.put(key(ITEM, "en-US"), "episode");
+        games.put(key(ITEM, "en-US"), "game");
+        games.put(ITEM, "game");
+
+        assertTrue(episodes.evictIfPresent(ITEM));
+
+        assertNull(episodes.get(key(ITEM, "en-US")));
+        assertEquals("game", games.get(key(ITEM, "en-US")).get());
+        assertEquals("game", games.get(ITEM).get());
+    }
+
+    @Test
+    void shouldEvictOnlyExactKeyIfNotUUID() {
+        EntityCache cache = jcache("episode.findAll");
+        SimpleKey findAll = new SimpleKey("findAll", ITEM);
+        cache.put(findAll, "page");
+        cache.put(key(ITEM, "en-US"), "item en-US");
+
+        cache.evict(findAll);
+
+        assertNull(cache.get(findAll));
+        assertNotNull(cache.get(key(ITEM, "en-US")));
+    }
+
+    @Test
+    void shouldEvictAllKeysOfItemFromMapCache() {
+        EntityCache cache = new EntityCache(new ConcurrentMapCache("episode.findBy"));
+        cache.put(key(ITEM, "en-US"), "item en-US");
+        cache.put(key(OTHER_ITEM, "en-US"), "other item en-US");
+
+        cache.evict(ITEM);
+
+        assertNull(cache.get(key(ITEM, "en-US")));
+        assertNotNull(cache.get(key(OTHER_ITEM, "en-US")));
+    }
+
+    @Test
+    void shouldLoadOnlyOnceWithConcurrentCallers() throws Exception {
+        EntityCache cache = jcache("episode.findBy");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> results = getConcurrently(cache, () -> {
+            calls.incrementAndGet();
+            release.await();
+            return "item";
+        });
+        awaitCoalesced(cache);
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            assertEquals("item", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getLoadCount());
+        assertEquals(THREADS - 1, cache.getCoalescedCount());
+        assertEquals(0, cache.getLoadingCount());
+        assertEquals("item", cache.get(key(ITEM, "en-US")).get());
+    }
+
+    @Test
+    void shouldShareLoaderExceptionWithoutCaching() throws Exception {
+        EntityCache cache = jcache("episode.findBy");
+        IllegalStateException failure = new IllegalStateException("Lorem");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> results = getConcurrently(cache, () -> {
+            release.await();
+            throw failure;
+        });
+        awaitCoalesced(cache);
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            ExecutionException exception = assertThrows(
+                    ExecutionException.class,
+                    () -> result.get(5, TimeUnit.SECONDS)
+            );
+            assertTrue(exception.getCause() instanceof Cache.ValueRetrievalException);
+            assertSame(failure, exception.getCause().getCause());
+        }
+        assertEquals(1, cache.getLoadFailureCount());
+        assertNull(cache.get(key(ITEM, "en-US")));
+
+        // The next call should load again.
+        assertEquals("item", cache.get(key(ITEM, "en-US"), () -> "item"));
+        assertEquals(1, cache.getLoadCount());
+    }
+
+    @Test
+    void shouldNotStoreValueLoadedDuringEviction() {
+        EntityCache cache = jcache("episode.findBy");
+
+        Object value = cache.get(key(ITEM, "en-US"), () -> {
+            // A write of the same type while the (old) value is loaded.
+            cache.evict(OTHER_ITEM);
+            return "stale item";
+        });
+
+        assertEquals("stale item", value);
+        assertNull(cache.get(key(ITEM, "en-US")));
+        assertEquals("item", cache.get(key(ITEM, "en-US"), () -> "item"));
+        assertEquals("item", cache.get(key(ITEM, "en-US")).get());
+    }
+
+    @Test
+    void shouldGetPartitionFromServiceName() {
+        assertEquals("entityCacheTest", EntityCacheResolver.getPartition(EntityCacheTest.class));
+        assertEquals("episode", EntityCacheResolver.getPartition(EpisodeServiceImpl.class));
+    }
+
+    private EntityCache jcache(String name) {
+        javax.cache.Cache<Object, Object> cache = cacheManager.createCache(name, new MutableConfiguration<>());
+        return new EntityCache(new JCacheCache(cache));
+    }
+
+    /**
+     * Calls {@link EntityCache#get(Object, Callable)} with the same key from {@link #THREADS} threads.
+     */
+    private static List<Future<Object>> getConcurrently(EntityCache cache, Callable<Object> loader) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> cache.get(key(ITEM, "en-US"), loader)));
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Waits until all callers, except the loader, are waiting for the running load.
+     */
+    private static void awaitCoalesced(EntityCache cache) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.getCoalescedCount() < THREADS - 1) {
+            if (System.nanoTime() > deadline) fail("Callers didn't wait for the running load");
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Same key as <strong>{ #uuid, #language }</strong>
+     */
+    private static List<Object> key(UUID uuid, String language) {
+        return Arrays.asList(uuid, language);
+    }
+
+    private static final class EpisodeServiceImpl {}
+}
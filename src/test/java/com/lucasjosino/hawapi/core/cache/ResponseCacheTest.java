@@ -0,0 +1,182 @@
+package com.lucasjosino.hawapi.core.cache;
+
+import com.lucasjosino.hawapi.models.properties.ResponseCacheProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private static final String KEY = "/api/v1/episodes?page=1&size=10";
+
+    private static final String ETAG = "\"a1b2c3\"";
+
+    private ResponseCacheProperty spec;
+
+    @BeforeEach
+    void setUp() {
+        spec = new ResponseCacheProperty();
+        spec.setEnabled(true);
+        spec.setGzipMinSize(DataSize.ofBytes(64));
+    }
+
+    @Test
+    void shouldReturnCachedResponseWithSameETag() throws IOException {
+        ResponseCache cache = new ResponseCache(spec);
+        cache.put(KEY, ETAG, headers(), body(10));
+
+        ResponseCache.CachedResponse cached = cache.get(KEY, ETAG);
+
+        assertNotNull(cached);
+        assertEquals(ETAG, cached.getETag());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void shouldReturnNullWithDifferentETag() throws IOException {
+        ResponseCache cache = new ResponseCache(spec);
+        cache.put(KEY, ETAG, headers(), body(10));
+
+        assertNull(cache.get(KEY, "\"d4e5f6\""));
+        assertNull(cache.get(KEY + "&language=pt-BR", ETAG));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void shouldReturnNullWhenDisabled() throws IOException {
+        spec.setEnabled(false);
+        ResponseCache cache = new ResponseCache(spec);
+        cache.put(KEY, ETAG, headers(), body(10));
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(KEY, ETAG));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void shouldNotStoreValidatorHeaders() throws IOException {
+        ResponseCache cache = new ResponseCache(spec);
+        HttpHeaders headers = headers();
+        headers.setETag("\"outdated\"");
+        headers.setLastModified(0);
+
+        ResponseCache.CachedResponse cached = cache.put(KEY, ETAG, headers, body(10));
+
+        assertNull(cached.getHeaders().getETag());
+        assertEquals(-1, cached.getHeaders().getLastModified());
+        assertEquals("pt-BR", cached.getHeaders().getFirst(HttpHeaders.CONTENT_LANGUAGE));
+        assertEquals(MediaType.APPLICATION_JSON, cached.getHeaders().getContentType());
+    }
+
+    @Test
+    void shouldWriteIdentityBodyWithoutAcceptEncoding() throws IOException {
+        ResponseCache cache = new ResponseCache(spec);
+        byte[] body = body(10);
+        ResponseCache.CachedResponse cached = cache.put(KEY, ETAG, headers(), body);
+
+        MockHttpServletResponse response = write(cache, cached, null);
+
+        assertArrayEquals(body, response.getContentAsByteArray());
+        assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(body.length, response.getContentLength());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertEquals("pt-BR", response.getHeader(HttpHeaders.CONTENT_LANGUAGE));
+    }
+
+    @Test
+    void shouldWriteGzipBodyWithWeakETag() throws IOException {
+        ResponseCache cache = new ResponseCache(spec);
+        byte[] body = body(10);
+        ResponseCache.CachedResponse cached = cache.put(KEY, ETAG, headers(), body);
+
+        MockHttpServletResponse response = write(cache, cached, "deflate, gzip;q=0.8");
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("W/" + ETAG, response.getHeader(HttpHeaders.ETAG));
+        assertTrue(response.getContentLength() < body.length);
+        assertArrayEquals(body, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void shouldNotWriteGzipBodyWithZeroQuality() throws IOException {
+        ResponseCache cache = new ResponseCache(spec);
+        byte[] body = body(10);
+        ResponseCache.CachedResponse cached = cache.put(KEY, ETAG, headers(), body);
+
+        MockHttpServletResponse response = write(cache, cached, "gzip;q=0");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    void shouldNotCompressSmallBodies() throws IOException {
+        ResponseCache cache = new ResponseCache(spec);
+        byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        ResponseCache.CachedResponse cached = cache.put(KEY, ETAG, headers(), body);
+
+        MockHttpServletResponse response = write(cache, cached, "gzip");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    private static MockHttpServletResponse write(
+            ResponseCache cache,
+            ResponseCache.CachedResponse cached,
+            String acceptEncoding
+    ) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/episodes");
+        if (acceptEncoding != null) request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.write(cached, request, new ServletServerHttpResponse(response));
+        return response;
+    }
+
+    private static HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(HttpHeaders.CONTENT_LANGUAGE, "pt-BR");
+        return headers;
+    }
+
+    private static byte[] body(int items) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) builder.append(',');
+            builder.append("{\"uuid\":\"").append(i).append("\",\"title\":\"Lorem ipsum dolor sit amet\"}");
+        }
+
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = gzip.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,42 @@
+package com.lucasjosino.hawapi.core.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedSizeWeigherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SerializedSizeWeigher weigher = new SerializedSizeWeigher(objectMapper);
+
+    @Test
+    void shouldWeighKeyAndSerializedValue() throws IOException {
+        List<String> value = Arrays.asList("Lorem", "Ipsum");
+        int expected = "key".length() + objectMapper.writeValueAsBytes(value).length;
+
+        assertEquals(expected, weigher.weigh("key", value));
+    }
+
+    @Test
+    void shouldWeighLargerValuesMore() {
+        List<String> small = Collections.singletonList("Lorem");
+        List<String> large = Collections.nCopies(100, "Lorem");
+
+        assertTrue(weigher.weigh("key", large) > weigher.weigh("key", small));
+        assertTrue(weigher.weigh("longer-key", small) > weigher.weigh("key", small));
+    }
+
+    @Test
+    void shouldUseDefaultWeightWhenValueCantBeSerialized() {
+        int weight = weigher.weigh("key", new Object());
+
+        assertEquals("key".length() + 1024, weight);
+    }
+}
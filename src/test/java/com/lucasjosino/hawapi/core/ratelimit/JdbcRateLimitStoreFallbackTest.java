@@ -0,0 +1,135 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcRateLimitStoreFallbackTest {
+
+    private static final String KEY = "0.0:127.0.0.1";
+
+    private static final DataAccessResourceFailureException FAILURE =
+            new DataAccessResourceFailureException("Connection refused");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    private JdbcRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperty.Store spec = new RateLimitProperty.Store();
+        spec.setType(RateLimitProperty.StoreType.JDBC);
+        spec.setEvictionInterval(Duration.ZERO);
+        spec.getJdbc().setLeaseTime(Duration.ofHours(1));
+
+        store = new JdbcRateLimitStore(jdbcTemplate, spec);
+    }
+
+    @Test
+    void shouldUseMemoryBucketsWhenDatabaseIsNotAvailable() {
+        when(reserve()).thenThrow(FAILURE);
+        TokenBucket.Limit[] limits = limits(2);
+
+        assertEquals(1, store.tryConsume(KEY, limits));
+        assertEquals(0, store.tryConsume(KEY, limits));
+        assertTrue(store.tryConsume(KEY, limits) < 0);
+
+        assertEquals(3, store.getFallbackCount());
+        assertEquals(0, store.getReservationCount());
+        assertEquals(0, store.getSize());
+    }
+
+    @Test
+    void shouldUseDatabaseAgainWhenAvailable() {
+        when(reserve()).thenThrow(FAILURE).thenReturn(new long[]{1, 1, 0});
+        TokenBucket.Limit[] limits = limits(4);
+
+        assertTrue(store.tryConsume(KEY, limits) >= 0);
+        assertEquals(1, store.getFallbackCount());
+
+        assertTrue(store.tryConsume(KEY, limits) >= 0);
+        assertEquals(1, store.getFallbackCount());
+        assertEquals(1, store.getReservationCount());
+        assertEquals(1, store.getSize());
+    }
+
+    @Test
+    void shouldGiveBackReservedTokensWhenReservationFails() {
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        TokenBucket.Limit[] limits = {limits(40)[0], limits(4)[0]};
+        long interval = TimeUnit.NANOSECONDS.toMicros(limits[0].getInterval());
+
+        // First limit reserves 5 tokens, the second one fails.
+        when(reserve()).thenReturn(new long[]{5 * interval, 5, 0}).thenThrow(FAILURE);
+
+        assertTrue(store.tryConsume(KEY, limits) >= 0);
+        assertEquals(1, store.getFallbackCount());
+        assertEquals(5, store.getRefundedCount());
+
+        store.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcOperations).batchUpdate(anyString(), batch.capture());
+
+        assertEquals(1, batch.getValue().size());
+        assertArrayEquals(new Object[]{5 * interval, KEY + "#0"}, batch.getValue().get(0));
+    }
+
+    @Test
+    void shouldKeepWorkingWhenRefundsFail() {
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        when(jdbcOperations.batchUpdate(anyString(), ArgumentMatchers.<List<Object[]>>any())).thenThrow(FAILURE);
+        TokenBucket.Limit[] limits = {limits(40)[0], limits(4)[0]};
+        long interval = TimeUnit.NANOSECONDS.toMicros(limits[0].getInterval());
+        when(reserve()).thenReturn(new long[]{5 * interval, 5, 0}).thenThrow(FAILURE);
+
+        assertTrue(store.tryConsume(KEY, limits) >= 0);
+
+        assertDoesNotThrow(store::flush);
+    }
+
+    @Test
+    void shouldEvictMemoryBucketsWhenDatabaseIsNotAvailable() {
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        when(jdbcOperations.update(anyString())).thenThrow(FAILURE);
+
+        assertDoesNotThrow(store::evictIdle);
+    }
+
+    private long[] reserve() {
+        return jdbcTemplate.queryForObject(
+                anyString(),
+                any(SqlParameterSource.class),
+                ArgumentMatchers.<RowMapper<long[]>>any()
+        );
+    }
+
+    private static TokenBucket.Limit[] limits(long capacity) {
+        return new TokenBucket.Limit[]{new TokenBucket.Limit(capacity, TimeUnit.MINUTES.toNanos(1))};
+    }
+}
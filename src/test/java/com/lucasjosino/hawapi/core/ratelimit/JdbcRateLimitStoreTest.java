@@ -0,0 +1,118 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import com.lucasjosino.hawapi.configs.RepositoryUnitTestConfig;
+import com.lucasjosino.hawapi.configs.initializer.DatabaseContainerInitializer;
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RepositoryUnitTestConfig
+class JdbcRateLimitStoreTest extends DatabaseContainerInitializer {
+
+    private static final String KEY = "0.0:127.0.0.1";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private RateLimitProperty.Store spec;
+
+    @BeforeEach
+    void setUp() {
+        spec = new RateLimitProperty.Store();
+        spec.setType(RateLimitProperty.StoreType.JDBC);
+        spec.getJdbc().setLeaseTime(Duration.ofHours(1));
+    }
+
+    @Test
+    void shouldShareBucketBetweenInstances() {
+        TokenBucket.Limit[] limits = limits(4);
+        JdbcRateLimitStore first = new JdbcRateLimitStore(jdbcTemplate, spec);
+        JdbcRateLimitStore second = new JdbcRateLimitStore(jdbcTemplate, spec);
+
+        assertTrue(first.tryConsume(KEY, limits) >= 0);
+        assertTrue(second.tryConsume(KEY, limits) >= 0);
+        assertTrue(first.tryConsume(KEY, limits) >= 0);
+        assertTrue(second.tryConsume(KEY, limits) >= 0);
+
+        assertTrue(first.tryConsume(KEY, limits) < 0);
+        assertTrue(second.tryConsume(KEY, limits) < 0);
+        assertEquals(0, first.getFallbackCount());
+        assertEquals(0, second.getFallbackCount());
+    }
+
+    @Test
+    void shouldReserveTokensInBatches() {
+        spec.getJdbc().setReservationSize(5);
+        TokenBucket.Limit[] limits = limits(40);
+        JdbcRateLimitStore store = new JdbcRateLimitStore(jdbcTemplate, spec);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(store.tryConsume(KEY, limits) >= 0);
+        }
+        assertEquals(1, store.getReservationCount());
+
+        assertTrue(store.tryConsume(KEY, limits) >= 0);
+        assertEquals(2, store.getReservationCount());
+        assertEquals(6, store.getConsumedCount());
+    }
+
+    @Test
+    void shouldNotQueryDatabaseWhileRejected() {
+        TokenBucket.Limit[] limits = limits(1);
+        JdbcRateLimitStore store = new JdbcRateLimitStore(jdbcTemplate, spec);
+
+        assertTrue(store.tryConsume(KEY, limits) >= 0);
+
+        long wait = store.tryConsume(KEY, limits);
+        assertTrue(wait < 0);
+        assertTrue(-wait <= TimeUnit.MINUTES.toNanos(1));
+
+        assertTrue(store.tryConsume(KEY, limits) < 0);
+        assertEquals(2, store.getReservationCount());
+        assertEquals(2, store.getRejectedCount());
+    }
+
+    @Test
+    void shouldGiveBackUnusedTokens() {
+        spec.getJdbc().setReservationSize(2);
+        TokenBucket.Limit[] limits = limits(8);
+        JdbcRateLimitStore first = new JdbcRateLimitStore(jdbcTemplate, spec);
+        JdbcRateLimitStore second = new JdbcRateLimitStore(jdbcTemplate, spec);
+
+        // Reserves 2 tokens, only one is used.
+        assertTrue(first.tryConsume(KEY, limits) >= 0);
+
+        for (int i = 0; i < 6; i++) {
+            assertTrue(second.tryConsume(KEY, limits) >= 0);
+        }
+        assertTrue(second.tryConsume(KEY, limits) < 0);
+
+        first.destroy();
+        assertEquals(1, first.getRefundedCount());
+
+        JdbcRateLimitStore third = new JdbcRateLimitStore(jdbcTemplate, spec);
+        assertTrue(third.tryConsume(KEY, limits) >= 0);
+        assertTrue(third.tryConsume(KEY, limits) < 0);
+    }
+
+    @Test
+    void shouldUseSeparatedBucketsByKey() {
+        TokenBucket.Limit[] limits = limits(1);
+        JdbcRateLimitStore store = new JdbcRateLimitStore(jdbcTemplate, spec);
+
+        assertTrue(store.tryConsume(KEY, limits) >= 0);
+        assertTrue(store.tryConsume("0.0:127.0.0.2", limits) >= 0);
+        assertTrue(store.tryConsume(KEY, limits) < 0);
+    }
+
+    private static TokenBucket.Limit[] limits(long capacity) {
+        return new TokenBucket.Limit[]{new TokenBucket.Limit(capacity, TimeUnit.MINUTES.toNanos(1))};
+    }
+}
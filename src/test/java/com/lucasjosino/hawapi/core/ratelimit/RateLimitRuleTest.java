@@ -0,0 +1,136 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitRuleTest {
+
+    private static RateLimitProperty property;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        property = new Binder(
+                new MapConfigurationPropertySource(
+                        PropertiesLoaderUtils.loadProperties(new ClassPathResource("bucket4j.properties"))
+                )
+        ).bind("bucket4j", RateLimitProperty.class).get();
+    }
+
+    @Test
+    void shouldCompileAllExistingRateLimits() {
+        for (int i = 0; i < property.getFilters().size(); i++) {
+            RateLimitProperty.Filter filter = property.getFilters().get(i);
+            for (int j = 0; j < filter.getRateLimits().size(); j++) {
+                assertNotNull(RateLimitRule.compile(i + "." + j, filter.getRateLimits().get(j)));
+            }
+        }
+    }
+
+    @Test
+    void shouldApplyExecuteConditionOnlyToSameRole() {
+        RateLimitRule rule = compile(0, 0);
+
+        assertTrue(rule.appliesTo("ROLE_ANONYMOUS"));
+        assertFalse(rule.appliesTo("ROLE_BASIC"));
+        assertFalse(rule.appliesTo("ROLE_ADMIN"));
+    }
+
+    @Test
+    void shouldApplySkipConditionToAllOtherRoles() {
+        RateLimitRule rule = compile(0, 4);
+
+        assertFalse(rule.appliesTo("ROLE_ADMIN"));
+        assertTrue(rule.appliesTo("ROLE_ANONYMOUS"));
+        assertTrue(rule.appliesTo("ROLE_MAINTAINER"));
+    }
+
+    @Test
+    void shouldApplyRuleWithoutConditionsToAllRoles() {
+        RateLimitRule rule = compile(1, 0);
+
+        assertTrue(rule.appliesTo("ROLE_ANONYMOUS"));
+        assertTrue(rule.appliesTo("ROLE_ADMIN"));
+    }
+
+    @Test
+    void shouldCompileBandwidths() {
+        TokenBucket.Limit[] anonymous = compile(0, 0).getLimits();
+        assertEquals(1, anonymous.length);
+        assertEquals(16, anonymous[0].getCapacity());
+        assertEquals(Duration.ofMinutes(1).toNanos(), anonymous[0].getPeriod());
+
+        TokenBucket.Limit[] auth = compile(1, 0).getLimits();
+        assertEquals(3, auth[0].getCapacity());
+        assertEquals(Duration.ofHours(12).toNanos(), auth[0].getPeriod());
+    }
+
+    @Test
+    void shouldUseRemoteAddressAsKey() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+
+        assertEquals("0.0:10.0.0.1", compile(0, 0).getKey(request));
+        assertEquals("1.0:", compile(1, 0).getKey(request));
+    }
+
+    @Test
+    void shouldThrowWhenConditionIsNotSupported() {
+        RateLimitProperty.RateLimit spec = newRateLimit();
+        spec.setExecuteCondition("@authServiceImpl.isAdmin()");
+
+        assertThrows(IllegalArgumentException.class, () -> RateLimitRule.compile("0.0", spec));
+    }
+
+    @Test
+    void shouldThrowWhenKeyIsNotSupported() {
+        RateLimitProperty.RateLimit spec = newRateLimit();
+        spec.setCacheKey("getHeader('X-Api-Key')");
+
+        assertThrows(IllegalArgumentException.class, () -> RateLimitRule.compile("0.0", spec));
+    }
+
+    @Test
+    void shouldThrowWhenRefillSpeedIsNotSupported() {
+        RateLimitProperty.RateLimit spec = newRateLimit();
+        spec.getBandwidths().get(0).setRefillSpeed(RateLimitProperty.RefillSpeed.INTERVAL);
+
+        assertThrows(IllegalArgumentException.class, () -> RateLimitRule.compile("0.0", spec));
+    }
+
+    @Test
+    void shouldThrowWhenBandwidthsAreEmpty() {
+        RateLimitProperty.RateLimit spec = newRateLimit();
+        spec.setBandwidths(Collections.emptyList());
+
+        assertThrows(IllegalArgumentException.class, () -> RateLimitRule.compile("0.0", spec));
+    }
+
+    private static RateLimitRule compile(int filter, int rateLimit) {
+        return RateLimitRule.compile(
+                filter + "." + rateLimit,
+                property.getFilters().get(filter).getRateLimits().get(rateLimit)
+        );
+    }
+
+    private static RateLimitProperty.RateLimit newRateLimit() {
+        RateLimitProperty.Bandwidth bandwidth = new RateLimitProperty.Bandwidth();
+        bandwidth.setCapacity(1);
+
+        RateLimitProperty.RateLimit spec = new RateLimitProperty.RateLimit();
+        spec.setBandwidths(new ArrayList<>(Collections.singletonList(bandwidth)));
+        return spec;
+    }
+}
@@ -0,0 +1,90 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketStoreTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final TokenBucket.Limit[] LIMITS = {new TokenBucket.Limit(2, 2 * SECOND)};
+
+    private AtomicLong nanos;
+
+    private TokenBucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperty.Store spec = new RateLimitProperty.Store();
+        spec.setStripes(3);
+        spec.setEvictionInterval(Duration.ZERO);
+
+        nanos = new AtomicLong();
+        store = new TokenBucketStore(spec, nanos::get);
+    }
+
+    @Test
+    void shouldCreateFullBucketForNewKey() {
+        assertEquals(1, store.tryConsume("a", LIMITS));
+        assertEquals(1, store.tryConsume("b", LIMITS));
+        assertEquals(2, store.getSize());
+    }
+
+    @Test
+    void shouldReuseBucketOfSameKey() {
+        assertEquals(1, store.tryConsume("a", LIMITS));
+        assertEquals(0, store.tryConsume("a", LIMITS));
+        assertEquals(-SECOND, store.tryConsume("a", LIMITS));
+
+        assertEquals(1, store.getSize());
+        assertEquals(2, store.getConsumedCount());
+        assertEquals(1, store.getRejectedCount());
+    }
+
+    @Test
+    void shouldEvictOnlyIdleBuckets() {
+        store.tryConsume("a", LIMITS);
+        store.tryConsume("a", LIMITS);
+        store.tryConsume("b", LIMITS);
+
+        store.evictAll();
+        assertEquals(2, store.getSize());
+        assertEquals(0, store.getEvictedCount());
+
+        nanos.set(SECOND);
+        store.evictAll();
+
+        assertEquals(1, store.getSize());
+        assertEquals(1, store.getEvictedCount());
+    }
+
+    @Test
+    void shouldEvictIdleBucketsOfAllStripes() {
+        for (int i = 0; i < 64; i++) {
+            store.tryConsume("key-" + i, LIMITS);
+        }
+
+        nanos.set(SECOND);
+        store.evictAll();
+
+        assertEquals(0, store.getSize());
+        assertEquals(64, store.getEvictedCount());
+    }
+
+    @Test
+    void shouldCreateFullBucketAfterEviction() {
+        store.tryConsume("a", LIMITS);
+
+        nanos.set(SECOND);
+        store.evictAll();
+
+        assertEquals(1, store.tryConsume("a", LIMITS));
+    }
+}
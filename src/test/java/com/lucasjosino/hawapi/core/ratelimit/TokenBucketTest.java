@@ -0,0 +1,101 @@
+package com.lucasjosino.hawapi.core.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldConsumeWholeCapacityAtOnce() {
+        TokenBucket bucket = new TokenBucket(limits(new TokenBucket.Limit(3, 3 * SECOND)), 0);
+
+        assertEquals(2, bucket.tryConsume(0));
+        assertEquals(1, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+    }
+
+    @Test
+    void shouldReturnWaitForNextTokenWhenEmpty() {
+        TokenBucket bucket = new TokenBucket(limits(new TokenBucket.Limit(3, 3 * SECOND)), 0);
+        consume(bucket, 3, 0);
+
+        assertEquals(-SECOND, bucket.tryConsume(0));
+        assertEquals(-SECOND / 2, bucket.tryConsume(SECOND / 2));
+    }
+
+    @Test
+    void shouldRefillOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(limits(new TokenBucket.Limit(3, 3 * SECOND)), 0);
+        consume(bucket, 3, 0);
+
+        assertEquals(0, bucket.tryConsume(SECOND));
+        assertTrue(bucket.tryConsume(SECOND) < 0);
+        assertEquals(1, bucket.tryConsume(3 * SECOND));
+    }
+
+    @Test
+    void shouldNotRefillAboveCapacity() {
+        TokenBucket bucket = new TokenBucket(limits(new TokenBucket.Limit(3, 3 * SECOND)), 0);
+        consume(bucket, 3, 0);
+
+        assertEquals(2, bucket.tryConsume(60 * SECOND));
+    }
+
+    @Test
+    void shouldReturnLowestRemainingOfAllLimits() {
+        TokenBucket bucket = new TokenBucket(
+                limits(new TokenBucket.Limit(10, 10 * SECOND), new TokenBucket.Limit(5, 10 * SECOND)),
+                0
+        );
+
+        assertEquals(4, bucket.tryConsume(0));
+    }
+
+    @Test
+    void shouldGiveBackTokensOfPreviousLimitsWhenRejected() {
+        TokenBucket bucket = new TokenBucket(
+                limits(new TokenBucket.Limit(10, 10 * SECOND), new TokenBucket.Limit(1, SECOND)),
+                0
+        );
+        assertEquals(0, bucket.tryConsume(0));
+
+        // Rejected by the second limit, the first limit shouldn't lose any token.
+        for (int i = 0; i < 5; i++) {
+            assertEquals(-SECOND, bucket.tryConsume(0));
+        }
+
+        assertTrue(bucket.isIdle(SECOND));
+    }
+
+    @Test
+    void shouldBeIdleOnlyWhenFullyRefilled() {
+        TokenBucket bucket = new TokenBucket(limits(new TokenBucket.Limit(2, 2 * SECOND)), 0);
+        assertTrue(bucket.isIdle(0));
+
+        consume(bucket, 2, 0);
+
+        assertFalse(bucket.isIdle(SECOND));
+        assertTrue(bucket.isIdle(2 * SECOND));
+    }
+
+    @Test
+    void shouldThrowWhenLimitIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket.Limit(0, SECOND));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket.Limit(1, 0));
+    }
+
+    private static TokenBucket.Limit[] limits(TokenBucket.Limit... limits) {
+        return limits;
+    }
+
+    private static void consume(TokenBucket bucket, int tokens, long now) {
+        for (int i = 0; i < tokens; i++) {
+            assertTrue(bucket.tryConsume(now) >= 0);
+        }
+    }
+}
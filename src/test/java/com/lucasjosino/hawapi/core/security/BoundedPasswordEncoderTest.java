@@ -0,0 +1,142 @@
+package com.lucasjosino.hawapi.core.security;
+
+import com.lucasjosino.hawapi.exceptions.ServiceUnavailableException;
+import com.lucasjosino.hawapi.models.properties.PasswordEncoderProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    private PasswordEncoderProperty property;
+
+    private BoundedPasswordEncoder encoder;
+
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        property = new PasswordEncoderProperty();
+        property.setThreads(1);
+        property.setQueueCapacity(1);
+        property.setTimeout(Duration.ofSeconds(5));
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (encoder != null) encoder.destroy();
+    }
+
+    @Test
+    void shouldDelegateOperations() {
+        encoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(), property);
+
+        assertEquals("{plain}lorem", encoder.encode("lorem"));
+        assertTrue(encoder.matches("lorem", "{plain}lorem"));
+        assertFalse(encoder.matches("ipsum", "{plain}lorem"));
+        assertEquals(1, encoder.getEncodeCount());
+        assertEquals(2, encoder.getMatchCount());
+    }
+
+    @Test
+    void shouldThrowDelegateException() {
+        encoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(), property);
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.matches("lorem", null));
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), property);
+
+        // One running and one queued operation.
+        Future<String> running = callers.submit(() -> encoder.encode("lorem"));
+        Future<String> queued = callers.submit(() -> encoder.encode("ipsum"));
+        awaitQueued();
+
+        long start = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> encoder.encode("dolor"));
+
+        // Rejected immediately, without waiting for the timeout.
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, encoder.getRejectedCount());
+
+        release.countDown();
+        assertEquals("{plain}lorem", running.get(5, TimeUnit.SECONDS));
+        assertEquals("{plain}ipsum", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldTimeoutAndCancelOperation() throws InterruptedException {
+        property.setTimeout(Duration.ofMillis(50));
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), property);
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.matches("lorem", "{plain}lorem"));
+
+        assertEquals(1, encoder.getTimeoutCount());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Timed out operation should be interrupted");
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.getActiveCount() < 1 || encoder.getQueueSize() < 1) {
+            if (System.nanoTime() > deadline) fail("Operations weren't submitted");
+            Thread.sleep(1);
+        }
+    }
+
+    private static class PlainPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (encodedPassword == null) throw new IllegalArgumentException("Encoded password is null");
+
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+
+    /**
+     * Blocks every operation until released (or interrupted).
+     */
+    private class BlockingPasswordEncoder extends PlainPasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return super.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return super.matches(rawPassword, encodedPassword);
+        }
+
+        private void await() {
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
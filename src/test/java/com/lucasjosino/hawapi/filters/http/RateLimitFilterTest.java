@@ -0,0 +1,144 @@
+package com.lucasjosino.hawapi.filters.http;
+
+import com.lucasjosino.hawapi.core.ratelimit.RateLimitStore;
+import com.lucasjosino.hawapi.core.ratelimit.TokenBucketStore;
+import com.lucasjosino.hawapi.models.properties.RateLimitProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RateLimitFilterTest {
+
+    private static RateLimitProperty property;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        property = new Binder(
+                new MapConfigurationPropertySource(
+                        PropertiesLoaderUtils.loadProperties(new ClassPathResource("bucket4j.properties"))
+                )
+        ).bind("bucket4j", RateLimitProperty.class).get();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldSetRemainingHeader() throws ServletException, IOException {
+        RateLimitFilter filter = new RateLimitFilter(property, new TokenBucketStore(property.getStore()));
+
+        MockHttpServletResponse response = doFilter(filter, "/api/v1/actors");
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals("15", response.getHeader(RateLimitFilter.REMAINING_HEADER));
+    }
+
+    @Test
+    void shouldUseLowestRemainingOfAllMatchingFilters() throws ServletException, IOException {
+        RateLimitFilter filter = new RateLimitFilter(property, new TokenBucketStore(property.getStore()));
+
+        MockHttpServletResponse response = doFilter(filter, "/api/v1/auth/login");
+
+        assertEquals("2", response.getHeader(RateLimitFilter.REMAINING_HEADER));
+    }
+
+    @Test
+    void shouldRejectWhenCapacityIsExhausted() throws ServletException, IOException {
+        RateLimitFilter filter = new RateLimitFilter(property, new TokenBucketStore(property.getStore()));
+        for (int i = 0; i < 16; i++) {
+            assertEquals(HttpStatus.OK.value(), doFilter(filter, "/api/v1/actors").getStatus());
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(newRequest("/api/v1/actors"), response, chain);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("4", response.getHeader(RateLimitFilter.RETRY_AFTER_HEADER));
+        assertNull(response.getHeader(RateLimitFilter.REMAINING_HEADER));
+        assertEquals(property.getFilters().get(0).getHttpResponseBody(), response.getContentAsString());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void shouldRoundRetryAfterUpToSeconds() throws ServletException, IOException {
+        RateLimitStore store = mock(RateLimitStore.class);
+        when(store.tryConsume(anyString(), any())).thenReturn(-TimeUnit.MILLISECONDS.toNanos(1001));
+
+        MockHttpServletResponse response = doFilter(new RateLimitFilter(property, store), "/api/v1/actors");
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("2", response.getHeader(RateLimitFilter.RETRY_AFTER_HEADER));
+    }
+
+    @Test
+    void shouldUseBucketOfRequestRole() throws ServletException, IOException {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("lorem", null, "ROLE_MAINTAINER")
+        );
+        RateLimitFilter filter = new RateLimitFilter(property, new TokenBucketStore(property.getStore()));
+
+        MockHttpServletResponse response = doFilter(filter, "/api/v1/actors");
+
+        assertEquals("29", response.getHeader(RateLimitFilter.REMAINING_HEADER));
+    }
+
+    @Test
+    void shouldSkipRequestWithoutMatchingRule() throws ServletException, IOException {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("lorem", null, "ROLE_ADMIN")
+        );
+        RateLimitStore store = mock(RateLimitStore.class);
+
+        MockHttpServletResponse response = doFilter(new RateLimitFilter(property, store), "/api/v1/actors");
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertNull(response.getHeader(RateLimitFilter.REMAINING_HEADER));
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void shouldSkipRequestWithoutMatchingUrl() throws ServletException, IOException {
+        RateLimitStore store = mock(RateLimitStore.class);
+
+        MockHttpServletResponse response = doFilter(new RateLimitFilter(property, store), "/docs");
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertNull(response.getHeader(RateLimitFilter.REMAINING_HEADER));
+        verifyNoInteractions(store);
+    }
+
+    private static MockHttpServletResponse doFilter(RateLimitFilter filter, String uri)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(newRequest(uri), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest newRequest(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
@@ -0,0 +1,74 @@
+package com.lucasjosino.hawapi.filters.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnakeCaseFilterTest {
+
+    private final SnakeCaseFilter filter = new SnakeCaseFilter();
+
+    @Test
+    void shouldConvertKnownParamsToCamelCase() {
+        assertEquals("firstName", SnakeCaseFilter.toCamelCase("first_name"));
+        assertEquals("firstName", SnakeCaseFilter.toCamelCase("firstName"));
+        assertEquals("ageRating", SnakeCaseFilter.toCamelCase("age_rating"));
+        assertEquals("updatedAt", SnakeCaseFilter.toCamelCase("updated_at"));
+        assertEquals("language", SnakeCaseFilter.toCamelCase("language"));
+        assertEquals("page", SnakeCaseFilter.toCamelCase("page"));
+    }
+
+    @Test
+    void shouldConvertUnknownParamsToCamelCase() {
+        assertEquals("loremIpsum", SnakeCaseFilter.toCamelCase("lorem_ipsum"));
+        assertEquals("lorem", SnakeCaseFilter.toCamelCase("lorem"));
+    }
+
+    @Test
+    void shouldNotWrapRequestWithoutParams() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/docs");
+
+        assertSame(request, doFilter(request));
+    }
+
+    @Test
+    void shouldNotWrapRequestWithCamelCaseParams() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/actors");
+        request.addParameter("page", "1");
+        request.addParameter("firstName", "Lorem");
+
+        assertSame(request, doFilter(request));
+    }
+
+    @Test
+    void shouldWrapRequestWithSnakeCaseParams() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/actors");
+        request.addParameter("page", "1");
+        request.addParameter("first_name", "Lorem", "Ipsum");
+
+        ServletRequest res = doFilter(request);
+
+        assertNotSame(request, res);
+        assertEquals("Lorem", res.getParameter("firstName"));
+        assertArrayEquals(new String[]{"Lorem", "Ipsum"}, res.getParameterValues("firstName"));
+        assertNull(res.getParameter("first_name"));
+        assertEquals("1", res.getParameter("page"));
+        assertEquals(2, res.getParameterMap().size());
+        assertEquals(Arrays.asList("page", "firstName"), Collections.list(res.getParameterNames()));
+    }
+
+    private ServletRequest doFilter(MockHttpServletRequest request) throws ServletException, IOException {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain.getRequest();
+    }
+}
@@ -10,6 +10,7 @@ import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
 import com.lucasjosino.hawapi.repositories.EpisodeRepository;
 import com.lucasjosino.hawapi.repositories.translation.EpisodeTranslationRepository;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.modelmapper.ModelMapper;
@@ -103,6 +104,89 @@ class EpisodeIntegrationTest extends DatabaseContainerInitializer {
                 .andExpect(jsonPath("$", hasSize(1)));
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenETagMatchesOnAllEpisodes() throws Exception {
+        String etag = mockMvc.perform(get(URL))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get(URL).header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldReturnNewETagWhenEpisodeChangesOnAllEpisodes() throws Exception {
+        String etag = mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        repository.deleteAll();
+
+        mockMvc.perform(get(URL).header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenNotModifiedSinceOnEpisode() throws Exception {
+        // Last-Modified is only sent after the second of the last write.
+        Thread.sleep(1000);
+
+        String lastModified = mockMvc.perform(get(URL + "/" + episodeDTO.getUuid()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn()
+                .getResponse()
+                .getHeader("Last-Modified");
+
+        mockMvc.perform(get(URL + "/" + episodeDTO.getUuid()).header("If-Modified-Since", lastModified))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Last-Modified", lastModified))
+                .andExpect(content().string(""));
+
+        translationRepository.deleteAll();
+
+        mockMvc.perform(get(URL + "/" + episodeDTO.getUuid()).header("If-Modified-Since", lastModified))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("Last-Modified"));
+    }
+
+    @Test
+    void shouldIncrementEpisodesVersionWhenEpisodeChanges() throws Exception {
+        long version = getEpisodesVersion();
+
+        repository.deleteAll();
+
+        Assertions.assertTrue(getEpisodesVersion() > version);
+    }
+
+    @Test
+    void shouldIgnoreUnknownParamsAndWhitespacesOnAllEpisodes() throws Exception {
+        mockMvc.perform(get(URL)
+                        .param("title", "  " + episodeDTO.getTitle() + " ")
+                        .param("duration", ": " + episodeDTO.getDuration() + ", 0")
+                        .param("foo", "bar"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pagination-Item-Total", "1"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].uuid").value(String.valueOf(episodeDTO.getUuid())));
+    }
+
     @Test
     void shouldReturnAllEpisodesWithPortugueseLanguage() throws Exception {
         mockMvc.perform(get(URL))
@@ -153,6 +237,77 @@ class EpisodeIntegrationTest extends DatabaseContainerInitializer {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void shouldReturnAllEpisodesUsingKeysetMode() throws Exception {
+        EpisodeModel newEpisode = mapper.map(episodeDTO, EpisodeModel.class);
+        newEpisode.setUuid(UUID.randomUUID());
+        repository.save(newEpisode);
+
+        EpisodeTranslation newTranslation = mapper.map(translationDTO, EpisodeTranslation.class);
+        newTranslation.setEpisodeUuid(newEpisode.getUuid());
+        translationRepository.save(newTranslation);
+
+        String cursor = mockMvc.perform(get(URL + "?size=1&after="))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pagination-Page-Size", "1"))
+                .andExpect(header().string("X-Pagination-Item-Total", "2"))
+                .andExpect(header().exists("X-Pagination-Next-Cursor"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].uuid").value(episodeDTO.getUuid().toString()))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Pagination-Next-Cursor");
+
+        mockMvc.perform(get(URL + "?size=1&after=" + cursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pagination-Page-Size", "1"))
+                .andExpect(header().doesNotExist("X-Pagination-Next-Cursor"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].uuid").value(newEpisode.getUuid().toString()));
+    }
+
+    @Test
+    void shouldReturnAllEpisodesWithoutCount() throws Exception {
+        mockMvc.perform(get(URL + "?count=false"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pagination-Page-Index", "1"))
+                .andExpect(header().string("X-Pagination-Page-Size", "1"))
+                .andExpect(header().doesNotExist("X-Pagination-Page-Total"))
+                .andExpect(header().doesNotExist("X-Pagination-Item-Total"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void shouldUpdateCachedCountAfterSaveEpisode() throws Exception {
+        mockMvc.perform(get(URL + "?size=1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pagination-Item-Total", "1"));
+
+        EpisodeModel newEpisode = mapper.map(episodeDTO, EpisodeModel.class);
+        newEpisode.setUuid(UUID.randomUUID());
+        repository.save(newEpisode);
+
+        EpisodeTranslation newTranslation = mapper.map(translationDTO, EpisodeTranslation.class);
+        newTranslation.setEpisodeUuid(newEpisode.getUuid());
+        translationRepository.save(newTranslation);
+
+        mockMvc.perform(get(URL + "?size=1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pagination-Page-Total", "2"))
+                .andExpect(header().string("X-Pagination-Item-Total", "2"));
+    }
+
+    @Test
+    void whenInvalidCursorIsProvidedShouldReturnBadRequestExceptionOnAllEpisodes() throws Exception {
+        mockMvc.perform(get(URL + "?after=invalid"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturnRandomEpisode() throws Exception {
         mockMvc.perform(get(URL + "/random"))
@@ -176,6 +331,19 @@ class EpisodeIntegrationTest extends DatabaseContainerInitializer {
                 .andExpect(jsonPath("$.updated_at").exists());
     }
 
+    @Test
+    void shouldRebuildRandomIndexAfterDeleteEpisode() throws Exception {
+        mockMvc.perform(get(URL + "/random"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.uuid").value(String.valueOf(episodeDTO.getUuid())));
+
+        repository.deleteAll();
+
+        mockMvc.perform(get(URL + "/random"))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldReturnRandomEpisodeTranslation() throws Exception {
         mockMvc.perform(get(URL + "/" + episodeDTO.getUuid() + "/translations/random"))
@@ -581,4 +749,14 @@ class EpisodeIntegrationTest extends DatabaseContainerInitializer {
                 .andDo(print())
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    private long getEpisodesVersion() throws Exception {
+        String body = mockMvc.perform(get("/api/versions"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(body).get("episodes").asLong();
+    }
+}
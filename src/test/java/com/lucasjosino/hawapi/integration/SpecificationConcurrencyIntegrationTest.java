@@ -0,0 +1,123 @@
+package com.lucasjosino.hawapi.integration;
+
+import com.lucasjosino.hawapi.configs.IntegrationTestConfig;
+import com.lucasjosino.hawapi.configs.initializer.DatabaseContainerInitializer;
+import com.lucasjosino.hawapi.models.EpisodeModel;
+import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
+import com.lucasjosino.hawapi.repositories.EpisodeRepository;
+import com.lucasjosino.hawapi.repositories.translation.EpisodeTranslationRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Fire a lot of parallel filtered requests, every request should only return its own item.
+ * <p> Filters are defined for both root (duration) and translation (title) fields.
+ */
+@IntegrationTestConfig
+class SpecificationConcurrencyIntegrationTest extends DatabaseContainerInitializer {
+
+    private static final String URL = "/api/v1/episodes";
+
+    private static final int ITEMS = 10;
+
+    private static final int REQUESTS = 2000;
+
+    private static final int THREADS = 32;
+
+    private final List<EpisodeModel> episodes = new ArrayList<>();
+
+    @Autowired
+    private EpisodeRepository repository;
+
+    @Autowired
+    private EpisodeTranslationRepository translationRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    void setUp() {
+        for (int i = 0; i < ITEMS; i++) {
+            EpisodeModel episode = new EpisodeModel();
+            episode.setUuid(UUID.randomUUID());
+            episode.setHref(URL + "/" + episode.getUuid());
+            episode.setDuration(1000 + i);
+            episode.setEpisodeNum((byte) i);
+            episode.setSeason("/api/v1/seasons/1");
+            episode.setCreatedAt(LocalDateTime.now());
+            episode.setUpdatedAt(LocalDateTime.now());
+            repository.save(episode);
+
+            EpisodeTranslation translation = new EpisodeTranslation();
+            translation.setEpisodeUuid(episode.getUuid());
+            translation.setLanguage("en-US");
+            translation.setTitle("Episode " + i);
+            translation.setDescription("Lorem ipsum dolor sit amet.");
+            translationRepository.save(translation);
+
+            episodes.add(episode);
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldReturnOnlyFilteredItemOnParallelRequests() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                final int index = i % ITEMS;
+                final boolean byTitle = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    try {
+                        start.await();
+
+                        EpisodeModel episode = episodes.get(index);
+                        String name = byTitle ? "title" : "duration";
+                        String value = byTitle ? "Episode " + index : String.valueOf(episode.getDuration());
+
+                        mockMvc.perform(get(URL).param(name, value))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(1)))
+                                .andExpect(jsonPath("$[0].uuid").value(episode.getUuid().toString()))
+                                .andExpect(jsonPath("$[0].duration").value(episode.getDuration()));
+                    } catch (Throwable throwable) {
+                        errors.add(throwable);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(errors.isEmpty(), "Parallel filtered requests failed: " + errors.size() + " -> " + errors);
+    }
+}
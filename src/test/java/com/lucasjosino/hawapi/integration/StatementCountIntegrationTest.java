@@ -0,0 +1,123 @@
+package com.lucasjosino.hawapi.integration;
+
+import com.lucasjosino.hawapi.configs.IntegrationTestConfig;
+import com.lucasjosino.hawapi.configs.initializer.DatabaseContainerInitializer;
+import com.lucasjosino.hawapi.models.EpisodeModel;
+import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
+import com.lucasjosino.hawapi.repositories.EpisodeRepository;
+import com.lucasjosino.hawapi.repositories.translation.EpisodeTranslationRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Count all SQL statements executed by a single list request.
+ */
+@IntegrationTestConfig
+class StatementCountIntegrationTest extends DatabaseContainerInitializer {
+
+    private static final String URL = "/api/v1/episodes";
+
+    @Autowired
+    private EpisodeRepository repository;
+
+    @Autowired
+    private EpisodeTranslationRepository translationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void setUp() {
+        for (int i = 0; i < 2; i++) {
+            EpisodeModel episode = new EpisodeModel();
+            episode.setUuid(UUID.randomUUID());
+            episode.setHref(URL + "/" + episode.getUuid());
+            episode.setDuration(1000 + i);
+            episode.setEpisodeNum((byte) i);
+            episode.setSeason("/api/v1/seasons/1");
+            episode.setCreatedAt(LocalDateTime.now());
+            episode.setUpdatedAt(LocalDateTime.now());
+            repository.save(episode);
+
+            EpisodeTranslation translation = new EpisodeTranslation();
+            translation.setEpisodeUuid(episode.getUuid());
+            translation.setLanguage("en-US");
+            translation.setTitle("Episode " + i);
+            translation.setDescription("Lorem ipsum dolor sit amet.");
+            translationRepository.save(translation);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics.clear();
+    }
+
+    @AfterAll
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldFetchAllEpisodesWithTranslationInSingleStatement() throws Exception {
+        // All items fit in a single page, the count can be computed from the page content.
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pagination-Item-Total", "2"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Episode 0"))
+                .andExpect(jsonPath("$[1].title").value("Episode 1"));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldFetchAllEpisodesWithoutCountInSingleStatement() throws Exception {
+        mockMvc.perform(get(URL + "?size=1&count=false"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Pagination-Item-Total"))
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldFetchAllEpisodesAndCountInTwoStatements() throws Exception {
+        mockMvc.perform(get(URL + "?size=1&title=*Episode"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pagination-Item-Total", "2"))
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        // Count of the same filter will be reused while episodes don't change.
+        statistics.clear();
+        mockMvc.perform(get(URL + "?size=1&page=2&title=*Episode"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pagination-Item-Total", "2"))
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -21,8 +21,13 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.*;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -573,4 +578,135 @@ public class AuthIntegrationTest extends DatabaseContainerInitializer {
                 .andExpect(jsonPath("$.timestamps").exists())
                 .andExpect(jsonPath("$.url").value(URL + "/delete"));
     }
+
+    @Test
+    void shouldRejectRevokedToken() throws Exception {
+        String token = authenticate();
+
+        mockMvc.perform(post(URL + "/revoke").header("Authorization", "Bearer " + token))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post(URL + "/revoke").header("Authorization", "Bearer " + token))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldRejectTokenOfDeletedUser() throws Exception {
+        String token = authenticate();
+
+        UserAuthDTO deletion = mapper.map(userDTO, UserAuthDTO.class);
+        deletion.setPassword("MY_SUPER_SECRET_PASSWORD");
+
+        mockMvc.perform(post(URL + "/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(deletion))
+                )
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post(URL + "/revoke").header("Authorization", "Bearer " + token))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldRefreshTokenOnlyOnce() throws Exception {
+        String refreshToken = authenticate("refresh_token");
+        String content = objectMapper.writeValueAsString(new HashMap<String, String>() {{
+            put("refresh_token", refreshToken);
+        }});
+
+        mockMvc.perform(post(URL + "/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(userDTO.getUsername()))
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(jsonPath("$.refresh_token").isNotEmpty())
+                .andExpect(jsonPath("$.expires_in").isNumber());
+
+        mockMvc.perform(post(URL + "/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content)
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldRefreshTokenOnlyOnceWithConcurrentRequests() throws Exception {
+        String refreshToken = authenticate("refresh_token");
+        String content = objectMapper.writeValueAsString(new HashMap<String, String>() {{
+            put("refresh_token", refreshToken);
+        }});
+
+        int requests = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<Future<Integer>> statuses = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            statuses.add(executor.submit(() -> {
+                start.await();
+                return mockMvc.perform(post(URL + "/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(content)
+                        )
+                        .andReturn()
+                        .getResponse()
+                        .getStatus();
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+
+        int ok = 0;
+        for (Future<Integer> status : statuses) {
+            int value = status.get(30, TimeUnit.SECONDS);
+            if (value == HttpStatus.OK.value()) {
+                ok++;
+            } else {
+                assertEquals(HttpStatus.UNAUTHORIZED.value(), value);
+            }
+        }
+
+        assertEquals(1, ok);
+    }
+
+    @Test
+    void whenAccessTokenIsProvidedShouldThrowUserUnauthorizedExceptionOnRefreshToken() throws Exception {
+        String token = authenticate();
+
+        mockMvc.perform(post(URL + "/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new HashMap<String, String>() {{
+                            put("refresh_token", token);
+                        }}))
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String authenticate() throws Exception {
+        return authenticate("token");
+    }
+
+    private String authenticate(String field) throws Exception {
+        UserAuthDTO authentication = mapper.map(userDTO, UserAuthDTO.class);
+        authentication.setPassword("MY_SUPER_SECRET_PASSWORD");
+
+        String content = mockMvc.perform(post(URL + "/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(authentication))
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(content).get(field).asText();
+    }
 }
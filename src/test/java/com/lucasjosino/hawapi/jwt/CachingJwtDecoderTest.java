@@ -0,0 +1,200 @@
+package com.lucasjosino.hawapi.jwt;
+
+import com.lucasjosino.hawapi.models.properties.JwtProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtDecoder delegate;
+
+    @Mock
+    private OAuth2TokenValidator<Jwt> validator;
+
+    private JwtProperty.DecoderCache spec;
+
+    private AtomicLong nanos;
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        spec = new JwtProperty.DecoderCache();
+        spec.setMaximumTtl(Duration.ofHours(1));
+        nanos = new AtomicLong();
+        clock = new MutableClock(Instant.parse("2023-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void shouldDecodeOnlyOnce() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(Duration.ofMinutes(15)));
+        when(validator.validate(any())).thenReturn(OAuth2TokenValidatorResult.success());
+        CachingJwtDecoder decoder = create();
+
+        Jwt first = decoder.decode(TOKEN);
+        Jwt second = decoder.decode(TOKEN);
+
+        assertSame(first, second);
+        verify(delegate, times(1)).decode(TOKEN);
+        assertEquals(1, decoder.getHitCount());
+        assertEquals(1, decoder.getMissCount());
+    }
+
+    @Test
+    void shouldValidateCachedToken() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(Duration.ofMinutes(15)));
+        when(validator.validate(any())).thenReturn(
+                OAuth2TokenValidatorResult.success(),
+                OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token", "Token has been revoked!", null))
+        );
+        CachingJwtDecoder decoder = create();
+
+        decoder.decode(TOKEN);
+        JwtValidationException exception = assertThrows(JwtValidationException.class, () -> decoder.decode(TOKEN));
+
+        assertTrue(exception.getMessage().contains("Token has been revoked!"));
+        verify(delegate, times(1)).decode(TOKEN);
+        verify(validator, times(2)).validate(any());
+    }
+
+    @Test
+    void shouldRejectCachedTokenAfterExpiration() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(Duration.ofMinutes(15)));
+        JwtTimestampValidator timestampValidator = new JwtTimestampValidator(Duration.ZERO);
+        timestampValidator.setClock(clock);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, timestampValidator, spec, nanos::get, clock);
+        decoder.decode(TOKEN);
+
+        // Only the validator clock, the entry is still cached.
+        clock.advance(Duration.ofMinutes(16));
+
+        assertThrows(JwtValidationException.class, () -> decoder.decode(TOKEN));
+        verify(delegate, times(1)).decode(TOKEN);
+    }
+
+    @Test
+    void shouldExpireAtTokenExpiration() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(Duration.ofMinutes(15)));
+        when(validator.validate(any())).thenReturn(OAuth2TokenValidatorResult.success());
+        CachingJwtDecoder decoder = create();
+        decoder.decode(TOKEN);
+
+        advance(Duration.ofMinutes(14));
+        decoder.decode(TOKEN);
+        verify(delegate, times(1)).decode(TOKEN);
+
+        advance(Duration.ofMinutes(2));
+        decoder.decode(TOKEN);
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void shouldExpireAtMaximumTtl() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(Duration.ofDays(7)));
+        when(validator.validate(any())).thenReturn(OAuth2TokenValidatorResult.success());
+        CachingJwtDecoder decoder = create();
+        decoder.decode(TOKEN);
+
+        advance(Duration.ofMinutes(59));
+        decoder.decode(TOKEN);
+        verify(delegate, times(1)).decode(TOKEN);
+
+        advance(Duration.ofMinutes(2));
+        decoder.decode(TOKEN);
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void shouldNotCacheInvalidToken() {
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("Signed JWT rejected: Invalid signature"));
+        CachingJwtDecoder decoder = create();
+
+        assertThrows(BadJwtException.class, () -> decoder.decode(TOKEN));
+        assertThrows(BadJwtException.class, () -> decoder.decode(TOKEN));
+
+        assertEquals(0, decoder.getSize());
+        verify(delegate, times(2)).decode(TOKEN);
+        verifyNoInteractions(validator);
+    }
+
+    @Test
+    void shouldNotCacheExpiredToken() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(Duration.ofMinutes(-1)));
+        when(validator.validate(any())).thenReturn(OAuth2TokenValidatorResult.success());
+        CachingJwtDecoder decoder = create();
+
+        decoder.decode(TOKEN);
+        decoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    private CachingJwtDecoder create() {
+        return new CachingJwtDecoder(delegate, validator, spec, nanos::get, clock);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+        clock.advance(duration);
+    }
+
+    private Jwt jwt(Duration ttl) {
+        Instant now = clock.instant();
+        return Jwt.withTokenValue(TOKEN)
+                .header("alg", "RS256")
+                .issuedAt(now.minus(Duration.ofMinutes(5)))
+                .expiresAt(now.plus(ttl))
+                .claim("username", "lorem")
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
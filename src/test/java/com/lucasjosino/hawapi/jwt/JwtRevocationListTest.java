@@ -0,0 +1,179 @@
+package com.lucasjosino.hawapi.jwt;
+
+import com.lucasjosino.hawapi.models.properties.JwtProperty;
+import com.lucasjosino.hawapi.models.user.RevocationModel;
+import com.lucasjosino.hawapi.models.user.RevocationModel.RevocationType;
+import com.lucasjosino.hawapi.repositories.auth.RevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtRevocationListTest {
+
+    private static final String TOKEN_ID = "a1b2c3";
+
+    private static final String USERNAME = "lorem";
+
+    @Mock
+    private RevocationRepository repository;
+
+    private JwtProperty jwtProperty;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperty = new JwtProperty();
+        jwtProperty.getRevocation().setRefreshInterval(Duration.ZERO);
+    }
+
+    @Test
+    void shouldRejectRevokedTokenOnly() {
+        JwtRevocationList revocationList = create();
+
+        revocationList.revokeToken(TOKEN_ID);
+
+        assertTrue(revocationList.isRevoked(TOKEN_ID, USERNAME, Instant.now()));
+        assertFalse(revocationList.isRevoked("d4e5f6", USERNAME, Instant.now()));
+        assertEquals(1, revocationList.getRevokedCount());
+        assertEquals(2, revocationList.getCheckCount());
+    }
+
+    @Test
+    void shouldConsumeTokenOnlyOnce() {
+        JwtRevocationList revocationList = create();
+        when(repository.insertTokenIfAbsent(eq(TOKEN_ID), any())).thenReturn(1, 0);
+
+        assertTrue(revocationList.consumeToken(TOKEN_ID));
+        assertTrue(revocationList.isRevoked(TOKEN_ID, USERNAME, Instant.now()));
+        assertFalse(revocationList.consumeToken(TOKEN_ID));
+        verify(repository, times(2)).insertTokenIfAbsent(eq(TOKEN_ID), any());
+    }
+
+    @Test
+    void shouldUseExactEntriesOnFilterMatch() {
+        // A small and full bloom filter, many values will match.
+        jwtProperty.getRevocation().setExpectedInsertions(10);
+        jwtProperty.getRevocation().setFalsePositiveProbability(0.5);
+        JwtRevocationList revocationList = create();
+        for (int i = 0; i < 9; i++) {
+            revocationList.revokeToken(TOKEN_ID + i);
+        }
+        revocationList.revokeToken(TOKEN_ID);
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(revocationList.isRevoked("token-" + i, "user-" + i, Instant.now()));
+        }
+
+        assertTrue(revocationList.getFilterMatchCount() > 0);
+        assertEquals(0, revocationList.getRevokedCount());
+        assertTrue(revocationList.isRevoked(TOKEN_ID, null, null));
+    }
+
+    @Test
+    void shouldRejectTokensIssuedBeforeUserRevocation() {
+        JwtRevocationList revocationList = create();
+        Instant issuedAt = Instant.now().minusSeconds(60);
+
+        revocationList.revokeUser(USERNAME);
+
+        assertTrue(revocationList.isRevoked(TOKEN_ID, USERNAME, issuedAt));
+        assertTrue(revocationList.isRevoked(TOKEN_ID, USERNAME, null));
+        assertFalse(revocationList.isRevoked(TOKEN_ID, "ipsum", issuedAt));
+    }
+
+    @Test
+    void shouldAcceptTokensIssuedOnSameSecondAfterUserRevocation() {
+        Instant revokedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusMillis(200);
+        when(repository.findAllByRevokedAtAfter(any())).thenReturn(Collections.singletonList(
+                new RevocationModel(RevocationType.USER, USERNAME, revokedAt)
+        ));
+        JwtRevocationList revocationList = create();
+
+        assertTrue(revocationList.isRevoked(TOKEN_ID, USERNAME, revokedAt.minusMillis(100)));
+        assertTrue(revocationList.isRevoked(TOKEN_ID, USERNAME, revokedAt));
+        assertFalse(revocationList.isRevoked(TOKEN_ID, USERNAME, revokedAt.plusMillis(1)));
+    }
+
+    @Test
+    void shouldGetIssuedAtInMillis() {
+        Instant now = Instant.ofEpochMilli(1_700_000_000_123L);
+
+        Jwt withMillis = jwt(now.truncatedTo(ChronoUnit.SECONDS), now.toEpochMilli());
+        Jwt withoutMillis = jwt(now.truncatedTo(ChronoUnit.SECONDS), null);
+
+        assertEquals(now, JwtManager.getIssuedAt(withMillis));
+        assertEquals(now.truncatedTo(ChronoUnit.SECONDS), JwtManager.getIssuedAt(withoutMillis));
+    }
+
+    @Test
+    void shouldRebuildFromRepository() {
+        Instant now = Instant.now();
+        when(repository.findAllByRevokedAtAfter(any())).thenReturn(Arrays.asList(
+                new RevocationModel(RevocationType.TOKEN, TOKEN_ID, now),
+                new RevocationModel(RevocationType.USER, USERNAME, now)
+        ));
+
+        JwtRevocationList revocationList = create();
+
+        assertEquals(2, revocationList.getSize());
+        assertTrue(revocationList.isRevoked(TOKEN_ID, null, null));
+        assertTrue(revocationList.isRevoked(null, USERNAME, now.minusSeconds(1)));
+
+        // Only revocations of valid (not expired) tokens are loaded.
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(repository).findAllByRevokedAtAfter(since.capture());
+        assertFalse(since.getValue().isBefore(now.minus(jwtProperty.getMaximumTokenTtl())));
+        assertTrue(since.getValue().isBefore(now));
+    }
+
+    @Test
+    void shouldGrowWhenFull() {
+        jwtProperty.getRevocation().setExpectedInsertions(2);
+        JwtRevocationList revocationList = create();
+
+        for (int i = 0; i < 10; i++) {
+            revocationList.revokeToken("token-" + i);
+        }
+
+        assertTrue(revocationList.getCapacity() >= 10);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(revocationList.isRevoked("token-" + i, null, null));
+        }
+    }
+
+    private JwtRevocationList create() {
+        lenient().when(repository.save(any(RevocationModel.class))).then(returnsFirstArg());
+        lenient().when(repository.insertTokenIfAbsent(anyString(), any())).thenReturn(1);
+
+        JwtRevocationList revocationList = new JwtRevocationList(repository, jwtProperty);
+        revocationList.rebuild();
+        return revocationList;
+    }
+
+    private static Jwt jwt(Instant issuedAt, Long issuedAtMillis) {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .issuedAt(issuedAt)
+                .claim("username", USERNAME);
+        if (issuedAtMillis != null) builder.claim(JwtManager.JWT_ISSUED_AT_MILLIS_NAME, issuedAtMillis);
+
+        return builder.build();
+    }
+}
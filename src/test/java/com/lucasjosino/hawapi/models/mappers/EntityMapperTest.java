@@ -0,0 +1,250 @@
+package com.lucasjosino.hawapi.models.mappers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucasjosino.hawapi.configs.MappersConfig;
+import com.lucasjosino.hawapi.models.ActorModel;
+import com.lucasjosino.hawapi.models.ActorSocialModel;
+import com.lucasjosino.hawapi.models.EpisodeModel;
+import com.lucasjosino.hawapi.models.SoundtrackModel;
+import com.lucasjosino.hawapi.models.dto.ActorDTO;
+import com.lucasjosino.hawapi.models.dto.ActorSocialDTO;
+import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
+import com.lucasjosino.hawapi.models.dto.SoundtrackDTO;
+import com.lucasjosino.hawapi.models.dto.translation.EpisodeTranslationDTO;
+import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.Conditions;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.convention.NameTokenizers;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityMapperTest {
+
+    private static final ObjectMapper objectMapper = new MappersConfig().objectMapper();
+
+    /**
+     * The previous (reflection based) mapper, used to validate the explicit mappers.
+     */
+    private static final ModelMapper looseMapper = new ModelMapper();
+
+    static {
+        looseMapper.getConfiguration()
+                .setSkipNullEnabled(true)
+                .setPropertyCondition(Conditions.isNotNull())
+                .setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
+                .setMatchingStrategy(MatchingStrategies.LOOSE)
+                .setSourceNameTokenizer(NameTokenizers.UNDERSCORE);
+    }
+
+    private final EntityMapper mapper = new MappersConfig().entityMapper();
+
+    private EpisodeModel episodeModel;
+
+    private ActorModel actorModel;
+
+    @BeforeEach
+    void setUp() {
+        episodeModel = new EpisodeModel();
+        episodeModel.setId(1);
+        episodeModel.setUuid(UUID.randomUUID());
+        episodeModel.setHref("/api/v1/episodes/" + episodeModel.getUuid());
+        episodeModel.setDuration(12482342);
+        episodeModel.setEpisodeNum((byte) 2);
+        episodeModel.setNextEpisode("/api/v1/episodes/3");
+        episodeModel.setPrevEpisode("/api/v1/episodes/1");
+        episodeModel.setSeason("/api/v1/seasons/1");
+        episodeModel.setThumbnail("https://cdn.theproject.id/hawapi/image.jpg");
+        episodeModel.setImages(new ArrayList<>(Arrays.asList("https://example.com/image.jpg")));
+        episodeModel.setSources(new ArrayList<>(Arrays.asList("https://example.com")));
+        episodeModel.setCreatedAt(LocalDateTime.now());
+        episodeModel.setUpdatedAt(LocalDateTime.now());
+
+        EpisodeTranslation translation = new EpisodeTranslation();
+        translation.setId(2);
+        translation.setEpisodeUuid(episodeModel.getUuid());
+        translation.setLanguage("en-US");
+        translation.setTitle("Lorem Ipsum");
+        translation.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
+        episodeModel.setTranslation(translation);
+
+        ActorSocialModel social = new ActorSocialModel();
+        social.setId(3);
+        social.setSocial("Twitter");
+        social.setHandle("@lorem");
+        social.setUrl("https://twitter.com/lorem");
+
+        actorModel = new ActorModel();
+        actorModel.setId(4);
+        actorModel.setUuid(UUID.randomUUID());
+        actorModel.setHref("/api/v1/actors/" + actorModel.getUuid());
+        actorModel.setFirstName("Lorem");
+        actorModel.setLastName("Ipsum");
+        actorModel.setBirthDate(LocalDate.of(2000, 1, 1));
+        actorModel.setGender((byte) 1);
+        actorModel.setSeasons(new ArrayList<>(Arrays.asList("/api/v1/seasons/1")));
+        actorModel.setCharacter("/api/v1/characters/1");
+        actorModel.setSocials(new HashSet<>(Collections.singletonList(social)));
+        social.setActorUuid(actorModel.getUuid());
+    }
+
+    @Test
+    void shouldMapEpisodeModelToDTO() throws JsonProcessingException {
+        EpisodeDTO res = mapper.map(episodeModel, EpisodeDTO.class);
+
+        assertEquals("Lorem Ipsum", res.getTitle());
+        assertEquals("en-US", res.getLanguage());
+        assertJsonEquals(looseMapper.map(episodeModel, EpisodeDTO.class), res);
+    }
+
+    @Test
+    void shouldMapEpisodeDTOToModel() {
+        EpisodeDTO dto = mapper.map(episodeModel, EpisodeDTO.class);
+
+        EpisodeModel res = mapper.map(dto, EpisodeModel.class);
+
+        assertNull(res.getId());
+        assertEquals(episodeModel.getUuid(), res.getUuid());
+        assertEquals(episodeModel.getDuration(), res.getDuration());
+        assertNotNull(res.getTranslation());
+        assertNull(res.getTranslation().getEpisodeUuid());
+        assertEquals("Lorem Ipsum", res.getTranslation().getTitle());
+        assertEquals("en-US", res.getTranslation().getLanguage());
+    }
+
+    @Test
+    void shouldCopyEpisodeModel() {
+        EpisodeModel res = mapper.map(episodeModel, EpisodeModel.class);
+
+        assertNotSame(episodeModel, res);
+        assertEquals(episodeModel.getId(), res.getId());
+        assertEquals(episodeModel.getImages(), res.getImages());
+        assertNotSame(episodeModel.getImages(), res.getImages());
+        assertNotSame(episodeModel.getTranslation(), res.getTranslation());
+        assertEquals(episodeModel.getTranslation().getId(), res.getTranslation().getId());
+        assertEquals(episodeModel.getUuid(), res.getTranslation().getEpisodeUuid());
+    }
+
+    @Test
+    void shouldMapActorModelToDTO() throws JsonProcessingException {
+        ActorDTO res = mapper.map(actorModel, ActorDTO.class);
+
+        assertEquals(1, res.getSocials().size());
+        assertJsonEquals(looseMapper.map(actorModel, ActorDTO.class), res);
+    }
+
+    @Test
+    void shouldCopyActorSocials() {
+        ActorModel res = mapper.map(actorModel, ActorModel.class);
+
+        ActorSocialModel original = actorModel.getSocials().iterator().next();
+        ActorSocialModel social = res.getSocials().iterator().next();
+        assertNotSame(original, social);
+        assertEquals(original.getId(), social.getId());
+        assertEquals(actorModel.getUuid(), social.getActorUuid());
+    }
+
+    @Test
+    void shouldMapCollectionToArray() {
+        List<ActorSocialModel> socials = new ArrayList<>(actorModel.getSocials());
+
+        ActorSocialDTO[] res = mapper.map(socials, ActorSocialDTO[].class);
+
+        assertEquals(1, res.length);
+        assertEquals("@lorem", res[0].getHandle());
+    }
+
+    @Test
+    void shouldMapSubclassWithMapperOfSuperclass() {
+        EpisodeModel proxy = new EpisodeModel() {};
+        proxy.setUuid(episodeModel.getUuid());
+
+        EpisodeDTO res = mapper.map(proxy, EpisodeDTO.class);
+
+        assertEquals(episodeModel.getUuid(), res.getUuid());
+    }
+
+    @Test
+    void shouldSkipNullDurationWhenMappingSoundtrackDTO() {
+        SoundtrackDTO dto = new SoundtrackDTO();
+        dto.setName("Lorem Ipsum");
+
+        SoundtrackModel res = mapper.map(dto, SoundtrackModel.class);
+
+        assertEquals(0, res.getDuration());
+        assertEquals("Lorem Ipsum", res.getName());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenMapperIsNotRegistered() {
+        assertThrows(IllegalArgumentException.class, () -> mapper.map(episodeModel, ActorDTO.class));
+        assertThrows(IllegalArgumentException.class, () -> mapper.map(null, ActorDTO.class));
+    }
+
+    @Test
+    void shouldMergeEpisodePatchLikeJsonMerge() throws IOException {
+        EpisodeDTO patch = new EpisodeDTO();
+        patch.setUuid(UUID.randomUUID());
+        patch.setHref("/api/v1/episodes/lorem");
+        patch.setTitle("Ipsum Lorem");
+        patch.setDuration(1);
+        patch.setImages(Collections.singletonList("https://example.com/new.jpg"));
+        patch.setThumbnail("https://example.com/new.jpg");
+
+        // The previous (JSON) merge.
+        EpisodeModel expected = mapper.map(episodeModel, EpisodeModel.class);
+        objectMapper.readerForUpdating(expected).readValue((JsonNode) objectMapper.valueToTree(patch));
+
+        EpisodeModel res = mapper.merge(patch, episodeModel);
+
+        assertSame(episodeModel, res);
+        assertEquals(1, res.getDuration());
+        assertEquals((byte) 2, res.getEpisodeNum());
+        assertEquals("/api/v1/episodes/" + res.getUuid(), res.getHref());
+        assertEquals("Lorem Ipsum", res.getTranslation().getTitle());
+        assertJsonEquals(expected, res);
+    }
+
+    @Test
+    void shouldMergeEpisodeTranslationPatch() {
+        EpisodeTranslation translation = episodeModel.getTranslation();
+        EpisodeTranslationDTO patch = new EpisodeTranslationDTO();
+        patch.setTitle("Ipsum Lorem");
+
+        EpisodeTranslation res = mapper.merge(patch, translation);
+
+        assertSame(translation, res);
+        assertEquals("Ipsum Lorem", res.getTitle());
+        assertEquals("en-US", res.getLanguage());
+        assertEquals(episodeModel.getUuid(), res.getEpisodeUuid());
+        assertNotNull(res.getDescription());
+    }
+
+    @Test
+    void shouldMergeIntoSubclassWithMergerOfSuperclass() {
+        EpisodeModel proxy = new EpisodeModel() {};
+        EpisodeDTO patch = new EpisodeDTO();
+        patch.setSeason("/api/v1/seasons/2");
+
+        assertEquals("/api/v1/seasons/2", mapper.merge(patch, proxy).getSeason());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenMergerIsNotRegistered() {
+        assertThrows(IllegalArgumentException.class, () -> mapper.merge(new ActorDTO(), episodeModel));
+        assertThrows(IllegalArgumentException.class, () -> mapper.merge(null, episodeModel));
+    }
+
+    private static void assertJsonEquals(Object expected, Object actual) throws JsonProcessingException {
+        assertEquals(objectMapper.writeValueAsString(expected), objectMapper.writeValueAsString(actual));
+    }
+}
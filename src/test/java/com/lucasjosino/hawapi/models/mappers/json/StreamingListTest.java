@@ -0,0 +1,195 @@
+package com.lucasjosino.hawapi.models.mappers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucasjosino.hawapi.configs.MappersConfig;
+import com.lucasjosino.hawapi.models.EpisodeModel;
+import com.lucasjosino.hawapi.models.GameModel;
+import com.lucasjosino.hawapi.models.LocationModel;
+import com.lucasjosino.hawapi.models.SeasonModel;
+import com.lucasjosino.hawapi.models.base.BaseModel;
+import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
+import com.lucasjosino.hawapi.models.dto.GameDTO;
+import com.lucasjosino.hawapi.models.dto.LocationDTO;
+import com.lucasjosino.hawapi.models.dto.SeasonDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
+import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
+import com.lucasjosino.hawapi.models.translations.GameTranslation;
+import com.lucasjosino.hawapi.models.translations.LocationTranslation;
+import com.lucasjosino.hawapi.models.translations.SeasonTranslation;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingListTest {
+
+    private static final MappersConfig config = new MappersConfig();
+
+    private static final ObjectMapper objectMapper = config.objectMapper();
+
+    private static final EntityMapper mapper = config.entityMapper();
+
+    @Test
+    void shouldWriteEpisodesAsDTOs() throws IOException {
+        EpisodeModel episode = base(new EpisodeModel());
+        episode.setDuration(12482342);
+        episode.setEpisodeNum((byte) 2);
+        episode.setNextEpisode("/api/v1/episodes/3");
+        episode.setSeason("/api/v1/seasons/1");
+        episode.setImages(Arrays.asList("https://example.com/image.jpg", null));
+
+        EpisodeTranslation translation = new EpisodeTranslation();
+        translation.setLanguage("en-US");
+        translation.setTitle("Lorem \"Ipsum\"");
+        translation.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
+        episode.setTranslation(translation);
+
+        StreamingList<EpisodeDTO> list = new StreamingList<>(
+                map(Arrays.asList(episode, base(new EpisodeModel())), EpisodeDTO.class),
+                EpisodeJsonWriter::write
+        );
+
+        assertEquals(objectMapper.writeValueAsString(new ArrayList<>(list)), write(list));
+    }
+
+    @Test
+    void shouldWriteGamesAsDTOs() throws IOException {
+        GameModel game = base(new GameModel());
+        game.setPlaytime(120);
+        game.setAgeRating("16+");
+        game.setPlatforms(Arrays.asList("PC", "PS4"));
+        game.setStores(Collections.singletonList("https://example.com"));
+        game.setModes(Collections.emptyList());
+        game.setReleaseDate(LocalDate.of(2019, 7, 4));
+        game.setWebsite("https://example.com");
+
+        GameTranslation translation = new GameTranslation();
+        translation.setLanguage("en-US");
+        translation.setName("Lorem Ipsum");
+        translation.setGenres(Arrays.asList("Action", "Adventure"));
+        translation.setTrailer("https://example.com/trailer");
+        game.setTranslation(translation);
+
+        StreamingList<GameDTO> list = new StreamingList<>(
+                map(Collections.singletonList(game), GameDTO.class),
+                GameJsonWriter::write
+        );
+
+        assertEquals(objectMapper.writeValueAsString(new ArrayList<>(list)), write(list));
+    }
+
+    @Test
+    void shouldWriteLocationsAsDTOs() throws IOException {
+        LocationModel location = base(new LocationModel());
+        location.setImages(Collections.singletonList("https://example.com/image.jpg"));
+
+        LocationTranslation translation = new LocationTranslation();
+        translation.setLanguage("pt-BR");
+        translation.setName("Lorem Ipsum");
+        translation.setDescription("Ação");
+        location.setTranslation(translation);
+
+        StreamingList<LocationDTO> list = new StreamingList<>(
+                map(Collections.singletonList(location), LocationDTO.class),
+                LocationJsonWriter::write
+        );
+
+        assertEquals(objectMapper.writeValueAsString(new ArrayList<>(list)), write(list));
+    }
+
+    @Test
+    void shouldWriteSeasonsAsDTOs() throws IOException {
+        SeasonModel season = base(new SeasonModel());
+        season.setDurationTotal(102812);
+        season.setSeasonNum((byte) 1);
+        season.setReleaseDate(LocalDate.of(2016, 7, 15));
+        season.setPrevSeason("/api/v1/seasons/1");
+        season.setEpisodes(Arrays.asList("/api/v1/episodes/1", "/api/v1/episodes/2"));
+        season.setBudget(6000000);
+
+        SeasonTranslation translation = new SeasonTranslation();
+        translation.setLanguage("en-US");
+        translation.setTitle("Lorem Ipsum");
+        translation.setGenres(Collections.singletonList("Horror"));
+        translation.setTrailers(Collections.singletonList("https://example.com/trailer"));
+        season.setTranslation(translation);
+
+        StreamingList<SeasonDTO> list = new StreamingList<>(
+                map(Collections.singletonList(season), SeasonDTO.class),
+                SeasonJsonWriter::write
+        );
+
+        assertEquals(objectMapper.writeValueAsString(new ArrayList<>(list)), write(list));
+    }
+
+    @Test
+    void shouldWriteEmptyList() throws IOException {
+        StreamingList<EpisodeDTO> list = new StreamingList<>(Collections.emptyList(), EpisodeJsonWriter::write);
+
+        assertEquals("[]", write(list));
+    }
+
+    @Test
+    void shouldReturnSameDTOs() {
+        List<EpisodeDTO> dtos = map(Collections.singletonList(base(new EpisodeModel())), EpisodeDTO.class);
+        StreamingList<EpisodeDTO> list = new StreamingList<>(dtos, EpisodeJsonWriter::write);
+
+        assertEquals(1, list.size());
+        assertSame(dtos.get(0), list.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(new EpisodeDTO()));
+    }
+
+    @Test
+    void shouldWriteListWithMessageConverter() throws IOException {
+        StreamingListHttpMessageConverter converter = new StreamingListHttpMessageConverter(objectMapper);
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        StreamingList<EpisodeDTO> list = new StreamingList<>(
+                map(Collections.singletonList(base(new EpisodeModel())), EpisodeDTO.class),
+                EpisodeJsonWriter::write
+        );
+
+        assertTrue(converter.canWrite(List.class, list.getClass(), null));
+        assertFalse(converter.canWrite(List.class, ArrayList.class, null));
+        assertFalse(converter.canRead(List.class, null, null));
+
+        converter.write(list, List.class, null, message);
+
+        assertEquals(objectMapper.writeValueAsString(new ArrayList<>(list)), message.getBodyAsString());
+    }
+
+    private static String write(StreamingList<?> list) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            list.writeTo(generator, objectMapper.getSerializerProviderInstance());
+        }
+
+        return writer.toString();
+    }
+
+    private static <D> List<D> map(List<?> models, Class<D> type) {
+        List<D> dtos = new ArrayList<>(models.size());
+        for (Object model : models) {
+            dtos.add(mapper.map(model, type));
+        }
+
+        return dtos;
+    }
+
+    private static <M extends BaseModel> M base(M model) {
+        model.setId(1);
+        model.setUuid(UUID.randomUUID());
+        model.setHref("/api/v1/" + model.getUuid());
+        model.setSources(Collections.singletonList("https://example.com"));
+        model.setThumbnail("https://cdn.theproject.id/hawapi/image.jpg");
+        model.setCreatedAt(LocalDateTime.of(2023, 1, 1, 0, 0));
+        model.setUpdatedAt(LocalDateTime.now());
+        return model;
+    }
+}
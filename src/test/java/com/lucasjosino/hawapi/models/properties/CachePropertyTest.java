@@ -0,0 +1,60 @@
+package com.lucasjosino.hawapi.models.properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachePropertyTest {
+
+    private CacheProperty property;
+
+    @BeforeEach
+    void setUp() {
+        property = new CacheProperty();
+        property.setDefaults(new CacheProperty.Spec(DataSize.ofMegabytes(4), Duration.ofHours(1), Duration.ofMinutes(15)));
+    }
+
+    @Test
+    void shouldUseDefaultsWithoutSpec() {
+        CacheProperty.Spec spec = property.getSpec("episode.findBy");
+
+        assertEquals(DataSize.ofMegabytes(4), spec.getMaximumWeight());
+        assertEquals(Duration.ofHours(1), spec.getExpireAfterWrite());
+        assertEquals(Duration.ofMinutes(15), spec.getExpireAfterAccess());
+    }
+
+    @Test
+    void shouldUseBaseNameSpecBeforeDefaults() {
+        property.getCaches().put("findAll", new CacheProperty.Spec(DataSize.ofMegabytes(8), null, null));
+
+        CacheProperty.Spec spec = property.getSpec("episode.findAll");
+
+        assertEquals(DataSize.ofMegabytes(8), spec.getMaximumWeight());
+        assertEquals(Duration.ofHours(1), spec.getExpireAfterWrite());
+        assertEquals(Duration.ofMinutes(15), spec.getExpireAfterAccess());
+    }
+
+    @Test
+    void shouldUseNameSpecBeforeBaseNameSpec() {
+        property.getCaches().put("findAll", new CacheProperty.Spec(DataSize.ofMegabytes(8), Duration.ofMinutes(30), null));
+        property.getCaches().put("episode.findAll", new CacheProperty.Spec(null, Duration.ofMinutes(1), null));
+
+        CacheProperty.Spec spec = property.getSpec("episode.findAll");
+
+        assertEquals(DataSize.ofMegabytes(8), spec.getMaximumWeight());
+        assertEquals(Duration.ofMinutes(1), spec.getExpireAfterWrite());
+        assertEquals(Duration.ofMinutes(15), spec.getExpireAfterAccess());
+        assertEquals(Duration.ofMinutes(30), property.getSpec("game.findAll").getExpireAfterWrite());
+    }
+
+    @Test
+    void shouldResolveNameWithoutPrefix() {
+        property.getCaches().put("findAll", new CacheProperty.Spec(DataSize.ofMegabytes(8), null, null));
+
+        assertEquals(DataSize.ofMegabytes(8), property.getSpec("findAll").getMaximumWeight());
+    }
+}
@@ -0,0 +1,121 @@
+package com.lucasjosino.hawapi.repositories.specification;
+
+import com.lucasjosino.hawapi.filters.ActorFilter;
+import com.lucasjosino.hawapi.filters.EpisodeFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterKeyTest {
+
+    @Test
+    void shouldIgnoreParamOrder() {
+        FilterKey first = FilterKey.of(EpisodeFilter.class, params(
+                "title", "Lorem", "duration", ">100", "language", "en-US"
+        ));
+        FilterKey second = FilterKey.of(EpisodeFilter.class, params(
+                "language", "en-US", "duration", ">100", "title", "Lorem"
+        ));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first.toString(), second.toString());
+    }
+
+    @Test
+    void shouldIgnoreUnknownAndPageableParams() {
+        FilterKey key = FilterKey.of(ActorFilter.class, params(
+                "firstName", "Lorem", "page", "2", "size", "10", "sort", "firstName", "foo", "bar"
+        ));
+
+        assertEquals(Collections.singletonMap("firstName", "Lorem"), key.getParams());
+    }
+
+    @Test
+    void shouldIgnoreInheritedFields() {
+        FilterKey key = FilterKey.of(ActorFilter.class, params("updatedAt", ">2020-01-01T00:00:00"));
+
+        assertTrue(key.getParams().isEmpty());
+    }
+
+    @Test
+    void shouldRemoveBlankValues() {
+        FilterKey empty = FilterKey.of(ActorFilter.class, params());
+
+        assertEquals(empty, FilterKey.of(ActorFilter.class, params("firstName", "")));
+        assertEquals(empty, FilterKey.of(ActorFilter.class, params("firstName", "   ")));
+        assertEquals(":", FilterKey.normalize(": , "));
+    }
+
+    @Test
+    void shouldTrimValues() {
+        assertEquals(
+                FilterKey.of(ActorFilter.class, params("firstName", "Lorem")),
+                FilterKey.of(ActorFilter.class, params("firstName", "  Lorem "))
+        );
+        assertEquals(">=10", FilterKey.normalize(" >= 10 "));
+        assertEquals("*Lorem", FilterKey.normalize("* Lorem"));
+    }
+
+    @Test
+    void shouldSortAndDeduplicateInValues() {
+        assertEquals(":a,b", FilterKey.normalize(":b, a,b"));
+        assertEquals("!:a,b,c", FilterKey.normalize("!: c,b ,a,"));
+        assertEquals(
+                FilterKey.of(ActorFilter.class, params("nicknames", ":a,b")),
+                FilterKey.of(ActorFilter.class, params("nicknames", ": b, a"))
+        );
+    }
+
+    @Test
+    void shouldKeepValuesWithOperatorInside() {
+        assertEquals("Lorem: Ipsum", FilterKey.normalize(" Lorem: Ipsum "));
+        assertEquals("2020-01-01::2021-01-01", FilterKey.normalize("2020-01-01::2021-01-01"));
+    }
+
+    @Test
+    void shouldKeepLanguageOfTranslationFilters() {
+        FilterKey key = FilterKey.of(EpisodeFilter.class, params("language", " pt-BR "));
+
+        assertEquals("pt-BR", key.getParams().get("language"));
+        assertEquals(key, FilterKey.of(EpisodeFilter.class, params("language", "pt-BR")));
+        assertNotEquals(key, FilterKey.of(EpisodeFilter.class, params("language", "en-US")));
+        assertNotEquals(key, FilterKey.of(EpisodeFilter.class, params("language", "*")));
+    }
+
+    @Test
+    void shouldIgnoreLanguageOfOtherFilters() {
+        FilterKey key = FilterKey.of(ActorFilter.class, params("language", "pt-BR"));
+
+        assertEquals(FilterKey.of(ActorFilter.class, params()), key);
+        assertFalse(key.getParams().containsKey("language"));
+    }
+
+    @Test
+    void shouldNotShareKeysBetweenFilterClasses() {
+        FilterKey actor = FilterKey.of(ActorFilter.class, params());
+        FilterKey episode = FilterKey.of(EpisodeFilter.class, params());
+
+        assertNotEquals(actor, episode);
+        assertEquals(ActorFilter.class, actor.getFilterClass());
+    }
+
+    @Test
+    void shouldReturnUnmodifiableParams() {
+        FilterKey key = FilterKey.of(ActorFilter.class, params("firstName", "Lorem"));
+
+        assertThrows(UnsupportedOperationException.class, () -> key.getParams().put("lastName", "Ipsum"));
+    }
+
+    private static Map<String, String> params(String... entries) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            params.put(entries[i], entries[i + 1]);
+        }
+        return params;
+    }
+}
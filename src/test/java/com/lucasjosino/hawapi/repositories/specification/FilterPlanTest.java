@@ -0,0 +1,107 @@
+package com.lucasjosino.hawapi.repositories.specification;
+
+import com.lucasjosino.hawapi.filters.ActorFilter;
+import com.lucasjosino.hawapi.filters.EpisodeFilter;
+import com.lucasjosino.hawapi.repositories.specification.FilterPlan.FieldSource;
+import com.lucasjosino.hawapi.repositories.specification.FilterPlan.FilterField;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.SingularAttribute;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+class FilterPlanTest {
+
+    @Test
+    void shouldResolveRootAndTranslationFields() {
+        ManagedType<?> translation = managedType("title", "description", "language");
+        ManagedType<?> entity = managedType(
+                "duration", "episodeNum", "nextEpisode", "prevEpisode", "season", "updatedAt", "translation"
+        );
+        SingularAttribute attribute = mock(SingularAttribute.class);
+        when(attribute.getType()).thenReturn(translation);
+        doReturn(attribute).when(entity).getAttribute("translation");
+
+        FilterPlan plan = FilterPlan.compile(EpisodeFilter.class, entity);
+        Map<String, FilterField> fields = byName(plan);
+
+        assertTrue(plan.isTranslatable());
+        assertEquals(EpisodeFilter.class, plan.getFilterClass());
+        assertEquals(7, fields.size());
+        assertEquals(FieldSource.TRANSLATION, fields.get("title").getSource());
+        assertEquals(FieldSource.TRANSLATION, fields.get("description").getSource());
+        assertEquals(FieldSource.ROOT, fields.get("duration").getSource());
+        assertEquals(Byte.class, fields.get("episodeNum").getType());
+        assertFalse(fields.get("season").isArray());
+    }
+
+    @Test
+    void shouldIgnoreInheritedFields() {
+        ManagedType<?> entity = managedType("firstName", "updatedAt");
+
+        FilterPlan plan = FilterPlan.compile(ActorFilter.class, entity);
+
+        assertFalse(plan.isTranslatable());
+        assertFalse(byName(plan).containsKey("updatedAt"));
+        verify(entity, never()).getAttribute(anyString());
+    }
+
+    @Test
+    void shouldSkipFieldsMissingFromEntity() {
+        ManagedType<?> entity = managedType("firstName", "lastName", "nicknames");
+
+        Map<String, FilterField> fields = byName(FilterPlan.compile(ActorFilter.class, entity));
+
+        assertEquals(3, fields.size());
+        assertFalse(fields.containsKey("gender"));
+        assertFalse(fields.containsKey("character"));
+    }
+
+    @Test
+    void shouldMarkArrayFields() {
+        ManagedType<?> entity = managedType("firstName", "nicknames");
+
+        Map<String, FilterField> fields = byName(FilterPlan.compile(ActorFilter.class, entity));
+
+        assertTrue(fields.get("nicknames").isArray());
+        assertFalse(fields.get("firstName").isArray());
+    }
+
+    @Test
+    void shouldCompilePlanOnlyOnce() {
+        ManagedType<?> entity = managedType("firstName");
+
+        FilterPlan plan = FilterPlan.of(ActorFilter.class, entity);
+
+        assertSame(plan, FilterPlan.of(ActorFilter.class, managedType("lastName")));
+    }
+
+    private static ManagedType<?> managedType(String... names) {
+        Set<Attribute> attributes = new HashSet<>();
+        for (String name : names) {
+            Attribute attribute = mock(Attribute.class);
+            when(attribute.getName()).thenReturn(name);
+            attributes.add(attribute);
+        }
+
+        ManagedType type = mock(ManagedType.class);
+        when(type.getAttributes()).thenReturn(attributes);
+        return type;
+    }
+
+    private static Map<String, FilterField> byName(FilterPlan plan) {
+        Map<String, FilterField> fields = new HashMap<>();
+        for (FilterField field : plan.getFields()) {
+            fields.put(field.getName(), field);
+        }
+        return fields;
+    }
+}
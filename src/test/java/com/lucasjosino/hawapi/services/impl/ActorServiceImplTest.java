@@ -5,6 +5,7 @@ import com.lucasjosino.hawapi.models.ActorModel;
 import com.lucasjosino.hawapi.models.ActorSocialModel;
 import com.lucasjosino.hawapi.models.dto.ActorDTO;
 import com.lucasjosino.hawapi.models.dto.ActorSocialDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.repositories.ActorRepository;
 import com.lucasjosino.hawapi.repositories.ActorSocialRepository;
@@ -22,7 +23,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -50,7 +50,7 @@ class ActorServiceImplTest {
     private Random random;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper entityMapper;
 
     @Mock
     private ActorRepository repository;
@@ -100,7 +100,7 @@ class ActorServiceImplTest {
         ActorDTO[] returnData = {actorDTO};
 
         when(repository.findAllByUuidIn(any(), any(Sort.class))).thenReturn(data);
-        when(modelMapper.map(any(), any())).thenReturn(returnData);
+        when(entityMapper.map(any(), any())).thenReturn(returnData);
 
         List<ActorDTO> res = service.findAll(uuids);
 
@@ -108,7 +108,7 @@ class ActorServiceImplTest {
         assertEquals(1, res.size());
         assertEquals(actorDTO, res.get(0));
         verify(repository, times(1)).findAllByUuidIn(any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
@@ -123,13 +123,13 @@ class ActorServiceImplTest {
         ActorDTO[] returnData = {};
 
         when(repository.findAllByUuidIn(any(), any(Sort.class))).thenReturn(data);
-        when(modelMapper.map(any(), eq(ActorDTO[].class))).thenReturn(returnData);
+        when(entityMapper.map(any(), eq(ActorDTO[].class))).thenReturn(returnData);
 
         List<ActorDTO> res = service.findAll(uuids);
 
         assertTrue(res.isEmpty());
         verify(repository, times(1)).findAllByUuidIn(any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), eq(ActorDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(ActorDTO[].class));
     }
 
     @Test
@@ -140,7 +140,7 @@ class ActorServiceImplTest {
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(socialRepository.findAll()).thenReturn(data);
-        when(modelMapper.map(anyList(), eq(ActorSocialDTO[].class))).thenReturn(dataArray);
+        when(entityMapper.map(anyList(), eq(ActorSocialDTO[].class))).thenReturn(dataArray);
 
         List<ActorSocialDTO> res = service.findAllSocials(actorModel.getUuid());
 
@@ -149,21 +149,21 @@ class ActorServiceImplTest {
         assertEquals(dataDTO.get(0), res.get(0));
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(socialRepository, times(1)).findAll();
-        verify(modelMapper, times(1)).map(anyList(), eq(ActorSocialDTO[].class));
+        verify(entityMapper, times(1)).map(anyList(), eq(ActorSocialDTO[].class));
     }
 
     @Test
     void whenNoSocialIsFoundShouldReturnEmptyListOnReturnAllActorSocial() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(socialRepository.findAll()).thenReturn(Collections.emptyList());
-        when(modelMapper.map(any(), eq(ActorSocialDTO[].class))).thenReturn(new ActorSocialDTO[]{});
+        when(entityMapper.map(any(), eq(ActorSocialDTO[].class))).thenReturn(new ActorSocialDTO[]{});
 
         List<ActorSocialDTO> res = service.findAllSocials(actorModel.getUuid());
 
         assertTrue(res.isEmpty());
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(socialRepository, times(1)).findAll();
-        verify(modelMapper, times(1)).map(any(), eq(ActorSocialDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(ActorSocialDTO[].class));
     }
 
     @Test
@@ -177,35 +177,33 @@ class ActorServiceImplTest {
 
     @Test
     void shouldReturnRandomActor() {
-        List<UUID> uuids = Collections.singletonList(UUID.randomUUID());
-        List<ActorModel> data = Collections.singletonList(actorModel);
-        Page<ActorModel> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
+        List<UUID> uuids = Collections.singletonList(actorModel.getUuid());
 
-        when(repository.count()).thenReturn((long) uuids.size());
+        when(repository.findAllIndexedUUIDs(isNull())).thenReturn(uuids);
         when(utils.getCountOrThrow(anyLong())).thenReturn((long) uuids.size());
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(repository.findAll(any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), any())).thenReturn(actorDTO);
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(repository.findById(any(UUID.class))).thenReturn(Optional.of(actorModel));
+        when(entityMapper.map(any(), any())).thenReturn(actorDTO);
 
         ActorDTO res = service.findRandom("en-US");
 
         assertNotNull(res);
         assertEquals(actorDTO, res);
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(isNull());
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(repository, times(1)).findAll(any(PageRequest.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(repository, times(1)).findById(any(UUID.class));
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoActorFoundShouldThrowItemNotFoundExceptionOnReturnRandomActor() {
-        when(repository.count()).thenReturn((long) 0);
+        when(repository.findAllIndexedUUIDs(isNull())).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandom("en-US"));
 
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(isNull());
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
@@ -213,26 +211,23 @@ class ActorServiceImplTest {
     void shouldReturnRandomActorSocial() {
         long count = 1;
         List<ActorSocialModel> data = new ArrayList<>(actorModel.getSocials());
-        Page<ActorSocialModel> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
         List<ActorSocialDTO> returnData = new ArrayList<>(actorDTO.getSocials());
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(socialRepository.count()).thenReturn(count);
         when(utils.getCountOrThrow(anyLong())).thenReturn(count);
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(socialRepository.findAll(any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), eq(ActorSocialDTO.class))).thenReturn(returnData.get(0));
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(socialRepository.findAllByActorUuid(any(UUID.class))).thenReturn(data);
+        when(entityMapper.map(any(), eq(ActorSocialDTO.class))).thenReturn(returnData.get(0));
 
         ActorSocialDTO res = service.findRandomSocial(actorModel.getUuid());
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(socialRepository, times(1)).count();
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(socialRepository, times(1)).findAll(any(PageRequest.class));
-        verify(modelMapper, times(1)).map(any(), eq(ActorSocialDTO.class));
+        verify(socialRepository, times(1)).findAllByActorUuid(any(UUID.class));
+        verify(entityMapper, times(1)).map(any(), eq(ActorSocialDTO.class));
     }
 
     @Test
@@ -247,27 +242,27 @@ class ActorServiceImplTest {
     @Test
     void whenNoActorSocialFoundShouldThrowItemNotFoundExceptionOnReturnRandomActorSocial() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(socialRepository.count()).thenReturn((long) 0);
+        when(socialRepository.findAllByActorUuid(any(UUID.class))).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandomSocial(actorModel.getUuid()));
 
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(socialRepository, times(1)).count();
+        verify(socialRepository, times(1)).findAllByActorUuid(any(UUID.class));
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
     @Test
     void shouldReturnActorByUUID() {
         when(repository.findById(any(UUID.class))).thenReturn(Optional.ofNullable(actorModel));
-        when(modelMapper.map(any(), any())).thenReturn(actorDTO);
+        when(entityMapper.map(any(), any())).thenReturn(actorDTO);
 
         ActorDTO res = service.findBy(actorModel.getUuid(), "en-US");
 
         assertNotNull(res);
         assertEquals(actorDTO, res);
         verify(repository, times(1)).findById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
@@ -286,14 +281,14 @@ class ActorServiceImplTest {
 
         when(socialRepository.findByActorUuidAndSocial(any(UUID.class), anyString()))
                 .thenReturn(Optional.of(data.get(0)));
-        when(modelMapper.map(any(), eq(ActorSocialDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(ActorSocialDTO.class))).thenReturn(returnData.get(0));
 
         ActorSocialDTO res = service.findSocialBy(actorModel.getUuid(), "Twitter");
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(socialRepository, times(1)).findByActorUuidAndSocial(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(ActorSocialDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(ActorSocialDTO.class));
     }
 
     @Test
@@ -307,17 +302,17 @@ class ActorServiceImplTest {
 
     @Test
     void shouldSaveActor() {
-        when(modelMapper.map(any(), eq(ActorModel.class))).thenReturn(actorModel);
+        when(entityMapper.map(any(), eq(ActorModel.class))).thenReturn(actorModel);
         when(repository.save(any(ActorModel.class))).thenReturn(actorModel);
-        when(modelMapper.map(any(), eq(ActorDTO.class))).thenReturn(actorDTO);
+        when(entityMapper.map(any(), eq(ActorDTO.class))).thenReturn(actorDTO);
 
         ActorDTO res = service.save(actorDTO);
 
         assertNotNull(res);
         assertEquals(actorDTO, res);
-        verify(modelMapper, times(1)).map(any(), eq(ActorModel.class));
+        verify(entityMapper, times(1)).map(any(), eq(ActorModel.class));
         verify(repository, times(1)).save(any(ActorModel.class));
-        verify(modelMapper, times(1)).map(any(), eq(ActorDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(ActorDTO.class));
     }
 
     @Test
@@ -326,18 +321,18 @@ class ActorServiceImplTest {
         List<ActorSocialDTO> returnData = new ArrayList<>(actorDTO.getSocials());
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(modelMapper.map(any(), eq(ActorSocialModel.class))).thenReturn(data.get(0));
+        when(entityMapper.map(any(), eq(ActorSocialModel.class))).thenReturn(data.get(0));
         when(socialRepository.save(any(ActorSocialModel.class))).thenReturn(data.get(0));
-        when(modelMapper.map(any(), eq(ActorSocialDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(ActorSocialDTO.class))).thenReturn(returnData.get(0));
 
         ActorSocialDTO res = service.saveSocial(actorModel.getUuid(), returnData.get(0));
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), eq(ActorSocialModel.class));
+        verify(entityMapper, times(1)).map(any(), eq(ActorSocialModel.class));
         verify(socialRepository, times(1)).save(any(ActorSocialModel.class));
-        verify(modelMapper, times(1)).map(any(), eq(ActorSocialDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(ActorSocialDTO.class));
     }
 
     @Test
@@ -352,21 +347,20 @@ class ActorServiceImplTest {
     }
 
     @Test
-    void shouldUpdateActor() throws IOException {
+    void shouldUpdateActor() {
         ActorDTO patch = new ActorDTO();
         patch.setUuid(actorModel.getUuid());
         patch.setHref("/api/v1/" + actorModel.getUuid());
         actorModel.setHref("/api/v1/" + actorModel.getUuid());
 
         when(repository.findById(any(UUID.class))).thenReturn(Optional.ofNullable(actorModel));
-        when(modelMapper.map(any(), eq(ActorModel.class))).thenReturn(actorModel);
         when(utils.merge(any(ActorModel.class), any(ActorDTO.class))).thenReturn(actorModel);
         when(repository.save(any(ActorModel.class))).thenReturn(actorModel);
 
         service.patch(actorModel.getUuid(), patch);
 
         verify(repository, times(1)).findById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, never()).map(any(), any());
         verify(utils, times(1)).merge(any(ActorModel.class), any(ActorDTO.class));
         verify(repository, times(1)).save(any(ActorModel.class));
     }
@@ -383,14 +377,13 @@ class ActorServiceImplTest {
     }
 
     @Test
-    void shouldUpdateActorSocial() throws IOException {
+    void shouldUpdateActorSocial() {
         List<ActorSocialModel> data = new ArrayList<>(actorModel.getSocials());
         ActorSocialDTO patch = new ActorSocialDTO();
         patch.setSocial("Instagram");
 
         when(socialRepository.findByActorUuidAndSocial(any(UUID.class), anyString()))
                 .thenReturn(Optional.of(data.get(0)));
-        when(modelMapper.map(any(), eq(ActorSocialModel.class))).thenReturn(data.get(0));
         data.get(0).setSocial("Instagram");
         when(utils.merge(any(ActorSocialModel.class), any(ActorSocialDTO.class))).thenReturn(data.get(0));
         when(socialRepository.save(any(ActorSocialModel.class))).thenReturn(data.get(0));
@@ -398,7 +391,7 @@ class ActorServiceImplTest {
         service.patchSocial(actorModel.getUuid(), "Twitter", patch);
 
         verify(socialRepository, times(1)).findByActorUuidAndSocial(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(ActorSocialModel.class));
+        verify(entityMapper, never()).map(any(), any());
         verify(utils, times(1)).merge(any(ActorSocialModel.class), any(ActorSocialDTO.class));
         verify(socialRepository, times(1)).save(any(ActorSocialModel.class));
     }
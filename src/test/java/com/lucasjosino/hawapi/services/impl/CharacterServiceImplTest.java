@@ -3,6 +3,7 @@ package com.lucasjosino.hawapi.services.impl;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.models.CharacterModel;
 import com.lucasjosino.hawapi.models.dto.CharacterDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.repositories.CharacterRepository;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
@@ -19,7 +20,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -47,7 +47,7 @@ public class CharacterServiceImplTest {
     private Random random;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper entityMapper;
 
     @Mock
     private CharacterRepository repository;
@@ -87,7 +87,7 @@ public class CharacterServiceImplTest {
         CharacterDTO[] returnData = {characterDTO};
 
         when(repository.findAllByUuidIn(any(), any(Sort.class))).thenReturn(data);
-        when(modelMapper.map(any(), eq(CharacterDTO[].class))).thenReturn(returnData);
+        when(entityMapper.map(any(), eq(CharacterDTO[].class))).thenReturn(returnData);
 
         List<CharacterDTO> res = service.findAll(uuids);
 
@@ -95,7 +95,7 @@ public class CharacterServiceImplTest {
         assertEquals(1, res.size());
         assertEquals(characterDTO, res.get(0));
         verify(repository, times(1)).findAllByUuidIn(any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), eq(CharacterDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(CharacterDTO[].class));
     }
 
     @Test
@@ -110,60 +110,58 @@ public class CharacterServiceImplTest {
         CharacterDTO[] returnData = {};
 
         when(repository.findAllByUuidIn(any(), any(Sort.class))).thenReturn(data);
-        when(modelMapper.map(any(), eq(CharacterDTO[].class))).thenReturn(returnData);
+        when(entityMapper.map(any(), eq(CharacterDTO[].class))).thenReturn(returnData);
 
         List<CharacterDTO> res = service.findAll(uuids);
 
         assertTrue(res.isEmpty());
         verify(repository, times(1)).findAllByUuidIn(any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), eq(CharacterDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(CharacterDTO[].class));
     }
 
     @Test
     void shouldReturnRandomCharacter() {
-        List<UUID> uuids = Collections.singletonList(UUID.randomUUID());
-        List<CharacterModel> data = Collections.singletonList(characterModel);
-        Page<CharacterModel> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
+        List<UUID> uuids = Collections.singletonList(characterModel.getUuid());
 
-        when(repository.count()).thenReturn((long) uuids.size());
+        when(repository.findAllIndexedUUIDs(isNull())).thenReturn(uuids);
         when(utils.getCountOrThrow(anyLong())).thenReturn((long) uuids.size());
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(repository.findAll(any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), eq(CharacterDTO.class))).thenReturn(characterDTO);
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(repository.findById(any(UUID.class))).thenReturn(Optional.of(characterModel));
+        when(entityMapper.map(any(), any())).thenReturn(characterDTO);
 
         CharacterDTO res = service.findRandom("en-US");
 
         assertNotNull(res);
         assertEquals(characterDTO, res);
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(isNull());
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(repository, times(1)).findAll(any(PageRequest.class));
-        verify(modelMapper, times(1)).map(any(), eq(CharacterDTO.class));
+        verify(repository, times(1)).findById(any(UUID.class));
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoCharacterFoundShouldThrowItemNotFoundExceptionOnReturnRandomCharacter() {
-        when(repository.count()).thenReturn((long) 0);
+        when(repository.findAllIndexedUUIDs(isNull())).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandom("en-US"));
 
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(isNull());
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
     @Test
     void shouldReturnCharacterByUUID() {
         when(repository.findById(any(UUID.class))).thenReturn(Optional.ofNullable(characterModel));
-        when(modelMapper.map(any(), any())).thenReturn(characterDTO);
+        when(entityMapper.map(any(), any())).thenReturn(characterDTO);
 
         CharacterDTO res = service.findBy(characterModel.getUuid(), "en-US");
 
         assertNotNull(res);
         assertEquals(characterDTO, res);
         verify(repository, times(1)).findById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
@@ -177,35 +175,34 @@ public class CharacterServiceImplTest {
 
     @Test
     void shouldSaveCharacter() {
-        when(modelMapper.map(any(), eq(CharacterModel.class))).thenReturn(characterModel);
+        when(entityMapper.map(any(), eq(CharacterModel.class))).thenReturn(characterModel);
         when(repository.save(any(CharacterModel.class))).thenReturn(characterModel);
-        when(modelMapper.map(any(), eq(CharacterDTO.class))).thenReturn(characterDTO);
+        when(entityMapper.map(any(), eq(CharacterDTO.class))).thenReturn(characterDTO);
 
         CharacterDTO res = service.save(characterDTO);
 
         assertNotNull(res);
         assertEquals(characterDTO, res);
-        verify(modelMapper, times(1)).map(any(), eq(CharacterModel.class));
+        verify(entityMapper, times(1)).map(any(), eq(CharacterModel.class));
         verify(repository, times(1)).save(any(CharacterModel.class));
-        verify(modelMapper, times(1)).map(any(), eq(CharacterDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(CharacterDTO.class));
     }
 
     @Test
-    void shouldUpdateCharacter() throws IOException {
+    void shouldUpdateCharacter() {
         CharacterDTO patch = new CharacterDTO();
         patch.setUuid(characterModel.getUuid());
         patch.setHref("/api/v1/" + characterModel.getUuid());
         characterModel.setHref("/api/v1/" + characterModel.getUuid());
 
         when(repository.findById(any(UUID.class))).thenReturn(Optional.ofNullable(characterModel));
-        when(modelMapper.map(any(), eq(CharacterModel.class))).thenReturn(characterModel);
         when(utils.merge(any(CharacterModel.class), any(CharacterDTO.class))).thenReturn(characterModel);
         when(repository.save(any(CharacterModel.class))).thenReturn(characterModel);
 
         service.patch(characterModel.getUuid(), patch);
 
         verify(repository, times(1)).findById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, never()).map(any(), any());
         verify(utils, times(1)).merge(any(CharacterModel.class), any(CharacterDTO.class));
         verify(repository, times(1)).save(any(CharacterModel.class));
     }
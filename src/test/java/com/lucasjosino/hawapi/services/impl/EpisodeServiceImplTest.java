@@ -6,9 +6,11 @@ import com.lucasjosino.hawapi.exceptions.SaveConflictException;
 import com.lucasjosino.hawapi.models.EpisodeModel;
 import com.lucasjosino.hawapi.models.dto.EpisodeDTO;
 import com.lucasjosino.hawapi.models.dto.translation.EpisodeTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.EpisodeTranslation;
 import com.lucasjosino.hawapi.repositories.EpisodeRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
 import com.lucasjosino.hawapi.repositories.translation.EpisodeTranslationRepository;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,12 +23,10 @@ import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -57,7 +57,7 @@ class EpisodeServiceImplTest {
     private Random random;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper entityMapper;
 
     @Mock
     private EpisodeRepository repository;
@@ -102,49 +102,59 @@ class EpisodeServiceImplTest {
     @Test
     void shouldReturnAllEpisodes() {
         Pageable pageable = Pageable.ofSize(1);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(episodeModel.getUuid()),
+        Page<EpisodeModel> data = PageableExecutionUtils.getPage(
+                Collections.singletonList(episodeModel),
                 pageable,
                 () -> 1
         );
-        List<EpisodeModel> data = Collections.singletonList(episodeModel);
         EpisodeDTO[] returnData = {episodeDTO};
 
-        when(repository.findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class)))
-                .thenReturn(data);
-        when(modelMapper.map(any(), any())).thenReturn(returnData);
+        when(repository.findAllWithTranslation(
+                Mockito.<Specification<EpisodeModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        )).thenReturn(data);
+        when(entityMapper.map(any(), any())).thenReturn(returnData);
 
-        List<EpisodeDTO> res = service.findAll("en-US", uuids);
+        Page<EpisodeDTO> res = service.findAll(Collections.singletonMap("language", "en-US"), pageable);
 
         assertFalse(res.isEmpty());
-        assertEquals(1, res.size());
-        assertEquals(episodeDTO, res.get(0));
-        verify(repository, times(1))
-                .findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        assertEquals(1, res.getNumberOfElements());
+        assertEquals(episodeDTO, res.getContent().get(0));
+        verify(repository, times(1)).findAllWithTranslation(
+                Mockito.<Specification<EpisodeModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        );
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoUUIDIsFoundShouldReturnEmptyListOnReturnAllEpisodes() {
         Pageable pageable = Pageable.ofSize(1);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
+        Page<EpisodeModel> data = PageableExecutionUtils.getPage(
                 Collections.emptyList(),
                 pageable,
                 () -> 0
         );
-        List<EpisodeModel> data = Collections.emptyList();
         EpisodeDTO[] returnData = {};
 
-        when(repository.findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class)))
-                .thenReturn(data);
-        when(modelMapper.map(any(), eq(EpisodeDTO[].class))).thenReturn(returnData);
+        when(repository.findAllWithTranslation(
+                Mockito.<Specification<EpisodeModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        )).thenReturn(data);
+        when(entityMapper.map(any(), eq(EpisodeDTO[].class))).thenReturn(returnData);
 
-        List<EpisodeDTO> res = service.findAll("en-US", uuids);
+        Page<EpisodeDTO> res = service.findAll(Collections.singletonMap("language", "en-US"), pageable);
 
         assertTrue(res.isEmpty());
-        verify(repository, times(1))
-                .findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), eq(EpisodeDTO[].class));
+        verify(repository, times(1)).findAllWithTranslation(
+                Mockito.<Specification<EpisodeModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        );
+        verify(entityMapper, times(1)).map(any(), eq(EpisodeDTO[].class));
     }
 
     @Test
@@ -152,7 +162,7 @@ class EpisodeServiceImplTest {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(translationRepository.findAllByEpisodeUuid(any(UUID.class)))
                 .thenReturn(Collections.singletonList(translation));
-        when(modelMapper.map(anyList(), eq(EpisodeTranslationDTO[].class)))
+        when(entityMapper.map(anyList(), eq(EpisodeTranslationDTO[].class)))
                 .thenReturn(new EpisodeTranslationDTO[]{translationDTO});
 
         List<EpisodeTranslationDTO> res = service.findAllTranslationsBy(episodeModel.getUuid());
@@ -162,21 +172,21 @@ class EpisodeServiceImplTest {
         assertEquals(translationDTO, res.get(0));
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(translationRepository, times(1)).findAllByEpisodeUuid(any(UUID.class));
-        verify(modelMapper, times(1)).map(anyList(), eq(EpisodeTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(anyList(), eq(EpisodeTranslationDTO[].class));
     }
 
     @Test
     void whenNoTranslationIsFoundShouldReturnEmptyListOnReturnAllEpisodeTranslations() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(translationRepository.findAllByEpisodeUuid(any(UUID.class))).thenReturn(Collections.emptyList());
-        when(modelMapper.map(any(), eq(EpisodeTranslationDTO[].class))).thenReturn(new EpisodeTranslationDTO[]{});
+        when(entityMapper.map(any(), eq(EpisodeTranslationDTO[].class))).thenReturn(new EpisodeTranslationDTO[]{});
 
         List<EpisodeTranslationDTO> res = service.findAllTranslationsBy(episodeModel.getUuid());
 
         assertTrue(res.isEmpty());
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(translationRepository, times(1)).findAllByEpisodeUuid(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), eq(EpisodeTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(EpisodeTranslationDTO[].class));
     }
 
     @Test
@@ -191,38 +201,33 @@ class EpisodeServiceImplTest {
 
     @Test
     void shouldReturnRandomEpisode() {
-        List<UUID> uuids = Collections.singletonList(UUID.randomUUID());
-        List<EpisodeModel> data = Collections.singletonList(episodeModel);
-        Page<EpisodeModel> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
+        List<UUID> uuids = Collections.singletonList(episodeModel.getUuid());
 
-        when(repository.count()).thenReturn((long) uuids.size());
+        when(repository.findAllIndexedUUIDs(anyString())).thenReturn(uuids);
         when(utils.getCountOrThrow(anyLong())).thenReturn((long) uuids.size());
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(repository.findAll(Mockito.<Specification<EpisodeModel>>any(), any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), any())).thenReturn(episodeDTO);
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString())).thenReturn(Optional.of(episodeModel));
+        when(entityMapper.map(any(), any())).thenReturn(episodeDTO);
 
         EpisodeDTO res = service.findRandom("en-US");
 
         assertNotNull(res);
         assertEquals(episodeDTO, res);
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(anyString());
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(repository, times(1)).findAll(
-                Mockito.<Specification<EpisodeModel>>any(),
-                any(PageRequest.class)
-        );
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoEpisodeFoundShouldThrowItemNotFoundExceptionOnReturnRandomEpisode() {
-        when(repository.count()).thenReturn((long) 0);
+        when(repository.findAllIndexedUUIDs(anyString())).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandom("en-US"));
 
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(anyString());
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
@@ -230,29 +235,23 @@ class EpisodeServiceImplTest {
     void shouldReturnRandomEpisodeTranslation() {
         long count = 1;
         List<EpisodeTranslation> data = Collections.singletonList(translation);
-        Page<EpisodeTranslation> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
         List<EpisodeTranslationDTO> returnData = Collections.singletonList(translationDTO);
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(translationRepository.count()).thenReturn(count);
         when(utils.getCountOrThrow(anyLong())).thenReturn(count);
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(translationRepository.findAllByEpisodeUuid(any(UUID.class), any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), eq(EpisodeTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(translationRepository.findAllByEpisodeUuid(any(UUID.class))).thenReturn(data);
+        when(entityMapper.map(any(), eq(EpisodeTranslationDTO.class))).thenReturn(returnData.get(0));
 
         EpisodeTranslationDTO res = service.findRandomTranslation(episodeModel.getUuid());
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(translationRepository, times(1)).count();
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(translationRepository, times(1)).findAllByEpisodeUuid(
-                any(UUID.class),
-                any(PageRequest.class)
-        );
-        verify(modelMapper, times(1)).map(any(), eq(EpisodeTranslationDTO.class));
+        verify(translationRepository, times(1)).findAllByEpisodeUuid(any(UUID.class));
+        verify(entityMapper, times(1)).map(any(), eq(EpisodeTranslationDTO.class));
     }
 
     @Test
@@ -267,13 +266,13 @@ class EpisodeServiceImplTest {
     @Test
     void whenNoEpisodeTranslationFoundShouldThrowItemNotFoundExceptionOnReturnRandomEpisodeTranslation() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(translationRepository.count()).thenReturn((long) 0);
+        when(translationRepository.findAllByEpisodeUuid(any(UUID.class))).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandomTranslation(episodeModel.getUuid()));
 
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(translationRepository, times(1)).count();
+        verify(translationRepository, times(1)).findAllByEpisodeUuid(any(UUID.class));
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
@@ -281,14 +280,14 @@ class EpisodeServiceImplTest {
     void shouldReturnEpisodeByUUID() {
         when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.ofNullable(episodeModel));
-        when(modelMapper.map(any(), any())).thenReturn(episodeDTO);
+        when(entityMapper.map(any(), any())).thenReturn(episodeDTO);
 
         EpisodeDTO res = service.findBy(episodeModel.getUuid(), "en-US");
 
         assertNotNull(res);
         assertEquals(episodeDTO, res);
         verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
@@ -307,7 +306,7 @@ class EpisodeServiceImplTest {
 
         when(translationRepository.findByEpisodeUuidAndLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.of(data.get(0)));
-        when(modelMapper.map(any(), eq(EpisodeTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(EpisodeTranslationDTO.class))).thenReturn(returnData.get(0));
 
         EpisodeTranslationDTO res = service.findTranslationBy(episodeModel.getUuid(), "en-US");
 
@@ -315,7 +314,7 @@ class EpisodeServiceImplTest {
         assertEquals(returnData.get(0), res);
         verify(translationRepository, times(1))
                 .findByEpisodeUuidAndLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(EpisodeTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(EpisodeTranslationDTO.class));
     }
 
     @Test
@@ -333,9 +332,9 @@ class EpisodeServiceImplTest {
     @Test
     void shouldSaveEpisode() {
         when(translationRepository.existsByEpisodeUuidAndLanguage(any(UUID.class), anyString())).thenReturn(false);
-        when(modelMapper.map(any(), eq(EpisodeModel.class))).thenReturn(episodeModel);
+        when(entityMapper.map(any(), eq(EpisodeModel.class))).thenReturn(episodeModel);
         when(repository.save(any(EpisodeModel.class))).thenReturn(episodeModel);
-        when(modelMapper.map(any(), eq(EpisodeDTO.class))).thenReturn(episodeDTO);
+        when(entityMapper.map(any(), eq(EpisodeDTO.class))).thenReturn(episodeDTO);
 
         EpisodeDTO res = service.save(episodeDTO);
 
@@ -343,9 +342,9 @@ class EpisodeServiceImplTest {
         assertEquals(episodeDTO, res);
         verify(translationRepository, times(1))
                 .existsByEpisodeUuidAndLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(EpisodeModel.class));
+        verify(entityMapper, times(1)).map(any(), eq(EpisodeModel.class));
         verify(repository, times(1)).save(any(EpisodeModel.class));
-        verify(modelMapper, times(1)).map(any(), eq(EpisodeDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(EpisodeDTO.class));
     }
 
     @Test
@@ -374,18 +373,18 @@ class EpisodeServiceImplTest {
         List<EpisodeTranslationDTO> returnData = Collections.singletonList(translationDTO);
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(modelMapper.map(any(), eq(EpisodeTranslation.class))).thenReturn(data.get(0));
+        when(entityMapper.map(any(), eq(EpisodeTranslation.class))).thenReturn(data.get(0));
         when(translationRepository.save(any(EpisodeTranslation.class))).thenReturn(data.get(0));
-        when(modelMapper.map(any(), eq(EpisodeTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(EpisodeTranslationDTO.class))).thenReturn(returnData.get(0));
 
         EpisodeTranslationDTO res = service.saveTranslation(episodeModel.getUuid(), returnData.get(0));
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), eq(EpisodeTranslation.class));
+        verify(entityMapper, times(1)).map(any(), eq(EpisodeTranslation.class));
         verify(translationRepository, times(1)).save(any(EpisodeTranslation.class));
-        verify(modelMapper, times(1)).map(any(), eq(EpisodeTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(EpisodeTranslationDTO.class));
     }
 
     @Test
@@ -402,7 +401,7 @@ class EpisodeServiceImplTest {
     }
 
     @Test
-    void shouldUpdateEpisode() throws IOException {
+    void shouldUpdateEpisode() {
         EpisodeDTO patch = new EpisodeDTO();
         patch.setUuid(episodeModel.getUuid());
         patch.setHref("/api/v1/" + episodeModel.getUuid());
@@ -411,14 +410,13 @@ class EpisodeServiceImplTest {
 
         when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.ofNullable(episodeModel));
-        when(modelMapper.map(any(), eq(EpisodeModel.class))).thenReturn(episodeModel);
         when(utils.merge(any(EpisodeModel.class), any(EpisodeDTO.class))).thenReturn(episodeModel);
         when(repository.save(any(EpisodeModel.class))).thenReturn(episodeModel);
 
         service.patch(episodeModel.getUuid(), patch);
 
         verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, never()).map(any(), any());
         verify(utils, times(1)).merge(any(EpisodeModel.class), any(EpisodeDTO.class));
         verify(repository, times(1)).save(any(EpisodeModel.class));
     }
@@ -436,7 +434,7 @@ class EpisodeServiceImplTest {
     }
 
     @Test
-    void shouldUpdateEpisodeTranslation() throws IOException {
+    void shouldUpdateEpisodeTranslation() {
         List<EpisodeTranslation> data = Collections.singletonList(translation);
         EpisodeTranslationDTO patch = new EpisodeTranslationDTO();
         patch.setTitle("Lorem Ipsum");
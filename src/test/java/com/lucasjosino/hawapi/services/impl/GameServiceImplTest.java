@@ -6,9 +6,11 @@ import com.lucasjosino.hawapi.exceptions.SaveConflictException;
 import com.lucasjosino.hawapi.models.GameModel;
 import com.lucasjosino.hawapi.models.dto.GameDTO;
 import com.lucasjosino.hawapi.models.dto.translation.GameTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.GameTranslation;
 import com.lucasjosino.hawapi.repositories.GameRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
 import com.lucasjosino.hawapi.repositories.translation.GameTranslationRepository;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,12 +23,10 @@ import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -58,7 +58,7 @@ class GameServiceImplTest {
     private Random random;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper entityMapper;
 
     @Mock
     private GameRepository repository;
@@ -111,49 +111,59 @@ class GameServiceImplTest {
     @Test
     void shouldReturnAllGames() {
         Pageable pageable = Pageable.ofSize(1);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(gameModel.getUuid()),
+        Page<GameModel> data = PageableExecutionUtils.getPage(
+                Collections.singletonList(gameModel),
                 pageable,
                 () -> 1
         );
-        List<GameModel> data = Collections.singletonList(gameModel);
         GameDTO[] returnData = {gameDTO};
 
-        when(repository.findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class)))
-                .thenReturn(data);
-        when(modelMapper.map(any(), any())).thenReturn(returnData);
+        when(repository.findAllWithTranslation(
+                Mockito.<Specification<GameModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        )).thenReturn(data);
+        when(entityMapper.map(any(), any())).thenReturn(returnData);
 
-        List<GameDTO> res = service.findAll("en-US", uuids);
+        Page<GameDTO> res = service.findAll(Collections.singletonMap("language", "en-US"), pageable);
 
         assertFalse(res.isEmpty());
-        assertEquals(1, res.size());
-        assertEquals(gameDTO, res.get(0));
-        verify(repository, times(1))
-                .findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        assertEquals(1, res.getNumberOfElements());
+        assertEquals(gameDTO, res.getContent().get(0));
+        verify(repository, times(1)).findAllWithTranslation(
+                Mockito.<Specification<GameModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        );
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoUUIDIsFoundShouldReturnEmptyListOnReturnAllGames() {
         Pageable pageable = Pageable.ofSize(1);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
+        Page<GameModel> data = PageableExecutionUtils.getPage(
                 Collections.emptyList(),
                 pageable,
                 () -> 0
         );
-        List<GameModel> data = Collections.emptyList();
         GameDTO[] returnData = {};
 
-        when(repository.findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class)))
-                .thenReturn(data);
-        when(modelMapper.map(any(), eq(GameDTO[].class))).thenReturn(returnData);
+        when(repository.findAllWithTranslation(
+                Mockito.<Specification<GameModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        )).thenReturn(data);
+        when(entityMapper.map(any(), eq(GameDTO[].class))).thenReturn(returnData);
 
-        List<GameDTO> res = service.findAll("en-US", uuids);
+        Page<GameDTO> res = service.findAll(Collections.singletonMap("language", "en-US"), pageable);
 
         assertTrue(res.isEmpty());
-        verify(repository, times(1))
-                .findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), eq(GameDTO[].class));
+        verify(repository, times(1)).findAllWithTranslation(
+                Mockito.<Specification<GameModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        );
+        verify(entityMapper, times(1)).map(any(), eq(GameDTO[].class));
     }
 
     @Test
@@ -161,7 +171,7 @@ class GameServiceImplTest {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(translationRepository.findAllByGameUuid(any(UUID.class)))
                 .thenReturn(Collections.singletonList(translation));
-        when(modelMapper.map(anyList(), eq(GameTranslationDTO[].class)))
+        when(entityMapper.map(anyList(), eq(GameTranslationDTO[].class)))
                 .thenReturn(new GameTranslationDTO[]{translationDTO});
 
         List<GameTranslationDTO> res = service.findAllTranslationsBy(gameModel.getUuid());
@@ -171,21 +181,21 @@ class GameServiceImplTest {
         assertEquals(translationDTO, res.get(0));
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(translationRepository, times(1)).findAllByGameUuid(any(UUID.class));
-        verify(modelMapper, times(1)).map(anyList(), eq(GameTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(anyList(), eq(GameTranslationDTO[].class));
     }
 
     @Test
     void whenNoTranslationIsFoundShouldReturnEmptyListOnReturnAllGameTranslations() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(translationRepository.findAllByGameUuid(any(UUID.class))).thenReturn(Collections.emptyList());
-        when(modelMapper.map(any(), eq(GameTranslationDTO[].class))).thenReturn(new GameTranslationDTO[]{});
+        when(entityMapper.map(any(), eq(GameTranslationDTO[].class))).thenReturn(new GameTranslationDTO[]{});
 
         List<GameTranslationDTO> res = service.findAllTranslationsBy(gameModel.getUuid());
 
         assertTrue(res.isEmpty());
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(translationRepository, times(1)).findAllByGameUuid(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), eq(GameTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(GameTranslationDTO[].class));
     }
 
     @Test
@@ -200,38 +210,33 @@ class GameServiceImplTest {
 
     @Test
     void shouldReturnRandomGame() {
-        List<UUID> uuids = Collections.singletonList(UUID.randomUUID());
-        List<GameModel> data = Collections.singletonList(gameModel);
-        Page<GameModel> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
+        List<UUID> uuids = Collections.singletonList(gameModel.getUuid());
 
-        when(repository.count()).thenReturn((long) uuids.size());
+        when(repository.findAllIndexedUUIDs(anyString())).thenReturn(uuids);
         when(utils.getCountOrThrow(anyLong())).thenReturn((long) uuids.size());
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(repository.findAll(Mockito.<Specification<GameModel>>any(), any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), any())).thenReturn(gameDTO);
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString())).thenReturn(Optional.of(gameModel));
+        when(entityMapper.map(any(), any())).thenReturn(gameDTO);
 
         GameDTO res = service.findRandom("en-US");
 
         assertNotNull(res);
         assertEquals(gameDTO, res);
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(anyString());
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(repository, times(1)).findAll(
-                Mockito.<Specification<GameModel>>any(),
-                any(PageRequest.class)
-        );
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoGameFoundShouldThrowItemNotFoundExceptionOnReturnRandomGame() {
-        when(repository.count()).thenReturn((long) 0);
+        when(repository.findAllIndexedUUIDs(anyString())).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandom("en-US"));
 
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(anyString());
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
@@ -239,29 +244,23 @@ class GameServiceImplTest {
     void shouldReturnRandomGameTranslation() {
         long count = 1;
         List<GameTranslation> data = Collections.singletonList(translation);
-        Page<GameTranslation> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
         List<GameTranslationDTO> returnData = Collections.singletonList(translationDTO);
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(translationRepository.count()).thenReturn(count);
         when(utils.getCountOrThrow(anyLong())).thenReturn(count);
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(translationRepository.findAllByGameUuid(any(UUID.class), any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), eq(GameTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(translationRepository.findAllByGameUuid(any(UUID.class))).thenReturn(data);
+        when(entityMapper.map(any(), eq(GameTranslationDTO.class))).thenReturn(returnData.get(0));
 
         GameTranslationDTO res = service.findRandomTranslation(gameModel.getUuid());
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(translationRepository, times(1)).count();
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(translationRepository, times(1)).findAllByGameUuid(
-                any(UUID.class),
-                any(PageRequest.class)
-        );
-        verify(modelMapper, times(1)).map(any(), eq(GameTranslationDTO.class));
+        verify(translationRepository, times(1)).findAllByGameUuid(any(UUID.class));
+        verify(entityMapper, times(1)).map(any(), eq(GameTranslationDTO.class));
     }
 
     @Test
@@ -276,13 +275,13 @@ class GameServiceImplTest {
     @Test
     void whenNoGameTranslationFoundShouldThrowItemNotFoundExceptionOnReturnRandomGameTranslation() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(translationRepository.count()).thenReturn((long) 0);
+        when(translationRepository.findAllByGameUuid(any(UUID.class))).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandomTranslation(gameModel.getUuid()));
 
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(translationRepository, times(1)).count();
+        verify(translationRepository, times(1)).findAllByGameUuid(any(UUID.class));
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
@@ -290,14 +289,14 @@ class GameServiceImplTest {
     void shouldReturnGameByUUID() {
         when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.ofNullable(gameModel));
-        when(modelMapper.map(any(), any())).thenReturn(gameDTO);
+        when(entityMapper.map(any(), any())).thenReturn(gameDTO);
 
         GameDTO res = service.findBy(gameModel.getUuid(), "en-US");
 
         assertNotNull(res);
         assertEquals(gameDTO, res);
         verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
@@ -316,7 +315,7 @@ class GameServiceImplTest {
 
         when(translationRepository.findByGameUuidAndLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.of(data.get(0)));
-        when(modelMapper.map(any(), eq(GameTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(GameTranslationDTO.class))).thenReturn(returnData.get(0));
 
         GameTranslationDTO res = service.findTranslationBy(gameModel.getUuid(), "en-US");
 
@@ -324,7 +323,7 @@ class GameServiceImplTest {
         assertEquals(returnData.get(0), res);
         verify(translationRepository, times(1))
                 .findByGameUuidAndLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(GameTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(GameTranslationDTO.class));
     }
 
     @Test
@@ -342,9 +341,9 @@ class GameServiceImplTest {
     @Test
     void shouldSaveGame() {
         when(translationRepository.existsByGameUuidAndLanguage(any(UUID.class), anyString())).thenReturn(false);
-        when(modelMapper.map(any(), eq(GameModel.class))).thenReturn(gameModel);
+        when(entityMapper.map(any(), eq(GameModel.class))).thenReturn(gameModel);
         when(repository.save(any(GameModel.class))).thenReturn(gameModel);
-        when(modelMapper.map(any(), eq(GameDTO.class))).thenReturn(gameDTO);
+        when(entityMapper.map(any(), eq(GameDTO.class))).thenReturn(gameDTO);
 
         GameDTO res = service.save(gameDTO);
 
@@ -352,9 +351,9 @@ class GameServiceImplTest {
         assertEquals(gameDTO, res);
         verify(translationRepository, times(1))
                 .existsByGameUuidAndLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(GameModel.class));
+        verify(entityMapper, times(1)).map(any(), eq(GameModel.class));
         verify(repository, times(1)).save(any(GameModel.class));
-        verify(modelMapper, times(1)).map(any(), eq(GameDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(GameDTO.class));
     }
 
     @Test
@@ -383,18 +382,18 @@ class GameServiceImplTest {
         List<GameTranslationDTO> returnData = Collections.singletonList(translationDTO);
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(modelMapper.map(any(), eq(GameTranslation.class))).thenReturn(data.get(0));
+        when(entityMapper.map(any(), eq(GameTranslation.class))).thenReturn(data.get(0));
         when(translationRepository.save(any(GameTranslation.class))).thenReturn(data.get(0));
-        when(modelMapper.map(any(), eq(GameTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(GameTranslationDTO.class))).thenReturn(returnData.get(0));
 
         GameTranslationDTO res = service.saveTranslation(gameModel.getUuid(), returnData.get(0));
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), eq(GameTranslation.class));
+        verify(entityMapper, times(1)).map(any(), eq(GameTranslation.class));
         verify(translationRepository, times(1)).save(any(GameTranslation.class));
-        verify(modelMapper, times(1)).map(any(), eq(GameTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(GameTranslationDTO.class));
     }
 
     @Test
@@ -411,7 +410,7 @@ class GameServiceImplTest {
     }
 
     @Test
-    void shouldUpdateGame() throws IOException {
+    void shouldUpdateGame() {
         GameDTO patch = new GameDTO();
         patch.setUuid(gameModel.getUuid());
         patch.setHref("/api/v1/" + gameModel.getUuid());
@@ -420,14 +419,13 @@ class GameServiceImplTest {
 
         when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.ofNullable(gameModel));
-        when(modelMapper.map(any(), eq(GameModel.class))).thenReturn(gameModel);
         when(utils.merge(any(GameModel.class), any(GameDTO.class))).thenReturn(gameModel);
         when(repository.save(any(GameModel.class))).thenReturn(gameModel);
 
         service.patch(gameModel.getUuid(), patch);
 
         verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, never()).map(any(), any());
         verify(utils, times(1)).merge(any(GameModel.class), any(GameDTO.class));
         verify(repository, times(1)).save(any(GameModel.class));
     }
@@ -445,7 +443,7 @@ class GameServiceImplTest {
     }
 
     @Test
-    void shouldUpdateGameTranslation() throws IOException {
+    void shouldUpdateGameTranslation() {
         List<GameTranslation> data = Collections.singletonList(translation);
         GameTranslationDTO patch = new GameTranslationDTO();
         patch.setName("Lorem Ipsum");
@@ -6,9 +6,11 @@ import com.lucasjosino.hawapi.exceptions.SaveConflictException;
 import com.lucasjosino.hawapi.models.LocationModel;
 import com.lucasjosino.hawapi.models.dto.LocationDTO;
 import com.lucasjosino.hawapi.models.dto.translation.LocationTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.LocationTranslation;
 import com.lucasjosino.hawapi.repositories.LocationRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
 import com.lucasjosino.hawapi.repositories.translation.LocationTranslationRepository;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,12 +23,10 @@ import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -57,7 +57,7 @@ class LocationServiceImplTest {
     private Random random;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper entityMapper;
 
     @Mock
     private LocationRepository repository;
@@ -97,49 +97,59 @@ class LocationServiceImplTest {
     @Test
     void shouldReturnAllLocations() {
         Pageable pageable = Pageable.ofSize(1);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(locationModel.getUuid()),
+        Page<LocationModel> data = PageableExecutionUtils.getPage(
+                Collections.singletonList(locationModel),
                 pageable,
                 () -> 1
         );
-        List<LocationModel> data = Collections.singletonList(locationModel);
         LocationDTO[] returnData = {locationDTO};
 
-        when(repository.findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class)))
-                .thenReturn(data);
-        when(modelMapper.map(any(), any())).thenReturn(returnData);
+        when(repository.findAllWithTranslation(
+                Mockito.<Specification<LocationModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        )).thenReturn(data);
+        when(entityMapper.map(any(), any())).thenReturn(returnData);
 
-        List<LocationDTO> res = service.findAll("en-US", uuids);
+        Page<LocationDTO> res = service.findAll(Collections.singletonMap("language", "en-US"), pageable);
 
         assertFalse(res.isEmpty());
-        assertEquals(1, res.size());
-        assertEquals(locationDTO, res.get(0));
-        verify(repository, times(1))
-                .findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        assertEquals(1, res.getNumberOfElements());
+        assertEquals(locationDTO, res.getContent().get(0));
+        verify(repository, times(1)).findAllWithTranslation(
+                Mockito.<Specification<LocationModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        );
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoUUIDIsFoundShouldReturnEmptyListOnReturnAllLocations() {
         Pageable pageable = Pageable.ofSize(1);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
+        Page<LocationModel> data = PageableExecutionUtils.getPage(
                 Collections.emptyList(),
                 pageable,
                 () -> 0
         );
-        List<LocationModel> data = Collections.emptyList();
         LocationDTO[] returnData = {};
 
-        when(repository.findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class)))
-                .thenReturn(data);
-        when(modelMapper.map(any(), eq(LocationDTO[].class))).thenReturn(returnData);
+        when(repository.findAllWithTranslation(
+                Mockito.<Specification<LocationModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        )).thenReturn(data);
+        when(entityMapper.map(any(), eq(LocationDTO[].class))).thenReturn(returnData);
 
-        List<LocationDTO> res = service.findAll("en-US", uuids);
+        Page<LocationDTO> res = service.findAll(Collections.singletonMap("language", "en-US"), pageable);
 
         assertTrue(res.isEmpty());
-        verify(repository, times(1))
-                .findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), eq(LocationDTO[].class));
+        verify(repository, times(1)).findAllWithTranslation(
+                Mockito.<Specification<LocationModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        );
+        verify(entityMapper, times(1)).map(any(), eq(LocationDTO[].class));
     }
 
     @Test
@@ -147,7 +157,7 @@ class LocationServiceImplTest {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(translationRepository.findAllByLocationUuid(any(UUID.class)))
                 .thenReturn(Collections.singletonList(translation));
-        when(modelMapper.map(anyList(), eq(LocationTranslationDTO[].class)))
+        when(entityMapper.map(anyList(), eq(LocationTranslationDTO[].class)))
                 .thenReturn(new LocationTranslationDTO[]{translationDTO});
 
         List<LocationTranslationDTO> res = service.findAllTranslationsBy(locationModel.getUuid());
@@ -157,21 +167,21 @@ class LocationServiceImplTest {
         assertEquals(translationDTO, res.get(0));
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(translationRepository, times(1)).findAllByLocationUuid(any(UUID.class));
-        verify(modelMapper, times(1)).map(anyList(), eq(LocationTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(anyList(), eq(LocationTranslationDTO[].class));
     }
 
     @Test
     void whenNoTranslationIsFoundShouldReturnEmptyListOnReturnAllLocationTranslations() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(translationRepository.findAllByLocationUuid(any(UUID.class))).thenReturn(Collections.emptyList());
-        when(modelMapper.map(any(), eq(LocationTranslationDTO[].class))).thenReturn(new LocationTranslationDTO[]{});
+        when(entityMapper.map(any(), eq(LocationTranslationDTO[].class))).thenReturn(new LocationTranslationDTO[]{});
 
         List<LocationTranslationDTO> res = service.findAllTranslationsBy(locationModel.getUuid());
 
         assertTrue(res.isEmpty());
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(translationRepository, times(1)).findAllByLocationUuid(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), eq(LocationTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(LocationTranslationDTO[].class));
     }
 
     @Test
@@ -186,38 +196,33 @@ class LocationServiceImplTest {
 
     @Test
     void shouldReturnRandomLocation() {
-        List<UUID> uuids = Collections.singletonList(UUID.randomUUID());
-        List<LocationModel> data = Collections.singletonList(locationModel);
-        Page<LocationModel> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
+        List<UUID> uuids = Collections.singletonList(locationModel.getUuid());
 
-        when(repository.count()).thenReturn((long) uuids.size());
+        when(repository.findAllIndexedUUIDs(anyString())).thenReturn(uuids);
         when(utils.getCountOrThrow(anyLong())).thenReturn((long) uuids.size());
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(repository.findAll(Mockito.<Specification<LocationModel>>any(), any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), any())).thenReturn(locationDTO);
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString())).thenReturn(Optional.of(locationModel));
+        when(entityMapper.map(any(), any())).thenReturn(locationDTO);
 
         LocationDTO res = service.findRandom("en-US");
 
         assertNotNull(res);
         assertEquals(locationDTO, res);
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(anyString());
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(repository, times(1)).findAll(
-                Mockito.<Specification<LocationModel>>any(),
-                any(PageRequest.class)
-        );
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoLocationFoundShouldThrowItemNotFoundExceptionOnReturnRandomLocation() {
-        when(repository.count()).thenReturn((long) 0);
+        when(repository.findAllIndexedUUIDs(anyString())).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandom("en-US"));
 
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(anyString());
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
@@ -225,29 +230,23 @@ class LocationServiceImplTest {
     void shouldReturnRandomLocationTranslation() {
         long count = 1;
         List<LocationTranslation> data = Collections.singletonList(translation);
-        Page<LocationTranslation> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
         List<LocationTranslationDTO> returnData = Collections.singletonList(translationDTO);
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(translationRepository.count()).thenReturn(count);
         when(utils.getCountOrThrow(anyLong())).thenReturn(count);
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(translationRepository.findAllByLocationUuid(any(UUID.class), any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), eq(LocationTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(translationRepository.findAllByLocationUuid(any(UUID.class))).thenReturn(data);
+        when(entityMapper.map(any(), eq(LocationTranslationDTO.class))).thenReturn(returnData.get(0));
 
         LocationTranslationDTO res = service.findRandomTranslation(locationModel.getUuid());
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(translationRepository, times(1)).count();
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(translationRepository, times(1)).findAllByLocationUuid(
-                any(UUID.class),
-                any(PageRequest.class)
-        );
-        verify(modelMapper, times(1)).map(any(), eq(LocationTranslationDTO.class));
+        verify(translationRepository, times(1)).findAllByLocationUuid(any(UUID.class));
+        verify(entityMapper, times(1)).map(any(), eq(LocationTranslationDTO.class));
     }
 
     @Test
@@ -262,13 +261,13 @@ class LocationServiceImplTest {
     @Test
     void whenNoLocationTranslationFoundShouldThrowItemNotFoundExceptionOnReturnRandomLocationTranslation() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(translationRepository.count()).thenReturn((long) 0);
+        when(translationRepository.findAllByLocationUuid(any(UUID.class))).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandomTranslation(locationModel.getUuid()));
 
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(translationRepository, times(1)).count();
+        verify(translationRepository, times(1)).findAllByLocationUuid(any(UUID.class));
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
@@ -276,14 +275,14 @@ class LocationServiceImplTest {
     void shouldReturnLocationByUUID() {
         when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.ofNullable(locationModel));
-        when(modelMapper.map(any(), any())).thenReturn(locationDTO);
+        when(entityMapper.map(any(), any())).thenReturn(locationDTO);
 
         LocationDTO res = service.findBy(locationModel.getUuid(), "en-US");
 
         assertNotNull(res);
         assertEquals(locationDTO, res);
         verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
@@ -302,7 +301,7 @@ class LocationServiceImplTest {
 
         when(translationRepository.findByLocationUuidAndLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.of(data.get(0)));
-        when(modelMapper.map(any(), eq(LocationTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(LocationTranslationDTO.class))).thenReturn(returnData.get(0));
 
         LocationTranslationDTO res = service.findTranslationBy(locationModel.getUuid(), "en-US");
 
@@ -310,7 +309,7 @@ class LocationServiceImplTest {
         assertEquals(returnData.get(0), res);
         verify(translationRepository, times(1))
                 .findByLocationUuidAndLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(LocationTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(LocationTranslationDTO.class));
     }
 
     @Test
@@ -328,9 +327,9 @@ class LocationServiceImplTest {
     @Test
     void shouldSaveLocation() {
         when(translationRepository.existsByLocationUuidAndLanguage(any(UUID.class), anyString())).thenReturn(false);
-        when(modelMapper.map(any(), eq(LocationModel.class))).thenReturn(locationModel);
+        when(entityMapper.map(any(), eq(LocationModel.class))).thenReturn(locationModel);
         when(repository.save(any(LocationModel.class))).thenReturn(locationModel);
-        when(modelMapper.map(any(), eq(LocationDTO.class))).thenReturn(locationDTO);
+        when(entityMapper.map(any(), eq(LocationDTO.class))).thenReturn(locationDTO);
 
         LocationDTO res = service.save(locationDTO);
 
@@ -338,9 +337,9 @@ class LocationServiceImplTest {
         assertEquals(locationDTO, res);
         verify(translationRepository, times(1))
                 .existsByLocationUuidAndLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(LocationModel.class));
+        verify(entityMapper, times(1)).map(any(), eq(LocationModel.class));
         verify(repository, times(1)).save(any(LocationModel.class));
-        verify(modelMapper, times(1)).map(any(), eq(LocationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(LocationDTO.class));
     }
 
     @Test
@@ -369,18 +368,18 @@ class LocationServiceImplTest {
         List<LocationTranslationDTO> returnData = Collections.singletonList(translationDTO);
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(modelMapper.map(any(), eq(LocationTranslation.class))).thenReturn(data.get(0));
+        when(entityMapper.map(any(), eq(LocationTranslation.class))).thenReturn(data.get(0));
         when(translationRepository.save(any(LocationTranslation.class))).thenReturn(data.get(0));
-        when(modelMapper.map(any(), eq(LocationTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(LocationTranslationDTO.class))).thenReturn(returnData.get(0));
 
         LocationTranslationDTO res = service.saveTranslation(locationModel.getUuid(), returnData.get(0));
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), eq(LocationTranslation.class));
+        verify(entityMapper, times(1)).map(any(), eq(LocationTranslation.class));
         verify(translationRepository, times(1)).save(any(LocationTranslation.class));
-        verify(modelMapper, times(1)).map(any(), eq(LocationTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(LocationTranslationDTO.class));
     }
 
     @Test
@@ -397,7 +396,7 @@ class LocationServiceImplTest {
     }
 
     @Test
-    void shouldUpdateLocation() throws IOException {
+    void shouldUpdateLocation() {
         LocationDTO patch = new LocationDTO();
         patch.setUuid(locationModel.getUuid());
         patch.setHref("/api/v1/" + locationModel.getUuid());
@@ -406,14 +405,13 @@ class LocationServiceImplTest {
 
         when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.ofNullable(locationModel));
-        when(modelMapper.map(any(), eq(LocationModel.class))).thenReturn(locationModel);
         when(utils.merge(any(LocationModel.class), any(LocationDTO.class))).thenReturn(locationModel);
         when(repository.save(any(LocationModel.class))).thenReturn(locationModel);
 
         service.patch(locationModel.getUuid(), patch);
 
         verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, never()).map(any(), any());
         verify(utils, times(1)).merge(any(LocationModel.class), any(LocationDTO.class));
         verify(repository, times(1)).save(any(LocationModel.class));
     }
@@ -431,7 +429,7 @@ class LocationServiceImplTest {
     }
 
     @Test
-    void shouldUpdateLocationTranslation() throws IOException {
+    void shouldUpdateLocationTranslation() {
         List<LocationTranslation> data = Collections.singletonList(translation);
         LocationTranslationDTO patch = new LocationTranslationDTO();
         patch.setName("Lorem Ipsum");
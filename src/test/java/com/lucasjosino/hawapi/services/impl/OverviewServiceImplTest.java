@@ -6,6 +6,7 @@ import com.lucasjosino.hawapi.exceptions.SaveConflictException;
 import com.lucasjosino.hawapi.models.OverviewModel;
 import com.lucasjosino.hawapi.models.dto.OverviewDTO;
 import com.lucasjosino.hawapi.models.dto.translation.OverviewTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.OverviewTranslation;
 import com.lucasjosino.hawapi.repositories.OverviewRepository;
@@ -19,7 +20,6 @@ import org.mockito.Mock;
 import org.modelmapper.ModelMapper;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -46,7 +46,7 @@ class OverviewServiceImplTest {
     private ServiceUtils utils;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper entityMapper;
 
     @Mock
     private OverviewRepository repository;
@@ -90,7 +90,7 @@ class OverviewServiceImplTest {
         OverviewTranslationDTO[] returnData = {translationDTO};
 
         when(translationRepository.findAll()).thenReturn(translations);
-        when(modelMapper.map(any(), any())).thenReturn(returnData);
+        when(entityMapper.map(any(), any())).thenReturn(returnData);
 
         List<OverviewTranslationDTO> res = service.findAllOverviewTranslations();
 
@@ -98,7 +98,7 @@ class OverviewServiceImplTest {
         assertEquals(1, res.size());
         assertEquals(translationDTO, res.get(0));
         verify(translationRepository, times(1)).findAll();
-        verify(modelMapper, times(1)).map(any(), eq(OverviewTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(OverviewTranslationDTO[].class));
     }
 
     @Test
@@ -107,26 +107,26 @@ class OverviewServiceImplTest {
         OverviewTranslationDTO[] returnData = {};
 
         when(translationRepository.findAll()).thenReturn(data);
-        when(modelMapper.map(any(), eq(OverviewTranslationDTO[].class))).thenReturn(returnData);
+        when(entityMapper.map(any(), eq(OverviewTranslationDTO[].class))).thenReturn(returnData);
 
         List<OverviewTranslationDTO> res = service.findAllOverviewTranslations();
 
         assertTrue(res.isEmpty());
         verify(translationRepository, times(1)).findAll();
-        verify(modelMapper, times(1)).map(any(), eq(OverviewTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(OverviewTranslationDTO[].class));
     }
 
     @Test
     void shouldReturnOverview() {
         when(repository.findByTranslationLanguage(anyString())).thenReturn(Optional.ofNullable(overviewModel));
-        when(modelMapper.map(any(), eq(OverviewDTO.class))).thenReturn(overviewDTO);
+        when(entityMapper.map(any(), eq(OverviewDTO.class))).thenReturn(overviewDTO);
 
         OverviewDTO res = service.findOverviewBy("en-US");
 
         assertNotNull(res);
         assertEquals(overviewDTO, res);
         verify(repository, times(1)).findByTranslationLanguage(anyString());
-        verify(modelMapper, times(1)).map(any(), eq(OverviewDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(OverviewDTO.class));
     }
 
     @Test
@@ -141,14 +141,14 @@ class OverviewServiceImplTest {
     @Test
     void shouldReturnOverviewTranslationBy() {
         when(translationRepository.findByLanguage(anyString())).thenReturn(Optional.ofNullable(translation));
-        when(modelMapper.map(any(), eq(OverviewTranslationDTO.class))).thenReturn(translationDTO);
+        when(entityMapper.map(any(), eq(OverviewTranslationDTO.class))).thenReturn(translationDTO);
 
         OverviewTranslationDTO res = service.findOverviewTranslationBy("en-US");
 
         assertNotNull(res);
         assertEquals(translationDTO, res);
         verify(translationRepository, times(1)).findByLanguage(anyString());
-        verify(modelMapper, times(1)).map(any(), eq(OverviewTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(OverviewTranslationDTO.class));
     }
 
     @Test
@@ -163,18 +163,18 @@ class OverviewServiceImplTest {
     @Test
     void shouldSaveOverview() {
         when(translationRepository.existsByLanguage(anyString())).thenReturn(false);
-        when(modelMapper.map(any(), eq(OverviewModel.class))).thenReturn(overviewModel);
+        when(entityMapper.map(any(), eq(OverviewModel.class))).thenReturn(overviewModel);
         when(repository.save(any(OverviewModel.class))).thenReturn(overviewModel);
-        when(modelMapper.map(any(), eq(OverviewDTO.class))).thenReturn(overviewDTO);
+        when(entityMapper.map(any(), eq(OverviewDTO.class))).thenReturn(overviewDTO);
 
         OverviewDTO res = service.saveOverview(overviewDTO);
 
         assertNotNull(res);
         assertEquals(overviewDTO, res);
         verify(translationRepository, times(1)).existsByLanguage(anyString());
-        verify(modelMapper, times(1)).map(any(), eq(OverviewModel.class));
+        verify(entityMapper, times(1)).map(any(), eq(OverviewModel.class));
         verify(repository, times(1)).save(any(OverviewModel.class));
-        verify(modelMapper, times(1)).map(any(), eq(OverviewDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(OverviewDTO.class));
     }
 
     @Test
@@ -201,9 +201,9 @@ class OverviewServiceImplTest {
     void shouldSaveOverviewTranslation() {
         when(repository.findUUID()).thenReturn(Optional.of(overviewModel.getUuid().toString()));
         when(translationRepository.existsByLanguage(anyString())).thenReturn(false);
-        when(modelMapper.map(any(), eq(OverviewTranslation.class))).thenReturn(translation);
+        when(entityMapper.map(any(), eq(OverviewTranslation.class))).thenReturn(translation);
         when(translationRepository.save(any(OverviewTranslation.class))).thenReturn(translation);
-        when(modelMapper.map(any(), eq(OverviewTranslationDTO.class))).thenReturn(translationDTO);
+        when(entityMapper.map(any(), eq(OverviewTranslationDTO.class))).thenReturn(translationDTO);
 
         OverviewTranslationDTO res = service.saveOverviewTranslation("en-US", translationDTO);
 
@@ -211,9 +211,9 @@ class OverviewServiceImplTest {
         assertEquals(translationDTO, res);
         verify(repository, times(1)).findUUID();
         verify(translationRepository, times(1)).existsByLanguage(anyString());
-        verify(modelMapper, times(1)).map(any(), eq(OverviewTranslation.class));
+        verify(entityMapper, times(1)).map(any(), eq(OverviewTranslation.class));
         verify(translationRepository, times(1)).save(any(OverviewTranslation.class));
-        verify(modelMapper, times(1)).map(any(), eq(OverviewTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(OverviewTranslationDTO.class));
     }
 
     @Test
@@ -248,21 +248,20 @@ class OverviewServiceImplTest {
     }
 
     @Test
-    void shouldPatchOverview() throws IOException {
+    void shouldPatchOverview() {
         OverviewDTO patch = new OverviewDTO();
         patch.setLanguage("en-US");
         patch.setCreators(Arrays.asList("Lorem", "Ipsum"));
         overviewModel.setCreators(Arrays.asList("Lorem", "Ipsum"));
 
         when(repository.findByTranslationLanguage(anyString())).thenReturn(Optional.ofNullable(overviewModel));
-        when(modelMapper.map(any(OverviewModel.class), eq(OverviewModel.class))).thenReturn(overviewModel);
         when(utils.merge(any(OverviewModel.class), any(OverviewDTO.class))).thenReturn(overviewModel);
         when(repository.save(any(OverviewModel.class))).thenReturn(overviewModel);
 
         service.patchOverview(patch);
 
         verify(repository, times(1)).findByTranslationLanguage(anyString());
-        verify(modelMapper, times(1)).map(any(OverviewModel.class), eq(OverviewModel.class));
+        verify(entityMapper, never()).map(any(), any());
         verify(utils, times(1)).merge(any(OverviewModel.class), any(OverviewDTO.class));
         verify(repository, times(1)).save(any(OverviewModel.class));
     }
@@ -280,7 +279,7 @@ class OverviewServiceImplTest {
     }
 
     @Test
-    void shouldPatchOverviewTranslation() throws IOException {
+    void shouldPatchOverviewTranslation() {
         OverviewTranslationDTO patch = new OverviewTranslationDTO();
         patch.setTitle("Lorem Ipsum");
 
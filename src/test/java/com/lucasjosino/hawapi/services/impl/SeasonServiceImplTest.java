@@ -6,9 +6,11 @@ import com.lucasjosino.hawapi.exceptions.SaveConflictException;
 import com.lucasjosino.hawapi.models.SeasonModel;
 import com.lucasjosino.hawapi.models.dto.SeasonDTO;
 import com.lucasjosino.hawapi.models.dto.translation.SeasonTranslationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.models.translations.SeasonTranslation;
 import com.lucasjosino.hawapi.repositories.SeasonRepository;
+import com.lucasjosino.hawapi.repositories.pagination.PageOptions;
 import com.lucasjosino.hawapi.repositories.translation.SeasonTranslationRepository;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,12 +23,10 @@ import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -58,7 +58,7 @@ class SeasonServiceImplTest {
     private Random random;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper entityMapper;
 
     @Mock
     private SeasonRepository repository;
@@ -113,49 +113,59 @@ class SeasonServiceImplTest {
     @Test
     void shouldReturnAllSeasons() {
         Pageable pageable = Pageable.ofSize(1);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
-                Collections.singletonList(seasonModel.getUuid()),
+        Page<SeasonModel> data = PageableExecutionUtils.getPage(
+                Collections.singletonList(seasonModel),
                 pageable,
                 () -> 1
         );
-        List<SeasonModel> data = Collections.singletonList(seasonModel);
         SeasonDTO[] returnData = {seasonDTO};
 
-        when(repository.findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class)))
-                .thenReturn(data);
-        when(modelMapper.map(any(), any())).thenReturn(returnData);
+        when(repository.findAllWithTranslation(
+                Mockito.<Specification<SeasonModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        )).thenReturn(data);
+        when(entityMapper.map(any(), any())).thenReturn(returnData);
 
-        List<SeasonDTO> res = service.findAll("en-US", uuids);
+        Page<SeasonDTO> res = service.findAll(Collections.singletonMap("language", "en-US"), pageable);
 
         assertFalse(res.isEmpty());
-        assertEquals(1, res.size());
-        assertEquals(seasonDTO, res.get(0));
-        verify(repository, times(1))
-                .findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        assertEquals(1, res.getNumberOfElements());
+        assertEquals(seasonDTO, res.getContent().get(0));
+        verify(repository, times(1)).findAllWithTranslation(
+                Mockito.<Specification<SeasonModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        );
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoUUIDIsFoundShouldReturnEmptyListOnReturnAllSeasons() {
         Pageable pageable = Pageable.ofSize(1);
-        Page<UUID> uuids = PageableExecutionUtils.getPage(
+        Page<SeasonModel> data = PageableExecutionUtils.getPage(
                 Collections.emptyList(),
                 pageable,
                 () -> 0
         );
-        List<SeasonModel> data = Collections.emptyList();
         SeasonDTO[] returnData = {};
 
-        when(repository.findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class)))
-                .thenReturn(data);
-        when(modelMapper.map(any(), eq(SeasonDTO[].class))).thenReturn(returnData);
+        when(repository.findAllWithTranslation(
+                Mockito.<Specification<SeasonModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        )).thenReturn(data);
+        when(entityMapper.map(any(), eq(SeasonDTO[].class))).thenReturn(returnData);
 
-        List<SeasonDTO> res = service.findAll("en-US", uuids);
+        Page<SeasonDTO> res = service.findAll(Collections.singletonMap("language", "en-US"), pageable);
 
         assertTrue(res.isEmpty());
-        verify(repository, times(1))
-                .findAllByTranslationLanguageAndUuidIn(anyString(), any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), eq(SeasonDTO[].class));
+        verify(repository, times(1)).findAllWithTranslation(
+                Mockito.<Specification<SeasonModel>>any(),
+                any(Pageable.class),
+                any(PageOptions.class)
+        );
+        verify(entityMapper, times(1)).map(any(), eq(SeasonDTO[].class));
     }
 
     @Test
@@ -163,7 +173,7 @@ class SeasonServiceImplTest {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(translationRepository.findAllBySeasonUuid(any(UUID.class)))
                 .thenReturn(Collections.singletonList(translation));
-        when(modelMapper.map(anyList(), eq(SeasonTranslationDTO[].class)))
+        when(entityMapper.map(anyList(), eq(SeasonTranslationDTO[].class)))
                 .thenReturn(new SeasonTranslationDTO[]{translationDTO});
 
         List<SeasonTranslationDTO> res = service.findAllTranslationsBy(seasonModel.getUuid());
@@ -173,21 +183,21 @@ class SeasonServiceImplTest {
         assertEquals(translationDTO, res.get(0));
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(translationRepository, times(1)).findAllBySeasonUuid(any(UUID.class));
-        verify(modelMapper, times(1)).map(anyList(), eq(SeasonTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(anyList(), eq(SeasonTranslationDTO[].class));
     }
 
     @Test
     void whenNoTranslationIsFoundShouldReturnEmptyListOnReturnAllSeasonTranslations() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
         when(translationRepository.findAllBySeasonUuid(any(UUID.class))).thenReturn(Collections.emptyList());
-        when(modelMapper.map(any(), eq(SeasonTranslationDTO[].class))).thenReturn(new SeasonTranslationDTO[]{});
+        when(entityMapper.map(any(), eq(SeasonTranslationDTO[].class))).thenReturn(new SeasonTranslationDTO[]{});
 
         List<SeasonTranslationDTO> res = service.findAllTranslationsBy(seasonModel.getUuid());
 
         assertTrue(res.isEmpty());
         verify(repository, times(1)).existsById(any(UUID.class));
         verify(translationRepository, times(1)).findAllBySeasonUuid(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), eq(SeasonTranslationDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(SeasonTranslationDTO[].class));
     }
 
     @Test
@@ -202,38 +212,33 @@ class SeasonServiceImplTest {
 
     @Test
     void shouldReturnRandomSeason() {
-        List<UUID> uuids = Collections.singletonList(UUID.randomUUID());
-        List<SeasonModel> data = Collections.singletonList(seasonModel);
-        Page<SeasonModel> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
+        List<UUID> uuids = Collections.singletonList(seasonModel.getUuid());
 
-        when(repository.count()).thenReturn((long) uuids.size());
+        when(repository.findAllIndexedUUIDs(anyString())).thenReturn(uuids);
         when(utils.getCountOrThrow(anyLong())).thenReturn((long) uuids.size());
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(repository.findAll(Mockito.<Specification<SeasonModel>>any(), any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), any())).thenReturn(seasonDTO);
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString())).thenReturn(Optional.of(seasonModel));
+        when(entityMapper.map(any(), any())).thenReturn(seasonDTO);
 
         SeasonDTO res = service.findRandom("en-US");
 
         assertNotNull(res);
         assertEquals(seasonDTO, res);
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(anyString());
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(repository, times(1)).findAll(
-                Mockito.<Specification<SeasonModel>>any(),
-                any(PageRequest.class)
-        );
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoSeasonFoundShouldThrowItemNotFoundExceptionOnReturnRandomSeason() {
-        when(repository.count()).thenReturn((long) 0);
+        when(repository.findAllIndexedUUIDs(anyString())).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandom("en-US"));
 
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(anyString());
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
@@ -241,29 +246,23 @@ class SeasonServiceImplTest {
     void shouldReturnRandomSeasonTranslation() {
         long count = 1;
         List<SeasonTranslation> data = Collections.singletonList(translation);
-        Page<SeasonTranslation> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
         List<SeasonTranslationDTO> returnData = Collections.singletonList(translationDTO);
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(translationRepository.count()).thenReturn(count);
         when(utils.getCountOrThrow(anyLong())).thenReturn(count);
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(translationRepository.findAllBySeasonUuid(any(UUID.class), any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), eq(SeasonTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(translationRepository.findAllBySeasonUuid(any(UUID.class))).thenReturn(data);
+        when(entityMapper.map(any(), eq(SeasonTranslationDTO.class))).thenReturn(returnData.get(0));
 
         SeasonTranslationDTO res = service.findRandomTranslation(seasonModel.getUuid());
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(translationRepository, times(1)).count();
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(translationRepository, times(1)).findAllBySeasonUuid(
-                any(UUID.class),
-                any(PageRequest.class)
-        );
-        verify(modelMapper, times(1)).map(any(), eq(SeasonTranslationDTO.class));
+        verify(translationRepository, times(1)).findAllBySeasonUuid(any(UUID.class));
+        verify(entityMapper, times(1)).map(any(), eq(SeasonTranslationDTO.class));
     }
 
     @Test
@@ -278,13 +277,13 @@ class SeasonServiceImplTest {
     @Test
     void whenNoSeasonTranslationFoundShouldThrowItemNotFoundExceptionOnReturnRandomSeasonTranslation() {
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(translationRepository.count()).thenReturn((long) 0);
+        when(translationRepository.findAllBySeasonUuid(any(UUID.class))).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandomTranslation(seasonModel.getUuid()));
 
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(translationRepository, times(1)).count();
+        verify(translationRepository, times(1)).findAllBySeasonUuid(any(UUID.class));
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
@@ -292,14 +291,14 @@ class SeasonServiceImplTest {
     void shouldReturnSeasonByUUID() {
         when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.ofNullable(seasonModel));
-        when(modelMapper.map(any(), any())).thenReturn(seasonDTO);
+        when(entityMapper.map(any(), any())).thenReturn(seasonDTO);
 
         SeasonDTO res = service.findBy(seasonModel.getUuid(), "en-US");
 
         assertNotNull(res);
         assertEquals(seasonDTO, res);
         verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
@@ -318,7 +317,7 @@ class SeasonServiceImplTest {
 
         when(translationRepository.findBySeasonUuidAndLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.of(data.get(0)));
-        when(modelMapper.map(any(), eq(SeasonTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(SeasonTranslationDTO.class))).thenReturn(returnData.get(0));
 
         SeasonTranslationDTO res = service.findTranslationBy(seasonModel.getUuid(), "en-US");
 
@@ -326,7 +325,7 @@ class SeasonServiceImplTest {
         assertEquals(returnData.get(0), res);
         verify(translationRepository, times(1))
                 .findBySeasonUuidAndLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(SeasonTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(SeasonTranslationDTO.class));
     }
 
     @Test
@@ -344,9 +343,9 @@ class SeasonServiceImplTest {
     @Test
     void shouldSaveSeason() {
         when(translationRepository.existsBySeasonUuidAndLanguage(any(UUID.class), anyString())).thenReturn(false);
-        when(modelMapper.map(any(), eq(SeasonModel.class))).thenReturn(seasonModel);
+        when(entityMapper.map(any(), eq(SeasonModel.class))).thenReturn(seasonModel);
         when(repository.save(any(SeasonModel.class))).thenReturn(seasonModel);
-        when(modelMapper.map(any(), eq(SeasonDTO.class))).thenReturn(seasonDTO);
+        when(entityMapper.map(any(), eq(SeasonDTO.class))).thenReturn(seasonDTO);
 
         SeasonDTO res = service.save(seasonDTO);
 
@@ -354,9 +353,9 @@ class SeasonServiceImplTest {
         assertEquals(seasonDTO, res);
         verify(translationRepository, times(1))
                 .existsBySeasonUuidAndLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), eq(SeasonModel.class));
+        verify(entityMapper, times(1)).map(any(), eq(SeasonModel.class));
         verify(repository, times(1)).save(any(SeasonModel.class));
-        verify(modelMapper, times(1)).map(any(), eq(SeasonDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(SeasonDTO.class));
     }
 
     @Test
@@ -385,18 +384,18 @@ class SeasonServiceImplTest {
         List<SeasonTranslationDTO> returnData = Collections.singletonList(translationDTO);
 
         when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(modelMapper.map(any(), eq(SeasonTranslation.class))).thenReturn(data.get(0));
+        when(entityMapper.map(any(), eq(SeasonTranslation.class))).thenReturn(data.get(0));
         when(translationRepository.save(any(SeasonTranslation.class))).thenReturn(data.get(0));
-        when(modelMapper.map(any(), eq(SeasonTranslationDTO.class))).thenReturn(returnData.get(0));
+        when(entityMapper.map(any(), eq(SeasonTranslationDTO.class))).thenReturn(returnData.get(0));
 
         SeasonTranslationDTO res = service.saveTranslation(seasonModel.getUuid(), returnData.get(0));
 
         assertNotNull(res);
         assertEquals(returnData.get(0), res);
         verify(repository, times(1)).existsById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), eq(SeasonTranslation.class));
+        verify(entityMapper, times(1)).map(any(), eq(SeasonTranslation.class));
         verify(translationRepository, times(1)).save(any(SeasonTranslation.class));
-        verify(modelMapper, times(1)).map(any(), eq(SeasonTranslationDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(SeasonTranslationDTO.class));
     }
 
     @Test
@@ -413,7 +412,7 @@ class SeasonServiceImplTest {
     }
 
     @Test
-    void shouldUpdateSeason() throws IOException {
+    void shouldUpdateSeason() {
         SeasonDTO patch = new SeasonDTO();
         patch.setUuid(seasonModel.getUuid());
         patch.setHref("/api/v1/" + seasonModel.getUuid());
@@ -422,14 +421,13 @@ class SeasonServiceImplTest {
 
         when(repository.findByUuidAndTranslationLanguage(any(UUID.class), anyString()))
                 .thenReturn(Optional.ofNullable(seasonModel));
-        when(modelMapper.map(any(), eq(SeasonModel.class))).thenReturn(seasonModel);
         when(utils.merge(any(SeasonModel.class), any(SeasonDTO.class))).thenReturn(seasonModel);
         when(repository.save(any(SeasonModel.class))).thenReturn(seasonModel);
 
         service.patch(seasonModel.getUuid(), patch);
 
         verify(repository, times(1)).findByUuidAndTranslationLanguage(any(UUID.class), anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, never()).map(any(), any());
         verify(utils, times(1)).merge(any(SeasonModel.class), any(SeasonDTO.class));
         verify(repository, times(1)).save(any(SeasonModel.class));
     }
@@ -447,7 +445,7 @@ class SeasonServiceImplTest {
     }
 
     @Test
-    void shouldUpdateSeasonTranslation() throws IOException {
+    void shouldUpdateSeasonTranslation() {
         List<SeasonTranslation> data = Collections.singletonList(translation);
         SeasonTranslationDTO patch = new SeasonTranslationDTO();
         patch.setTitle("Lorem Ipsum");
@@ -3,6 +3,7 @@ package com.lucasjosino.hawapi.services.impl;
 import com.lucasjosino.hawapi.exceptions.ItemNotFoundException;
 import com.lucasjosino.hawapi.models.SoundtrackModel;
 import com.lucasjosino.hawapi.models.dto.SoundtrackDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.properties.OpenAPIProperty;
 import com.lucasjosino.hawapi.repositories.SoundtrackRepository;
 import com.lucasjosino.hawapi.services.utils.ServiceUtils;
@@ -19,7 +20,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -47,7 +47,7 @@ public class SoundtrackServiceImplTest {
     private Random random;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper entityMapper;
 
     @Mock
     private SoundtrackRepository repository;
@@ -86,7 +86,7 @@ public class SoundtrackServiceImplTest {
         SoundtrackDTO[] returnData = {soundtrackDTO};
 
         when(repository.findAllByUuidIn(any(), any(Sort.class))).thenReturn(data);
-        when(modelMapper.map(any(), eq(SoundtrackDTO[].class))).thenReturn(returnData);
+        when(entityMapper.map(any(), eq(SoundtrackDTO[].class))).thenReturn(returnData);
 
         List<SoundtrackDTO> res = service.findAll(uuids);
 
@@ -94,7 +94,7 @@ public class SoundtrackServiceImplTest {
         assertEquals(1, res.size());
         assertEquals(soundtrackDTO, res.get(0));
         verify(repository, times(1)).findAllByUuidIn(any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), eq(SoundtrackDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(SoundtrackDTO[].class));
     }
 
     @Test
@@ -109,60 +109,58 @@ public class SoundtrackServiceImplTest {
         SoundtrackDTO[] returnData = {};
 
         when(repository.findAllByUuidIn(any(), any(Sort.class))).thenReturn(data);
-        when(modelMapper.map(any(), eq(SoundtrackDTO[].class))).thenReturn(returnData);
+        when(entityMapper.map(any(), eq(SoundtrackDTO[].class))).thenReturn(returnData);
 
         List<SoundtrackDTO> res = service.findAll(uuids);
 
         assertTrue(res.isEmpty());
         verify(repository, times(1)).findAllByUuidIn(any(), any(Sort.class));
-        verify(modelMapper, times(1)).map(any(), eq(SoundtrackDTO[].class));
+        verify(entityMapper, times(1)).map(any(), eq(SoundtrackDTO[].class));
     }
 
     @Test
     void shouldReturnRandomSoundtrack() {
-        List<UUID> uuids = Collections.singletonList(UUID.randomUUID());
-        List<SoundtrackModel> data = Collections.singletonList(soundtrackModel);
-        Page<SoundtrackModel> page = PageableExecutionUtils.getPage(data, Pageable.ofSize(1), data::size);
+        List<UUID> uuids = Collections.singletonList(soundtrackModel.getUuid());
 
-        when(repository.count()).thenReturn((long) uuids.size());
+        when(repository.findAllIndexedUUIDs(isNull())).thenReturn(uuids);
         when(utils.getCountOrThrow(anyLong())).thenReturn((long) uuids.size());
-        when(random.nextInt(anyInt())).thenReturn(1);
-        when(repository.findAll(any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(any(), eq(SoundtrackDTO.class))).thenReturn(soundtrackDTO);
+        when(random.nextInt(anyInt())).thenReturn(0);
+        when(repository.findById(any(UUID.class))).thenReturn(Optional.of(soundtrackModel));
+        when(entityMapper.map(any(), any())).thenReturn(soundtrackDTO);
 
         SoundtrackDTO res = service.findRandom("en-US");
 
         assertNotNull(res);
         assertEquals(soundtrackDTO, res);
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(isNull());
         verify(utils, times(1)).getCountOrThrow(anyLong());
         verify(random, times(1)).nextInt(anyInt());
-        verify(repository, times(1)).findAll(any(PageRequest.class));
-        verify(modelMapper, times(1)).map(any(), eq(SoundtrackDTO.class));
+        verify(repository, times(1)).findById(any(UUID.class));
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
     void whenNoSoundtrackFoundShouldThrowItemNotFoundExceptionOnReturnRandomSoundtrack() {
-        when(repository.count()).thenReturn((long) 0);
+        when(repository.findAllIndexedUUIDs(isNull())).thenReturn(Collections.emptyList());
         when(utils.getCountOrThrow(anyLong())).thenThrow(ItemNotFoundException.class);
 
         assertThrows(ItemNotFoundException.class, () -> service.findRandom("en-US"));
 
-        verify(repository, times(1)).count();
+        verify(repository, times(1)).findAllIndexedUUIDs(isNull());
         verify(utils, times(1)).getCountOrThrow(anyLong());
     }
 
     @Test
     void shouldReturnSoundtrackByUUID() {
         when(repository.findById(any(UUID.class))).thenReturn(Optional.ofNullable(soundtrackModel));
-        when(modelMapper.map(any(), any())).thenReturn(soundtrackDTO);
+        when(entityMapper.map(any(), any())).thenReturn(soundtrackDTO);
 
         SoundtrackDTO res = service.findBy(soundtrackModel.getUuid(), "en-US");
 
         assertNotNull(res);
         assertEquals(soundtrackDTO, res);
         verify(repository, times(1)).findById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
     }
 
     @Test
@@ -176,35 +174,34 @@ public class SoundtrackServiceImplTest {
 
     @Test
     void shouldSaveSoundtrack() {
-        when(modelMapper.map(any(), eq(SoundtrackModel.class))).thenReturn(soundtrackModel);
+        when(entityMapper.map(any(), eq(SoundtrackModel.class))).thenReturn(soundtrackModel);
         when(repository.save(any(SoundtrackModel.class))).thenReturn(soundtrackModel);
-        when(modelMapper.map(any(), eq(SoundtrackDTO.class))).thenReturn(soundtrackDTO);
+        when(entityMapper.map(any(), eq(SoundtrackDTO.class))).thenReturn(soundtrackDTO);
 
         SoundtrackDTO res = service.save(soundtrackDTO);
 
         assertNotNull(res);
         assertEquals(soundtrackDTO, res);
-        verify(modelMapper, times(1)).map(any(), eq(SoundtrackModel.class));
+        verify(entityMapper, times(1)).map(any(), eq(SoundtrackModel.class));
         verify(repository, times(1)).save(any(SoundtrackModel.class));
-        verify(modelMapper, times(1)).map(any(), eq(SoundtrackDTO.class));
+        verify(entityMapper, times(1)).map(any(), eq(SoundtrackDTO.class));
     }
 
     @Test
-    void shouldUpdateSoundtrack() throws IOException {
+    void shouldUpdateSoundtrack() {
         SoundtrackDTO patch = new SoundtrackDTO();
         patch.setUuid(soundtrackModel.getUuid());
         patch.setHref("/api/v1/" + soundtrackModel.getUuid());
         soundtrackModel.setHref("/api/v1/" + soundtrackModel.getUuid());
 
         when(repository.findById(any(UUID.class))).thenReturn(Optional.ofNullable(soundtrackModel));
-        when(modelMapper.map(any(), eq(SoundtrackModel.class))).thenReturn(soundtrackModel);
         when(utils.merge(any(SoundtrackModel.class), any(SoundtrackDTO.class))).thenReturn(soundtrackModel);
         when(repository.save(any(SoundtrackModel.class))).thenReturn(soundtrackModel);
 
         service.patch(soundtrackModel.getUuid(), patch);
 
         verify(repository, times(1)).findById(any(UUID.class));
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, never()).map(any(), any());
         verify(utils, times(1)).merge(any(SoundtrackModel.class), any(SoundtrackDTO.class));
         verify(repository, times(1)).save(any(SoundtrackModel.class));
     }
@@ -5,9 +5,12 @@ import com.lucasjosino.hawapi.exceptions.auth.UserConflictException;
 import com.lucasjosino.hawapi.exceptions.auth.UserNotFoundException;
 import com.lucasjosino.hawapi.exceptions.auth.UserUnauthorizedException;
 import com.lucasjosino.hawapi.jwt.JwtManager;
+import com.lucasjosino.hawapi.jwt.JwtRevocationList;
+import com.lucasjosino.hawapi.models.dto.auth.RefreshTokenDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserAuthDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserDTO;
 import com.lucasjosino.hawapi.models.dto.auth.UserRegistrationDTO;
+import com.lucasjosino.hawapi.models.mappers.EntityMapper;
 import com.lucasjosino.hawapi.models.user.UserModel;
 import com.lucasjosino.hawapi.repositories.auth.AuthRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,7 +19,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.modelmapper.ModelMapper;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -51,7 +58,10 @@ class AuthServiceImplTest {
     private JwtManager jwtManager;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper entityMapper;
+
+    @Mock
+    private JwtRevocationList revocationList;
 
     @BeforeEach
     void setUp() {
@@ -76,7 +86,7 @@ class AuthServiceImplTest {
 
         when(repository.existsByUsername(anyString())).thenReturn(false);
         when(repository.existsByEmail(anyString())).thenReturn(false);
-        when(modelMapper.map(any(), any())).thenReturn(userModel);
+        when(entityMapper.map(any(), any())).thenReturn(userModel);
         when(jwtManager.generateToken(any(UserModel.class))).thenReturn("TOKEN");
         when(passwordEncoder.encode(anyString())).thenReturn("ENCODED");
         when(repository.save(userModel)).thenReturn(userModel);
@@ -91,7 +101,7 @@ class AuthServiceImplTest {
 
         verify(repository, times(1)).existsByUsername(anyString());
         verify(repository, times(1)).existsByEmail(anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
         verify(jwtManager, times(1)).generateToken(any(UserModel.class));
         verify(passwordEncoder, times(1)).encode(anyString());
         verify(repository, times(1)).save(userModel);
@@ -107,7 +117,7 @@ class AuthServiceImplTest {
 
         when(repository.existsByUsername(anyString())).thenReturn(false);
         when(repository.existsByEmail(anyString())).thenReturn(false);
-        when(modelMapper.map(any(), any())).thenReturn(userModel);
+        when(entityMapper.map(any(), any())).thenReturn(userModel);
         when(jwtManager.generateToken(any(UserModel.class))).thenReturn("TOKEN");
         when(passwordEncoder.encode(anyString())).thenReturn("ENCODED");
         when(repository.save(userModel)).thenReturn(userModel);
@@ -122,7 +132,7 @@ class AuthServiceImplTest {
 
         verify(repository, times(1)).existsByUsername(anyString());
         verify(repository, times(1)).existsByEmail(anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
         verify(jwtManager, times(1)).generateToken(any(UserModel.class));
         verify(passwordEncoder, times(1)).encode(anyString());
         verify(repository, times(1)).save(userModel);
@@ -156,7 +166,7 @@ class AuthServiceImplTest {
 
         when(repository.existsByUsername(anyString())).thenReturn(false);
         when(repository.existsByEmail(anyString())).thenReturn(false);
-        when(modelMapper.map(any(), any())).thenReturn(userModel);
+        when(entityMapper.map(any(), any())).thenReturn(userModel);
         when(jwtManager.generateToken(any(UserModel.class))).thenReturn("TOKEN");
         when(passwordEncoder.encode(anyString())).thenReturn("ENCODED");
         when(repository.save(userModel)).thenReturn(userModel);
@@ -171,7 +181,7 @@ class AuthServiceImplTest {
 
         verify(repository, times(1)).existsByUsername(anyString());
         verify(repository, times(1)).existsByEmail(anyString());
-        verify(modelMapper, times(1)).map(any(), any());
+        verify(entityMapper, times(1)).map(any(), any());
         verify(jwtManager, times(1)).generateToken(any(UserModel.class));
         verify(passwordEncoder, times(1)).encode(anyString());
         verify(repository, times(1)).save(userModel);
@@ -282,6 +292,94 @@ class AuthServiceImplTest {
         verify(jwtManager, times(1)).generateToken(any(UserModel.class));
     }
 
+    @Test
+    void shouldRefreshToken() {
+        UserModel userModel = mapper.map(user, UserModel.class);
+        RefreshTokenDTO refresh = new RefreshTokenDTO();
+        refresh.setRefreshToken("REFRESH_TOKEN");
+
+        Jwt token = Jwt.withTokenValue("REFRESH_TOKEN")
+                .header("alg", "RS256")
+                .jti("TOKEN_ID")
+                .claim("username", user.getUsername())
+                .claim("email", user.getEmail())
+                .build();
+
+        when(jwtManager.decodeRefreshToken("REFRESH_TOKEN")).thenReturn(token);
+        when(repository.findByUsernameAndEmail(user.getUsername(), user.getEmail())).thenReturn(Optional.of(userModel));
+        when(jwtManager.generateToken(any(UserModel.class))).thenReturn("TOKEN");
+        when(jwtManager.generateRefreshToken(any(UserModel.class))).thenReturn("NEW_REFRESH_TOKEN");
+        when(revocationList.consumeToken("TOKEN_ID")).thenReturn(true);
+
+        UserDTO res = service.refresh(refresh);
+
+        assertEquals(userModel.getUsername(), res.getUsername());
+        assertEquals("TOKEN", res.getToken());
+        assertEquals("NEW_REFRESH_TOKEN", res.getRefreshToken());
+        verify(jwtManager, times(1)).decodeRefreshToken("REFRESH_TOKEN");
+        verify(repository, times(1)).findByUsernameAndEmail(anyString(), anyString());
+        verify(revocationList, times(1)).consumeToken("TOKEN_ID");
+    }
+
+    @Test
+    void whenRefreshTokenWasAlreadyUsedShouldThrowUserUnauthorizedExceptionOnRefreshToken() {
+        UserModel userModel = mapper.map(user, UserModel.class);
+        RefreshTokenDTO refresh = new RefreshTokenDTO();
+        refresh.setRefreshToken("REFRESH_TOKEN");
+
+        Jwt token = Jwt.withTokenValue("REFRESH_TOKEN")
+                .header("alg", "RS256")
+                .jti("TOKEN_ID")
+                .claim("username", user.getUsername())
+                .claim("email", user.getEmail())
+                .build();
+
+        when(jwtManager.decodeRefreshToken("REFRESH_TOKEN")).thenReturn(token);
+        when(repository.findByUsernameAndEmail(user.getUsername(), user.getEmail())).thenReturn(Optional.of(userModel));
+        when(revocationList.consumeToken("TOKEN_ID")).thenReturn(false);
+
+        assertThrows(UserUnauthorizedException.class, () -> service.refresh(refresh));
+
+        verify(revocationList, times(1)).consumeToken("TOKEN_ID");
+        verify(jwtManager, never()).generateToken(any(UserModel.class));
+        verify(jwtManager, never()).generateRefreshToken(any(UserModel.class));
+    }
+
+    @Test
+    void whenRefreshTokenIsNotValidShouldThrowUserUnauthorizedExceptionOnRefreshToken() {
+        RefreshTokenDTO refresh = new RefreshTokenDTO();
+        refresh.setRefreshToken("REFRESH_TOKEN");
+
+        when(jwtManager.decodeRefreshToken(anyString())).thenThrow(new BadJwtException("Invalid token"));
+
+        assertThrows(UserUnauthorizedException.class, () -> service.refresh(refresh));
+
+        verify(jwtManager, times(1)).decodeRefreshToken(anyString());
+        verify(repository, never()).findByUsernameAndEmail(anyString(), anyString());
+        verify(revocationList, never()).consumeToken(anyString());
+    }
+
+    @Test
+    void whenNoUserFoundShouldThrowUserUnauthorizedExceptionOnRefreshToken() {
+        RefreshTokenDTO refresh = new RefreshTokenDTO();
+        refresh.setRefreshToken("REFRESH_TOKEN");
+
+        Jwt token = Jwt.withTokenValue("REFRESH_TOKEN")
+                .header("alg", "RS256")
+                .jti("TOKEN_ID")
+                .claim("username", user.getUsername())
+                .claim("email", user.getEmail())
+                .build();
+
+        when(jwtManager.decodeRefreshToken(anyString())).thenReturn(token);
+        when(repository.findByUsernameAndEmail(anyString(), anyString())).thenReturn(Optional.empty());
+
+        assertThrows(UserUnauthorizedException.class, () -> service.refresh(refresh));
+
+        verify(repository, times(1)).findByUsernameAndEmail(anyString(), anyString());
+        verify(revocationList, never()).consumeToken(anyString());
+    }
+
     @Test
     void whenNoUserFoundShouldThrowUserNotFoundExceptionOnAuthenticateUser() {
         UserModel userModel = mapper.map(user, UserModel.class);
@@ -358,6 +456,7 @@ class AuthServiceImplTest {
         verify(repository, times(1)).findByUsernameAndEmail(anyString(), anyString());
         verify(passwordEncoder, times(1)).matches(anyString(), anyString());
         verify(repository, times(1)).deleteById(any(UUID.class));
+        verify(revocationList, times(1)).revokeUser(userModel.getUsername());
     }
 
     @Test
@@ -417,6 +516,32 @@ class AuthServiceImplTest {
         verify(repository, times(1)).findByUsernameAndEmail(anyString(), anyString());
     }
 
+    @Test
+    void shouldRevokeToken() {
+        Jwt token = Jwt.withTokenValue("JWT")
+                .header("alg", "RS256")
+                .jti("TOKEN_ID")
+                .claim("username", user.getUsername())
+                .build();
+
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(token));
+        try {
+            service.revoke();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        verify(revocationList, times(1)).revokeToken("TOKEN_ID");
+    }
+
+    @Test
+    @WithMockUser(username = "anonymous", roles = "ANONYMOUS")
+    void whenNoTokenIsProvidedShouldThrowUserUnauthorizedExceptionOnRevokeToken() {
+        assertThrows(UserUnauthorizedException.class, () -> service.revoke());
+
+        verify(revocationList, never()).revokeToken(anyString());
+    }
+
     @Test
     @WithMockUser(username = "anonymous", roles = "ANONYMOUS")
     void shouldReturnCurrentUserRoleWithAnonymousAuthentication() {
@@ -3,8 +3,6 @@ package com.lucasjosino.hawapi.utils;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpHeaders;
 
-import java.util.UUID;
-
 import static com.lucasjosino.hawapi.core.StringUtils.isNullOrEmpty;
 
 public class TestUtils {
@@ -15,7 +13,7 @@ public class TestUtils {
         }};
     }
 
-    public static HttpHeaders buildHeaders(Page<UUID> page, String language) {
+    public static HttpHeaders buildHeaders(Page<?> page, String language) {
         HttpHeaders headers = new HttpHeaders() {{
             // We add +1 because of 'one-indexed-parameters' is set to true
             add("X-Pagination-Page-Index", String.valueOf(page.getNumber() + 1));